@@ -0,0 +1,314 @@
+package io.spring.identityadmin.mapper.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * &#64;GenerateDtoMappers 에 선언된 (원본 → 대상) 타입 쌍마다 getter/setter 호출만으로 이루어진 변환 메서드를 생성하는 어노테이션 프로세서.
+ * 선언된 타입과 같은 패키지에 GeneratedDtoMappers 클래스를 만들며, DataTransformationServiceImpl 이 이 메서드들을 등록하여
+ * 런타임의 ModelMapper 리플렉션 없이 변환합니다.
+ * <p>
+ * 속성은 필드와 명시적 접근자, Lombok 어노테이션(@Getter/@Setter/@Data/@Value)으로 판단합니다. Lombok 이 생성한 메서드는
+ * 프로세서 실행 순서에 따라 보이지 않을 수 있기 때문입니다. 이름이 같은 속성끼리 다음 경우에만 복사합니다.
+ * <ul>
+ *     <li>타입이 같거나 박싱/언박싱 관계 (언박싱은 원본 값이 null 이면 건너뜀)</li>
+ *     <li>두 타입이 다시 선언된 타입 쌍인 경우 해당 변환 메서드 호출</li>
+ * </ul>
+ * 그 밖의 속성(컬렉션 등)은 복사하지 않고 NOTE 로 알립니다. ResourceManifestProcessor 와 같이 앱 클래스에 컴파일 의존성을 갖지 않도록
+ * 어노테이션은 정규화된 이름으로만 비교합니다.
+ */
+@SupportedAnnotationTypes(DtoMapperProcessor.GENERATE_DTO_MAPPERS)
+public class DtoMapperProcessor extends AbstractProcessor {
+
+    static final String GENERATE_DTO_MAPPERS = "io.spring.identityadmin.common.mapper.GenerateDtoMappers";
+    private static final String GENERATED_CLASS_NAME = "GeneratedDtoMappers";
+    private static final String LOMBOK = "lombok.";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                AnnotationMirror mirror = findAnnotation(element, GENERATE_DTO_MAPPERS);
+                if (mirror != null && element instanceof TypeElement declaringType) {
+                    generate(declaringType, mirror);
+                }
+            }
+        }
+        return true;
+    }
+
+    private record Mapping(TypeElement source, TypeElement target, String methodName) {}
+
+    private record Property(String name, TypeMirror type, String getter, String setter) {}
+
+    private void generate(TypeElement declaringType, AnnotationMirror mirror) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(declaringType).getQualifiedName().toString();
+        String qualifiedName = packageName + "." + GENERATED_CLASS_NAME;
+        if (!generated.add(qualifiedName)) return;
+
+        Map<String, Mapping> mappings = new LinkedHashMap<>();
+        Set<String> methodNames = new HashSet<>();
+        for (AnnotationMirror pair : annotationValues(mirror, "value")) {
+            TypeElement source = typeValue(pair, "source");
+            TypeElement target = typeValue(pair, "target");
+            if (source == null || target == null) continue;
+            String methodName = lowerFirst(source.getSimpleName().toString()) + "To" + target.getSimpleName();
+            for (int suffix = 2; !methodNames.add(methodName); suffix++) {
+                methodName = lowerFirst(source.getSimpleName().toString()) + "To" + target.getSimpleName() + suffix;
+            }
+            mappings.put(pairKey(source, target), new Mapping(source, target, methodName));
+        }
+
+        StringBuilder code = new StringBuilder();
+        code.append("package ").append(packageName).append(";\n\n");
+        code.append("@javax.annotation.processing.Generated(\"").append(DtoMapperProcessor.class.getName()).append("\")\n");
+        code.append("public final class ").append(GENERATED_CLASS_NAME).append(" {\n\n");
+        code.append("    private ").append(GENERATED_CLASS_NAME).append("() {\n    }\n\n");
+        code.append("    public static void registerAll(DtoMapperRegistry registry) {\n");
+        for (Mapping mapping : mappings.values()) {
+            code.append("        registry.register(").append(typeName(mapping.source())).append(".class, ")
+                    .append(typeName(mapping.target())).append(".class, ")
+                    .append(GENERATED_CLASS_NAME).append("::").append(mapping.methodName()).append(");\n");
+        }
+        code.append("    }\n");
+        for (Mapping mapping : mappings.values()) {
+            code.append('\n').append(mapperMethod(mapping, mappings));
+        }
+        code.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, declaringType).openWriter()) {
+            writer.write(code.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "DTO 매퍼 소스를 생성하지 못했습니다: " + e.getMessage(), declaringType);
+        }
+    }
+
+    private String mapperMethod(Mapping mapping, Map<String, Mapping> mappings) {
+        String sourceType = typeName(mapping.source());
+        String targetType = typeName(mapping.target());
+        StringBuilder method = new StringBuilder();
+        method.append("    public static ").append(targetType).append(' ').append(mapping.methodName())
+                .append('(').append(sourceType).append(" source) {\n");
+        method.append("        if (source == null) return null;\n");
+        method.append("        ").append(targetType).append(" target = new ").append(targetType).append("();\n");
+
+        if (!hasNoArgConstructor(mapping.target())) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    targetType + " 에 인자 없는 public 생성자가 없어 매퍼를 생성할 수 없습니다.", mapping.target());
+        }
+        Map<String, Property> sourceProperties = properties(mapping.source());
+        List<String> unmapped = new ArrayList<>();
+        for (Property targetProperty : properties(mapping.target()).values()) {
+            if (targetProperty.setter() == null) continue;
+            Property sourceProperty = sourceProperties.get(targetProperty.name());
+            String assignment = sourceProperty != null && sourceProperty.getter() != null
+                    ? assignment(sourceProperty, targetProperty, mappings)
+                    : null;
+            if (assignment != null) {
+                method.append(assignment);
+            } else {
+                unmapped.add(targetProperty.name());
+            }
+        }
+        if (!unmapped.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    mapping.methodName() + " 에서 복사하지 않는 속성: " + String.join(", ", unmapped), mapping.target());
+        }
+        method.append("        return target;\n    }\n");
+        return method.toString();
+    }
+
+    private String assignment(Property source, Property target, Map<String, Mapping> mappings) {
+        var types = processingEnv.getTypeUtils();
+        String read = "source." + source.getter() + "()";
+        if (types.isSameType(source.type(), target.type())) {
+            return "        target." + target.setter() + "(" + read + ");\n";
+        }
+        if (source.type().getKind().isPrimitive() && !target.type().getKind().isPrimitive()
+                && types.isSameType(types.boxedClass(types.getPrimitiveType(source.type().getKind())).asType(), target.type())) {
+            return "        target." + target.setter() + "(" + read + ");\n";
+        }
+        if (!source.type().getKind().isPrimitive() && target.type().getKind().isPrimitive()
+                && types.isSameType(types.boxedClass(types.getPrimitiveType(target.type().getKind())).asType(), source.type())) {
+            String variable = source.name() + "Value";
+            return "        " + source.type() + " " + variable + " = " + read + ";\n"
+                    + "        if (" + variable + " != null) target." + target.setter() + "(" + variable + ");\n";
+        }
+        if (source.type().getKind() == TypeKind.DECLARED && target.type().getKind() == TypeKind.DECLARED) {
+            Mapping nested = mappings.get(pairKey((TypeElement) types.asElement(source.type()), (TypeElement) types.asElement(target.type())));
+            if (nested != null) {
+                return "        target." + target.setter() + "(" + nested.methodName() + "(" + read + "));\n";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 상위 클래스부터 내려오며 필드 기반 속성을 모읍니다. 하위 클래스의 같은 이름 필드가 상위 클래스 필드를 대체합니다.
+     */
+    private Map<String, Property> properties(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            if (current.getQualifiedName().contentEquals("java.lang.Object")) break;
+            hierarchy.addFirst(current);
+        }
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (TypeElement current : hierarchy) {
+            List<ExecutableElement> methods = ElementFilter.methodsIn(current.getEnclosedElements());
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) continue;
+                String name = field.getSimpleName().toString();
+                boolean booleanField = field.asType().getKind() == TypeKind.BOOLEAN;
+                String getter = booleanField
+                        ? (name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2)) ? name : "is" + upperFirst(name))
+                        : "get" + upperFirst(name);
+                String setter = "set" + upperFirst(booleanField && getter.equals(name) ? name.substring(2) : name);
+
+                boolean readable = hasPublicMethod(methods, getter, 0)
+                        || hasLombokAccessor(current, field, "Getter", "Data", "Value");
+                boolean writable = !field.getModifiers().contains(Modifier.FINAL)
+                        && (hasPublicMethod(methods, setter, 1) || hasLombokAccessor(current, field, "Setter", "Data"));
+                properties.put(name, new Property(name, field.asType(), readable ? getter : null, writable ? setter : null));
+            }
+        }
+        return properties;
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private boolean hasPublicMethod(List<ExecutableElement> methods, String name, int parameterCount) {
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameterCount
+                    && method.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필드 또는 클래스에 public 접근자를 만드는 Lombok 어노테이션이 있는지 확인합니다. 필드의 어노테이션이 클래스보다 우선합니다.
+     */
+    private boolean hasLombokAccessor(TypeElement type, VariableElement field, String... annotationNames) {
+        for (Element element : List.of(field, type)) {
+            for (String annotationName : annotationNames) {
+                AnnotationMirror mirror = findAnnotation(element, LOMBOK + annotationName);
+                if (mirror == null) continue;
+                AnnotationValue access = explicitValue(mirror, "value");
+                return access == null || access.getValue().toString().equals("PUBLIC");
+            }
+        }
+        return false;
+    }
+
+    private boolean hasNoArgConstructor(TypeElement type) {
+        // 컴파일러가 추가한 기본 생성자(MANDATED)는 Lombok 생성자 어노테이션이 있으면 실제로는 만들어지지 않으므로 제외
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(constructor -> processingEnv.getElementUtils().getOrigin(constructor) != Elements.Origin.MANDATED)
+                .toList();
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) return true;
+        }
+        if (findAnnotation(type, LOMBOK + "NoArgsConstructor") != null) return true;
+        if (!constructors.isEmpty()) return false;
+        if (findAnnotation(type, LOMBOK + "AllArgsConstructor") != null || findAnnotation(type, LOMBOK + "Builder") != null) {
+            return false;
+        }
+        // 생성자 선언이 없으면 기본 생성자 또는 @Data 의 (final 필드가 없는) RequiredArgsConstructor 가 인자 없는 생성자가 됨
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.FINAL) && !field.getModifiers().contains(Modifier.STATIC)
+                    && field.getConstantValue() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<AnnotationMirror> annotationValues(AnnotationMirror mirror, String attribute) {
+        AnnotationValue value = explicitValue(mirror, attribute);
+        List<AnnotationMirror> result = new ArrayList<>();
+        if (value == null) return result;
+        if (value.getValue() instanceof List<?> values) {
+            for (Object item : values) {
+                if (((AnnotationValue) item).getValue() instanceof AnnotationMirror nested) result.add(nested);
+            }
+        } else if (value.getValue() instanceof AnnotationMirror nested) {
+            result.add(nested);
+        }
+        return result;
+    }
+
+    private TypeElement typeValue(AnnotationMirror mirror, String attribute) {
+        AnnotationValue value = explicitValue(mirror, attribute);
+        if (value != null && value.getValue() instanceof DeclaredType type && type.asElement().getKind() == ElementKind.CLASS) {
+            return (TypeElement) type.asElement();
+        }
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, attribute + " 에는 클래스 타입을 지정해야 합니다.");
+        return null;
+    }
+
+    private AnnotationValue explicitValue(AnnotationMirror mirror, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) return entry.getValue();
+        }
+        return null;
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) return mirror;
+        }
+        return null;
+    }
+
+    private String pairKey(TypeElement source, TypeElement target) {
+        return source.getQualifiedName() + "->" + target.getQualifiedName();
+    }
+
+    private String typeName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private static String upperFirst(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static String lowerFirst(String value) {
+        return Character.toLowerCase(value.charAt(0)) + value.substring(1);
+    }
+}
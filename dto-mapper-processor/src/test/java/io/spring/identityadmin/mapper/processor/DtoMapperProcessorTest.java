@@ -0,0 +1,159 @@
+package io.spring.identityadmin.mapper.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+/**
+ * DtoMapperProcessor 가 생성한 GeneratedDtoMappers 소스를 실제로 컴파일하여 boolean is-getter, 박싱 변환, 중첩 매핑 쌍이
+ * 올바른 호출로 생성되고 복사하지 않는 속성은 NOTE 로 보고되는지 검증합니다.
+ */
+class DtoMapperProcessorTest {
+
+    private static final String GENERATED = "io.spring.identityadmin.common.mapper.GeneratedDtoMappers";
+
+    private static final JavaFileObject GENERATE_DTO_MAPPERS = JavaFileObjects.forSourceLines(
+            "io.spring.identityadmin.common.mapper.GenerateDtoMappers",
+            "package io.spring.identityadmin.common.mapper;",
+            "public @interface GenerateDtoMappers {",
+            "    Mapping[] value();",
+            "    @interface Mapping {",
+            "        Class<?> source();",
+            "        Class<?> target();",
+            "    }",
+            "}");
+
+    private static final JavaFileObject DTO_MAPPER_REGISTRY = JavaFileObjects.forSourceLines(
+            "io.spring.identityadmin.common.mapper.DtoMapperRegistry",
+            "package io.spring.identityadmin.common.mapper;",
+            "public final class DtoMapperRegistry {",
+            "    public <S, D> void register(Class<S> sourceType, Class<D> targetType, java.util.function.Function<S, D> mapper) {",
+            "    }",
+            "}");
+
+    private static final JavaFileObject USERS = JavaFileObjects.forSourceLines(
+            "fixture.Users",
+            "package fixture;",
+            "public class Users {",
+            "    private Long id;",
+            "    private String username;",
+            "    private boolean mfaEnabled;",
+            "    private boolean isLocked;",
+            "    private Integer loginCount;",
+            "    private Profile profile;",
+            "    public Long getId() { return id; }",
+            "    public String getUsername() { return username; }",
+            "    public boolean isMfaEnabled() { return mfaEnabled; }",
+            "    public boolean isLocked() { return isLocked; }",
+            "    public Integer getLoginCount() { return loginCount; }",
+            "    public Profile getProfile() { return profile; }",
+            "}");
+
+    private static final JavaFileObject PROFILE = JavaFileObjects.forSourceLines(
+            "fixture.Profile",
+            "package fixture;",
+            "public class Profile {",
+            "    private String email;",
+            "    public String getEmail() { return email; }",
+            "}");
+
+    private static final JavaFileObject USER_DTO = JavaFileObjects.forSourceLines(
+            "fixture.UserDto",
+            "package fixture;",
+            "public class UserDto {",
+            "    private long id;",
+            "    private String username;",
+            "    private boolean mfaEnabled;",
+            "    private boolean isLocked;",
+            "    private int loginCount;",
+            "    private ProfileDto profile;",
+            "    private java.util.List<String> roles;",
+            "    public void setId(long id) { this.id = id; }",
+            "    public void setUsername(String username) { this.username = username; }",
+            "    public void setMfaEnabled(boolean mfaEnabled) { this.mfaEnabled = mfaEnabled; }",
+            "    public void setLocked(boolean isLocked) { this.isLocked = isLocked; }",
+            "    public void setLoginCount(int loginCount) { this.loginCount = loginCount; }",
+            "    public void setProfile(ProfileDto profile) { this.profile = profile; }",
+            "    public void setRoles(java.util.List<String> roles) { this.roles = roles; }",
+            "}");
+
+    private static final JavaFileObject PROFILE_DTO = JavaFileObjects.forSourceLines(
+            "fixture.ProfileDto",
+            "package fixture;",
+            "public class ProfileDto {",
+            "    private String email;",
+            "    public void setEmail(String email) { this.email = email; }",
+            "}");
+
+    private static JavaFileObject declarations(String... mappings) {
+        return JavaFileObjects.forSourceLines(
+                "io.spring.identityadmin.common.mapper.DtoMappingDeclarations",
+                "package io.spring.identityadmin.common.mapper;",
+                "@GenerateDtoMappers({" + String.join(", ", mappings) + "})",
+                "interface DtoMappingDeclarations {",
+                "}");
+    }
+
+    private static Compilation compile(JavaFileObject... sources) {
+        JavaFileObject[] all = new JavaFileObject[sources.length + 2];
+        all[0] = GENERATE_DTO_MAPPERS;
+        all[1] = DTO_MAPPER_REGISTRY;
+        System.arraycopy(sources, 0, all, 2, sources.length);
+        return javac().withProcessors(new DtoMapperProcessor()).compile(all);
+    }
+
+    @Test
+    void generatesUsersToUserDtoWithIsGettersBoxingAndNestedPair() {
+        Compilation compilation = compile(USERS, PROFILE, USER_DTO, PROFILE_DTO, declarations(
+                "@GenerateDtoMappers.Mapping(source = fixture.Users.class, target = fixture.UserDto.class)",
+                "@GenerateDtoMappers.Mapping(source = fixture.Profile.class, target = fixture.ProfileDto.class)"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile(GENERATED).contentsAsUtf8String()
+                .contains("registry.register(fixture.Users.class, fixture.UserDto.class, GeneratedDtoMappers::usersToUserDto);");
+        assertThat(compilation).generatedSourceFile(GENERATED).contentsAsUtf8String()
+                .contains("target.setMfaEnabled(source.isMfaEnabled());");
+        assertThat(compilation).generatedSourceFile(GENERATED).contentsAsUtf8String()
+                .contains("target.setLocked(source.isLocked());");
+        assertThat(compilation).generatedSourceFile(GENERATED).contentsAsUtf8String()
+                .contains("if (idValue != null) target.setId(idValue);");
+        assertThat(compilation).generatedSourceFile(GENERATED).contentsAsUtf8String()
+                .contains("if (loginCountValue != null) target.setLoginCount(loginCountValue);");
+        assertThat(compilation).generatedSourceFile(GENERATED).contentsAsUtf8String()
+                .contains("target.setProfile(profileToProfileDto(source.getProfile()));");
+        assertThat(compilation).hadNoteContaining("usersToUserDto 에서 복사하지 않는 속성: roles");
+    }
+
+    @Test
+    void nestedTypeWithoutDeclaredPairIsLeftUnmapped() {
+        Compilation compilation = compile(USERS, PROFILE, USER_DTO, PROFILE_DTO, declarations(
+                "@GenerateDtoMappers.Mapping(source = fixture.Users.class, target = fixture.UserDto.class)"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile(GENERATED).contentsAsUtf8String()
+                .doesNotContain("setProfile");
+        assertThat(compilation).hadNoteContaining("usersToUserDto 에서 복사하지 않는 속성: profile, roles");
+    }
+
+    @Test
+    void targetWithoutNoArgConstructorIsRejected() {
+        JavaFileObject immutableDto = JavaFileObjects.forSourceLines(
+                "fixture.ImmutableUserDto",
+                "package fixture;",
+                "public class ImmutableUserDto {",
+                "    private final String username;",
+                "    public ImmutableUserDto(String username) { this.username = username; }",
+                "}");
+
+        Compilation compilation = compile(USERS, PROFILE, immutableDto, declarations(
+                "@GenerateDtoMappers.Mapping(source = fixture.Users.class, target = fixture.ImmutableUserDto.class)"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("인자 없는 public 생성자가 없어");
+    }
+}
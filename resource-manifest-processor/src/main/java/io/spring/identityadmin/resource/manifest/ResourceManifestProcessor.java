@@ -0,0 +1,310 @@
+package io.spring.identityadmin.resource.manifest;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 컴파일 시점에 Spring 컴포넌트와 컨트롤러를 분석하여 리소스 매니페스트(JSON)를 생성하는 어노테이션 프로세서.
+ * 런타임의 MethodResourceScanner / MvcResourceScanner 가 모든 빈을 리플렉션으로 훑는 대신
+ * 이 매니페스트를 읽어 URL / METHOD 리소스와 @Operation 메타데이터를 즉시 얻을 수 있습니다.
+ * <p>
+ * Spring, Swagger 라이브러리에 컴파일 의존성을 갖지 않도록 모든 어노테이션은 정규화된 이름으로만 비교합니다.
+ * 다른 프로세서(Lombok, QueryDSL)가 같은 어노테이션을 처리할 수 있도록 어떤 어노테이션도 소유(claim)하지 않습니다.
+ * <p>
+ * 모든 입력 클래스를 받는 "*" 대신 스테레오타입 어노테이션만 지원하여, Gradle 의 aggregating 증분 프로세서로 동작합니다.
+ * (META-INF/gradle/incremental.annotation.processors) 증분 컴파일 시에도 Gradle 이 이 어노테이션이 붙은 모든 클래스를 다시 넘겨주므로
+ * 매니페스트는 항상 전체 클래스로 다시 작성됩니다.
+ */
+@SupportedAnnotationTypes({
+        "org.springframework.stereotype.Component",
+        "org.springframework.stereotype.Service",
+        "org.springframework.stereotype.Controller",
+        "org.springframework.stereotype.Repository",
+        "org.springframework.context.annotation.Configuration",
+        "org.springframework.web.bind.annotation.RestController",
+        "org.springframework.web.bind.annotation.ControllerAdvice",
+        "org.springframework.web.bind.annotation.RestControllerAdvice"
+})
+public class ResourceManifestProcessor extends AbstractProcessor {
+
+    public static final String MANIFEST_LOCATION = "META-INF/identity-admin/resource-manifest.json";
+
+    private static final String BASE_PACKAGE = "io.spring.identityadmin";
+    private static final String COMPONENT = "org.springframework.stereotype.Component";
+    private static final String CONTROLLER = "org.springframework.stereotype.Controller";
+    private static final String OPERATION = "io.swagger.v3.oas.annotations.Operation";
+    private static final String MAPPING_PACKAGE = "org.springframework.web.bind.annotation.";
+    private static final String REQUEST_MAPPING = MAPPING_PACKAGE + "RequestMapping";
+    private static final Map<String, String> SHORTCUT_MAPPINGS = Map.of(
+            MAPPING_PACKAGE + "GetMapping", "GET",
+            MAPPING_PACKAGE + "PostMapping", "POST",
+            MAPPING_PACKAGE + "PutMapping", "PUT",
+            MAPPING_PACKAGE + "DeleteMapping", "DELETE",
+            MAPPING_PACKAGE + "PatchMapping", "PATCH");
+
+    /** 클래스 이진 이름 → 해당 클래스에서 생성된 리소스 항목. 여러 라운드에 걸쳐 누적됩니다. */
+    private final Map<String, List<Map<String, Object>>> entriesByClass = new LinkedHashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeManifest();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                collect(element);
+            }
+        }
+        return false;
+    }
+
+    private void collect(Element element) {
+        if (element.getKind() != ElementKind.CLASS) return;
+        TypeElement type = (TypeElement) element;
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) return;
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        if (packageName.startsWith(BASE_PACKAGE) && isMetaAnnotated(type, COMPONENT, new HashSet<>())) {
+            String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+            List<Map<String, Object>> entries = new ArrayList<>();
+            entries.addAll(methodEntries(type, className));
+            if (isMetaAnnotated(type, CONTROLLER, new HashSet<>())) {
+                entries.addAll(urlEntries(type));
+            }
+            entriesByClass.put(className, entries);
+        }
+    }
+
+    /**
+     * MethodResourceScanner 와 동일하게, 선언된 public 메서드 각각을 METHOD 리소스로 기록합니다.
+     */
+    private List<Map<String, Object>> methodEntries(TypeElement type, String className) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) continue;
+            Map<String, Object> entry = baseEntry("METHOD", className + "." + method.getSimpleName(), method);
+            entry.put("parameterTypes", method.getParameters().stream()
+                    .map(parameter -> simpleName(parameter.asType()))
+                    .collect(Collectors.joining(",")));
+            entry.put("returnType", simpleName(method.getReturnType()));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * 클래스 레벨 @RequestMapping 경로와 메서드 레벨 매핑 경로를 결합하여 URL 리소스를 기록합니다.
+     * 여러 경로가 선언된 경우 MvcResourceScanner 와 마찬가지로 첫 번째 경로만 사용합니다.
+     */
+    private List<Map<String, Object>> urlEntries(TypeElement type) {
+        AnnotationMirror typeMapping = findAnnotation(type, REQUEST_MAPPING);
+        String basePath = typeMapping != null ? firstPath(typeMapping) : "";
+
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+                String annotationName = annotationName(mirror);
+                String httpMethod;
+                if (SHORTCUT_MAPPINGS.containsKey(annotationName)) {
+                    httpMethod = SHORTCUT_MAPPINGS.get(annotationName);
+                } else if (REQUEST_MAPPING.equals(annotationName)) {
+                    List<String> methods = stringValues(mirror, "method");
+                    httpMethod = methods.isEmpty() ? "ANY" : methods.get(0);
+                } else {
+                    continue;
+                }
+                Map<String, Object> entry = baseEntry("URL", combinePaths(basePath, firstPath(mirror)), method);
+                entry.put("httpMethod", httpMethod);
+                entries.add(entry);
+                break;
+            }
+        }
+        return entries;
+    }
+
+    private Map<String, Object> baseEntry(String resourceType, String identifier, ExecutableElement method) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("resourceType", resourceType);
+        entry.put("resourceIdentifier", identifier);
+        entry.put("methodName", method.getSimpleName().toString());
+        AnnotationMirror operation = findAnnotation(method, OPERATION);
+        entry.put("operationPresent", operation != null);
+        if (operation != null) {
+            entry.put("summary", stringValue(operation, "summary"));
+            entry.put("description", stringValue(operation, "description"));
+        }
+        return entry;
+    }
+
+    private String firstPath(AnnotationMirror mapping) {
+        List<String> paths = stringValues(mapping, "value");
+        if (paths.isEmpty()) {
+            paths = stringValues(mapping, "path");
+        }
+        return paths.isEmpty() ? "" : paths.get(0);
+    }
+
+    private String combinePaths(String basePath, String path) {
+        if (basePath.isEmpty()) return withLeadingSlash(path);
+        if (path.isEmpty()) return withLeadingSlash(basePath);
+        String base = withLeadingSlash(basePath);
+        if (base.endsWith("/")) base = base.substring(0, base.length() - 1);
+        return base + withLeadingSlash(path);
+    }
+
+    private String withLeadingSlash(String path) {
+        return path.isEmpty() || path.startsWith("/") ? path : "/" + path;
+    }
+
+    private boolean isMetaAnnotated(Element element, String annotationName, Set<String> visited) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = annotationName(mirror);
+            if (name.equals(annotationName)) return true;
+            if (name.startsWith("java.lang.annotation.") || !visited.add(name)) continue;
+            if (isMetaAnnotated(mirror.getAnnotationType().asElement(), annotationName, visited)) return true;
+        }
+        return false;
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotationName(mirror).equals(annotationName)) return mirror;
+        }
+        return null;
+    }
+
+    private String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private String stringValue(AnnotationMirror mirror, String attribute) {
+        AnnotationValue value = attributeValue(mirror, attribute);
+        return value != null ? String.valueOf(value.getValue()) : "";
+    }
+
+    private List<String> stringValues(AnnotationMirror mirror, String attribute) {
+        AnnotationValue value = attributeValue(mirror, attribute);
+        List<String> result = new ArrayList<>();
+        if (value == null) return result;
+        if (value.getValue() instanceof List<?> values) {
+            for (Object item : values) {
+                Object raw = ((AnnotationValue) item).getValue();
+                result.add(raw instanceof VariableElement constant ? constant.getSimpleName().toString() : String.valueOf(raw));
+            }
+        } else {
+            result.add(String.valueOf(value.getValue()));
+        }
+        return result;
+    }
+
+    private AnnotationValue attributeValue(AnnotationMirror mirror, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) return entry.getValue();
+        }
+        return null;
+    }
+
+    /**
+     * 런타임의 Class.getSimpleName() 과 같은 결과가 나오도록 타입 소거 후의 단순 이름을 반환합니다.
+     */
+    private String simpleName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return simpleName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return ((DeclaredType) erased).asElement().getSimpleName().toString();
+        }
+        return erased.toString();
+    }
+
+    private void writeManifest() {
+        if (entriesByClass.isEmpty()) return;
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", MANIFEST_LOCATION);
+            try (Writer writer = file.openWriter()) {
+                writer.write(toJson());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "리소스 매니페스트를 생성하지 못했습니다. 런타임 스캐너가 리플렉션으로 대체합니다: " + e.getMessage());
+        }
+    }
+
+    private String toJson() {
+        StringBuilder json = new StringBuilder("{\"version\":1,\"classes\":[");
+        boolean firstClass = true;
+        for (Map.Entry<String, List<Map<String, Object>>> classEntry : entriesByClass.entrySet()) {
+            if (!firstClass) json.append(',');
+            firstClass = false;
+            json.append("\n{\"className\":").append(quote(classEntry.getKey())).append(",\"resources\":[");
+            boolean firstEntry = true;
+            for (Map<String, Object> entry : classEntry.getValue()) {
+                if (!firstEntry) json.append(',');
+                firstEntry = false;
+                json.append('{');
+                boolean firstField = true;
+                for (Map.Entry<String, Object> field : entry.entrySet()) {
+                    if (!firstField) json.append(',');
+                    firstField = false;
+                    json.append(quote(field.getKey())).append(':');
+                    json.append(field.getValue() instanceof Boolean ? field.getValue().toString() : quote(String.valueOf(field.getValue())));
+                }
+                json.append('}');
+            }
+            json.append("]}");
+        }
+        return json.append("\n]}\n").toString();
+    }
+
+    private String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) quoted.append(String.format("\\u%04x", (int) c));
+                    else quoted.append(c);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
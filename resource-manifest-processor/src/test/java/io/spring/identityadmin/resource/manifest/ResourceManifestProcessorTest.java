@@ -0,0 +1,182 @@
+package io.spring.identityadmin.resource.manifest;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ResourceManifestProcessor 가 기본 패키지의 구체 컴포넌트만 골라 public 메서드를 METHOD 리소스로,
+ * 컨트롤러 매핑을 결합된 경로의 URL 리소스로 매니페스트에 기록하는지 검증합니다.
+ * Spring·Swagger 어노테이션은 프로세서가 정규화된 이름으로만 비교하므로 같은 이름의 최소 선언으로 대신합니다.
+ */
+class ResourceManifestProcessorTest {
+
+    private static final JavaFileObject COMPONENT = JavaFileObjects.forSourceLines(
+            "org.springframework.stereotype.Component",
+            "package org.springframework.stereotype;",
+            "public @interface Component {",
+            "}");
+
+    private static final JavaFileObject SERVICE = JavaFileObjects.forSourceLines(
+            "org.springframework.stereotype.Service",
+            "package org.springframework.stereotype;",
+            "@Component",
+            "public @interface Service {",
+            "}");
+
+    private static final JavaFileObject CONTROLLER = JavaFileObjects.forSourceLines(
+            "org.springframework.stereotype.Controller",
+            "package org.springframework.stereotype;",
+            "@Component",
+            "public @interface Controller {",
+            "}");
+
+    private static final JavaFileObject REST_CONTROLLER = JavaFileObjects.forSourceLines(
+            "org.springframework.web.bind.annotation.RestController",
+            "package org.springframework.web.bind.annotation;",
+            "@org.springframework.stereotype.Controller",
+            "public @interface RestController {",
+            "}");
+
+    private static final JavaFileObject REQUEST_METHOD = JavaFileObjects.forSourceLines(
+            "org.springframework.web.bind.annotation.RequestMethod",
+            "package org.springframework.web.bind.annotation;",
+            "public enum RequestMethod { GET, POST, PUT, DELETE, PATCH }");
+
+    private static final JavaFileObject REQUEST_MAPPING = JavaFileObjects.forSourceLines(
+            "org.springframework.web.bind.annotation.RequestMapping",
+            "package org.springframework.web.bind.annotation;",
+            "public @interface RequestMapping {",
+            "    String[] value() default {};",
+            "    String[] path() default {};",
+            "    RequestMethod[] method() default {};",
+            "}");
+
+    private static final JavaFileObject GET_MAPPING = shortcutMapping("GetMapping");
+    private static final JavaFileObject POST_MAPPING = shortcutMapping("PostMapping");
+
+    private static final JavaFileObject OPERATION = JavaFileObjects.forSourceLines(
+            "io.swagger.v3.oas.annotations.Operation",
+            "package io.swagger.v3.oas.annotations;",
+            "public @interface Operation {",
+            "    String summary() default \"\";",
+            "    String description() default \"\";",
+            "}");
+
+    private static JavaFileObject shortcutMapping(String name) {
+        return JavaFileObjects.forSourceLines(
+                "org.springframework.web.bind.annotation." + name,
+                "package org.springframework.web.bind.annotation;",
+                "public @interface " + name + " {",
+                "    String[] value() default {};",
+                "    String[] path() default {};",
+                "}");
+    }
+
+    private static Compilation compile(JavaFileObject... sources) {
+        JavaFileObject[] annotations = {COMPONENT, SERVICE, CONTROLLER, REST_CONTROLLER, REQUEST_METHOD, REQUEST_MAPPING,
+                GET_MAPPING, POST_MAPPING, OPERATION};
+        JavaFileObject[] all = new JavaFileObject[annotations.length + sources.length];
+        System.arraycopy(annotations, 0, all, 0, annotations.length);
+        System.arraycopy(sources, 0, all, annotations.length, sources.length);
+        return javac().withProcessors(new ResourceManifestProcessor()).compile(all);
+    }
+
+    private static void assertManifestContains(Compilation compilation, String... fragments) {
+        assertThat(compilation).succeeded();
+        for (String fragment : fragments) {
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", ResourceManifestProcessor.MANIFEST_LOCATION)
+                    .contentsAsUtf8String()
+                    .contains(fragment);
+        }
+    }
+
+    @Test
+    void recordsPublicMethodsOfMetaAnnotatedServices() {
+        JavaFileObject service = JavaFileObjects.forSourceLines(
+                "io.spring.identityadmin.fixture.UserService",
+                "package io.spring.identityadmin.fixture;",
+                "@org.springframework.stereotype.Service",
+                "public class UserService {",
+                "    @io.swagger.v3.oas.annotations.Operation(summary = \"사용자 조회\", description = \"id 로 \\\"사용자\\\"를 찾습니다\")",
+                "    public java.util.Optional<String> find(long id, java.util.List<String> roles, String[] tags) { return null; }",
+                "    public void touch() { }",
+                "    private void hidden() { }",
+                "}");
+
+        Compilation compilation = compile(service);
+
+        assertManifestContains(compilation,
+                "\"className\":\"io.spring.identityadmin.fixture.UserService\"",
+                "{\"resourceType\":\"METHOD\",\"resourceIdentifier\":\"io.spring.identityadmin.fixture.UserService.find\","
+                        + "\"methodName\":\"find\",\"operationPresent\":true,\"summary\":\"사용자 조회\","
+                        + "\"description\":\"id 로 \\\"사용자\\\"를 찾습니다\",\"parameterTypes\":\"long,List,String[]\",\"returnType\":\"Optional\"}",
+                "{\"resourceType\":\"METHOD\",\"resourceIdentifier\":\"io.spring.identityadmin.fixture.UserService.touch\","
+                        + "\"methodName\":\"touch\",\"operationPresent\":false,\"parameterTypes\":\"\",\"returnType\":\"void\"}");
+        assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT, "", ResourceManifestProcessor.MANIFEST_LOCATION)
+                .contentsAsUtf8String()
+                .doesNotContain("hidden");
+    }
+
+    @Test
+    void combinesClassAndMethodMappingsIntoUrlResources() {
+        JavaFileObject controller = JavaFileObjects.forSourceLines(
+                "io.spring.identityadmin.fixture.UserApiController",
+                "package io.spring.identityadmin.fixture;",
+                "import org.springframework.web.bind.annotation.*;",
+                "@RestController",
+                "@RequestMapping(\"api/users/\")",
+                "public class UserApiController {",
+                "    @GetMapping(\"/{id}\")",
+                "    public String get(Long id) { return null; }",
+                "    @PostMapping",
+                "    public void create() { }",
+                "    @RequestMapping(path = {\"search\", \"find\"}, method = RequestMethod.PUT)",
+                "    public void search() { }",
+                "    @RequestMapping(\"any\")",
+                "    public void any() { }",
+                "}");
+
+        Compilation compilation = compile(controller);
+
+        assertManifestContains(compilation,
+                "{\"resourceType\":\"URL\",\"resourceIdentifier\":\"/api/users/{id}\",\"methodName\":\"get\",\"operationPresent\":false,\"httpMethod\":\"GET\"}",
+                "{\"resourceType\":\"URL\",\"resourceIdentifier\":\"/api/users/\",\"methodName\":\"create\",\"operationPresent\":false,\"httpMethod\":\"POST\"}",
+                "{\"resourceType\":\"URL\",\"resourceIdentifier\":\"/api/users/search\",\"methodName\":\"search\",\"operationPresent\":false,\"httpMethod\":\"PUT\"}",
+                "{\"resourceType\":\"URL\",\"resourceIdentifier\":\"/api/users/any\",\"methodName\":\"any\",\"operationPresent\":false,\"httpMethod\":\"ANY\"}",
+                "\"resourceIdentifier\":\"io.spring.identityadmin.fixture.UserApiController.get\"");
+    }
+
+    @Test
+    void skipsAbstractClassesAndClassesOutsideTheBasePackage() {
+        JavaFileObject abstractService = JavaFileObjects.forSourceLines(
+                "io.spring.identityadmin.fixture.AbstractService",
+                "package io.spring.identityadmin.fixture;",
+                "@org.springframework.stereotype.Service",
+                "public abstract class AbstractService {",
+                "    public void run() { }",
+                "}");
+        JavaFileObject externalService = JavaFileObjects.forSourceLines(
+                "com.example.ExternalService",
+                "package com.example;",
+                "@org.springframework.stereotype.Service",
+                "public class ExternalService {",
+                "    public void run() { }",
+                "}");
+
+        Compilation compilation = compile(abstractService, externalService);
+
+        assertThat(compilation).succeeded();
+        assertTrue(compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "", ResourceManifestProcessor.MANIFEST_LOCATION).isEmpty(),
+                "기록할 컴포넌트가 없으면 매니페스트를 만들지 않아야 합니다.");
+    }
+}
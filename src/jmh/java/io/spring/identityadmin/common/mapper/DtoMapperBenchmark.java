@@ -0,0 +1,66 @@
+package io.spring.identityadmin.common.mapper;
+
+import io.spring.identityadmin.domain.dto.UserDto;
+import io.spring.identityadmin.domain.entity.Users;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 목록(Users → UserDto) 변환을 컴파일 시점 생성 매퍼(DataTransformationServiceImpl)와 ModelMapper 로 각각 수행해 비교합니다.
+ * AppConfig 와 같이 기본 설정의 ModelMapper 를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private List<Users> users;
+    private ModelMapper modelMapper;
+    private DataTransformationService dataTransformationService;
+
+    @Setup
+    public void setUp() {
+        users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(Users.builder()
+                    .id((long) i)
+                    .username("user" + i + "@example.com")
+                    .password("{noop}password")
+                    .name("User " + i)
+                    .mfaEnabled(i % 2 == 0)
+                    .build());
+        }
+        modelMapper = new ModelMapper();
+        dataTransformationService = new DataTransformationServiceImpl(new ModelMapper());
+        // 첫 호출에서 만들어지는 ModelMapper 의 TypeMap 을 측정에서 제외
+        modelMapper.map(users.getFirst(), UserDto.class);
+    }
+
+    @Benchmark
+    public List<UserDto> modelMapper() {
+        List<UserDto> result = new ArrayList<>(users.size());
+        for (Users user : users) {
+            result.add(modelMapper.map(user, UserDto.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<UserDto> generatedMapper() {
+        return dataTransformationService.toDtoList(users, UserDto.class);
+    }
+}
@@ -3,6 +3,8 @@ package io.spring.identityadmin.admin.iam.controller;
 import io.spring.identityadmin.admin.iam.service.GroupService;
 import io.spring.identityadmin.admin.iam.service.RoleService;
 import io.spring.identityadmin.domain.dto.GroupDto;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.dto.RoleMetadataDto;
 import io.spring.identityadmin.domain.entity.Group;
 import io.spring.identityadmin.domain.entity.Role;
@@ -28,17 +30,12 @@ public class GroupController {
     private final ModelMapper modelMapper;
 
     @GetMapping
-    public String getGroups(Model model) {
-        // 서비스는 엔티티 리스트를 반환
-        List<Group> groups = groupService.getAllGroups();
-        // [수정] 컨트롤러에서 DTO 리스트로 변환
-        List<GroupDto> groupListDtos = groups.stream().map(group -> {
-            GroupDto dto = modelMapper.map(group, GroupDto.class);
-            dto.setRoleCount(group.getGroupRoles() != null ? group.getGroupRoles().size() : 0);
-            dto.setUserCount(group.getUserGroups() != null ? group.getUserGroups().size() : 0);
-            return dto;
-        }).toList();
-        model.addAttribute("groups", groupListDtos);
+    public String getGroups(@RequestParam(required = false) String cursor,
+                            @RequestParam(defaultValue = "50") int size, Model model) {
+        // 역할 수·구성원 수는 목록 쿼리에서 집계되어 오므로 컬렉션을 불러오지 않음
+        PageResponseDto<GroupDto> page = groupService.getGroupPage(new KeysetPageRequest(cursor, size));
+        model.addAttribute("groups", page.getContent());
+        model.addAttribute("page", page);
         return "admin/groups";
     }
     @GetMapping("/register")
@@ -2,6 +2,8 @@ package io.spring.identityadmin.admin.iam.controller;
 
 import io.spring.identityadmin.admin.iam.service.PermissionService;
 import io.spring.identityadmin.admin.metadata.service.FunctionCatalogService;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.dto.PermissionDto;
 import io.spring.identityadmin.domain.entity.FunctionCatalog;
 import io.spring.identityadmin.domain.entity.Permission;
@@ -31,16 +33,17 @@ public class PermissionController {
 
     /**
      * 권한 목록 페이지를 반환합니다.
+     * @param cursor 직전 페이지가 돌려준 다음 페이지 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기
      * @param model Model 객체
      * @return admin/permissions.html 템플릿 경로
      */
     @GetMapping
-    public String getPermissions(Model model) {
-        List<Permission> permissions = permissionService.getAllPermissions();
-        List<PermissionDto> dtoList = permissions.stream()
-                .map(p -> modelMapper.map(p, PermissionDto.class))
-                .toList();
-        model.addAttribute("permissions", dtoList);
+    public String getPermissions(@RequestParam(required = false) String cursor,
+                                 @RequestParam(defaultValue = "50") int size, Model model) {
+        PageResponseDto<PermissionDto> page = permissionService.getPermissionPage(new KeysetPageRequest(cursor, size));
+        model.addAttribute("permissions", page.getContent());
+        model.addAttribute("page", page);
         return "admin/permissions";
     }
 
@@ -2,6 +2,8 @@ package io.spring.identityadmin.admin.iam.controller;
 
 import io.spring.identityadmin.admin.iam.service.PermissionService;
 import io.spring.identityadmin.admin.iam.service.RoleService;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.dto.PermissionDto;
 import io.spring.identityadmin.domain.dto.RoleDto;
 import io.spring.identityadmin.domain.entity.Role;
@@ -27,14 +29,11 @@ public class RoleController {
 	private final ModelMapper modelMapper;
 
 	@GetMapping
-	public String getRoles(Model model) {
-		List<Role> roles = roleService.getRoles();
-		List<RoleDto> dtoList = roles.stream().map(role -> {
-			RoleDto dto = modelMapper.map(role, RoleDto.class);
-			dto.setPermissionCount(role.getRolePermissions() != null ? role.getRolePermissions().size() : 0);
-			return dto;
-		}).toList();
-		model.addAttribute("roles", dtoList);
+	public String getRoles(@RequestParam(required = false) String cursor,
+						   @RequestParam(defaultValue = "50") int size, Model model) {
+		PageResponseDto<RoleDto> page = roleService.getRolePage(new KeysetPageRequest(cursor, size));
+		model.addAttribute("roles", page.getContent());
+		model.addAttribute("page", page);
 		return "admin/roles";
 	}
 
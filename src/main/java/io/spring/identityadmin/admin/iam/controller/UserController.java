@@ -1,13 +1,12 @@
 package io.spring.identityadmin.admin.iam.controller;
 
+import io.spring.identityadmin.admin.iam.service.UserManagementService;
 import io.spring.identityadmin.domain.dto.UserDto;
 
-import io.spring.identityadmin.domain.entity.Users;
 import io.spring.identityadmin.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,7 +22,7 @@ public class UserController {
 
     private final UserRepository userRepository;
     private final ModelMapper modelMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final UserManagementService userManagementService;
 
 
     @GetMapping("/register")
@@ -35,10 +34,7 @@ public class UserController {
     @ResponseBody
     public ResponseEntity<String> processRegister(@RequestBody UserDto userDto) {
 
-        Users users = modelMapper.map(userDto, Users.class);
-        users.setPassword(passwordEncoder.encode(users.getPassword()));
-        users.setMfaEnabled(true);
-        userRepository.save(users);
+        userManagementService.registerUser(userDto);
 
         return ResponseEntity.ok().body("success");
     }
@@ -3,6 +3,8 @@ package io.spring.identityadmin.admin.iam.controller; // 패키지명 변경: io
 import io.spring.identityadmin.admin.iam.service.GroupService;
 import io.spring.identityadmin.admin.iam.service.RoleService;
 import io.spring.identityadmin.admin.iam.service.UserManagementService;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.dto.UserDto;
 import io.spring.identityadmin.domain.dto.UserListDto;
 import io.spring.identityadmin.domain.entity.Group;
@@ -29,9 +31,11 @@ public class UserManagementController {
 
 	@GetMapping
 	@Operation(summary = "사용자 목록 조회", description = "사용자들의 목록을 조회 할 수 있습니다.")
-	public String getUsers(Model model) {
-		List<UserListDto> users = userManagementService.getUsers();
-		model.addAttribute("users", users);
+	public String getUsers(@RequestParam(required = false) String cursor,
+						   @RequestParam(defaultValue = "50") int size, Model model) {
+		PageResponseDto<UserListDto> page = userManagementService.getUserPage(new KeysetPageRequest(cursor, size));
+		model.addAttribute("users", page.getContent());
+		model.addAttribute("page", page);
 		return "admin/users";
 	}
 
@@ -0,0 +1,47 @@
+package io.spring.identityadmin.admin.iam.controller;
+
+import io.spring.identityadmin.admin.iam.service.UserTransferFormat;
+import io.spring.identityadmin.admin.iam.service.UserTransferService;
+import io.spring.identityadmin.domain.dto.UserImportResultDto;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class UserTransferApiController {
+
+    private final UserTransferService userTransferService;
+
+    @PostMapping("/import")
+    @Operation(summary = "사용자 일괄 가져오기", description = "요청 본문의 CSV 또는 JSONL 을 한 행씩 읽어 사용자와 그룹 소속을 생성·갱신하고, 행별 오류를 반환합니다. "
+            + "encodedPasswords=true 이면 password 는 {bcrypt}, {argon2} 등 허용된 형식으로 이미 해시된 값이어야 합니다.")
+    public ResponseEntity<UserImportResultDto> importUsers(@RequestParam(defaultValue = "CSV") UserTransferFormat format,
+                                                           @RequestParam(defaultValue = "false") boolean encodedPasswords,
+                                                           InputStream body) throws IOException {
+        return ResponseEntity.ok(userTransferService.importUsers(body, format, encodedPasswords));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "사용자 일괄 내보내기", description = "모든 사용자와 소속 그룹을 CSV 또는 JSONL 로 스트리밍합니다. 비밀번호는 포함하지 않습니다.")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "CSV") UserTransferFormat format) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("users." + format.getExtension()).build().toString())
+                .body(out -> userTransferService.exportUsers(out, format));
+    }
+}
@@ -1,5 +1,8 @@
 package io.spring.identityadmin.admin.iam.service;
 
+import io.spring.identityadmin.domain.dto.GroupDto;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.entity.Group;
 
 import java.util.List;
@@ -9,6 +12,10 @@ public interface GroupService {
     Group createGroup(Group group, List<Long> selectedRoleIds);
     Optional<Group> getGroup(Long id);
     List<Group> getAllGroups();
+    /**
+     * 그룹 목록 화면용 키셋 페이지를 조회합니다. 전체 개수는 첫 페이지에서만 셉니다.
+     */
+    PageResponseDto<GroupDto> getGroupPage(KeysetPageRequest request);
     void deleteGroup(Long id);
     Group updateGroup(Group group, List<Long> selectedRoleIds);
 }
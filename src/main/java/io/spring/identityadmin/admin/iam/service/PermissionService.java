@@ -1,5 +1,7 @@
 package io.spring.identityadmin.admin.iam.service;
 
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.dto.PermissionDto;
 import io.spring.identityadmin.domain.entity.Permission;
 
@@ -11,6 +13,10 @@ public interface PermissionService {
     Permission createPermission(Permission permission);
     Optional<Permission> getPermission(Long id);
     List<Permission> getAllPermissions();
+    /**
+     * 권한 목록 화면용 키셋 페이지를 조회합니다. 전체 개수는 첫 페이지에서만 셉니다.
+     */
+    PageResponseDto<PermissionDto> getPermissionPage(KeysetPageRequest request);
     void deletePermission(Long id);
     Permission updatePermission(Long id, PermissionDto permissionDto, Set<Long> functionIds);
     Optional<Permission> findByName(String name);
@@ -1,5 +1,8 @@
 package io.spring.identityadmin.admin.iam.service;
 
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
+import io.spring.identityadmin.domain.dto.RoleDto;
 import io.spring.identityadmin.domain.entity.Role;
 
 import java.util.List;
@@ -7,6 +10,10 @@ import java.util.List;
 public interface RoleService {
     Role getRole(long id);
     List<Role> getRoles();
+    /**
+     * 역할 목록 화면용 키셋 페이지를 조회합니다. 전체 개수는 첫 페이지에서만 셉니다.
+     */
+    PageResponseDto<RoleDto> getRolePage(KeysetPageRequest request);
     List<Role> getRolesWithoutExpression();
     Role createRole(Role role, List<Long> permissionIds);
     Role updateRole(Role role, List<Long> permissionIds);
@@ -1,5 +1,7 @@
 package io.spring.identityadmin.admin.iam.service;
 
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.dto.UserDto;
 import io.spring.identityadmin.domain.dto.UserListDto;
 
@@ -7,9 +9,20 @@ import java.util.List;
 
 public interface UserManagementService {
 
+    /**
+     * 회원 가입으로 새 사용자를 저장합니다. MFA 는 사용으로 설정됩니다.
+     */
+    void registerUser(UserDto userDto);
+
     void modifyUser(UserDto userDto);
 
     List<UserListDto> getUsers();
+
+    /**
+     * 사용자 목록 화면용 키셋 페이지를 조회합니다. 전체 개수는 첫 페이지에서만 셉니다.
+     */
+    PageResponseDto<UserListDto> getUserPage(KeysetPageRequest request);
+
     UserDto getUser(Long id);
 
     void deleteUser(Long idx);
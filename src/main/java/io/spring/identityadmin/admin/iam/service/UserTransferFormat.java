@@ -0,0 +1,27 @@
+package io.spring.identityadmin.admin.iam.service;
+
+/**
+ * 사용자 일괄 가져오기·내보내기 파일 형식.
+ */
+public enum UserTransferFormat {
+    /** 첫 행이 열 이름인 RFC 4180 CSV. groups 열은 그룹 이름을 '|' 로 구분합니다. */
+    CSV("text/csv", "csv"),
+    /** 한 줄에 UserTransferRow JSON 객체 하나 */
+    JSONL("application/x-ndjson", "jsonl");
+
+    private final String mediaType;
+    private final String extension;
+
+    UserTransferFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
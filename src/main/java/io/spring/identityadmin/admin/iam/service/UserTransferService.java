@@ -0,0 +1,28 @@
+package io.spring.identityadmin.admin.iam.service;
+
+import io.spring.identityadmin.domain.dto.UserImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 사용자와 그룹 소속을 CSV/JSONL 로 일괄 가져오고 내보냅니다.
+ * 두 방향 모두 파일을 한 행씩 스트리밍하므로 사용자 수와 무관하게 일정한 메모리만 사용합니다.
+ */
+public interface UserTransferService {
+
+    /**
+     * 사용자명을 기준으로 사용자를 생성하거나 갱신하고, groups 가 지정된 행은 소속 그룹을 교체합니다.
+     * 행을 묶음 단위로 나누어 묶음마다 별도 트랜잭션으로 저장하므로, 실패한 행이나 묶음이 있어도 나머지 행은 반영됩니다.
+     * @param encodedPasswords false 이면 password 는 평문으로 보고 항상 인코딩합니다.
+     *                         true 이면 password 는 "{bcrypt}..." 처럼 허용된 해시 형식으로 이미 인코딩된 값이어야 하며 그대로 저장합니다.
+     * @throws IllegalArgumentException CSV 헤더가 없거나 알 수 없는 열이 있는 경우
+     */
+    UserImportResultDto importUsers(InputStream in, UserTransferFormat format, boolean encodedPasswords) throws IOException;
+
+    /**
+     * 모든 사용자를 소속 그룹 이름과 함께 id 순으로 out 에 씁니다. 비밀번호는 내보내지 않습니다.
+     */
+    void exportUsers(OutputStream out, UserTransferFormat format) throws IOException;
+}
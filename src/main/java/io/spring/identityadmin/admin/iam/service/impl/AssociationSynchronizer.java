@@ -0,0 +1,88 @@
+package io.spring.identityadmin.admin.iam.service.impl;
+
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 조인 엔티티 컬렉션(RolePermission, GroupRole, UserGroup)을 원하는 대상 id 목록에 맞춥니다.
+ * 컬렉션을 비우고 모두 다시 넣는 대신 현재 id 집합과 비교하여 빠진 연결만 제거하고(orphanRemoval 로 삭제),
+ * 새 대상은 findAllById 한 번으로 읽어 추가하므로 바뀐 행만 INSERT·DELETE 됩니다.
+ * 변경이 있으면 추가·제거된 id 를 담은 AssociationChangedEvent 를 커밋 이후에 발행하므로, 롤백된 변경은 구독자에게 전달되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssociationSynchronizer {
+
+    private final IntegrationEventBus eventBus;
+
+    /**
+     * 바뀐 연결의 대상 id.
+     */
+    public record Diff(long[] addedIds, long[] removedIds) {
+        public boolean isEmpty() {
+            return addedIds.length == 0 && removedIds.length == 0;
+        }
+    }
+
+    /**
+     * @param association 이벤트에 기록할 연결 종류
+     * @param ownerId 컬렉션을 소유한 엔티티 id
+     * @param links 소유 엔티티의 조인 엔티티 컬렉션 (cascade, orphanRemoval 이 설정되어 있어야 함)
+     * @param targetIdOf 조인 엔티티에서 대상 id 를 꺼내는 함수
+     * @param desiredIds 동기화 후 연결되어 있어야 할 대상 id (null 이면 모두 제거)
+     * @param targetRepository 추가할 대상 엔티티를 읽을 저장소
+     * @param linkFactory 대상 엔티티로 새 조인 엔티티를 만드는 함수
+     * @throws IllegalArgumentException 존재하지 않는 대상 id 가 있는 경우. 컬렉션은 변경되지 않습니다.
+     */
+    public <L, T> Diff synchronize(AssociationChangedEvent.Association association, Long ownerId, Collection<L> links,
+                                   Function<L, Long> targetIdOf, Collection<Long> desiredIds,
+                                   JpaRepository<T, Long> targetRepository, Function<T, Long> idOf,
+                                   Function<T, L> linkFactory) {
+        Set<Long> desired = new LinkedHashSet<>();
+        if (desiredIds != null) {
+            desiredIds.stream().filter(Objects::nonNull).forEach(desired::add);
+        }
+        Set<Long> current = new HashSet<>();
+        for (L link : links) {
+            current.add(targetIdOf.apply(link));
+        }
+
+        Set<Long> added = new LinkedHashSet<>(desired);
+        added.removeAll(current);
+        Set<Long> removed = new HashSet<>(current);
+        removed.removeAll(desired);
+
+        // 대상이 모두 존재하는지 확인한 뒤에 컬렉션을 바꿔, 실패했을 때 일부만 반영되지 않게 합니다.
+        List<T> targets = added.isEmpty() ? List.of() : targetRepository.findAllById(added);
+        if (targets.size() != added.size()) {
+            Set<Long> missing = new LinkedHashSet<>(added);
+            targets.forEach(target -> missing.remove(idOf.apply(target)));
+            throw new IllegalArgumentException(association.getTargetName() + " not found with ID: " + missing.iterator().next());
+        }
+
+        if (!removed.isEmpty()) {
+            links.removeIf(link -> removed.contains(targetIdOf.apply(link)));
+        }
+        targets.forEach(target -> links.add(linkFactory.apply(target)));
+
+        Diff diff = new Diff(added.stream().mapToLong(Long::longValue).toArray(),
+                removed.stream().mapToLong(Long::longValue).sorted().toArray());
+        if (!diff.isEmpty()) {
+            AssociationChangedEvent event = new AssociationChangedEvent(association, ownerId, diff.addedIds(), diff.removedIds());
+            AfterCommit.run(() -> eventBus.publish(event));
+        }
+        return diff;
+    }
+}
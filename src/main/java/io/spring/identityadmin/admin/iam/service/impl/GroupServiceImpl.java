@@ -1,11 +1,17 @@
 package io.spring.identityadmin.admin.iam.service.impl;
 
 import io.spring.identityadmin.admin.iam.service.GroupService;
+import io.spring.identityadmin.domain.dto.GroupDto;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.entity.Group;
 import io.spring.identityadmin.domain.entity.GroupRole;
 import io.spring.identityadmin.domain.entity.Role;
 import io.spring.identityadmin.repository.GroupRepository;
 import io.spring.identityadmin.repository.RoleRepository;
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
@@ -16,8 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +31,8 @@ import java.util.Set;
 public class GroupServiceImpl implements GroupService {
     private final GroupRepository groupRepository;
     private final RoleRepository roleRepository; // RoleRepository 주입
+    private final IntegrationEventBus eventBus;
+    private final AssociationSynchronizer associationSynchronizer;
 
     /**
      * 새로운 Group을 생성하고 저장합니다. Role 할당 로직 포함.
@@ -46,17 +54,12 @@ public class GroupServiceImpl implements GroupService {
         Group savedGroup = groupRepository.save(group);
 
         // GroupRole 조인 엔티티 생성 및 연결
-        if (selectedRoleIds != null && !selectedRoleIds.isEmpty()) {
-            Set<GroupRole> groupRoles = new HashSet<>();
-            for (Long roleId : selectedRoleIds) {
-                Role role = roleRepository.findById(roleId)
-                        .orElseThrow(() -> new IllegalArgumentException("Role not found with ID: " + roleId));
-                groupRoles.add(GroupRole.builder().group(savedGroup).role(role).build());
-            }
-            savedGroup.setGroupRoles(groupRoles); // Group 엔티티에 조인 엔티티 설정
-        }
+        savedGroup.setGroupRoles(new HashSet<>());
+        synchronizeRoles(savedGroup, selectedRoleIds);
 
-        return groupRepository.save(savedGroup); // 다시 저장하여 관계 반영
+        Group result = groupRepository.save(savedGroup); // 다시 저장하여 관계 반영
+        eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.GROUP));
+        return result;
     }
 
     public Optional<Group> getGroup(Long id) {
@@ -72,6 +75,14 @@ public class GroupServiceImpl implements GroupService {
         return groupRepository.findAllWithRolesAndUsers();
     }
 
+    @Transactional(readOnly = true)
+    public PageResponseDto<GroupDto> getGroupPage(KeysetPageRequest request) {
+        Long afterId = request.afterId();
+        List<GroupDto> rows = groupRepository.findGroupListPage(afterId, request.fetchSize());
+        long total = afterId == null ? groupRepository.count() : -1;
+        return PageResponseDto.ofKeyset(rows, request, total, group -> KeysetPageRequest.cursorOf(group.getId()));
+    }
+
     /**
      * Group을 삭제합니다.
      * 관련 캐시를 무효화합니다.
@@ -86,6 +97,7 @@ public class GroupServiceImpl implements GroupService {
     )
     public void deleteGroup(Long id) {
         groupRepository.deleteById(id);
+        eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.GROUP));
     }
 
     /**
@@ -104,21 +116,25 @@ public class GroupServiceImpl implements GroupService {
         Group existingGroup = groupRepository.findByIdWithRoles(group.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Group not found with ID: " + group.getId()));
 
+        boolean termChanged = !Objects.equals(existingGroup.getName(), group.getName())
+                || !Objects.equals(existingGroup.getDescription(), group.getDescription());
         existingGroup.setName(group.getName());
         existingGroup.setDescription(group.getDescription());
 
-        // 기존 GroupRole 관계 제거 (orphanRemoval = true 덕분에 가능)
-        existingGroup.getGroupRoles().clear();
+        // 바뀐 GroupRole 만 추가·제거 (제거는 orphanRemoval = true 로 삭제). 연결 변경은 AssociationChangedEvent 로 전달됩니다.
+        synchronizeRoles(existingGroup, selectedRoleIds);
 
-        // 새로운 GroupRole 조인 엔티티 생성 및 연결
-        if (selectedRoleIds != null && !selectedRoleIds.isEmpty()) {
-            for (Long roleId : selectedRoleIds) {
-                Role role = roleRepository.findById(roleId)
-                        .orElseThrow(() -> new IllegalArgumentException("Role not found with ID: " + roleId));
-                existingGroup.getGroupRoles().add(GroupRole.builder().group(existingGroup).role(role).build());
-            }
+        Group result = groupRepository.save(existingGroup);
+        if (termChanged) {
+            eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.GROUP));
         }
+        return result;
+    }
 
-        return groupRepository.save(existingGroup);
+    private void synchronizeRoles(Group group, List<Long> selectedRoleIds) {
+        associationSynchronizer.synchronize(AssociationChangedEvent.Association.GROUP_ROLE, group.getId(),
+                group.getGroupRoles(), groupRole -> groupRole.getRole().getId(), selectedRoleIds,
+                roleRepository, Role::getId,
+                role -> GroupRole.builder().group(group).role(role).build());
     }
 }
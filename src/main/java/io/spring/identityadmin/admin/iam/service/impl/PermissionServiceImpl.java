@@ -1,11 +1,15 @@
 package io.spring.identityadmin.admin.iam.service.impl;
 
 import io.spring.identityadmin.admin.iam.service.PermissionService;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.dto.PermissionDto;
 import io.spring.identityadmin.domain.entity.FunctionCatalog;
 import io.spring.identityadmin.domain.entity.Permission;
 import io.spring.identityadmin.repository.FunctionCatalogRepository;
 import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
@@ -24,6 +28,7 @@ import java.util.Set;
 public class PermissionServiceImpl implements PermissionService {
     private final PermissionRepository permissionRepository;
     private final FunctionCatalogRepository functionCatalogRepository;
+    private final IntegrationEventBus eventBus;
 
     /**
      * 새로운 Permission을 생성하고 저장합니다.
@@ -42,7 +47,9 @@ public class PermissionServiceImpl implements PermissionService {
         if (permissionRepository.findByName(permission.getName()).isPresent()) {
             throw new IllegalArgumentException("Permission with name " + permission.getName() + " already exists.");
         }
-        return permissionRepository.save(permission);
+        Permission result = permissionRepository.save(permission);
+        eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.PERMISSION));
+        return result;
     }
 
     /**
@@ -66,6 +73,14 @@ public class PermissionServiceImpl implements PermissionService {
         return permissionRepository.findAll();
     }
 
+    @Override
+    public PageResponseDto<PermissionDto> getPermissionPage(KeysetPageRequest request) {
+        Long afterId = request.afterId();
+        List<PermissionDto> rows = permissionRepository.findPermissionListPage(afterId, request.fetchSize());
+        long total = afterId == null ? permissionRepository.count() : -1;
+        return PageResponseDto.ofKeyset(rows, request, total, permission -> KeysetPageRequest.cursorOf(permission.getId()));
+    }
+
     /**
      * ID로 Permission 엔티티를 삭제합니다.
      * 관련 캐시(usersWithRolesAndPermissions, 모든 Permission 캐시)를 무효화합니다.
@@ -82,6 +97,7 @@ public class PermissionServiceImpl implements PermissionService {
     @Override
     public void deletePermission(Long id) {
         permissionRepository.deleteById(id);
+        eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.PERMISSION));
     }
 
     /**
@@ -109,7 +125,9 @@ public class PermissionServiceImpl implements PermissionService {
             permission.getFunctions().addAll(functions);
         }
 
-        return permissionRepository.save(permission);
+        Permission result = permissionRepository.save(permission);
+        eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.PERMISSION));
+        return result;
     }
 
     /**
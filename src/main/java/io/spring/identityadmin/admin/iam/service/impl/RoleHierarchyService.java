@@ -3,14 +3,13 @@ package io.spring.identityadmin.admin.iam.service.impl;
 import io.spring.identityadmin.domain.entity.RoleHierarchyEntity;
 import io.spring.identityadmin.repository.RoleHierarchyRepository;
 import io.spring.identityadmin.repository.RoleRepository;
-import jakarta.annotation.PostConstruct;
+import io.spring.identityadmin.security.core.ReloadableRoleHierarchy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
-import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,12 +24,12 @@ public class RoleHierarchyService {
 
     private final RoleHierarchyRepository roleHierarchyRepository;
     private final RoleRepository roleRepository;
-    private final RoleHierarchyImpl roleHierarchy;
+    private final ReloadableRoleHierarchy roleHierarchy;
 
     /**
-     * RoleHierarchyService 빈 생성이 완료된 후, RoleHierarchyImpl 빈에 계층 정보를 설정합니다.
+     * 애플리케이션 시작 시 활성 역할 계층을 ReloadableRoleHierarchy 빈에 적재합니다.
+     * readiness 를 막는 시작 작업으로 실행됩니다. (StartupConfig 참고)
      */
-    @PostConstruct // <<< 이 메서드를 추가합니다.
     public void initializeRoleHierarchy() {
         log.info("Initializing RoleHierarchyService and setting initial RoleHierarchyImpl hierarchy...");
         reloadRoleHierarchyBean();
@@ -162,16 +161,15 @@ public class RoleHierarchyService {
 
 
     /**
-     * RoleHierarchyImpl 빈에 DB 에서 로드한 최신 계층 문자열을 설정합니다.
-     * 이 메서드는 PlatformSecurityConfig에서 @Bean 초기화 시 호출됩니다.
-     * 또한, DB에서 계층 정보가 변경될 때마다 수동으로 호출되어 런타임 갱신을 수행합니다.
+     * RoleHierarchy 빈에 DB 에서 로드한 최신 계층 문자열을 설정합니다.
+     * 이 메서드는 빈 초기화 시 호출되며, DB에서 계층 정보가 변경될 때마다 호출되어 런타임 갱신을 수행합니다.
+     * 새 계층은 완전히 구성된 뒤 원자적으로 교체되므로 평가 중인 요청은 이전 또는 새 계층만 보게 됩니다.
      */
     public void reloadRoleHierarchyBean() {
         try {
             String hierarchyString = getActiveRoleHierarchyString(); // DB에서 활성화된 계층 문자열 로드 (캐시 사용)
-            // ObjectProvider를 통해 RoleHierarchyImpl 빈을 가져와 설정
-            roleHierarchy.setHierarchy(hierarchyString); // <<< ObjectProvider 사용
-            log.info("RoleHierarchyImpl bean reloaded with new hierarchy: \n{}", hierarchyString);
+            roleHierarchy.reload(hierarchyString);
+            log.info("RoleHierarchy bean reloaded with new hierarchy: \n{}", hierarchyString);
         } catch (Exception e) {
             log.error("Failed to reload RoleHierarchyImpl bean dynamically. Error: {}", e.getMessage(), e);
         }
@@ -1,11 +1,17 @@
 package io.spring.identityadmin.admin.iam.service.impl;
 
 import io.spring.identityadmin.admin.iam.service.RoleService;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
+import io.spring.identityadmin.domain.dto.RoleDto;
 import io.spring.identityadmin.domain.entity.Permission;
 import io.spring.identityadmin.domain.entity.Role;
 import io.spring.identityadmin.domain.entity.RolePermission;
 import io.spring.identityadmin.repository.PermissionRepository;
 import io.spring.identityadmin.repository.RoleRepository;
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -17,7 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -27,6 +33,8 @@ public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
+    private final IntegrationEventBus eventBus;
+    private final AssociationSynchronizer associationSynchronizer;
 
     @Transactional(readOnly = true)
     @Cacheable(value = "roles", key = "#id")
@@ -41,6 +49,14 @@ public class RoleServiceImpl implements RoleService {
         return roleRepository.findAllWithPermissions();
     }
 
+    @Transactional(readOnly = true)
+    public PageResponseDto<RoleDto> getRolePage(KeysetPageRequest request) {
+        Long afterId = request.afterId();
+        List<RoleDto> rows = roleRepository.findRoleListPage(afterId, request.fetchSize());
+        long total = afterId == null ? roleRepository.count() : -1;
+        return PageResponseDto.ofKeyset(rows, request, total, role -> KeysetPageRequest.cursorOf(role.getId()));
+    }
+
     @Transactional(readOnly = true)
     @Cacheable(value = "rolesWithoutExpression", key = "'allRolesWithoutExpression'")
     public List<Role> getRolesWithoutExpression() {
@@ -69,17 +85,12 @@ public class RoleServiceImpl implements RoleService {
         Role savedRole = roleRepository.save(role);
 
         // RolePermission 조인 엔티티 생성 및 연결
-        Set<RolePermission> rolePermissions = new HashSet<>();
-        if (permissionIds != null && !permissionIds.isEmpty()) {
-            for (Long permId : permissionIds) {
-                Permission permission = permissionRepository.findById(permId)
-                        .orElseThrow(() -> new IllegalArgumentException("Permission not found with ID: " + permId));
-                rolePermissions.add(RolePermission.builder().role(savedRole).permission(permission).build());
-            }
-        }
-        savedRole.setRolePermissions(rolePermissions); // Role 엔티티에 조인 엔티티 설정
+        savedRole.setRolePermissions(new HashSet<>());
+        synchronizePermissions(savedRole, permissionIds);
 
-        return roleRepository.save(savedRole); // 다시 저장하여 관계 반영
+        Role result = roleRepository.save(savedRole); // 다시 저장하여 관계 반영
+        eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.ROLE));
+        return result;
     }
 
     /**
@@ -100,26 +111,31 @@ public class RoleServiceImpl implements RoleService {
         Role existingRole = roleRepository.findByIdWithPermissions(role.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Role not found with ID: " + role.getId()));
 
+        boolean termChanged = !Objects.equals(existingRole.getRoleName(), role.getRoleName())
+                || !Objects.equals(existingRole.getRoleDesc(), role.getRoleDesc())
+                || !Objects.equals(existingRole.getIsExpression(), role.getIsExpression());
         existingRole.setRoleName(role.getRoleName());
         existingRole.setRoleDesc(role.getRoleDesc());
         existingRole.setIsExpression(role.getIsExpression());
 
-        // 기존 RolePermission 관계 제거 (orphanRemoval = true 덕분에 가능)
-        existingRole.getRolePermissions().clear();
-
-        // 새로운 RolePermission 조인 엔티티 생성 및 연결
-        if (permissionIds != null && !permissionIds.isEmpty()) {
-            for (Long permId : permissionIds) {
-                Permission permission = permissionRepository.findById(permId)
-                        .orElseThrow(() -> new IllegalArgumentException("Permission not found with ID: " + permId));
-                existingRole.getRolePermissions().add(RolePermission.builder().role(existingRole).permission(permission).build());
-            }
-        }
+        // 바뀐 RolePermission 만 추가·제거 (제거는 orphanRemoval = true 로 삭제). 연결 변경은 AssociationChangedEvent 로 전달됩니다.
+        synchronizePermissions(existingRole, permissionIds);
         // Save는 자동으로 변경을 감지하여 처리
-        return roleRepository.save(existingRole);
+        Role result = roleRepository.save(existingRole);
+        if (termChanged) {
+            eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.ROLE));
+        }
+        return result;
     }
 
 
+    private void synchronizePermissions(Role role, List<Long> permissionIds) {
+        associationSynchronizer.synchronize(AssociationChangedEvent.Association.ROLE_PERMISSION, role.getId(),
+                role.getRolePermissions(), rolePermission -> rolePermission.getPermission().getId(), permissionIds,
+                permissionRepository, Permission::getId,
+                permission -> RolePermission.builder().role(role).permission(permission).build());
+    }
+
     /**
      * Role을 삭제합니다.
      * 관련 캐시를 무효화합니다.
@@ -136,5 +152,6 @@ public class RoleServiceImpl implements RoleService {
     )
     public void deleteRole(long id) {
         roleRepository.deleteById(id);
+        eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.ROLE));
     }
 }
@@ -1,6 +1,12 @@
 package io.spring.identityadmin.admin.iam.service.impl;
 
 import io.spring.identityadmin.admin.iam.service.UserManagementService;
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipChangedEvent;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.common.mapper.DataTransformationService;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.entity.*;
 import io.spring.identityadmin.repository.GroupRepository;
 import io.spring.identityadmin.domain.dto.UserDto;
@@ -8,7 +14,6 @@ import io.spring.identityadmin.domain.dto.UserListDto;
 import io.spring.identityadmin.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.access.method.P;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,9 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,7 +33,20 @@ public class UserManagementServiceImpl implements UserManagementService {
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final DataTransformationService dataTransformationService;
+    private final IntegrationEventBus eventBus;
+    private final AssociationSynchronizer associationSynchronizer;
+
+    @Override
+    @Transactional
+    public void registerUser(UserDto userDto) {
+        Users users = dataTransformationService.toEntity(userDto, Users.class);
+        users.setPassword(passwordEncoder.encode(users.getPassword()));
+        users.setMfaEnabled(true);
+        Users saved = userRepository.save(users);
+        eventBus.publish(new UserMembershipChangedEvent(saved.getId()));
+        log.info("User {} (ID: {}) registered.", saved.getUsername(), saved.getId());
+    }
 
     @Transactional
     @Override
@@ -45,18 +61,14 @@ public class UserManagementServiceImpl implements UserManagementService {
         if (userDto.getPassword() != null && !userDto.getPassword().isEmpty()) {
             users.setPassword(passwordEncoder.encode(userDto.getPassword()));
         }
-        users.getUserGroups().clear();
-
-        if (userDto.getSelectedGroupIds() != null && !userDto.getSelectedGroupIds().isEmpty()) {
-            Set<UserGroup> newUserGroups = new HashSet<>();
-            for (Long groupId : userDto.getSelectedGroupIds()) {
-                Group group = groupRepository.findById(groupId)
-                        .orElseThrow(() -> new IllegalArgumentException("Group not found with ID: " + groupId));
-                newUserGroups.add(UserGroup.builder().user(users).group(group).build());
-            }
-            users.setUserGroups(newUserGroups);
-        }
+        // 바뀐 UserGroup 만 추가·제거 (제거는 orphanRemoval = true 로 삭제)
+        AssociationSynchronizer.Diff diff = associationSynchronizer.synchronize(AssociationChangedEvent.Association.USER_GROUP,
+                users.getId(), users.getUserGroups(), userGroup -> userGroup.getGroup().getId(), userDto.getSelectedGroupIds(),
+                groupRepository, Group::getId, group -> UserGroup.builder().user(users).group(group).build());
         userRepository.save(users);
+        if (!diff.isEmpty()) {
+            eventBus.publish(new UserMembershipChangedEvent(users.getId()));
+        }
         log.info("User {} (ID: {}) modified successfully.", users.getUsername(), users.getId());
     }
 
@@ -66,7 +78,7 @@ public class UserManagementServiceImpl implements UserManagementService {
     public UserDto getUser(Long id) {
         Users users = userRepository.findByIdWithGroupsRolesAndPermissions(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + id));
-        UserDto userDto = modelMapper.map(users, UserDto.class);
+        UserDto userDto = dataTransformationService.toDto(users, UserDto.class);
         List<String> roles = users.getUserGroups().stream()
                 .map(UserGroup::getGroup)
                 .filter(java.util.Objects::nonNull)
@@ -110,19 +122,29 @@ public class UserManagementServiceImpl implements UserManagementService {
     public List<UserListDto> getUsers() {
         return userRepository.findAllWithDetails().stream()
                 .map(user -> {
-                    UserListDto dto = modelMapper.map(user, UserListDto.class);
+                    UserListDto dto = dataTransformationService.toDto(user, UserListDto.class);
                     dto.setGroupCount(user.getUserGroups() != null ? user.getUserGroups().size() : 0);
                     return dto;
                 })
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<UserListDto> getUserPage(KeysetPageRequest request) {
+        Long afterId = request.afterId();
+        List<UserListDto> rows = userRepository.findUserListPage(afterId, request.fetchSize());
+        long total = afterId == null ? userRepository.count() : -1;
+        return PageResponseDto.ofKeyset(rows, request, total, user -> KeysetPageRequest.cursorOf(user.getId()));
+    }
+
     @Override
     @Transactional
     @CacheEvict(value = "usersWithAuthorities", key = "#id")
 //    @PreAuthorize("#dynamicRule.getValue(#root)")
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        eventBus.publish(new UserMembershipChangedEvent(id));
         log.info("User ID {} deleted.", id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,378 @@
+package io.spring.identityadmin.admin.iam.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.identityadmin.admin.iam.service.UserTransferFormat;
+import io.spring.identityadmin.domain.dto.UserTransferRow;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 사용자 일괄 가져오기·내보내기 파일을 한 행씩 읽고 쓰는 CSV/JSONL 코덱.
+ * 파일 전체를 메모리에 올리지 않으며, 한 행이 MAX_RECORD_CHARS 를 넘으면 그 행만 형식 오류로 돌려주고 다음 행을 계속 읽습니다.
+ * CSV 는 RFC 4180 을 따르며(따옴표로 감싼 필드 안의 쉼표, "" 로 쓴 따옴표, 줄바꿈 허용) 첫 행의 열 이름으로 열을 찾습니다.
+ */
+final class UserTransferCodec {
+
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+    static final char GROUP_SEPARATOR = '|';
+    private static final String CSV_SPECIAL_CHARS = ",\"\r\n";
+
+    private static final String USERNAME = "username";
+    private static final String NAME = "name";
+    private static final String PASSWORD = "password";
+    private static final String MFA_ENABLED = "mfaEnabled";
+    private static final String GROUPS = "groups";
+    private static final List<String> CSV_COLUMNS = List.of(USERNAME, NAME, PASSWORD, MFA_ENABLED, GROUPS);
+    private static final List<String> EXPORT_COLUMNS = List.of(USERNAME, NAME, MFA_ENABLED, GROUPS);
+
+    private UserTransferCodec() {
+    }
+
+    /**
+     * 파일에서 읽은 한 행. row 가 null 이면 error 에 형식 오류 내용이 있습니다.
+     * @param line 행이 시작되는 줄 번호 (1부터)
+     */
+    record Entry(long line, UserTransferRow row, String error) {}
+
+    interface RowReader extends Closeable {
+        /**
+         * @return 더 읽을 행이 없으면 null
+         */
+        Entry next() throws IOException;
+    }
+
+    interface RowWriter {
+        void write(UserTransferRow row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    static RowReader reader(UserTransferFormat format, InputStream in, ObjectMapper objectMapper) throws IOException {
+        CharSource source = new CharSource(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return format == UserTransferFormat.CSV ? new CsvRowReader(source) : new JsonlRowReader(source, objectMapper);
+    }
+
+    /**
+     * out 은 닫지 않습니다.
+     */
+    static RowWriter writer(UserTransferFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        return format == UserTransferFormat.CSV ? new CsvRowWriter(writer) : new JsonlRowWriter(writer, objectMapper);
+    }
+
+    /**
+     * 버퍼를 두고 한 글자씩 읽으면서 줄 번호를 셉니다.
+     */
+    private static final class CharSource implements Closeable {
+        private final Reader in;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int length;
+        private long line = 1;
+
+        CharSource(Reader in) {
+            this.in = in;
+        }
+
+        int read() throws IOException {
+            if (position == length) {
+                length = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (length <= 0) {
+                    length = 0;
+                    return -1;
+                }
+            }
+            char c = buffer[position++];
+            if (c == '\n') line++;
+            return c;
+        }
+
+        long line() {
+            return line;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * @param fields 형식 오류가 있으면 null
+     */
+    private record CsvRecord(long line, List<String> fields, String error) {}
+
+    private static final class CsvRowReader implements RowReader {
+        private final CharSource source;
+        private final Map<String, Integer> columnIndex = new HashMap<>();
+        private final int columnCount;
+        private boolean exhausted;
+
+        CsvRowReader(CharSource source) throws IOException {
+            this.source = source;
+            CsvRecord header = readRecord();
+            while (header != null && isBlank(header)) {
+                header = readRecord();
+            }
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            if (header.fields() == null) {
+                throw new IllegalArgumentException("CSV 헤더를 읽을 수 없습니다: " + header.error());
+            }
+            for (int i = 0; i < header.fields().size(); i++) {
+                // Excel 등이 붙이는 UTF-8 BOM 은 첫 열 이름의 일부로 읽히므로 제거
+                String name = header.fields().get(i).replace("\uFEFF", "").trim();
+                String column = CSV_COLUMNS.stream().filter(known -> known.equalsIgnoreCase(name)).findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("알 수 없는 CSV 열입니다: " + name));
+                if (columnIndex.putIfAbsent(column, i) != null) {
+                    throw new IllegalArgumentException("CSV 열이 중복되었습니다: " + name);
+                }
+            }
+            if (!columnIndex.containsKey(USERNAME)) {
+                throw new IllegalArgumentException("CSV 헤더에 username 열이 필요합니다.");
+            }
+            this.columnCount = header.fields().size();
+        }
+
+        @Override
+        public Entry next() throws IOException {
+            CsvRecord record;
+            do {
+                record = readRecord();
+                if (record == null) return null;
+            } while (isBlank(record));
+
+            if (record.fields() == null) {
+                return new Entry(record.line(), null, record.error());
+            }
+            if (record.fields().size() != columnCount) {
+                return new Entry(record.line(), null,
+                        "열 수가 헤더와 다릅니다 (헤더 " + columnCount + "개, 행 " + record.fields().size() + "개).");
+            }
+            List<String> fields = record.fields();
+            String mfaEnabled = value(fields, MFA_ENABLED);
+            Boolean mfa = null;
+            if (mfaEnabled != null) {
+                mfa = parseBoolean(mfaEnabled);
+                if (mfa == null) {
+                    return new Entry(record.line(), null, "mfaEnabled 값은 true 또는 false 여야 합니다: " + mfaEnabled);
+                }
+            }
+            List<String> groups = null;
+            if (columnIndex.containsKey(GROUPS)) {
+                // groups 열이 있으면 빈 값도 "소속 없음" 으로 교체하라는 뜻
+                groups = new ArrayList<>();
+                for (String group : fields.get(columnIndex.get(GROUPS)).split("\\" + GROUP_SEPARATOR)) {
+                    if (!group.isBlank()) groups.add(group.trim());
+                }
+            }
+            return new Entry(record.line(), new UserTransferRow(value(fields, USERNAME), value(fields, NAME),
+                    value(fields, PASSWORD), mfa, groups), null);
+        }
+
+        private String value(List<String> fields, String column) {
+            Integer index = columnIndex.get(column);
+            if (index == null) return null;
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        private static Boolean parseBoolean(String value) {
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "true", "y", "yes", "1" -> Boolean.TRUE;
+                case "false", "n", "no", "0" -> Boolean.FALSE;
+                default -> null;
+            };
+        }
+
+        private static boolean isBlank(CsvRecord record) {
+            return record.fields() != null && record.fields().size() == 1 && record.fields().getFirst().isBlank();
+        }
+
+        /**
+         * 레코드 하나를 읽습니다. 따옴표 안의 줄바꿈은 필드 값에 포함됩니다.
+         * @return 파일 끝이면 null
+         */
+        private CsvRecord readRecord() throws IOException {
+            if (exhausted) return null;
+            long line = source.line();
+            int c = source.read();
+            if (c == -1) {
+                exhausted = true;
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            int recordChars = 0;
+            boolean inQuotes = false;
+            boolean quoted = false;
+            String error = null;
+            while (true) {
+                if (inQuotes) {
+                    if (c == -1) {
+                        exhausted = true;
+                        return new CsvRecord(line, null, "닫히지 않은 따옴표가 있습니다.");
+                    }
+                    if (c == '"') {
+                        c = source.read();
+                        if (c != '"') {
+                            inQuotes = false;
+                            continue;
+                        }
+                    }
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    quoted = false;
+                    c = source.read();
+                    continue;
+                } else if (c == '\n' || c == -1) {
+                    if (c == -1) exhausted = true;
+                    fields.add(field.toString());
+                    return error != null ? new CsvRecord(line, null, error) : new CsvRecord(line, fields, null);
+                } else if (c == '\r') {
+                    c = source.read();
+                    continue;
+                } else if (c == '"' && field.isEmpty() && !quoted) {
+                    inQuotes = true;
+                    quoted = true;
+                    c = source.read();
+                    continue;
+                }
+                if (++recordChars > MAX_RECORD_CHARS) {
+                    // 행의 나머지는 버리면서 끝까지 읽어 다음 행의 시작 위치를 맞춤
+                    error = "행이 너무 깁니다 (최대 " + MAX_RECORD_CHARS + "자).";
+                } else {
+                    field.append((char) c);
+                }
+                c = source.read();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+
+    private static final class JsonlRowReader implements RowReader {
+        private final CharSource source;
+        private final ObjectMapper objectMapper;
+        private final StringBuilder line = new StringBuilder();
+        private boolean exhausted;
+
+        JsonlRowReader(CharSource source, ObjectMapper objectMapper) {
+            this.source = source;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Entry next() throws IOException {
+            while (!exhausted) {
+                long lineNumber = source.line();
+                line.setLength(0);
+                boolean tooLong = false;
+                int c;
+                while ((c = source.read()) != -1 && c != '\n') {
+                    if (line.length() < MAX_RECORD_CHARS) {
+                        line.append((char) c);
+                    } else {
+                        tooLong = true;
+                    }
+                }
+                if (c == -1) exhausted = true;
+                if (tooLong) {
+                    return new Entry(lineNumber, null, "행이 너무 깁니다 (최대 " + MAX_RECORD_CHARS + "자).");
+                }
+                String json = line.toString().strip();
+                if (json.isEmpty()) continue;
+                try {
+                    return new Entry(lineNumber, objectMapper.readValue(json, UserTransferRow.class), null);
+                } catch (JsonProcessingException e) {
+                    return new Entry(lineNumber, null, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer out;
+
+        CsvRowWriter(Writer out) throws IOException {
+            this.out = out;
+            out.write(String.join(",", EXPORT_COLUMNS));
+            out.write("\r\n");
+        }
+
+        @Override
+        public void write(UserTransferRow row) throws IOException {
+            out.write(escape(row.username()));
+            out.write(',');
+            out.write(escape(row.name()));
+            out.write(',');
+            out.write(row.mfaEnabled() != null ? row.mfaEnabled().toString() : "");
+            out.write(',');
+            out.write(escape(row.groups() != null ? String.join(String.valueOf(GROUP_SEPARATOR), row.groups()) : ""));
+            out.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        private static String escape(String value) {
+            if (value == null) return "";
+            for (int i = 0; i < value.length(); i++) {
+                if (CSV_SPECIAL_CHARS.indexOf(value.charAt(i)) >= 0) {
+                    return '"' + value.replace("\"", "\"\"") + '"';
+                }
+            }
+            return value;
+        }
+    }
+
+    private static final class JsonlRowWriter implements RowWriter {
+        private final Writer out;
+        private final ObjectMapper objectMapper;
+
+        JsonlRowWriter(Writer out, ObjectMapper objectMapper) {
+            this.out = out;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void write(UserTransferRow row) throws IOException {
+            out.write(objectMapper.writeValueAsString(row));
+            out.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
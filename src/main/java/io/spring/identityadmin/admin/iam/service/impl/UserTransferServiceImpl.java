@@ -0,0 +1,319 @@
+package io.spring.identityadmin.admin.iam.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.identityadmin.admin.iam.service.UserTransferFormat;
+import io.spring.identityadmin.admin.iam.service.UserTransferService;
+import io.spring.identityadmin.common.event.dto.UserMembershipBulkChangedEvent;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.domain.dto.UserImportResultDto;
+import io.spring.identityadmin.domain.dto.UserTransferRow;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 일괄 가져오기·내보내기.
+ * 가져오기는 CHUNK_SIZE 행씩 묶어 묶음마다 사용자명·그룹 이름을 한 번의 쿼리로 id 로 바꾸고, JDBC 배치로 별도 트랜잭션에 저장합니다.
+ * 사용자별 UserMembershipChangedEvent 대신 모든 묶음이 끝난 뒤 UserMembershipBulkChangedEvent 를 한 번만 발행하고,
+ * 사용자 권한 캐시도 같은 기준으로 바뀐 사용자만 비우거나(INCREMENTAL_REFRESH_LIMIT 이하) 통째로 비웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTransferServiceImpl implements UserTransferService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_FIELD_LENGTH = 255;
+    private static final String USERS_WITH_AUTHORITIES_CACHE = "usersWithAuthorities";
+    /**
+     * encodedPasswords 로 가져올 때 허용하는 DelegatingPasswordEncoder 해시 id. 평문({noop})이나 약한 해시는 받지 않습니다.
+     */
+    private static final Set<String> ALLOWED_ENCODED_PASSWORD_IDS = Set.of(
+            "bcrypt", "argon2", "argon2@SpringSecurity_v5_8", "scrypt", "scrypt@SpringSecurity_v5_8", "pbkdf2@SpringSecurity_v5_8");
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final IntegrationEventBus eventBus;
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @Override
+    public UserImportResultDto importUsers(InputStream in, UserTransferFormat format, boolean encodedPasswords) throws IOException {
+        long started = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        GroupNames groupNames = new GroupNames();
+        ImportProgress progress = new ImportProgress();
+        try (UserTransferCodec.RowReader reader = UserTransferCodec.reader(format, in, objectMapper)) {
+            List<UserTransferCodec.Entry> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (UserTransferCodec.Entry entry = reader.next(); entry != null; entry = reader.next()) {
+                progress.totalRows++;
+                if (entry.row() == null) {
+                    progress.fail(entry.line(), null, entry.error());
+                    continue;
+                }
+                chunk.add(entry);
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, encodedPasswords, groupNames, transaction, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, encodedPasswords, groupNames, transaction, progress);
+            }
+        } finally {
+            // 읽기 도중 실패하더라도 이미 커밋된 묶음은 인덱스에 반영
+            long[] changed = progress.changedUserIds();
+            if (changed.length > 0) {
+                evictUserAuthorities(progress);
+                eventBus.publish(new UserMembershipBulkChangedEvent(changed));
+            }
+        }
+        log.info("Imported users from {}: {} rows, {} created, {} updated, {} failed in {} ms.", format, progress.totalRows,
+                progress.created, progress.updated, progress.failed, (System.nanoTime() - started) / 1_000_000);
+        return progress.toResult();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(OutputStream out, UserTransferFormat format) throws IOException {
+        UserTransferCodec.RowWriter writer = UserTransferCodec.writer(format, out, objectMapper);
+        try {
+            userRepository.scanTransferRows(row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * 사용자 권한 캐시는 사용자명과 id 두 키로 채워지므로 바뀐 사용자의 두 키를 모두 비웁니다.
+     */
+    private void evictUserAuthorities(ImportProgress progress) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache cache = manager != null ? manager.getCache(USERS_WITH_AUTHORITIES_CACHE) : null;
+        if (cache == null) return;
+        if (progress.changedCount > UserMembershipBulkChangedEvent.INCREMENTAL_REFRESH_LIMIT) {
+            cache.clear();
+            return;
+        }
+        for (int i = 0; i < progress.changedCount; i++) {
+            cache.evict(progress.changedUserIds[i]);
+            cache.evict(progress.changedUsernames.get(i));
+        }
+    }
+
+    private void writeChunk(List<UserTransferCodec.Entry> chunk, boolean encodedPasswords, GroupNames groupNames,
+                            TransactionTemplate transaction, ImportProgress progress) {
+        // 같은 묶음 안에서 같은 사용자가 다시 나오면 뒤의 행을 사용하고, 앞의 행은 대체되었다고 보고합니다.
+        Map<String, UserTransferCodec.Entry> byUsername = new LinkedHashMap<>();
+        for (UserTransferCodec.Entry entry : chunk) {
+            UserTransferRow row = normalize(entry.row());
+            String error = validate(row, encodedPasswords);
+            if (error != null) {
+                progress.fail(entry.line(), row.username(), error);
+                continue;
+            }
+            UserTransferCodec.Entry superseded = byUsername.put(row.username(), new UserTransferCodec.Entry(entry.line(), row, null));
+            if (superseded != null) {
+                progress.fail(superseded.line(), row.username(), entry.line() + " 행의 같은 사용자로 대체되었습니다.");
+            }
+        }
+        if (byUsername.isEmpty()) return;
+
+        groupNames.resolve(byUsername.values().stream()
+                .filter(entry -> entry.row().groups() != null)
+                .flatMap(entry -> entry.row().groups().stream())
+                .toList());
+        Map<String, Long> existingIds = userRepository.findIdsByUsernames(byUsername.keySet());
+
+        List<UserTransferCodec.Entry> accepted = new ArrayList<>(byUsername.size());
+        for (UserTransferCodec.Entry entry : byUsername.values()) {
+            UserTransferRow row = entry.row();
+            List<String> unknownGroups = row.groups() == null ? List.of()
+                    : row.groups().stream().filter(group -> !groupNames.contains(group)).toList();
+            String error = !unknownGroups.isEmpty() ? "존재하지 않는 그룹입니다: " + String.join(", ", unknownGroups)
+                    : existingIds.containsKey(row.username()) ? null
+                    : row.name() == null ? "신규 사용자는 name 이 필요합니다."
+                    : row.password() == null ? "신규 사용자는 password 가 필요합니다."
+                    : null;
+            if (error != null) {
+                progress.fail(entry.line(), row.username(), error);
+            } else {
+                accepted.add(entry);
+            }
+        }
+        if (accepted.isEmpty()) return;
+
+        // 비밀번호 해시는 CPU 비용이 크므로 트랜잭션을 열기 전에 병렬로 계산
+        List<UserTransferRow> rows = encodedPasswords
+                ? accepted.stream().map(UserTransferCodec.Entry::row).toList()
+                : accepted.parallelStream().map(entry -> encodePassword(entry.row())).toList();
+        List<UserTransferRow> created = rows.stream().filter(row -> !existingIds.containsKey(row.username())).toList();
+        Map<Long, UserTransferRow> updated = new HashMap<>();
+        rows.stream().filter(row -> existingIds.containsKey(row.username()))
+                .forEach(row -> updated.put(existingIds.get(row.username()), row));
+
+        try {
+            WrittenChunk written = transaction.execute(status -> {
+                Set<String> skipped = userRepository.insertAll(created);
+                Map<String, Long> allIds = new HashMap<>(existingIds);
+                allIds.putAll(userRepository.findIdsByUsernames(created.stream().map(UserTransferRow::username).toList()));
+                // 조회 이후 다른 곳에서 생성되어 INSERT 가 건너뛴 사용자는 기존 사용자처럼 갱신
+                Map<Long, UserTransferRow> toUpdate = new HashMap<>(updated);
+                created.stream().filter(row -> skipped.contains(row.username()))
+                        .forEach(row -> toUpdate.put(allIds.get(row.username()), row));
+                userRepository.updateAll(toUpdate);
+                Map<Long, long[]> memberships = new HashMap<>();
+                for (UserTransferRow row : rows) {
+                    if (row.groups() != null) {
+                        memberships.put(allIds.get(row.username()),
+                                row.groups().stream().distinct().mapToLong(groupNames::idOf).toArray());
+                    }
+                }
+                userRepository.replaceGroupMemberships(memberships);
+                return new WrittenChunk(allIds, skipped.size());
+            });
+            progress.created += created.size() - written.rerouted();
+            progress.updated += updated.size() + written.rerouted();
+            for (UserTransferRow row : rows) {
+                progress.changed(written.ids().get(row.username()), row.username());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to write a chunk of {} imported users.", rows.size(), e);
+            String message = "저장에 실패했습니다: " + e.getMostSpecificCause().getMessage();
+            accepted.forEach(entry -> progress.fail(entry.line(), entry.row().username(), message));
+        }
+    }
+
+    private static UserTransferRow normalize(UserTransferRow row) {
+        List<String> groups = row.groups() == null ? null
+                : row.groups().stream().filter(StringUtils::hasText).map(String::trim).toList();
+        return new UserTransferRow(trimToNull(row.username()), trimToNull(row.name()), row.password(), row.mfaEnabled(), groups);
+    }
+
+    private static String validate(UserTransferRow row, boolean encodedPasswords) {
+        if (row.username() == null) return "username 이 필요합니다.";
+        if (row.username().length() > MAX_FIELD_LENGTH) return "username 은 " + MAX_FIELD_LENGTH + "자 이하여야 합니다.";
+        if (row.name() != null && row.name().length() > MAX_FIELD_LENGTH) return "name 은 " + MAX_FIELD_LENGTH + "자 이하여야 합니다.";
+        if (row.password() != null && row.password().isBlank()) return "password 가 비어 있습니다.";
+        if (encodedPasswords && row.password() != null && !isAllowedEncodedPassword(row.password())) {
+            return "password 는 허용된 해시 형식이어야 합니다: " + ALLOWED_ENCODED_PASSWORD_IDS.stream().sorted().toList();
+        }
+        return null;
+    }
+
+    private static boolean isAllowedEncodedPassword(String password) {
+        int end = password.indexOf('}');
+        return password.startsWith("{") && end > 1 && end < password.length() - 1
+                && ALLOWED_ENCODED_PASSWORD_IDS.contains(password.substring(1, end));
+    }
+
+    private UserTransferRow encodePassword(UserTransferRow row) {
+        if (row.password() == null) return row;
+        return new UserTransferRow(row.username(), row.name(), passwordEncoder.encode(row.password()), row.mfaEnabled(), row.groups());
+    }
+
+    private static String trimToNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+
+    /**
+     * @param ids 묶음의 사용자명 → id
+     * @param rerouted 생성하려 했으나 이미 존재하여 갱신으로 처리한 사용자 수
+     */
+    private record WrittenChunk(Map<String, Long> ids, int rerouted) {}
+
+    /**
+     * 가져오기 동안 조회한 그룹 이름 → id. 묶음마다 처음 보는 이름만 한 번의 쿼리로 조회합니다.
+     */
+    private final class GroupNames {
+        private final Map<String, Long> ids = new HashMap<>();
+        private final Set<String> missing = new HashSet<>();
+
+        void resolve(List<String> names) {
+            Set<String> unseen = new HashSet<>();
+            for (String name : names) {
+                if (!ids.containsKey(name) && !missing.contains(name)) unseen.add(name);
+            }
+            if (unseen.isEmpty()) return;
+            Map<String, Long> found = groupRepository.findIdsByNames(unseen);
+            ids.putAll(found);
+            unseen.removeAll(found.keySet());
+            missing.addAll(unseen);
+        }
+
+        boolean contains(String name) {
+            return ids.containsKey(name);
+        }
+
+        long idOf(String name) {
+            return ids.get(name);
+        }
+    }
+
+    private static final class ImportProgress {
+        private long totalRows;
+        private long created;
+        private long updated;
+        private long failed;
+        private final List<UserImportResultDto.RowError> errors = new ArrayList<>();
+        private long[] changedUserIds = new long[1024];
+        private final List<String> changedUsernames = new ArrayList<>();
+        private int changedCount;
+
+        void fail(long line, String username, String message) {
+            failed++;
+            if (errors.size() < UserImportResultDto.MAX_REPORTED_ERRORS) {
+                errors.add(new UserImportResultDto.RowError(line, username, message));
+            }
+        }
+
+        void changed(long userId, String username) {
+            if (changedCount == changedUserIds.length) {
+                changedUserIds = Arrays.copyOf(changedUserIds, changedCount * 2);
+            }
+            changedUserIds[changedCount++] = userId;
+            changedUsernames.add(username);
+        }
+
+        long[] changedUserIds() {
+            return Arrays.copyOf(changedUserIds, changedCount);
+        }
+
+        UserImportResultDto toResult() {
+            return new UserImportResultDto(totalRows, created, updated, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.spring.identityadmin.admin.metadata.service;
 
+import io.spring.identityadmin.common.mapper.DataTransformationService;
 import io.spring.identityadmin.repository.BusinessActionRepository;
 import io.spring.identityadmin.repository.BusinessResourceRepository;
 import io.spring.identityadmin.repository.ConditionTemplateRepository;
@@ -12,7 +13,6 @@ import io.spring.identityadmin.domain.entity.business.BusinessResourceAction;
 import io.spring.identityadmin.repository.GroupRepository;
 import io.spring.identityadmin.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,19 +30,19 @@ public class BusinessMetadataServiceImpl implements BusinessMetadataService {
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final RoleService roleService;
-    private final ModelMapper modelMapper;
+    private final DataTransformationService dataTransformationService;
 
     @Override
     public List<BusinessResourceDto> getAllBusinessResources() {
         return businessResourceRepository.findAll().stream()
-                .map(action -> modelMapper.map(action, BusinessResourceDto.class))
+                .map(action -> dataTransformationService.toDto(action, BusinessResourceDto.class))
                 .toList();
     }
 
     @Override
     public List<BusinessActionDto> getAllBusinessActions() {
         return businessActionRepository.findAll().stream()
-                .map(action -> modelMapper.map(action, BusinessActionDto.class))
+                .map(action -> dataTransformationService.toDto(action, BusinessActionDto.class))
                 .toList();
     }
 
@@ -68,14 +68,14 @@ public class BusinessMetadataServiceImpl implements BusinessMetadataService {
     @Override
     public List<UserMetadataDto> getAllUsersForPolicy() {
         return userRepository.findAll().stream()
-                .map(user -> modelMapper.map(user, UserMetadataDto.class))
+                .map(user -> dataTransformationService.toDto(user, UserMetadataDto.class))
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<GroupMetadataDto> getAllGroupsForPolicy() {
         return groupRepository.findAll().stream()
-                .map(group -> modelMapper.map(group, GroupMetadataDto.class))
+                .map(group -> dataTransformationService.toDto(group, GroupMetadataDto.class))
                 .collect(Collectors.toList());
     }
 
@@ -90,7 +90,7 @@ public class BusinessMetadataServiceImpl implements BusinessMetadataService {
     @Override
     public List<RoleMetadataDto> getAllRoles() {
         return roleService.getRoles().stream()
-                .map(role -> modelMapper.map(role, RoleMetadataDto.class))
+                .map(role -> dataTransformationService.toDto(role, RoleMetadataDto.class))
                 .collect(Collectors.toList());
     }
 
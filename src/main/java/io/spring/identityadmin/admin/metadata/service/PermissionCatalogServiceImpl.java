@@ -1,18 +1,25 @@
 package io.spring.identityadmin.admin.metadata.service;
 
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.common.mapper.DataTransformationService;
 import io.spring.identityadmin.domain.dto.PermissionDto;
-import io.spring.identityadmin.domain.entity.FunctionCatalog;
 import io.spring.identityadmin.domain.entity.ManagedResource;
 import io.spring.identityadmin.domain.entity.Permission;
 import io.spring.identityadmin.repository.FunctionCatalogRepository;
 import io.spring.identityadmin.repository.PermissionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,10 +29,13 @@ public class PermissionCatalogServiceImpl implements PermissionCatalogService {
 
     private final PermissionRepository permissionRepository;
     private final FunctionCatalogRepository functionCatalogRepository;
-    private final ModelMapper modelMapper;
+    private final DataTransformationService dataTransformationService;
+    private final IntegrationEventBus eventBus;
 
     /**
      * [최종 수정] 리소스 동기화 시, FunctionCatalog를 찾아 Permission과의 관계를 명시적으로 설정합니다.
+     * 리소스 수와 무관하게 고정된 횟수의 쿼리로 처리합니다.
+     * (기존 카탈로그/권한 일괄 조회 2회 → 메모리에서 변경분 계산 → 카탈로그, 권한, 조인 테이블 일괄 반영)
      */
     @Override
     @Transactional
@@ -35,48 +45,67 @@ public class PermissionCatalogServiceImpl implements PermissionCatalogService {
         List<ManagedResource> resourcesToSync = discoveredResources.stream()
                 .filter(ManagedResource::isDefined)
                 .toList();
+        if (resourcesToSync.isEmpty()) {
+            log.info("No defined resources to synchronize.");
+            return;
+        }
+
+        // 1. 대상 리소스들의 기존 FunctionCatalog, Permission 을 각각 한 번의 쿼리로 조회합니다.
+        Set<Long> resourceIdsWithCatalog = new HashSet<>(functionCatalogRepository.findManagedResourceIdsWithCatalog(
+                resourcesToSync.stream().map(ManagedResource::getId).toList()));
+        Map<String, Permission> existingPermissions = permissionRepository.findAllByNameIn(
+                        resourcesToSync.stream().map(this::permissionNameOf).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Permission::getName, Function.identity()));
 
+        // 2. 메모리에서 신규 카탈로그 대상과 신규/변경 권한을 계산합니다.
+        List<ManagedResource> catalogsToCreate = new ArrayList<>();
+        List<Permission> permissionsToUpsert = new ArrayList<>();
         for (ManagedResource resource : resourcesToSync) {
-            // 1. 해당 리소스에 대한 FunctionCatalog가 있는지 확인하거나 생성합니다.
-            FunctionCatalog catalog = functionCatalogRepository.findByManagedResource(resource)
-                    .orElseGet(() -> {
-                        log.info("Creating new FunctionCatalog for resource: {}", resource.getFriendlyName());
-                        return functionCatalogRepository.save(FunctionCatalog.builder()
-                                .managedResource(resource)
-                                .friendlyName(resource.getFriendlyName())
-                                .description(resource.getDescription())
-                                .status(FunctionCatalog.CatalogStatus.ACTIVE) // isDefined = true 이므로 바로 ACTIVE
-                                .build());
-                    });
+            if (!resourceIdsWithCatalog.contains(resource.getId())) {
+                catalogsToCreate.add(resource);
+            }
+            Permission desired = Permission.builder()
+                    .name(permissionNameOf(resource))
+                    .friendlyName(resource.getFriendlyName())
+                    .description(resource.getDescription())
+                    .targetType(resource.getResourceType().name())
+                    .actionType(resource.getHttpMethod() != null ? resource.getHttpMethod().name() : "ACCESS")
+                    .build();
+            Permission existing = existingPermissions.get(desired.getName());
+            if (existing == null || !samePermissionInfo(existing, desired)) {
+                permissionsToUpsert.add(desired);
+            }
+        }
 
-            // 2. Permission을 찾거나 새로 생성합니다.
-            String permissionName = "PERM_" + resource.getResourceType() + "_" + resource.getId();
-            Permission permission = permissionRepository.findByName(permissionName)
-                    .orElseGet(() -> {
-                        log.info("New permission will be created for resource: {}", resource.getFriendlyName());
-                        return Permission.builder().name(permissionName).build();
-                    });
+        // 3. 변경분을 배치로 반영하고, PERMISSION_FUNCTIONS 조인 테이블은 단일 INSERT ... SELECT 로 연결합니다.
+        functionCatalogRepository.insertActiveCatalogs(catalogsToCreate);
+        permissionRepository.upsertAll(permissionsToUpsert);
+        if (!permissionsToUpsert.isEmpty()) {
+            eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.PERMISSION));
+        }
+        permissionRepository.linkGeneratedPermissionsToCatalogs(
+                resourcesToSync.stream().map(ManagedResource::getId).toList());
 
-            // 3. Permission 정보 업데이트
-            permission.setFriendlyName(resource.getFriendlyName());
-            permission.setDescription(resource.getDescription());
-            permission.setTargetType(resource.getResourceType().name());
-            permission.setActionType(resource.getHttpMethod() != null ? resource.getHttpMethod().name() : "ACCESS");
+        log.info("Permission catalog synchronized with {} defined resources ({} catalogs created, {} permissions upserted).",
+                resourcesToSync.size(), catalogsToCreate.size(), permissionsToUpsert.size());
+    }
 
-            // 4. Permission과 FunctionCatalog의 관계를 설정합니다.
-            // 이 코드를 통해 PERMISSION_FUNCTIONS 조인 테이블에 데이터가 입력됩니다.
-            permission.getFunctions().add(catalog);
+    private String permissionNameOf(ManagedResource resource) {
+        return "PERM_" + resource.getResourceType() + "_" + resource.getId();
+    }
 
-            permissionRepository.save(permission);
-        }
-        log.info("Permission catalog synchronized with {} defined resources.", resourcesToSync.size());
+    private boolean samePermissionInfo(Permission existing, Permission desired) {
+        return Objects.equals(existing.getFriendlyName(), desired.getFriendlyName())
+                && Objects.equals(existing.getDescription(), desired.getDescription())
+                && Objects.equals(existing.getTargetType(), desired.getTargetType())
+                && Objects.equals(existing.getActionType(), desired.getActionType());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PermissionDto> getAvailablePermissions() {
         return permissionRepository.findDefinedPermissionsWithDetails().stream()
-                .map(p -> modelMapper.map(p, PermissionDto.class))
+                .map(p -> dataTransformationService.toDto(p, PermissionDto.class))
                 .toList();
     }
 }
@@ -0,0 +1,49 @@
+package io.spring.identityadmin.admin.monitoring.controller;
+
+import io.spring.identityadmin.admin.monitoring.dto.MatrixFilter;
+import io.spring.identityadmin.admin.monitoring.dto.PermissionMatrixPageDto;
+import io.spring.identityadmin.admin.monitoring.service.PermissionMatrixService;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/admin/permission-matrix")
+@RequiredArgsConstructor
+public class PermissionMatrixApiController {
+
+    private final PermissionMatrixService permissionMatrixService;
+
+    @GetMapping
+    @Operation(summary = "권한 매트릭스 페이지 조회", description = "주체(그룹·역할)와 권한을 각각 페이징하여 부여 현황을 희소 형태로 조회합니다.")
+    public ResponseEntity<PermissionMatrixPageDto> getPermissionMatrixPage(
+            @RequestParam(defaultValue = "GROUP") String subjectType,
+            @RequestParam(required = false) String subjectKeyword,
+            @RequestParam(required = false) String permissionKeyword,
+            @RequestParam(required = false) Set<Long> subjectIds,
+            @RequestParam(required = false) Set<Long> permissionIds,
+            @RequestParam(defaultValue = "false") boolean definedOnly,
+            @RequestParam(defaultValue = "0") int subjectPage,
+            @RequestParam(defaultValue = "50") int subjectSize,
+            @RequestParam(defaultValue = "0") int permissionPage,
+            @RequestParam(defaultValue = "50") int permissionSize) {
+        MatrixFilter filter = new MatrixFilter(subjectIds, permissionIds, subjectType, subjectKeyword, permissionKeyword, definedOnly);
+        return ResponseEntity.ok(permissionMatrixService.getPermissionMatrixPage(filter,
+                pageOf(subjectPage, subjectSize), pageOf(permissionPage, permissionSize)));
+    }
+
+    /**
+     * 음수 페이지는 첫 페이지로, 페이지 크기는 KeysetPageRequest 와 같이 1 ~ MAX_SIZE 로 맞춥니다.
+     */
+    private static PageRequest pageOf(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, KeysetPageRequest.MAX_SIZE)));
+    }
+}
@@ -0,0 +1,23 @@
+package io.spring.identityadmin.admin.monitoring.controller;
+
+import io.spring.identityadmin.security.core.LiveSessionRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/sessions")
+@RequiredArgsConstructor
+public class SessionMetricsApiController {
+
+    private final LiveSessionRegistry liveSessionRegistry;
+
+    @GetMapping("/metrics")
+    @Operation(summary = "세션 지표 조회", description = "활성 세션·사용자 수와 최근 60분의 분 단위 로그인 횟수를 조회합니다.")
+    public ResponseEntity<LiveSessionRegistry.SessionMetrics> getSessionMetrics() {
+        return ResponseEntity.ok(liveSessionRegistry.getMetrics());
+    }
+}
@@ -0,0 +1,26 @@
+package io.spring.identityadmin.admin.monitoring.controller;
+
+import io.spring.identityadmin.common.startup.StartupPhase;
+import io.spring.identityadmin.common.startup.StartupTaskRunner;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/startup")
+@RequiredArgsConstructor
+public class StartupStatusApiController {
+
+    private final StartupTaskRunner startupTaskRunner;
+
+    @GetMapping("/phases")
+    @Operation(summary = "시작 단계 조회", description = "애플리케이션 시작 단계별 상태와 소요 시간을 조회합니다.")
+    public ResponseEntity<List<StartupPhase>> getStartupPhases() {
+        return ResponseEntity.ok(startupTaskRunner.getPhases());
+    }
+}
@@ -0,0 +1,19 @@
+package io.spring.identityadmin.admin.monitoring.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DashboardMetricsStore 가 미리 계산해 두는 대시보드 집계값의 불변 스냅샷입니다.
+ * @param mfaDisabledUserCount MFA 를 사용하지 않는 사용자 수
+ * @param adminCount ADMIN 역할을 보유한 사용자 수
+ * @param mfaDisabledAdminCount MFA 를 사용하지 않는 ADMIN 역할 보유 사용자 수
+ * @param refreshedAt 마지막 전체 재계산 시각
+ */
+public record DashboardMetricsDto(
+        long totalUserCount,
+        long mfaDisabledUserCount,
+        long adminCount,
+        long mfaDisabledAdminCount,
+        PermissionMatrixDto permissionMatrix,
+        LocalDateTime refreshedAt
+) {}
@@ -4,5 +4,15 @@ import java.util.Set;
 
 /**
  * 권한 매트릭스 조회 시 사용할 필터 DTO 입니다.
+ * @param subjectType 행으로 사용할 주체 타입 (GROUP 또는 ROLE, 기본값 GROUP)
+ * @param subjectKeyword 주체 이름·설명 검색어
+ * @param permissionKeyword 권한 이름·친화적 이름 검색어
+ * @param definedOnly true 이면 정의된 리소스의 기능에 연결된 권한만 열로 사용
  */
-public record MatrixFilter(Set<Long> subjectIds, Set<Long> permissionIds, String subjectType) {}
\ No newline at end of file
+public record MatrixFilter(Set<Long> subjectIds, Set<Long> permissionIds, String subjectType,
+                           String subjectKeyword, String permissionKeyword, boolean definedOnly) {
+
+    public MatrixFilter(Set<Long> subjectIds, Set<Long> permissionIds, String subjectType) {
+        this(subjectIds, permissionIds, subjectType, null, null, false);
+    }
+}
@@ -0,0 +1,18 @@
+package io.spring.identityadmin.admin.monitoring.dto;
+
+import io.spring.identityadmin.domain.dto.MatrixAxisItemDto;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
+
+import java.util.List;
+
+/**
+ * 권한 매트릭스의 한 페이지(주체 페이지 × 권한 페이지)를 희소 형태로 담는 DTO 입니다.
+ * grants 의 i 번째 항목은 subjects 의 i 번째 주체가 보유한 권한의 permissions 내 열 번호를 오름차순으로 담으며,
+ * 목록에 없는 칸은 모두 NONE 입니다.
+ */
+public record PermissionMatrixPageDto(
+        String subjectType,
+        PageResponseDto<MatrixAxisItemDto> subjects,
+        PageResponseDto<MatrixAxisItemDto> permissions,
+        List<int[]> grants
+) {}
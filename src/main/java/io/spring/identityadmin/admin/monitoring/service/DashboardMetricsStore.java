@@ -0,0 +1,298 @@
+package io.spring.identityadmin.admin.monitoring.service;
+
+import io.spring.identityadmin.admin.monitoring.dto.DashboardMetricsDto;
+import io.spring.identityadmin.admin.monitoring.dto.PermissionMatrixDto;
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipBulkChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipChangedEvent;
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.domain.dto.UserSecurityFlags;
+import io.spring.identityadmin.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 대시보드 집계값(사용자 수, MFA 미사용 사용자·관리자 수, 요약 권한 매트릭스)을 미리 계산해 두는 저장소.
+ * 대시보드는 current() 로 마지막 스냅샷을 읽기만 하므로 화면 요청마다 집계 쿼리가 실행되지 않습니다.
+ * <p>
+ * 사용자·MFA 미사용·관리자 여부를 사용자 id 를 비트 위치로 하는 BitSet 으로 보관하여,
+ * UserMembershipChangedEvent 를 받으면 해당 사용자 한 명만 다시 읽어 카운트를 증감합니다.
+ * TerminologyChangedEvent 와 그룹-역할·역할-권한 AssociationChangedEvent 는 관리자 집합과 권한 매트릭스에 영향을 주므로 잠시 모은 뒤 두 값만 다시 계산하고,
+ * 이벤트가 발행되지 않는 변경(예: 사용자 본인의 MFA 설정)은 주기적인 전체 재계산(reconcile)으로 맞춥니다.
+ * 전체 재계산과 관리자·매트릭스 재계산의 집계 쿼리는 가상 스레드에서 동시에 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardMetricsStore {
+
+    /** 기존 대시보드 지표와 같이 역할 이름이 정확히 ADMIN 인 역할을 관리자 역할로 봅니다. */
+    private static final String ADMIN_ROLE = "ADMIN";
+    private static final long TERMINOLOGY_REFRESH_DELAY_MILLIS = 500;
+
+    private final UserRepository userRepository;
+    private final PermissionMatrixService permissionMatrixService;
+    private final IntegrationEventBus eventBus;
+
+    @Value("${identity-admin.dashboard.reconcile-interval-seconds:300}")
+    private long reconcileIntervalSeconds;
+
+    // 아래 필드는 this 로 동기화합니다.
+    private final BitSet users = new BitSet();
+    private final BitSet mfaDisabledUsers = new BitSet();
+    private final BitSet adminUsers = new BitSet();
+    private long mfaDisabledAdminCount;
+    private PermissionMatrixDto permissionMatrix;
+    private LocalDateTime refreshedAt;
+    private boolean rebuilding;
+
+    private volatile DashboardMetricsDto metrics;
+    /** 재계산 도중 바뀐 사용자. 재계산 결과를 반영한 뒤 다시 적용하여 재계산 시점 이후의 변경이 누락되지 않게 합니다. */
+    private final Set<Long> usersChangedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final Object rebuildMonitor = new Object();
+    private final AtomicBoolean terminologyRefreshScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void subscribe() {
+        if (reconcileIntervalSeconds < 1) {
+            throw new IllegalArgumentException("identity-admin.dashboard.reconcile-interval-seconds 는 1 이상이어야 합니다: " + reconcileIntervalSeconds);
+        }
+        eventBus.subscribe(UserMembershipChangedEvent.class, event -> AfterCommit.run(() -> refreshUser(event.getUserId())));
+        eventBus.subscribe(UserMembershipBulkChangedEvent.class, event -> AfterCommit.run(() -> refreshUsers(event)));
+        eventBus.subscribe(TerminologyChangedEvent.class, event -> AfterCommit.run(this::scheduleTerminologyRefresh));
+        eventBus.subscribe(AssociationChangedEvent.class, event -> {
+            if (event.getAssociation() != AssociationChangedEvent.Association.USER_GROUP) scheduleTerminologyRefresh();
+        });
+        worker.scheduleWithFixedDelay(() -> {
+            try {
+                reconcile();
+            } catch (Exception e) {
+                log.error("Failed to reconcile dashboard metrics. The previous snapshot remains in use.", e);
+            }
+        }, reconcileIntervalSeconds, reconcileIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 마지막으로 계산된 집계값을 반환합니다. 아직 한 번도 계산하지 않았으면 먼저 전체 재계산을 수행합니다.
+     */
+    public DashboardMetricsDto current() {
+        DashboardMetricsDto current = metrics;
+        if (current == null) {
+            synchronized (rebuildMonitor) {
+                if (metrics == null) {
+                    reconcile();
+                }
+                current = metrics;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 모든 집계값을 DB 에서 다시 계산하여 교체합니다.
+     */
+    public void reconcile() {
+        synchronized (rebuildMonitor) {
+            long started = System.nanoTime();
+            markRebuilding();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<BitSet> allUsers = executor.submit(() -> collect(userRepository::scanUserIds));
+                Future<BitSet> mfaDisabled = executor.submit(() -> collect(userRepository::scanMfaDisabledUserIds));
+                Future<BitSet> admins = executor.submit(() -> collect(consumer -> userRepository.scanUserIdsWithRole(ADMIN_ROLE, consumer)));
+                Future<PermissionMatrixDto> matrix = executor.submit(() -> permissionMatrixService.getPermissionMatrix());
+
+                BitSet loadedUsers = await(allUsers);
+                BitSet loadedMfaDisabled = await(mfaDisabled);
+                BitSet loadedAdmins = await(admins);
+                PermissionMatrixDto loadedMatrix = await(matrix);
+                synchronized (this) {
+                    replace(users, loadedUsers);
+                    replace(mfaDisabledUsers, loadedMfaDisabled);
+                    replace(adminUsers, loadedAdmins);
+                    permissionMatrix = loadedMatrix;
+                    refreshedAt = LocalDateTime.now();
+                    recount();
+                }
+            } finally {
+                finishRebuilding();
+            }
+            log.info("Dashboard metrics reconciled in {} ms.", (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void scheduleTerminologyRefresh() {
+        if (terminologyRefreshScheduled.compareAndSet(false, true)) {
+            worker.schedule(() -> {
+                terminologyRefreshScheduled.set(false);
+                try {
+                    refreshAdminsAndMatrix();
+                } catch (Exception e) {
+                    log.error("Failed to refresh dashboard metrics after a terminology change.", e);
+                }
+            }, TERMINOLOGY_REFRESH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 그룹·역할·권한 변경으로 달라질 수 있는 관리자 집합과 권한 매트릭스만 다시 계산합니다.
+     */
+    private void refreshAdminsAndMatrix() {
+        if (metrics == null) {
+            // 첫 계산 전이면 관리자 집합만 부분적으로 채우지 않고 전체를 계산
+            reconcile();
+            return;
+        }
+        synchronized (rebuildMonitor) {
+            markRebuilding();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<BitSet> admins = executor.submit(() -> collect(consumer -> userRepository.scanUserIdsWithRole(ADMIN_ROLE, consumer)));
+                Future<PermissionMatrixDto> matrix = executor.submit(() -> permissionMatrixService.getPermissionMatrix());
+
+                BitSet loadedAdmins = await(admins);
+                PermissionMatrixDto loadedMatrix = await(matrix);
+                synchronized (this) {
+                    replace(adminUsers, loadedAdmins);
+                    permissionMatrix = loadedMatrix;
+                    recount();
+                }
+            } finally {
+                finishRebuilding();
+            }
+        }
+    }
+
+    private void refreshUser(Long userId) {
+        if (userId == null || deferIfRebuilding(userId)) return;
+        Optional<UserSecurityFlags> flags = userRepository.findSecurityFlags(userId, ADMIN_ROLE);
+        synchronized (this) {
+            if (rebuilding) {
+                usersChangedDuringRebuild.add(userId);
+                return;
+            }
+            int bitIndex = toBitIndex(userId);
+            boolean wasMfaDisabledAdmin = mfaDisabledUsers.get(bitIndex) && adminUsers.get(bitIndex);
+            users.set(bitIndex, flags.isPresent());
+            mfaDisabledUsers.set(bitIndex, flags.map(f -> !f.mfaEnabled()).orElse(false));
+            adminUsers.set(bitIndex, flags.map(UserSecurityFlags::hasRole).orElse(false));
+            boolean isMfaDisabledAdmin = mfaDisabledUsers.get(bitIndex) && adminUsers.get(bitIndex);
+            mfaDisabledAdminCount += Boolean.compare(isMfaDisabledAdmin, wasMfaDisabledAdmin);
+            publish();
+        }
+        log.debug("Dashboard metrics refreshed for user {}", userId);
+    }
+
+    private void refreshUsers(UserMembershipBulkChangedEvent event) {
+        if (event.requiresRebuild()) {
+            worker.execute(() -> {
+                try {
+                    reconcile();
+                } catch (Exception e) {
+                    log.error("Failed to reconcile dashboard metrics after a bulk membership change.", e);
+                }
+            });
+            return;
+        }
+        for (long userId : event.getUserIds()) {
+            refreshUser(userId);
+        }
+    }
+
+    /**
+     * 재계산 중이면 사용자를 보류 목록에 넣습니다. 첫 계산 전에는 첫 계산이 현재 값을 읽으므로 건너뜁니다.
+     * @return 지금 반영하지 않아도 되면 true
+     */
+    private synchronized boolean deferIfRebuilding(Long userId) {
+        if (rebuilding) {
+            usersChangedDuringRebuild.add(userId);
+            return true;
+        }
+        return metrics == null;
+    }
+
+    private synchronized void markRebuilding() {
+        rebuilding = true;
+    }
+
+    private void finishRebuilding() {
+        synchronized (this) {
+            rebuilding = false;
+        }
+        List<Long> changed = new ArrayList<>(usersChangedDuringRebuild);
+        usersChangedDuringRebuild.removeAll(changed);
+        changed.forEach(this::refreshUser);
+    }
+
+    private void recount() {
+        BitSet mfaDisabledAdmins = (BitSet) mfaDisabledUsers.clone();
+        mfaDisabledAdmins.and(adminUsers);
+        mfaDisabledAdminCount = mfaDisabledAdmins.cardinality();
+        publish();
+    }
+
+    private void publish() {
+        metrics = new DashboardMetricsDto(users.cardinality(), mfaDisabledUsers.cardinality(), adminUsers.cardinality(),
+                mfaDisabledAdminCount, permissionMatrix, refreshedAt);
+    }
+
+    private BitSet collect(Consumer<LongConsumer> scanner) {
+        BitSet ids = new BitSet();
+        scanner.accept(userId -> ids.set(toBitIndex(userId)));
+        return ids;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing dashboard metrics.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to compute dashboard metrics.", e.getCause());
+        }
+    }
+
+    private static void replace(BitSet target, BitSet source) {
+        target.clear();
+        target.or(source);
+    }
+
+    private static int toBitIndex(long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("User id out of the range supported by the dashboard metrics store: " + userId);
+        }
+        return (int) userId;
+    }
+}
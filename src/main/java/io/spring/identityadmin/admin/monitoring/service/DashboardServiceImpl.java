@@ -1,10 +1,10 @@
 package io.spring.identityadmin.admin.monitoring.service;
 
 import io.spring.identityadmin.admin.monitoring.dto.DashboardDto;
-import io.spring.identityadmin.admin.monitoring.dto.MatrixFilter;
+import io.spring.identityadmin.admin.monitoring.dto.DashboardMetricsDto;
 import io.spring.identityadmin.admin.monitoring.dto.RiskIndicatorDto;
 import io.spring.identityadmin.admin.support.context.service.UserContextService;
-import io.spring.identityadmin.repository.UserRepository;
+import io.spring.identityadmin.security.core.LiveSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -12,41 +12,41 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
 
-    private final UserRepository userRepository;
+    private final DashboardMetricsStore dashboardMetricsStore;
     private final UserContextService userContextService;
     private final SecurityScoreCalculator securityScoreCalculator;
-    private final PermissionMatrixService permissionMatrixService;
+    private final LiveSessionRegistry liveSessionRegistry;
 
     /**
-     * [최종 구현] 대시보드에 필요한 모든 데이터를 각 서비스와 리포지토리에서 취합하여
-     * 최종 DashboardDto를 구성합니다.
+     * [최종 구현] 대시보드에 필요한 모든 데이터를 취합하여 최종 DashboardDto를 구성합니다.
+     * 집계값은 DashboardMetricsStore 에 미리 계산된 값을, 활성 세션 수는 LiveSessionRegistry 의 카운터를 사용하고, 현재 사용자의 최근 활동만 직접 조회합니다.
      */
     @Override
     @Transactional(readOnly = true)
     public DashboardDto getDashboardData() {
         String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+        DashboardMetricsDto metrics = dashboardMetricsStore.current();
 
         return new DashboardDto(
-                userRepository.count(),
-                ThreadLocalRandom.current().nextLong(10, 51), // 활성 세션은 임시 랜덤값
-                userRepository.countByMfaEnabled(false),
-                userRepository.findAdminsWithMfaDisabled().size(),
+                metrics.totalUserCount(),
+                liveSessionRegistry.getActiveSessionCount(),
+                metrics.mfaDisabledUserCount(),
+                metrics.mfaDisabledAdminCount(),
                 userContextService.getRecentActivities(currentUsername),
-                analyzeRiskIndicators(),
+                analyzeRiskIndicators(metrics),
                 securityScoreCalculator.calculate(),
-                permissionMatrixService.getPermissionMatrix(null)
+                metrics.permissionMatrix()
         );
     }
 
-    private List<RiskIndicatorDto> analyzeRiskIndicators() {
+    private List<RiskIndicatorDto> analyzeRiskIndicators(DashboardMetricsDto metrics) {
         List<RiskIndicatorDto> risks = new ArrayList<>();
-        long mfaDisabledAdmins = userRepository.findAdminsWithMfaDisabled().size();
+        long mfaDisabledAdmins = metrics.mfaDisabledAdminCount();
         if (mfaDisabledAdmins > 0) {
             risks.add(new RiskIndicatorDto("CRITICAL", "MFA 미사용 관리자 계정 발견",
                     mfaDisabledAdmins + "명의 관리자 계정에 2단계 인증(MFA)이 설정되지 않아 탈취 위험이 높습니다.", "/admin/users"));
@@ -3,6 +3,8 @@ package io.spring.identityadmin.admin.monitoring.service;
 
 import io.spring.identityadmin.admin.monitoring.dto.MatrixFilter;
 import io.spring.identityadmin.admin.monitoring.dto.PermissionMatrixDto;
+import io.spring.identityadmin.admin.monitoring.dto.PermissionMatrixPageDto;
+import org.springframework.data.domain.Pageable;
 
 public interface PermissionMatrixService {
     /**
@@ -13,7 +15,13 @@ public interface PermissionMatrixService {
 
     /**
      * [최종 리팩토링] 특정 필터 조건에 맞는 권한 매트릭스를 조회합니다.
-     * 향후 구현될 상세 분석 기능(예: Authorization Studio)을 위한 확장성을 확보합니다.
+     * 대시보드 요약용으로 첫 페이지의 주체와 정의된 권한 일부만 포함합니다.
      */
     PermissionMatrixDto getPermissionMatrix(MatrixFilter filter);
-}
\ No newline at end of file
+
+    /**
+     * 주체(행)와 권한(열)을 각각 페이징하여 권한 매트릭스의 한 페이지를 조회합니다.
+     * 필터는 DB 에서 적용되며, 부여된 칸은 페이지당 한 번의 집계 쿼리로 계산하여 희소 형태로 반환합니다.
+     */
+    PermissionMatrixPageDto getPermissionMatrixPage(MatrixFilter filter, Pageable subjectPage, Pageable permissionPage);
+}
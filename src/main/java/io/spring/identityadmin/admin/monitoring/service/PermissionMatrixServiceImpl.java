@@ -1,30 +1,34 @@
 package io.spring.identityadmin.admin.monitoring.service;
 
-import io.spring.identityadmin.admin.metadata.service.PermissionCatalogService;
 import io.spring.identityadmin.admin.monitoring.dto.MatrixFilter;
 import io.spring.identityadmin.admin.monitoring.dto.PermissionMatrixDto;
-import io.spring.identityadmin.domain.dto.PermissionDto;
-import io.spring.identityadmin.domain.entity.Group;
-import io.spring.identityadmin.domain.entity.Permission;
-import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.admin.monitoring.dto.PermissionMatrixPageDto;
+import io.spring.identityadmin.domain.dto.MatrixAxisItemDto;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.repository.PermissionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PermissionMatrixServiceImpl implements PermissionMatrixService {
 
-    private final GroupRepository groupRepository;
-    private final PermissionCatalogService permissionCatalogService;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int SUMMARY_SUBJECTS = 20;
+    private static final int SUMMARY_PERMISSIONS = 5;
+
+    private final PermissionRepository permissionRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -35,31 +39,72 @@ public class PermissionMatrixServiceImpl implements PermissionMatrixService {
     @Override
     @Transactional(readOnly = true)
     public PermissionMatrixDto getPermissionMatrix(MatrixFilter filter) {
-        List<Group> subjects = (filter != null && !CollectionUtils.isEmpty(filter.subjectIds()))
-                ? groupRepository.findAllById(filter.subjectIds())
-                : groupRepository.findAllWithRolesAndPermissions();
-
-        List<PermissionDto> permissions = permissionCatalogService.getAvailablePermissions().stream()
-                .limit(5)
-                .toList();
+        MatrixFilter base = filter != null ? filter : new MatrixFilter(null, null, null);
+        MatrixFilter summaryFilter = new MatrixFilter(base.subjectIds(), base.permissionIds(), base.subjectType(),
+                base.subjectKeyword(), base.permissionKeyword(), true);
+        PermissionMatrixPageDto page = getPermissionMatrixPage(summaryFilter,
+                PageRequest.of(0, SUMMARY_SUBJECTS), PageRequest.of(0, SUMMARY_PERMISSIONS));
 
-        List<String> subjectNames = subjects.stream().map(Group::getName).collect(Collectors.toList());
-        List<String> permissionDescriptions = permissions.stream().map(PermissionDto::getFriendlyName).collect(Collectors.toList());
+        List<MatrixAxisItemDto> subjects = page.subjects().getContent();
+        List<String> permissionLabels = page.permissions().getContent().stream().map(MatrixAxisItemDto::label).toList();
 
         Map<String, Map<String, String>> matrixData = new HashMap<>();
-        for (Group group : subjects) {
+        for (int row = 0; row < subjects.size(); row++) {
             Map<String, String> rowData = new HashMap<>();
-            Set<String> groupPermissions = group.getGroupRoles().stream()
-                    .flatMap(gr -> gr.getRole().getRolePermissions().stream())
-                    .map(rp -> rp.getPermission().getFriendlyName())
-                    .collect(Collectors.toSet());
+            permissionLabels.forEach(label -> rowData.put(label, "NONE"));
+            for (int column : page.grants().get(row)) {
+                rowData.put(permissionLabels.get(column), "GRANT");
+            }
+            matrixData.put(subjects.get(row).name(), rowData);
+        }
+
+        return new PermissionMatrixDto(subjects.stream().map(MatrixAxisItemDto::name).toList(), permissionLabels, matrixData);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PermissionMatrixPageDto getPermissionMatrixPage(MatrixFilter filter, Pageable subjectPage, Pageable permissionPage) {
+        MatrixFilter criteria = filter != null ? filter : new MatrixFilter(null, null, null);
+        String subjectType = normalizeSubjectType(criteria.subjectType());
 
-            for (PermissionDto perm : permissions) {
-                rowData.put(perm.getFriendlyName(), groupPermissions.contains(perm.getFriendlyName()) ? "GRANT" : "NONE");
+        Page<MatrixAxisItemDto> subjects = permissionRepository.findMatrixSubjects(
+                subjectType, criteria.subjectKeyword(), criteria.subjectIds(), limit(subjectPage));
+        Page<MatrixAxisItemDto> permissions = permissionRepository.findMatrixPermissions(
+                criteria.permissionKeyword(), criteria.permissionIds(), criteria.definedOnly(), limit(permissionPage));
+
+        Map<Long, Integer> columnByPermissionId = new HashMap<>();
+        List<Long> permissionIds = new ArrayList<>();
+        for (MatrixAxisItemDto permission : permissions.getContent()) {
+            columnByPermissionId.put(permission.id(), permissionIds.size());
+            permissionIds.add(permission.id());
+        }
+        List<Long> subjectIds = subjects.getContent().stream().map(MatrixAxisItemDto::id).toList();
+        Map<Long, long[]> granted = permissionRepository.findGrantedPermissionIds(subjectType, subjectIds, permissionIds);
+
+        List<int[]> grants = new ArrayList<>(subjectIds.size());
+        for (Long subjectId : subjectIds) {
+            long[] grantedIds = granted.getOrDefault(subjectId, new long[0]);
+            int[] columns = new int[grantedIds.length];
+            for (int i = 0; i < grantedIds.length; i++) {
+                columns[i] = columnByPermissionId.get(grantedIds[i]);
             }
-            matrixData.put(group.getName(), rowData);
+            Arrays.sort(columns);
+            grants.add(columns);
+        }
+
+        return new PermissionMatrixPageDto(subjectType, new PageResponseDto<>(subjects), new PageResponseDto<>(permissions), grants);
+    }
+
+    private String normalizeSubjectType(String subjectType) {
+        if (subjectType == null || subjectType.isBlank()) return "GROUP";
+        String normalized = subjectType.trim().toUpperCase(Locale.ROOT);
+        if (!normalized.equals("GROUP") && !normalized.equals("ROLE")) {
+            throw new IllegalArgumentException("Unsupported matrix subject type: " + subjectType);
         }
+        return normalized;
+    }
 
-        return new PermissionMatrixDto(subjectNames, permissionDescriptions, matrixData);
+    private Pageable limit(Pageable pageable) {
+        return pageable.getPageSize() > MAX_PAGE_SIZE ? PageRequest.of(pageable.getPageNumber(), MAX_PAGE_SIZE) : pageable;
     }
 }
@@ -1,11 +1,11 @@
 package io.spring.identityadmin.admin.monitoring.service;
 
+import io.spring.identityadmin.admin.monitoring.dto.DashboardMetricsDto;
 import io.spring.identityadmin.admin.monitoring.dto.SecurityScoreDto;
-import io.spring.identityadmin.repository.UserRepository;
+import io.spring.identityadmin.security.core.LiveSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -13,17 +13,30 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityScoreCalculatorImpl implements SecurityScoreCalculator {
 
-    private final UserRepository userRepository;
+    private static final double MFA_WEIGHT = 0.8;
+    private static final double SESSION_WEIGHT = 0.2;
+
+    private final DashboardMetricsStore dashboardMetricsStore;
+    private final LiveSessionRegistry liveSessionRegistry;
 
     @Override
     public SecurityScoreDto calculate() {
-        long adminCount = userRepository.countByRoles("ADMIN");
+        DashboardMetricsDto metrics = dashboardMetricsStore.current();
+        long adminCount = metrics.adminCount();
         if (adminCount == 0) return new SecurityScoreDto(100, "관리자 계정이 없어 안전합니다.", Collections.emptyList());
-        long mfaDisabledAdminCount = userRepository.countByMfaEnabledAndRoles(false, "ADMIN");
+        long mfaDisabledAdminCount = metrics.mfaDisabledAdminCount();
         double mfaAdminRate = (double)(adminCount - mfaDisabledAdminCount) / adminCount;
-        int score = (int) (mfaAdminRate * 100);
+
+        // 활성 세션 사용자 중 세션을 하나만 가진 사용자의 비율 (세션이 없으면 100%)
+        LiveSessionRegistry.SessionMetrics sessions = liveSessionRegistry.getMetrics();
+        double singleSessionRate = sessions.activePrincipals() == 0 ? 1.0
+                : (double)(sessions.activePrincipals() - sessions.multiSessionPrincipals()) / sessions.activePrincipals();
+
+        int score = (int) ((mfaAdminRate * MFA_WEIGHT + singleSessionRate * SESSION_WEIGHT) * 100);
         List<SecurityScoreDto.ScoreFactor> factors = List.of(
-                new SecurityScoreDto.ScoreFactor("관리자 MFA 활성화율", (int)(mfaAdminRate*100), 1.0, "가장 중요한 보안 지표입니다.")
+                new SecurityScoreDto.ScoreFactor("관리자 MFA 활성화율", (int)(mfaAdminRate*100), MFA_WEIGHT, "가장 중요한 보안 지표입니다."),
+                new SecurityScoreDto.ScoreFactor("단일 세션 사용자 비율", (int)(singleSessionRate*100), SESSION_WEIGHT,
+                        "여러 세션을 동시에 사용하는 계정은 공유·탈취 가능성을 나타냅니다.")
         );
         String summary = score >= 80 ? "시스템 보안이 양호합니다." : "보안 설정 강화가 필요합니다.";
         return new SecurityScoreDto(score, summary, factors);
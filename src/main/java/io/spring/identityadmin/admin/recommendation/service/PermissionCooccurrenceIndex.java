@@ -0,0 +1,502 @@
+package io.spring.identityadmin.admin.recommendation.service;
+
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipBulkChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipChangedEvent;
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.domain.entity.Group;
+import io.spring.identityadmin.domain.entity.Permission;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.repository.RoleRepository;
+import io.spring.identityadmin.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * 권한 추천에 사용하는 그룹 × 권한 동시 발생(co-occurrence) 행렬.
+ * counts[그룹 행 * 권한 수 + 권한 열] 은 그 그룹 구성원 중 (어느 그룹을 통해서든) 그 권한을 보유한 사용자 수이며,
+ * groupSizes 는 그룹별 구성원 수입니다. 추천 조회는 요청한 그룹 행들을 더하는 것으로 끝나므로 DB 를 읽지 않습니다.
+ * <p>
+ * 사용자의 권한은 소속 그룹 집합으로 결정되므로 전체 구성 시에는 같은 그룹 집합을 가진 사용자를 묶어 한 번씩만 계산하고,
+ * UserMembershipChangedEvent 를 받으면 그 사용자의 이전 기여분을 빼고 새 기여분을 더합니다.
+ * 그룹-역할·역할-권한 연결이 바뀌면(AssociationChangedEvent) 영향받는 그룹 행의 권한 비트맵만 다시 계산하고, 그 그룹에 속한
+ * 사용자들의 기여분을 비트맵 변경 전에 빼고 변경 후에 더합니다. 그룹·역할·권한이 생기거나 없어져 축이 바뀌면(TerminologyChangedEvent)
+ * 잠시 모은 뒤 다시 구성합니다.
+ * 사용자 id 를 배열 위치로 사용하므로 사용자 id 는 int 범위 안에 있어야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionCooccurrenceIndex {
+
+    private static final long REBUILD_DELAY_MILLIS = 500;
+    private static final int[] NO_GROUPS = new int[0];
+    private static final long[] NO_IDS = new long[0];
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final IntegrationEventBus eventBus;
+
+    /**
+     * @param holders 대상 사용자를 제외한 같은 그룹 구성원 중 권한 보유자 수
+     * @param members 대상 사용자를 제외한 같은 그룹 구성원 수
+     */
+    public record Recommendation(long permissionId, String description, int holders, int members) {}
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Matrix matrix = Matrix.EMPTY;
+    private int[][] groupsByUser = new int[0][];
+
+    /** 전체 구성 도중 소속이 바뀐 사용자. 구성이 끝난 뒤 다시 반영하여 구성 시점 이후의 변경이 누락되지 않게 합니다. */
+    private final Set<Long> usersChangedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building;
+    private volatile boolean loaded;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "permission-cooccurrence");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 그룹·권한 축과 행렬. 축은 구성 시점에 고정되며, 나머지는 쓰기 잠금 안에서 사용자·연결 변경으로 갱신됩니다.
+     * @param permissionIds 오름차순 권한 id (열 번호 순)
+     * @param roleIdsByRow 그룹 행마다 그 그룹에 연결된 역할 id (오름차순)
+     * @param permissionIdsByRoleId 역할 id → 연결된 권한 id (오름차순)
+     * @param groupPermissionBits 그룹 행마다 words 개의 long 으로 표현한 그룹 보유 권한 비트맵
+     */
+    private record Matrix(Map<Long, Integer> rowByGroupId, long[] permissionIds, String[] permissionDescriptions,
+                          long[][] roleIdsByRow, Map<Long, long[]> permissionIdsByRoleId,
+                          int words, long[] groupPermissionBits, int[] counts, int[] groupSizes) {
+        static final Matrix EMPTY = new Matrix(Map.of(), new long[0], new String[0], new long[0][], Map.of(),
+                0, new long[0], new int[0], new int[0]);
+
+        int permissionCount() {
+            return permissionIds.length;
+        }
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        eventBus.subscribe(UserMembershipChangedEvent.class, event -> AfterCommit.run(() -> refreshUser(event.getUserId())));
+        eventBus.subscribe(UserMembershipBulkChangedEvent.class, event -> AfterCommit.run(() -> refreshUsers(event)));
+        eventBus.subscribe(TerminologyChangedEvent.class, event -> AfterCommit.run(this::scheduleRebuild));
+        eventBus.subscribe(AssociationChangedEvent.class, this::applyAssociationChange);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * 그룹, 권한, 그룹 → 역할 → 권한 관계와 모든 그룹 소속을 읽어 행렬을 새로 구성합니다.
+     */
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        building = true;
+        try {
+            List<Permission> permissions = new ArrayList<>(permissionRepository.findAll());
+            permissions.sort(Comparator.comparing(Permission::getId));
+            long[] permissionIds = new long[permissions.size()];
+            String[] descriptions = new String[permissions.size()];
+            for (int i = 0; i < permissions.size(); i++) {
+                permissionIds[i] = permissions.get(i).getId();
+                descriptions[i] = permissions.get(i).getDescription();
+            }
+
+            Map<Long, Integer> rowByGroupId = new HashMap<>();
+            for (Group group : groupRepository.findAll()) {
+                rowByGroupId.putIfAbsent(group.getId(), rowByGroupId.size());
+            }
+            int groupCount = rowByGroupId.size();
+            int words = (permissionIds.length + Long.SIZE - 1) / Long.SIZE;
+
+            Map<Long, List<Long>> permissionsByRole = new HashMap<>();
+            roleRepository.scanRolePermissionEdges((roleId, permissionId) ->
+                    permissionsByRole.computeIfAbsent(roleId, id -> new ArrayList<>()).add(permissionId));
+            Map<Long, long[]> permissionIdsByRoleId = new HashMap<>();
+            permissionsByRole.forEach((roleId, ids) -> permissionIdsByRoleId.put(roleId, sortedIds(ids)));
+            List<List<Long>> rolesByRow = new ArrayList<>(groupCount);
+            for (int row = 0; row < groupCount; row++) {
+                rolesByRow.add(new ArrayList<>());
+            }
+            groupRepository.scanGroupRoleEdges((groupId, roleId) -> {
+                Integer row = rowByGroupId.get(groupId);
+                if (row != null) rolesByRow.get(row).add(roleId);
+            });
+            long[][] roleIdsByRow = new long[groupCount][];
+            for (int row = 0; row < groupCount; row++) {
+                roleIdsByRow[row] = sortedIds(rolesByRow.get(row));
+            }
+
+            // 같은 그룹 집합을 가진 사용자를 묶어 센 뒤, 그룹 집합마다 한 번씩 행렬에 더합니다.
+            MembershipCollector collector = new MembershipCollector(rowByGroupId);
+            userRepository.scanGroupMemberships(collector::accept);
+            collector.flush();
+            int[][] userGroups = collector.groupsByUser;
+            Map<GroupSet, int[]> usersByGroupSet = new HashMap<>();
+            for (int[] rows : userGroups) {
+                if (rows != null && rows.length > 0) {
+                    usersByGroupSet.computeIfAbsent(new GroupSet(rows), key -> new int[1])[0]++;
+                }
+            }
+
+            Matrix built = new Matrix(rowByGroupId, permissionIds, descriptions, roleIdsByRow, permissionIdsByRoleId,
+                    words, new long[groupCount * words], new int[groupCount * permissionIds.length], new int[groupCount]);
+            for (int row = 0; row < groupCount; row++) {
+                recomputeGroupBits(built, row);
+            }
+            usersByGroupSet.forEach((groupSet, userCount) -> apply(built, groupSet.rows(), userCount[0]));
+
+            lock.writeLock().lock();
+            try {
+                this.matrix = built;
+                this.groupsByUser = userGroups;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Permission co-occurrence matrix built with {} groups, {} permissions and {} distinct group sets in {} ms.",
+                    groupCount, permissionIds.length, usersByGroupSet.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            building = false;
+        }
+        List<Long> changed = new ArrayList<>(usersChangedDuringBuild);
+        usersChangedDuringBuild.removeAll(changed);
+        changed.forEach(this::refreshUser);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 주어진 그룹들의 다른 구성원 중 절반 이상이 보유하고 대상 사용자는 보유하지 않은 권한을 보유자 수 순으로 최대 limit 개 반환합니다.
+     * 여러 그룹에 함께 속한 구성원은 그룹마다 한 번씩 집계됩니다.
+     */
+    public List<Recommendation> recommend(long userId, Collection<Long> groupIds, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Matrix current = matrix;
+            int permissionCount = current.permissionCount();
+            int[] targetRows = userId >= 0 && userId < groupsByUser.length && groupsByUser[(int) userId] != null
+                    ? groupsByUser[(int) userId] : NO_GROUPS;
+            long[] targetBits = permissionBitsOf(current, targetRows);
+
+            int[] tally = new int[permissionCount];
+            int members = 0;
+            for (Long groupId : groupIds) {
+                Integer row = current.rowByGroupId().get(groupId);
+                if (row == null) continue;
+                boolean targetIsMember = Arrays.binarySearch(targetRows, row) >= 0;
+                members += current.groupSizes()[row] - (targetIsMember ? 1 : 0);
+                int offset = row * permissionCount;
+                for (int column = 0; column < permissionCount; column++) {
+                    tally[column] += current.counts()[offset + column];
+                }
+                if (targetIsMember) {
+                    forEachColumn(targetBits, column -> tally[column]--);
+                }
+            }
+            if (members <= 0) return List.of();
+
+            long threshold = Math.round(members * 0.5);
+            List<Integer> candidates = new ArrayList<>();
+            for (int column = 0; column < permissionCount; column++) {
+                boolean held = (targetBits[column >>> 6] & (1L << column)) != 0;
+                if (!held && tally[column] > 0 && tally[column] >= threshold) {
+                    candidates.add(column);
+                }
+            }
+            candidates.sort((a, b) -> Integer.compare(tally[b], tally[a]));
+
+            List<Recommendation> result = new ArrayList<>(Math.min(limit, candidates.size()));
+            for (int i = 0; i < candidates.size() && i < limit; i++) {
+                int column = candidates.get(i);
+                result.add(new Recommendation(current.permissionIds()[column], current.permissionDescriptions()[column],
+                        tally[column], members));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refreshUser(Long userId) {
+        if (userId == null) return;
+        if (!loaded || building) {
+            usersChangedDuringBuild.add(userId);
+            return;
+        }
+        int index = toArrayIndex(userId);
+        Optional<long[]> groupIds = userRepository.findGroupIdsByUserId(userId);
+        lock.writeLock().lock();
+        try {
+            Matrix current = matrix;
+            if (index >= groupsByUser.length) {
+                groupsByUser = Arrays.copyOf(groupsByUser, Math.max(index + 1, groupsByUser.length * 2));
+            }
+            int[] previous = groupsByUser[index];
+            if (previous != null && previous.length > 0) {
+                apply(current, previous, -1);
+            }
+            // 행렬 구성 이후 생성된 그룹은 TerminologyChangedEvent 로 다시 구성될 때 반영됩니다.
+            int[] rows = groupIds.map(ids -> toRows(current, ids)).orElse(NO_GROUPS);
+            apply(current, rows, 1);
+            groupsByUser[index] = rows.length > 0 ? rows : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Permission co-occurrence matrix refreshed for user {}", userId);
+    }
+
+    /**
+     * 그룹-역할 또는 역할-권한 연결 변경을 행렬에 반영합니다. 사용자-그룹 연결은 UserMembershipChangedEvent 로 반영합니다.
+     */
+    private void applyAssociationChange(AssociationChangedEvent event) {
+        if (event.getAssociation() == AssociationChangedEvent.Association.USER_GROUP) return;
+        if (!loaded || building) {
+            // 진행 중인 구성이 변경 전 연결을 읽었을 수 있으므로 다시 구성합니다.
+            scheduleRebuild();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Matrix current = matrix;
+            List<Integer> affectedRows = new ArrayList<>();
+            if (event.getAssociation() == AssociationChangedEvent.Association.GROUP_ROLE) {
+                // 행렬 구성 이후 생성된 그룹은 TerminologyChangedEvent 로 다시 구성될 때 반영됩니다.
+                Integer row = current.rowByGroupId().get(event.getOwnerId());
+                if (row == null) return;
+                current.roleIdsByRow()[row] = change(current.roleIdsByRow()[row], event.getAddedIds(), event.getRemovedIds());
+                affectedRows.add(row);
+            } else {
+                long roleId = event.getOwnerId();
+                current.permissionIdsByRoleId().put(roleId, change(current.permissionIdsByRoleId().getOrDefault(roleId, NO_IDS),
+                        event.getAddedIds(), event.getRemovedIds()));
+                for (int row = 0; row < current.roleIdsByRow().length; row++) {
+                    if (Arrays.binarySearch(current.roleIdsByRow()[row], roleId) >= 0) affectedRows.add(row);
+                }
+            }
+            if (affectedRows.isEmpty()) return;
+
+            // 영향받는 그룹에 속한 사용자를 그룹 집합별로 묶어, 비트맵을 바꾸기 전 기여분을 빼고 바꾼 뒤 다시 더합니다.
+            Map<GroupSet, int[]> affectedUsers = new HashMap<>();
+            for (int[] rows : groupsByUser) {
+                if (rows != null && intersects(rows, affectedRows)) {
+                    affectedUsers.computeIfAbsent(new GroupSet(rows), key -> new int[1])[0]++;
+                }
+            }
+            affectedUsers.forEach((groupSet, userCount) -> apply(current, groupSet.rows(), -userCount[0]));
+            affectedRows.forEach(row -> recomputeGroupBits(current, row));
+            affectedUsers.forEach((groupSet, userCount) -> apply(current, groupSet.rows(), userCount[0]));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Permission co-occurrence matrix updated for {} {}", event.getAssociation(), event.getOwnerId());
+    }
+
+    private void refreshUsers(UserMembershipBulkChangedEvent event) {
+        if (event.requiresRebuild()) {
+            scheduleRebuild();
+            return;
+        }
+        for (long userId : event.getUserIds()) {
+            refreshUser(userId);
+        }
+    }
+
+    private void scheduleRebuild() {
+        // 첫 구성 전이면 첫 구성이 변경 내용을 읽으므로 건너뜁니다.
+        if (!loaded && !building) return;
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            worker.schedule(() -> {
+                rebuildScheduled.set(false);
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.error("Failed to rebuild the permission co-occurrence matrix. The previous matrix remains in use.", e);
+                }
+            }, REBUILD_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) rebuild();
+            }
+        }
+    }
+
+    /**
+     * 같은 그룹 집합(rows)을 가진 사용자 userCount 명의 기여분을 행렬에 더합니다. 음수이면 뺍니다.
+     */
+    private static void apply(Matrix target, int[] rows, int userCount) {
+        if (rows.length == 0) return;
+        long[] bits = permissionBitsOf(target, rows);
+        int permissionCount = target.permissionCount();
+        for (int row : rows) {
+            target.groupSizes()[row] += userCount;
+            int offset = row * permissionCount;
+            forEachColumn(bits, column -> target.counts()[offset + column] += userCount);
+        }
+    }
+
+    /**
+     * 그룹 행의 권한 비트맵을 연결된 역할들의 권한으로 다시 채웁니다. 행렬 구성 이후 생성된 권한은 열이 없으므로 제외됩니다.
+     */
+    private static void recomputeGroupBits(Matrix target, int row) {
+        int offset = row * target.words();
+        Arrays.fill(target.groupPermissionBits(), offset, offset + target.words(), 0L);
+        for (long roleId : target.roleIdsByRow()[row]) {
+            for (long permissionId : target.permissionIdsByRoleId().getOrDefault(roleId, NO_IDS)) {
+                int column = Arrays.binarySearch(target.permissionIds(), permissionId);
+                if (column >= 0) target.groupPermissionBits()[offset + (column >>> 6)] |= 1L << column;
+            }
+        }
+    }
+
+    private static boolean intersects(int[] sortedRows, List<Integer> rows) {
+        for (int row : rows) {
+            if (Arrays.binarySearch(sortedRows, row) >= 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 오름차순 id 배열에서 removed 를 빼고 added 를 더한 오름차순 id 배열을 반환합니다.
+     */
+    private static long[] change(long[] sortedIds, long[] added, long[] removed) {
+        long[] sortedRemoved = removed.clone();
+        Arrays.sort(sortedRemoved);
+        return LongStream.concat(Arrays.stream(sortedIds).filter(id -> Arrays.binarySearch(sortedRemoved, id) < 0),
+                Arrays.stream(added)).distinct().sorted().toArray();
+    }
+
+    private static long[] sortedIds(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+    }
+
+    private static long[] permissionBitsOf(Matrix source, int[] rows) {
+        long[] bits = new long[source.words()];
+        for (int row : rows) {
+            int offset = row * source.words();
+            for (int word = 0; word < source.words(); word++) {
+                bits[word] |= source.groupPermissionBits()[offset + word];
+            }
+        }
+        return bits;
+    }
+
+    private static void forEachColumn(long[] bits, IntConsumer consumer) {
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                consumer.accept(word * Long.SIZE + Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+            }
+        }
+    }
+
+    private static int[] toRows(Matrix source, long[] groupIds) {
+        int[] rows = new int[groupIds.length];
+        int size = 0;
+        for (long groupId : groupIds) {
+            Integer row = source.rowByGroupId().get(groupId);
+            if (row != null) rows[size++] = row;
+        }
+        int[] result = Arrays.copyOf(rows, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static int toArrayIndex(long userId) {
+        if (userId < 0 || userId >= Integer.MAX_VALUE) {
+            throw new IllegalStateException("User id out of the range supported by the co-occurrence index: " + userId);
+        }
+        return (int) userId;
+    }
+
+    /**
+     * 정렬된 그룹 행 번호 배열. 배열 내용으로 비교하여 같은 그룹 집합을 가진 사용자를 묶는 키로 사용합니다.
+     */
+    private record GroupSet(int[] rows) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof GroupSet that && Arrays.equals(rows, that.rows);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(rows);
+        }
+    }
+
+    /**
+     * 사용자 id 순으로 전달되는 (사용자, 그룹) 쌍을 사용자별 정렬된 그룹 행 배열로 모읍니다.
+     */
+    private static final class MembershipCollector {
+        private final Map<Long, Integer> rowByGroupId;
+        private int[][] groupsByUser = new int[1024][];
+        private long currentUser = -1;
+        private int[] currentRows = new int[8];
+        private int currentSize;
+
+        private MembershipCollector(Map<Long, Integer> rowByGroupId) {
+            this.rowByGroupId = rowByGroupId;
+        }
+
+        private void accept(long userId, long groupId) {
+            if (userId != currentUser) {
+                flush();
+                currentUser = userId;
+            }
+            Integer row = rowByGroupId.get(groupId);
+            if (row == null) return;
+            if (currentSize == currentRows.length) currentRows = Arrays.copyOf(currentRows, currentSize * 2);
+            currentRows[currentSize++] = row;
+        }
+
+        private void flush() {
+            if (currentUser >= 0 && currentSize > 0) {
+                int index = toArrayIndex(currentUser);
+                if (index >= groupsByUser.length) {
+                    groupsByUser = Arrays.copyOf(groupsByUser, Math.max(index + 1, groupsByUser.length * 2));
+                }
+                int[] rows = Arrays.copyOf(currentRows, currentSize);
+                Arrays.sort(rows);
+                groupsByUser[index] = rows;
+            }
+            currentSize = 0;
+        }
+    }
+}
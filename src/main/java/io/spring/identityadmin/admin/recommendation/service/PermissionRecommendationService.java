@@ -11,4 +11,9 @@ public interface PermissionRecommendationService {
      * 특정 주체에게 가장 연관성이 높은 권한을 추천합니다.
      */
     List<RecommendedResourceDto> recommendPermissionsForSubject(SubjectContext subjectContext);
-}
\ No newline at end of file
+
+    /**
+     * 특정 주체에게 가장 연관성이 높은 권한을 점수가 높은 순으로 최대 limit 개 추천합니다.
+     */
+    List<RecommendedResourceDto> recommendPermissionsForSubject(SubjectContext subjectContext, int limit);
+}
@@ -0,0 +1,33 @@
+package io.spring.identityadmin.common.event.dto;
+
+/**
+ * 역할-권한, 그룹-역할, 사용자-그룹 연결이 실제로 추가·제거되었을 때 발행되는 이벤트.
+ * 소유자(역할, 그룹, 사용자) id 와 추가·제거된 대상 id 만 담으므로, 구독자는 바뀐 연결만 반영할 수 있습니다.
+ * 다른 이벤트와 달리 트랜잭션 커밋 이후에 발행되므로 구독자는 커밋을 다시 기다리지 않고 바로 반영합니다.
+ * 사용자-그룹 연결 변경은 UserMembershipChangedEvent 로도 전달되므로, 사용자 단위로 갱신하는 구독자는 USER_GROUP 을 무시하고 그 이벤트로 반영합니다.
+ */
+public class AssociationChangedEvent extends DomainEvent {
+    public enum Association {
+        ROLE_PERMISSION("Permission"), GROUP_ROLE("Role"), USER_GROUP("Group");
+
+        private final String targetName;
+        Association(String targetName) { this.targetName = targetName; }
+        public String getTargetName() { return targetName; }
+    }
+
+    private final Association association;
+    private final Long ownerId;
+    private final long[] addedIds;
+    private final long[] removedIds;
+
+    public AssociationChangedEvent(Association association, Long ownerId, long[] addedIds, long[] removedIds) {
+        this.association = association;
+        this.ownerId = ownerId;
+        this.addedIds = addedIds;
+        this.removedIds = removedIds;
+    }
+    public Association getAssociation() { return association; }
+    public Long getOwnerId() { return ownerId; }
+    public long[] getAddedIds() { return addedIds; }
+    public long[] getRemovedIds() { return removedIds; }
+}
@@ -0,0 +1,13 @@
+package io.spring.identityadmin.common.event.dto;
+
+/**
+ * 역할, 그룹, 권한이 생성·삭제되거나 이름·설명이 바뀌었을 때 발행되는 이벤트.
+ * 연결(역할-권한, 그룹-역할)만 바뀐 경우에는 발행하지 않으며, 그 변경은 AssociationChangedEvent 로 전달됩니다.
+ */
+public class TerminologyChangedEvent extends DomainEvent {
+    public enum TermType { ROLE, GROUP, PERMISSION }
+
+    private final TermType termType;
+    public TerminologyChangedEvent(TermType termType) { this.termType = termType; }
+    public TermType getTermType() { return termType; }
+}
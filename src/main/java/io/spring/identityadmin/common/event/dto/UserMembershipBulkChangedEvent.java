@@ -0,0 +1,14 @@
+package io.spring.identityadmin.common.event.dto;
+
+/**
+ * 일괄 가져오기처럼 많은 사용자가 한꺼번에 생성되거나 소속 그룹이 바뀌었을 때, 사용자별 UserMembershipChangedEvent 대신 한 번 발행되는 이벤트.
+ * 구독자는 INCREMENTAL_REFRESH_LIMIT 명 이하이면 사용자별로 갱신하고, 그보다 많으면 전체를 다시 구성합니다.
+ */
+public class UserMembershipBulkChangedEvent extends DomainEvent {
+    public static final int INCREMENTAL_REFRESH_LIMIT = 1_000;
+
+    private final long[] userIds;
+    public UserMembershipBulkChangedEvent(long[] userIds) { this.userIds = userIds; }
+    public long[] getUserIds() { return userIds; }
+    public boolean requiresRebuild() { return userIds.length > INCREMENTAL_REFRESH_LIMIT; }
+}
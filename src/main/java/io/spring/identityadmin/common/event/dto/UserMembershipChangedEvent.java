@@ -0,0 +1,8 @@
+package io.spring.identityadmin.common.event.dto;
+
+/** 사용자가 생성·삭제되거나 소속 그룹이 바뀌었을 때 발행되는 이벤트 */
+public class UserMembershipChangedEvent extends DomainEvent {
+    private final Long userId;
+    public UserMembershipChangedEvent(Long userId) { this.userId = userId; }
+    public Long getUserId() { return userId; }
+}
@@ -0,0 +1,28 @@
+package io.spring.identityadmin.common.event.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안에서 호출되면 커밋 이후에, 트랜잭션 밖에서 호출되면 바로 작업을 실행합니다.
+ * 이벤트 구독자가 커밋 전에 DB 를 다시 읽어 이전 값을 인덱스·캐시에 남기지 않도록 변경 반영에 사용합니다.
+ * 롤백되면 작업은 실행되지 않습니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
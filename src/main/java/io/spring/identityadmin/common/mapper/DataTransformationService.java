@@ -5,7 +5,7 @@ import java.util.List;
 /**
  * <strong>[유지]</strong> 데이터 변환 서비스 (Data Transformation Service)<br>
  * 엔티티와 DTO 간의 변환을 전담합니다. 이 인터페이스는 명칭과 역할이 적절하므로 그대로 유지합니다.
- * 내부적으로 ModelMapper 등을 사용하여 반복적인 변환 로직을 캡슐화합니다.
+ * 내부적으로 컴파일 시점에 생성된 매퍼(GeneratedDtoMappers)를 우선 사용하고, 생성되지 않은 쌍은 ModelMapper 로 변환합니다.
  */
 public interface DataTransformationService {
     /**
@@ -0,0 +1,65 @@
+package io.spring.identityadmin.common.mapper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 컴파일 시점에 생성된 매퍼(GeneratedDtoMappers)로 변환하고, 생성되지 않은 쌍만 ModelMapper 로 변환합니다.
+ */
+@Slf4j
+@Service
+public class DataTransformationServiceImpl implements DataTransformationService {
+
+    private final ModelMapper modelMapper;
+    private final DtoMapperRegistry registry = new DtoMapperRegistry();
+
+    public DataTransformationServiceImpl(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+        GeneratedDtoMappers.registerAll(registry);
+    }
+
+    @Override
+    public <T, D> D toDto(T entity, Class<D> dtoClass) {
+        return convert(entity, dtoClass);
+    }
+
+    @Override
+    public <T, D> List<D> toDtoList(List<T> entityList, Class<D> dtoClass) {
+        List<D> result = new ArrayList<>(entityList.size());
+        Function<Object, D> mapper = null;
+        Class<?> mapperSourceType = null;
+        for (T entity : entityList) {
+            if (entity == null) {
+                result.add(null);
+                continue;
+            }
+            // 목록의 원소는 대부분 같은 클래스이므로 직전 원소의 매퍼를 재사용
+            if (entity.getClass() != mapperSourceType) {
+                mapperSourceType = entity.getClass();
+                mapper = registry.find(mapperSourceType, dtoClass);
+            }
+            result.add(mapper != null ? mapper.apply(entity) : modelMapper.map(entity, dtoClass));
+        }
+        return result;
+    }
+
+    @Override
+    public <D, T> T toEntity(D dto, Class<T> entityClass) {
+        return convert(dto, entityClass);
+    }
+
+    private <D> D convert(Object source, Class<D> targetType) {
+        if (source == null) return null;
+        Function<Object, D> mapper = registry.find(source.getClass(), targetType);
+        if (mapper != null) {
+            return mapper.apply(source);
+        }
+        log.trace("No generated mapper for {} -> {}. Falling back to ModelMapper.", source.getClass().getName(), targetType.getName());
+        return modelMapper.map(source, targetType);
+    }
+}
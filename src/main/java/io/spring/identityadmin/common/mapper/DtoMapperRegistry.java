@@ -0,0 +1,33 @@
+package io.spring.identityadmin.common.mapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * (원본 타입, 대상 타입) → 변환 함수 목록. GeneratedDtoMappers.registerAll 이 채웁니다.
+ * 원본 객체가 Hibernate 프록시처럼 등록된 타입의 하위 클래스이면 상위 클래스의 매퍼를 사용합니다.
+ */
+public final class DtoMapperRegistry {
+
+    private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> mappers = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <S, D> void register(Class<S> sourceType, Class<D> targetType, Function<S, D> mapper) {
+        mappers.computeIfAbsent(sourceType, type -> new ConcurrentHashMap<>()).put(targetType, (Function<Object, Object>) mapper);
+    }
+
+    /**
+     * @return 등록된 변환 함수가 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public <D> Function<Object, D> find(Class<?> sourceType, Class<D> targetType) {
+        for (Class<?> type = sourceType; type != null && type != Object.class; type = type.getSuperclass()) {
+            Map<Class<?>, Function<Object, Object>> byTarget = mappers.get(type);
+            if (byTarget != null && byTarget.containsKey(targetType)) {
+                return (Function<Object, D>) byTarget.get(targetType);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package io.spring.identityadmin.common.mapper;
+
+import io.spring.identityadmin.domain.dto.BusinessActionDto;
+import io.spring.identityadmin.domain.dto.BusinessResourceDto;
+import io.spring.identityadmin.domain.dto.GroupMetadataDto;
+import io.spring.identityadmin.domain.dto.PermissionDto;
+import io.spring.identityadmin.domain.dto.RoleMetadataDto;
+import io.spring.identityadmin.domain.dto.UserDto;
+import io.spring.identityadmin.domain.dto.UserListDto;
+import io.spring.identityadmin.domain.dto.UserMetadataDto;
+import io.spring.identityadmin.domain.entity.Group;
+import io.spring.identityadmin.domain.entity.Permission;
+import io.spring.identityadmin.domain.entity.Role;
+import io.spring.identityadmin.domain.entity.Users;
+import io.spring.identityadmin.domain.entity.business.BusinessAction;
+import io.spring.identityadmin.domain.entity.business.BusinessResource;
+
+/**
+ * 컴파일 시점 매퍼를 생성할 엔티티/DTO 쌍 목록입니다. 여기에 없는 쌍은 DataTransformationServiceImpl 이 ModelMapper 로 변환합니다.
+ * 생성된 매퍼는 이름이 같은 단순 속성만 복사하므로, 컬렉션 변환이나 평탄화가 필요한 쌍은 추가하지 않습니다.
+ */
+@GenerateDtoMappers({
+        @GenerateDtoMappers.Mapping(source = Users.class, target = UserDto.class),
+        @GenerateDtoMappers.Mapping(source = Users.class, target = UserListDto.class),
+        @GenerateDtoMappers.Mapping(source = Users.class, target = UserMetadataDto.class),
+        @GenerateDtoMappers.Mapping(source = Group.class, target = GroupMetadataDto.class),
+        @GenerateDtoMappers.Mapping(source = Role.class, target = RoleMetadataDto.class),
+        @GenerateDtoMappers.Mapping(source = Permission.class, target = PermissionDto.class),
+        @GenerateDtoMappers.Mapping(source = PermissionDto.class, target = Permission.class),
+        @GenerateDtoMappers.Mapping(source = BusinessResource.class, target = BusinessResourceDto.class),
+        @GenerateDtoMappers.Mapping(source = BusinessAction.class, target = BusinessActionDto.class)
+})
+interface DtoMappingDeclarations {
+}
@@ -0,0 +1,26 @@
+package io.spring.identityadmin.common.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴파일 시점에 DtoMapperProcessor 가 선언된 타입 쌍의 변환 메서드를 GeneratedDtoMappers 클래스로 생성하도록 지시합니다.
+ * 생성되는 클래스는 어노테이션이 붙은 타입과 같은 패키지에 위치합니다.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateDtoMappers {
+
+    Mapping[] value();
+
+    /**
+     * source 의 속성을 이름이 같은 target 의 속성으로 복사하는 변환 하나.
+     */
+    @interface Mapping {
+        Class<?> source();
+
+        Class<?> target();
+    }
+}
@@ -0,0 +1,34 @@
+package io.spring.identityadmin.common.startup;
+
+import java.time.Instant;
+
+/**
+ * 시작 단계 하나의 실행 상태와 소요 시간.
+ * @param durationMillis 완료(또는 실패)된 경우의 소요 시간, 진행 중이면 null
+ */
+public record StartupPhase(
+        String name,
+        StartupTask.Criticality criticality,
+        Status status,
+        Instant startedAt,
+        Long durationMillis,
+        String error
+) {
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    static StartupPhase pending(String name, StartupTask.Criticality criticality) {
+        return new StartupPhase(name, criticality, Status.PENDING, null, null, null);
+    }
+
+    StartupPhase running() {
+        return new StartupPhase(name, criticality, Status.RUNNING, Instant.now(), null, null);
+    }
+
+    StartupPhase completed(long durationMillis) {
+        return new StartupPhase(name, criticality, Status.COMPLETED, startedAt, durationMillis, null);
+    }
+
+    StartupPhase failed(long durationMillis, Throwable cause) {
+        return new StartupPhase(name, criticality, Status.FAILED, startedAt, durationMillis, String.valueOf(cause.getMessage()));
+    }
+}
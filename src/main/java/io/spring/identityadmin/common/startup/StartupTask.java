@@ -0,0 +1,59 @@
+package io.spring.identityadmin.common.startup;
+
+import java.util.Set;
+
+/**
+ * 애플리케이션 시작 시 전용 실행기(startupTaskExecutor)에서 수행되는 초기화 작업.
+ * 각 작업은 중요도(Criticality)를 선언하며, StartupTaskRunner 는 이에 따라 readiness 를 제어합니다.
+ * 다른 작업이 만든 데이터를 읽는 작업은 dependsOn 으로 그 작업의 이름을 선언하면, 선행 작업이 끝난(실패 포함) 뒤에 시작됩니다.
+ */
+public interface StartupTask {
+
+    enum Criticality {
+        /** 인가 집행에 필요한 데이터. 완료될 때까지 애플리케이션이 트래픽 수신 가능 상태가 되지 않습니다. */
+        READINESS_GATING,
+        /** 관리 화면 전용 작업. 노드가 트래픽을 받기 시작한 뒤 백그라운드에서 계속 진행됩니다. */
+        BACKGROUND
+    }
+
+    String name();
+
+    Criticality criticality();
+
+    void run() throws Exception;
+
+    /**
+     * 이 작업보다 먼저 끝나야 하는 작업 이름.
+     */
+    default Set<String> dependsOn() {
+        return Set.of();
+    }
+
+    static StartupTask of(String name, Criticality criticality, Runnable action) {
+        return of(name, criticality, Set.of(), action);
+    }
+
+    static StartupTask of(String name, Criticality criticality, Set<String> dependsOn, Runnable action) {
+        return new StartupTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Criticality criticality() {
+                return criticality;
+            }
+
+            @Override
+            public Set<String> dependsOn() {
+                return dependsOn;
+            }
+
+            @Override
+            public void run() {
+                action.run();
+            }
+        };
+    }
+}
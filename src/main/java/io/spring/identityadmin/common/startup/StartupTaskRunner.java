@@ -0,0 +1,183 @@
+package io.spring.identityadmin.common.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 등록된 모든 StartupTask 를 전용 스레드 풀에서 병렬로 실행하고 단계별 소요 시간을 기록합니다.
+ * dependsOn 을 선언한 작업은 선행 작업이 모두 끝난 뒤에 시작합니다.
+ * READINESS_GATING 작업이 모두 끝날 때까지 이 러너가 반환되지 않으므로, Spring Boot 는 그 이후에야
+ * ApplicationReadyEvent 와 ReadinessState.ACCEPTING_TRAFFIC 을 발행합니다.
+ * BACKGROUND 작업은 러너 반환 후에도 계속 진행됩니다.
+ */
+@Slf4j
+@Component
+public class StartupTaskRunner implements ApplicationRunner {
+
+    private static final int MAX_THREADS = 4;
+
+    private final List<StartupTask> tasks;
+    private final Map<String, StartupPhase> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public StartupTaskRunner(List<StartupTask> tasks) {
+        this.tasks = tasks;
+    }
+
+    @EventListener
+    public void onApplicationStarted(ApplicationStartedEvent event) {
+        recordFrameworkPhase("context-refresh", event.getTimeTaken());
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        recordFrameworkPhase("application-ready", event.getTimeTaken());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (tasks.isEmpty()) return;
+
+        Map<String, StartupTask> tasksByName = tasks.stream()
+                .collect(Collectors.toMap(StartupTask::name, Function.identity(), (a, b) -> {
+                    throw new IllegalStateException("Duplicate startup task name: " + a.name());
+                }, LinkedHashMap::new));
+        tasks.forEach(task -> phases.put(task.name(), StartupPhase.pending(task.name(), task.criticality())));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), MAX_THREADS), startupThreadFactory());
+        Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+        try {
+            for (StartupTask task : tasks) {
+                schedule(task, tasksByName, futures, new HashSet<>(), executor);
+            }
+        } catch (IllegalStateException e) {
+            executor.shutdownNow();
+            throw e;
+        }
+        // 선행 작업이 끝난 뒤에 제출되는 작업이 있으므로, 모든 작업이 끝난 뒤에 스레드를 정리합니다.
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .whenComplete((result, error) -> executor.shutdown());
+
+        List<CompletableFuture<Void>> gatingTasks = tasks.stream()
+                .filter(task -> task.criticality() == StartupTask.Criticality.READINESS_GATING)
+                .map(task -> futures.get(task.name()))
+                .toList();
+
+        log.info("Waiting for {} readiness-gating startup tasks...", gatingTasks.size());
+        try {
+            CompletableFuture.allOf(gatingTasks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Readiness-gating startup task failed", e.getCause());
+        }
+        log.info("All readiness-gating startup tasks completed. Background tasks continue: {}", backgroundTaskNames());
+    }
+
+    /**
+     * 선행 작업의 future 가 모두 끝난 뒤 실행되는 future 를 만듭니다. 선행 작업의 실패 여부와 관계없이 실행합니다.
+     */
+    private CompletableFuture<Void> schedule(StartupTask task, Map<String, StartupTask> tasksByName,
+                                             Map<String, CompletableFuture<Void>> futures, Set<String> visiting,
+                                             ExecutorService executor) {
+        CompletableFuture<Void> existing = futures.get(task.name());
+        if (existing != null) return existing;
+        if (!visiting.add(task.name())) {
+            throw new IllegalStateException("Cyclic startup task dependency involving: " + task.name());
+        }
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+        for (String dependencyName : task.dependsOn()) {
+            StartupTask dependency = tasksByName.get(dependencyName);
+            if (dependency == null) {
+                throw new IllegalStateException("Startup task '" + task.name() + "' depends on unknown task: " + dependencyName);
+            }
+            dependencies.add(schedule(dependency, tasksByName, futures, visiting, executor));
+        }
+        visiting.remove(task.name());
+
+        CompletableFuture<Void> future = dependencies.isEmpty()
+                ? CompletableFuture.runAsync(() -> execute(task), executor)
+                : CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+                        .handle((result, error) -> null)
+                        .thenRunAsync(() -> execute(task), executor);
+        futures.put(task.name(), future);
+        return future;
+    }
+
+    /**
+     * 시작 단계 목록을 실행 순서대로 반환합니다.
+     */
+    public List<StartupPhase> getPhases() {
+        synchronized (phases) {
+            return List.copyOf(phases.values());
+        }
+    }
+
+    private void execute(StartupTask task) {
+        phases.computeIfPresent(task.name(), (name, phase) -> phase.running());
+        long start = System.nanoTime();
+        try {
+            task.run();
+            long elapsed = elapsedMillis(start);
+            phases.computeIfPresent(task.name(), (name, phase) -> phase.completed(elapsed));
+            log.info("Startup task '{}' ({}) completed in {} ms.", task.name(), task.criticality(), elapsed);
+        } catch (Exception e) {
+            long elapsed = elapsedMillis(start);
+            phases.computeIfPresent(task.name(), (name, phase) -> phase.failed(elapsed, e));
+            log.error("Startup task '{}' ({}) failed after {} ms.", task.name(), task.criticality(), elapsed, e);
+            if (task.criticality() == StartupTask.Criticality.READINESS_GATING) {
+                throw new CompletionException(e);
+            }
+        }
+    }
+
+    /**
+     * Spring Boot 가 보고하는 소요 시간(애플리케이션 시작 시점부터의 누적 시간)을 단계로 기록합니다.
+     */
+    private void recordFrameworkPhase(String name, Duration timeTaken) {
+        if (timeTaken == null) return;
+        phases.put(name, new StartupPhase(name, StartupTask.Criticality.READINESS_GATING, StartupPhase.Status.COMPLETED,
+                Instant.now().minus(timeTaken), timeTaken.toMillis(), null));
+    }
+
+    private List<String> backgroundTaskNames() {
+        return tasks.stream()
+                .filter(task -> task.criticality() == StartupTask.Criticality.BACKGROUND)
+                .map(StartupTask::name)
+                .toList();
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private ThreadFactory startupThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "startup-task-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package io.spring.identityadmin.config;
+
+import io.spring.identityadmin.admin.iam.service.impl.RoleHierarchyService;
+import io.spring.identityadmin.admin.monitoring.service.DashboardMetricsStore;
+import io.spring.identityadmin.admin.recommendation.service.PermissionCooccurrenceIndex;
+import io.spring.identityadmin.common.startup.StartupTask;
+import io.spring.identityadmin.resource.WorkbenchInitializer;
+import io.spring.identityadmin.security.xacml.pap.service.PolicyConflictIndex;
+import io.spring.identityadmin.security.xacml.pep.CustomDynamicAuthorizationManager;
+import io.spring.identityadmin.security.xacml.pip.access.IamGraphIndex;
+import io.spring.identityadmin.security.xacml.pip.access.ReverseAccessIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+import static io.spring.identityadmin.common.startup.StartupTask.Criticality.BACKGROUND;
+import static io.spring.identityadmin.common.startup.StartupTask.Criticality.READINESS_GATING;
+
+/**
+ * 애플리케이션 시작 작업 등록.
+ * 인가 집행에 필요한 정책 스냅샷과 역할 계층은 readiness 를 막고,
+ * 리소스/권한 카탈로그 동기화, 정책 설명 보강, 정책 충돌 인덱스·역방향 접근 인덱스·IAM 그래프·권한 추천 행렬 구성, 대시보드 집계는 백그라운드에서 진행합니다.
+ * 정책 설명 보강은 동기화가 만든 정책과 리소스를 읽으므로 동기화가 끝난 뒤에 시작합니다.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final String RESOURCE_SYNC = "resource-sync";
+
+    @Bean
+    public StartupTask policySnapshotStartupTask(CustomDynamicAuthorizationManager customDynamicAuthorizationManager) {
+        return StartupTask.of("policy-snapshot", READINESS_GATING, customDynamicAuthorizationManager::initialize);
+    }
+
+    @Bean
+    public StartupTask roleHierarchyStartupTask(RoleHierarchyService roleHierarchyService) {
+        return StartupTask.of("role-hierarchy", READINESS_GATING, roleHierarchyService::initializeRoleHierarchy);
+    }
+
+    @Bean
+    public StartupTask resourceSyncStartupTask(WorkbenchInitializer workbenchInitializer) {
+        return StartupTask.of(RESOURCE_SYNC, BACKGROUND, workbenchInitializer::synchronizeResources);
+    }
+
+    @Bean
+    public StartupTask policyEnrichmentStartupTask(WorkbenchInitializer workbenchInitializer) {
+        return StartupTask.of("policy-enrichment", BACKGROUND, Set.of(RESOURCE_SYNC), workbenchInitializer::enrichPolicies);
+    }
+
+    @Bean
+    public StartupTask policyConflictIndexStartupTask(PolicyConflictIndex policyConflictIndex) {
+        return StartupTask.of("policy-conflict-index", BACKGROUND, policyConflictIndex::ensureLoaded);
+    }
+
+    @Bean
+    public StartupTask reverseAccessIndexStartupTask(ReverseAccessIndex reverseAccessIndex) {
+        return StartupTask.of("reverse-access-index", BACKGROUND, reverseAccessIndex::rebuild);
+    }
+
+    @Bean
+    public StartupTask iamGraphStartupTask(IamGraphIndex iamGraphIndex) {
+        return StartupTask.of("iam-graph", BACKGROUND, iamGraphIndex::rebuild);
+    }
+
+    @Bean
+    public StartupTask dashboardMetricsStartupTask(DashboardMetricsStore dashboardMetricsStore) {
+        return StartupTask.of("dashboard-metrics", BACKGROUND, dashboardMetricsStore::reconcile);
+    }
+
+    @Bean
+    public StartupTask permissionCooccurrenceStartupTask(PermissionCooccurrenceIndex permissionCooccurrenceIndex) {
+        return StartupTask.of("permission-cooccurrence", BACKGROUND, permissionCooccurrenceIndex::rebuild);
+    }
+}
@@ -0,0 +1,73 @@
+package io.spring.identityadmin.domain.dto;
+
+/**
+ * 키셋(seek) 페이지 요청. 오프셋 대신 직전 페이지 마지막 행의 정렬 키(cursor) 이후부터 조회하므로,
+ * 몇 번째 페이지이든 인덱스 탐색 한 번과 페이지 크기만큼의 행만 읽습니다.
+ * @param cursor 직전 페이지의 PageResponseDto#getNextCursor() 값. 첫 페이지는 null
+ */
+public record KeysetPageRequest(String cursor, int size) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    /**
+     * 페이지 크기는 1 ~ MAX_SIZE 로 맞추고, 숫자 키를 ':' 로 이은 형식이 아닌 커서는 첫 페이지 요청으로 봅니다.
+     */
+    public KeysetPageRequest {
+        size = Math.max(1, Math.min(size, MAX_SIZE));
+        if (cursor != null && !isWellFormed(cursor)) {
+            cursor = null;
+        }
+    }
+
+    /**
+     * 다음 행 존재 여부를 판단하기 위해 페이지 크기보다 한 건 더 조회합니다.
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    /**
+     * 커서를 구성하는 정렬 키 값들. 커서는 정렬 키를 ':' 로 이은 문자열입니다.
+     * @return 첫 페이지이거나 커서의 키 개수가 count 와 다르면(다른 목록의 커서) null
+     */
+    public long[] keys(int count) {
+        if (cursor == null) return null;
+        String[] parts = cursor.split(":");
+        if (parts.length != count) return null;
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = Long.parseLong(parts[i]);
+        }
+        return keys;
+    }
+
+    /**
+     * id 하나로 정렬하는 목록의 커서 값.
+     * @return 첫 페이지이면 null
+     */
+    public Long afterId() {
+        long[] keys = keys(1);
+        return keys != null ? keys[0] : null;
+    }
+
+    public static String cursorOf(long... keys) {
+        StringBuilder cursor = new StringBuilder();
+        for (long key : keys) {
+            if (!cursor.isEmpty()) cursor.append(':');
+            cursor.append(key);
+        }
+        return cursor.toString();
+    }
+
+    private static boolean isWellFormed(String cursor) {
+        for (String part : cursor.split(":", -1)) {
+            try {
+                Long.parseLong(part);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package io.spring.identityadmin.domain.dto;
+
+/**
+ * 권한 매트릭스의 행(그룹·역할) 또는 열(권한) 하나를 나타냅니다.
+ * @param label 화면 표시용 이름 (그룹·역할은 설명, 권한은 친화적 이름)
+ */
+public record MatrixAxisItemDto(
+        Long id,
+        String name,
+        String label
+) {}
@@ -3,6 +3,7 @@ package io.spring.identityadmin.domain.dto;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * API 응답에서 페이징된 결과를 안정적인 JSON 구조로 반환하기 위한 전용 DTO.
@@ -18,6 +19,8 @@ public class PageResponseDto<T> {
     private final long totalElements;
     private final int totalPages;
     private final boolean isLast;
+    /** 키셋 페이지에서 다음 페이지를 요청할 커서. 오프셋 페이지이거나 마지막 페이지이면 null 입니다. */
+    private final String nextCursor;
 
     public PageResponseDto(Page<T> page) {
         this.content = page.getContent();
@@ -26,5 +29,30 @@ public class PageResponseDto<T> {
         this.totalElements = page.getTotalElements();
         this.totalPages = page.getTotalPages();
         this.isLast = page.isLast();
+        this.nextCursor = null;
+    }
+
+    private PageResponseDto(List<T> content, int pageSize, long totalElements, String nextCursor) {
+        this.content = content;
+        this.pageNumber = 0;
+        this.pageSize = pageSize;
+        this.totalElements = totalElements;
+        this.totalPages = totalElements < 0 ? -1 : (int) ((totalElements + pageSize - 1) / pageSize);
+        this.isLast = nextCursor == null;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 키셋(seek) 방식으로 조회한 결과로 페이지를 만듭니다.
+     * @param rows request.fetchSize() (페이지 크기 + 1) 개까지 조회한 행. 페이지 크기를 넘는 행이 있으면 다음 페이지가 있는 것으로 봅니다.
+     * @param totalElements 전체 개수. 세지 않았으면 -1 (pageNumber, totalPages 는 키셋 페이지에서 의미가 없습니다)
+     * @param cursorOf 행의 정렬 키를 커서 문자열로 만드는 함수
+     */
+    public static <T> PageResponseDto<T> ofKeyset(List<T> rows, KeysetPageRequest request, long totalElements, Function<T, String> cursorOf) {
+        if (rows.size() <= request.size()) {
+            return new PageResponseDto<>(rows, request.size(), totalElements, null);
+        }
+        List<T> content = rows.subList(0, request.size());
+        return new PageResponseDto<>(List.copyOf(content), request.size(), totalElements, cursorOf.apply(content.getLast()));
     }
 }
\ No newline at end of file
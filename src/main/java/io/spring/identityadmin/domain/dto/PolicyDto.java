@@ -17,6 +17,8 @@ public class PolicyDto {
     private Long id;
     private String name;
     private String description;
+    /** 자동 생성된 정책 요약. null 이면 아직 생성 중입니다. */
+    private String friendlyDescription;
     private Policy.Effect effect;
     private int priority;
     private List<TargetDto> targets = new ArrayList<>();
@@ -0,0 +1,14 @@
+package io.spring.identityadmin.domain.dto;
+
+import java.util.Set;
+
+/**
+ * 대량 분석(정책 시뮬레이션 등)을 위해 한 번의 조회로 읽어 온 사용자와 그 사용자가 그룹·역할을 통해 가진 권한 문자열의 스냅샷입니다.
+ * authorities 는 CustomUserDetails 와 동일한 규칙("ROLE_" + 역할명, 권한명)으로 만들어진 문자열입니다.
+ */
+public record UserAuthoritySnapshot(
+        Long id,
+        String username,
+        String name,
+        Set<String> authorities
+) {}
@@ -0,0 +1,27 @@
+package io.spring.identityadmin.domain.dto;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 가져오기 결과입니다.
+ * @param totalRows 읽은 데이터 행 수 (헤더 제외)
+ * @param failedRows 형식 오류·검증 실패·저장 실패로 반영되지 않은 행 수
+ * @param errors 실패한 행 목록. 최대 MAX_REPORTED_ERRORS 건까지만 담습니다
+ * @param errorsTruncated 실패한 행이 errors 에 담긴 것보다 많으면 true
+ */
+public record UserImportResultDto(
+        long totalRows,
+        long createdUsers,
+        long updatedUsers,
+        long failedRows,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+
+    /**
+     * @param line 행이 시작되는 원본 파일의 줄 번호 (1부터)
+     * @param username 읽을 수 있었으면 사용자명, 아니면 null
+     */
+    public record RowError(long line, String username, String message) {}
+}
@@ -0,0 +1,11 @@
+package io.spring.identityadmin.domain.dto;
+
+/**
+ * 대시보드 보안 지표 계산에 사용하는 사용자 한 명의 상태입니다.
+ * @param hasRole 조회 시 지정한 역할을 그룹을 통해 보유하는지 여부
+ */
+public record UserSecurityFlags(
+        Long id,
+        boolean mfaEnabled,
+        boolean hasRole
+) {}
@@ -0,0 +1,10 @@
+package io.spring.identityadmin.domain.dto;
+
+/**
+ * 대량 조회 결과를 화면에 표시하기 위한 사용자 요약 정보입니다.
+ */
+public record UserSummaryDto(
+        Long id,
+        String username,
+        String name
+) {}
@@ -0,0 +1,21 @@
+package io.spring.identityadmin.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 가져오기·내보내기(CSV, JSONL)의 한 행입니다.
+ * 가져오기에서 null 인 값은 기존 사용자의 해당 값을 바꾸지 않으며, groups 가 null 이 아니면 소속 그룹을 그 목록으로 교체합니다.
+ * 내보내기에서는 password 를 채우지 않습니다.
+ * @param password 평문이거나 "{bcrypt}..." 처럼 인코딩 방식 접두사가 붙은 인코딩된 값. 신규 사용자는 필수
+ * @param groups 소속 그룹 이름 목록
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserTransferRow(
+        String username,
+        String name,
+        String password,
+        Boolean mfaEnabled,
+        List<String> groups
+) {}
@@ -0,0 +1,49 @@
+package io.spring.identityadmin.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마지막으로 성공한 리소스 동기화의 지문(fingerprint)을 보관합니다.
+ * 스캔 결과의 지문이 저장된 값과 같으면 시작 시 동기화를 통째로 건너뜁니다.
+ */
+@Entity
+@Table(name = "RESOURCE_SYNC_STATE")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ResourceSyncState {
+
+    @Id
+    @Column(name = "sync_key", length = 100)
+    private String syncKey;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private int resourceCount;
+
+    @Column(nullable = false)
+    private LocalDateTime synchronizedAt;
+
+    public static ResourceSyncState create(String syncKey) {
+        ResourceSyncState state = new ResourceSyncState();
+        state.setSyncKey(syncKey);
+        return state;
+    }
+
+    public void record(String fingerprint, int resourceCount) {
+        this.fingerprint = fingerprint;
+        this.resourceCount = resourceCount;
+        this.synchronizedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,17 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.entity.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface AuditLogRepositoryCustom {
+    /**
+     * 주어진 기간의 URL 인가 결정 감사 로그(ALLOW/DENY)를 서버 측 커서로 id 순서대로 한 건씩 읽어 consumer 에 전달합니다.
+     * 메서드 인가 평가 기록(action = 'METHOD_INVOCATION')은 제외됩니다.
+     * 전달되는 AuditLog 는 영속성 컨텍스트에 속하지 않은 분석용 객체입니다.
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     */
+    void scanUrlDecisions(LocalDateTime from, LocalDateTime to, Consumer<AuditLog> consumer);
+}
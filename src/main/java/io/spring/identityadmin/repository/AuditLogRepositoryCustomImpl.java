@@ -0,0 +1,51 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.entity.AuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class AuditLogRepositoryCustomImpl implements AuditLogRepositoryCustom {
+
+    private static final int SCAN_FETCH_SIZE = 1_000;
+
+    private static final String SCAN_URL_DECISIONS_SQL =
+            "SELECT id, timestamp, principal_name, resource_identifier, action, decision, reason, client_ip " +
+            "FROM audit_log " +
+            "WHERE timestamp >= ? AND timestamp < ? " +
+            "  AND decision IN ('ALLOW', 'DENY') " +
+            "  AND (action IS NULL OR action <> 'METHOD_INVOCATION') " +
+            "ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void scanUrlDecisions(LocalDateTime from, LocalDateTime to, Consumer<AuditLog> consumer) {
+        // PostgreSQL 은 auto-commit 이 꺼진 연결에서 fetchSize 가 지정되어야 서버 측 커서로 나누어 읽습니다.
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SCAN_URL_DECISIONS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(SCAN_FETCH_SIZE);
+            ps.setTimestamp(1, Timestamp.valueOf(from));
+            ps.setTimestamp(2, Timestamp.valueOf(to));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(AuditLog.builder()
+                .id(rs.getLong("id"))
+                .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+                .principalName(rs.getString("principal_name"))
+                .resourceIdentifier(rs.getString("resource_identifier"))
+                .action(rs.getString("action"))
+                .decision(rs.getString("decision"))
+                .reason(rs.getString("reason"))
+                .clientIp(rs.getString("client_ip"))
+                .build()));
+    }
+}
@@ -7,14 +7,21 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FunctionCatalogRepository extends JpaRepository<FunctionCatalog, Long> {
+public interface FunctionCatalogRepository extends JpaRepository<FunctionCatalog, Long>, FunctionCatalogRepositoryCustom {
 
     Optional<FunctionCatalog> findByManagedResource(ManagedResource managedResource);
 
+    /**
+     * 주어진 리소스 ID 중 이미 FunctionCatalog 가 존재하는 리소스의 ID 만 한 번의 쿼리로 조회합니다.
+     */
+    @Query("SELECT fc.managedResource.id FROM FunctionCatalog fc WHERE fc.managedResource.id IN :resourceIds")
+    List<Long> findManagedResourceIdsWithCatalog(@Param("resourceIds") Collection<Long> resourceIds);
+
     /**
      * 명명된 파라미터를 사용하여 UNCONFIRMED 상태의 기능을 조회합니다.
      */
@@ -0,0 +1,15 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.entity.ManagedResource;
+
+import java.util.Collection;
+
+public interface FunctionCatalogRepositoryCustom {
+    /**
+     * 주어진 리소스들에 대한 ACTIVE 상태의 FunctionCatalog 를 JDBC 배치로 일괄 생성합니다.
+     * 이미 카탈로그가 있는 리소스는 ON CONFLICT (managed_resource_id) 로 건너뛰어,
+     * 관리자가 편집한 카탈로그 이름/설명/그룹을 덮어쓰지 않습니다.
+     * @param resources 카탈로그가 필요한 리소스 목록 (id 가 할당되어 있어야 함)
+     */
+    void insertActiveCatalogs(Collection<ManagedResource> resources);
+}
@@ -0,0 +1,36 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.entity.ManagedResource;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@RequiredArgsConstructor
+public class FunctionCatalogRepositoryCustomImpl implements FunctionCatalogRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO function_catalog (managed_resource_id, friendly_name, description, status) " +
+            "VALUES (?, ?, ?, 'ACTIVE') " +
+            "ON CONFLICT (managed_resource_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void insertActiveCatalogs(Collection<ManagedResource> resources) {
+        if (resources.isEmpty()) return;
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(INSERT_SQL, resources, BATCH_SIZE, (ps, resource) -> {
+            ps.setLong(1, resource.getId());
+            ps.setString(2, resource.getFriendlyName());
+            ps.setString(3, resource.getDescription());
+        });
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,32 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.dto.GroupDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+public interface GroupRepositoryCustom {
+    /**
+     * 모든 그룹과, 그 그룹이 역할을 통해 부여하는 권한 문자열(역할 "ROLE_" + 역할명, 권한명)을 그룹 id 순으로 한 번의 쿼리로 읽어 전달합니다.
+     * 권한 문자열은 CustomUserDetails 와 동일한 규칙으로 만들어지며, 역할이 없는 그룹은 권한 문자열 null 로 한 번 전달됩니다.
+     */
+    void scanGroupAuthorities(BiConsumer<Long, String> consumer);
+
+    /**
+     * group_roles 의 모든 (그룹 id, 역할 id) 쌍을 읽어 전달합니다.
+     */
+    void scanGroupRoleEdges(IdPairConsumer consumer);
+
+    /**
+     * 그룹 목록 화면에 표시할 열과 구성원 수·역할 수(집계 서브쿼리)만 id 순으로 afterId 이후부터 최대 limit 건 조회합니다.
+     * @param afterId 직전 페이지 마지막 그룹 id. 첫 페이지는 null
+     */
+    List<GroupDto> findGroupListPage(Long afterId, int limit);
+
+    /**
+     * 주어진 그룹 이름들의 id 를 한 번의 쿼리로 조회합니다. 존재하지 않는 이름은 결과에서 빠집니다.
+     */
+    Map<String, Long> findIdsByNames(Collection<String> names);
+}
@@ -0,0 +1,89 @@
+package io.spring.identityadmin.repository;
+
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.spring.identityadmin.domain.dto.GroupDto;
+import io.spring.identityadmin.domain.entity.QGroup;
+import io.spring.identityadmin.domain.entity.QGroupRole;
+import io.spring.identityadmin.domain.entity.QUserGroup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class GroupRepositoryCustomImpl implements GroupRepositoryCustom {
+
+    private static final String GROUP_AUTHORITIES_SQL =
+            "SELECT g.group_id, a.authority " +
+            "FROM app_group g " +
+            "LEFT JOIN (" +
+            "  SELECT gr.group_id, CASE WHEN starts_with(r.role_name, 'ROLE_') THEN r.role_name " +
+            "                           ELSE 'ROLE_' || upper(r.role_name) END AS authority " +
+            "  FROM group_roles gr JOIN role r ON r.role_id = gr.role_id " +
+            "  UNION " +
+            "  SELECT gr.group_id, upper(p.permission_name) " +
+            "  FROM group_roles gr " +
+            "  JOIN role_permissions rp ON rp.role_id = gr.role_id " +
+            "  JOIN permission p ON p.permission_id = rp.permission_id" +
+            ") a ON a.group_id = g.group_id " +
+            "ORDER BY g.group_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public void scanGroupAuthorities(BiConsumer<Long, String> consumer) {
+        jdbcTemplate.query(GROUP_AUTHORITIES_SQL,
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong("group_id"), rs.getString("authority")));
+    }
+
+    @Override
+    public void scanGroupRoleEdges(IdPairConsumer consumer) {
+        jdbcTemplate.query("SELECT group_id, role_id FROM group_roles ORDER BY group_id, role_id",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    @Override
+    public List<GroupDto> findGroupListPage(Long afterId, int limit) {
+        QGroup group = QGroup.group;
+        QUserGroup userGroup = QUserGroup.userGroup;
+        QGroupRole groupRole = QGroupRole.groupRole;
+        return queryFactory
+                .select(Projections.fields(GroupDto.class,
+                        group.id, group.name, group.description,
+                        ExpressionUtils.as(JPAExpressions.select(groupRole.count().intValue())
+                                .from(groupRole)
+                                .where(groupRole.group.id.eq(group.id)), "roleCount"),
+                        ExpressionUtils.as(JPAExpressions.select(userGroup.count().intValue())
+                                .from(userGroup)
+                                .where(userGroup.group.id.eq(group.id)), "userCount")))
+                .from(group)
+                .where(afterId != null ? group.id.gt(afterId) : null)
+                .orderBy(group.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<String, Long> findIdsByNames(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) return ids;
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT group_name, group_id FROM app_group WHERE group_name = ANY(?)");
+            ps.setArray(1, con.createArrayOf("varchar", names.toArray()));
+            return ps;
+        }, (RowCallbackHandler) rs -> ids.put(rs.getString(1), rs.getLong(2)));
+        return ids;
+    }
+}
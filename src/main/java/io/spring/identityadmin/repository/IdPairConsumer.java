@@ -0,0 +1,9 @@
+package io.spring.identityadmin.repository;
+
+/**
+ * 연결 테이블의 (id, id) 쌍을 박싱 없이 전달받는 콜백입니다.
+ */
+@FunctionalInterface
+public interface IdPairConsumer {
+    void accept(long left, long right);
+}
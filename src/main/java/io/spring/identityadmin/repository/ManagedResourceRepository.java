@@ -3,9 +3,13 @@ package io.spring.identityadmin.repository;
 import io.spring.identityadmin.domain.entity.ManagedResource;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ManagedResourceRepository extends JpaRepository<ManagedResource, Long>, ManagedResourceRepositoryCustom {
 
     Optional<ManagedResource> findByResourceIdentifier(String resourceIdentifier);
+
+    List<ManagedResource> findAllByResourceIdentifierIn(Collection<String> resourceIdentifiers);
 }
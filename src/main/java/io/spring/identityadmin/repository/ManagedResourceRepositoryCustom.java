@@ -5,6 +5,8 @@ import io.spring.identityadmin.domain.entity.ManagedResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 public interface ManagedResourceRepositoryCustom {
     /**
      * Querydsl을 사용하여 동적 검색 조건 및 페이징을 처리합니다.
@@ -13,4 +15,20 @@ public interface ManagedResourceRepositoryCustom {
      * @return 페이징 처리된 리소스 목록
      */
     Page<ManagedResource> findByCriteria(ResourceSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * resource_identifier 를 기준으로 리소스를 JDBC 배치 INSERT ... ON CONFLICT DO UPDATE 로 일괄 반영합니다.
+     * 기존 리소스는 코드에서 파생된 정보만 갱신하며, 관리자가 설정하는 is_managed 값은 보존합니다.
+     * 실행 후 영속성 컨텍스트를 비워 이후 조회가 갱신된 값을 읽도록 합니다.
+     * @param resources 신규 또는 변경된 리소스 목록
+     */
+    void upsertAll(Collection<ManagedResource> resources);
+
+    /**
+     * 코드에서 사라진 리소스들을 단일 UPDATE 문으로 미정의(is_defined = false) 상태로 전환합니다.
+     * 미정의 리소스에 연결된 권한은 권한 선택 UI에서 제외됩니다.
+     * @param resourceIdentifiers 제거된 리소스 식별자 목록
+     * @return 갱신된 행 수
+     */
+    long markUndefined(Collection<String> resourceIdentifiers);
 }
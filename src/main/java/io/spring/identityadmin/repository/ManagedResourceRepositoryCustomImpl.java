@@ -2,6 +2,7 @@ package io.spring.identityadmin.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import io.spring.identityadmin.domain.dto.ResourceSearchCriteria;
 import io.spring.identityadmin.domain.entity.ManagedResource;
 import io.spring.identityadmin.domain.entity.QManagedResource;
@@ -9,16 +10,33 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class ManagedResourceRepositoryCustomImpl implements ManagedResourceRepositoryCustom {
 
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO managed_resource (resource_identifier, resource_type, http_method, friendly_name, description, " +
+            "service_owner, parameter_types, return_type, is_managed, is_defined) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (resource_identifier) DO UPDATE SET " +
+            "resource_type = EXCLUDED.resource_type, http_method = EXCLUDED.http_method, " +
+            "friendly_name = EXCLUDED.friendly_name, description = EXCLUDED.description, " +
+            "service_owner = EXCLUDED.service_owner, parameter_types = EXCLUDED.parameter_types, " +
+            "return_type = EXCLUDED.return_type, is_defined = EXCLUDED.is_defined";
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     public Page<ManagedResource> findByCriteria(ResourceSearchCriteria search, Pageable pageable) {
@@ -59,4 +77,39 @@ public class ManagedResourceRepositoryCustomImpl implements ManagedResourceRepos
     private BooleanExpression resourceTypeEq(QManagedResource resource, ManagedResource.ResourceType resourceType) {
         return resourceType != null ? resource.resourceType.eq(resourceType) : null;
     }
+
+    @Override
+    public void upsertAll(Collection<ManagedResource> resources) {
+        if (resources.isEmpty()) return;
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, resources, BATCH_SIZE, (ps, resource) -> {
+            ps.setString(1, resource.getResourceIdentifier());
+            ps.setString(2, resource.getResourceType().name());
+            ps.setString(3, resource.getHttpMethod() != null ? resource.getHttpMethod().name() : null);
+            ps.setString(4, resource.getFriendlyName());
+            ps.setString(5, resource.getDescription());
+            ps.setString(6, resource.getServiceOwner());
+            ps.setString(7, resource.getParameterTypes());
+            ps.setString(8, resource.getReturnType());
+            ps.setBoolean(9, resource.isManaged());
+            ps.setBoolean(10, resource.isDefined());
+        });
+        entityManager.clear();
+    }
+
+    @Override
+    public long markUndefined(Collection<String> resourceIdentifiers) {
+        QManagedResource resource = QManagedResource.managedResource;
+        List<String> identifiers = new ArrayList<>(resourceIdentifiers);
+        long updated = 0;
+        // PostgreSQL 바인드 파라미터 수 제한을 넘지 않도록 청크 단위로 실행
+        for (int from = 0; from < identifiers.size(); from += BATCH_SIZE) {
+            updated += queryFactory.update(resource)
+                    .set(resource.isDefined, false)
+                    .where(resource.resourceIdentifier.in(identifiers.subList(from, Math.min(from + BATCH_SIZE, identifiers.size()))))
+                    .execute();
+        }
+        entityManager.clear();
+        return updated;
+    }
 }
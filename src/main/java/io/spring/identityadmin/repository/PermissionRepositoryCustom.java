@@ -0,0 +1,54 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.dto.MatrixAxisItemDto;
+import io.spring.identityadmin.domain.dto.PermissionDto;
+import io.spring.identityadmin.domain.entity.Permission;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface PermissionRepositoryCustom {
+    /**
+     * permission_name 을 기준으로 권한을 JDBC 배치 INSERT ... ON CONFLICT DO UPDATE 로 일괄 반영합니다.
+     * 이름, 설명, 대상 타입, 액션 타입만 갱신하며 condition_expression 은 보존합니다.
+     * @param permissions 신규 또는 변경된 권한 목록
+     */
+    void upsertAll(Collection<Permission> permissions);
+
+    /**
+     * 주어진 리소스들의 자동 생성 권한(PERM_{타입}_{리소스ID})과 FunctionCatalog 를
+     * 단일 INSERT ... SELECT 문으로 PERMISSION_FUNCTIONS 에 연결합니다. 이미 연결된 쌍은 건너뜁니다.
+     * @param managedResourceIds 연결할 리소스 ID 목록
+     */
+    void linkGeneratedPermissionsToCatalogs(Collection<Long> managedResourceIds);
+
+    /**
+     * 권한 매트릭스의 행으로 사용할 그룹 또는 역할을 이름순으로 페이징 조회합니다.
+     * @param subjectType "ROLE" 이면 역할, 그 외에는 그룹
+     * @param keyword 이름·설명 부분 일치 검색어 (없으면 전체)
+     * @param subjectIds 조회 대상 id (비어 있으면 전체)
+     */
+    Page<MatrixAxisItemDto> findMatrixSubjects(String subjectType, String keyword, Collection<Long> subjectIds, Pageable pageable);
+
+    /**
+     * 권한 매트릭스의 열로 사용할 권한을 이름순으로 페이징 조회합니다.
+     * @param definedOnly true 이면 정의된(is_defined) 리소스의 기능에 연결된 권한만 조회
+     */
+    Page<MatrixAxisItemDto> findMatrixPermissions(String keyword, Collection<Long> permissionIds, boolean definedOnly, Pageable pageable);
+
+    /**
+     * 주어진 주체 × 권한 범위에서 부여된 칸을 단일 집계 쿼리로 조회합니다.
+     * 그룹은 소속 역할을 통해 부여된 권한을 포함합니다.
+     * @return 주체 id → 부여된 권한 id 배열 (부여된 권한이 없는 주체는 포함되지 않음)
+     */
+    Map<Long, long[]> findGrantedPermissionIds(String subjectType, Collection<Long> subjectIds, Collection<Long> permissionIds);
+
+    /**
+     * 권한 목록 화면에 표시할 열만 id 순으로 afterId 이후부터 최대 limit 건 조회합니다.
+     * @param afterId 직전 페이지 마지막 권한 id. 첫 페이지는 null
+     */
+    List<PermissionDto> findPermissionListPage(Long afterId, int limit);
+}
@@ -0,0 +1,198 @@
+package io.spring.identityadmin.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.spring.identityadmin.domain.dto.MatrixAxisItemDto;
+import io.spring.identityadmin.domain.dto.PermissionDto;
+import io.spring.identityadmin.domain.entity.Permission;
+import io.spring.identityadmin.domain.entity.QPermission;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class PermissionRepositoryCustomImpl implements PermissionRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO permission (permission_name, friendly_name, description, target_type, action_type) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (permission_name) DO UPDATE SET " +
+            "friendly_name = EXCLUDED.friendly_name, description = EXCLUDED.description, " +
+            "target_type = EXCLUDED.target_type, action_type = EXCLUDED.action_type";
+
+    private static final String LINK_SQL =
+            "INSERT INTO permission_functions (permission_id, function_catalog_id) " +
+            "SELECT p.permission_id, fc.id " +
+            "FROM function_catalog fc " +
+            "JOIN managed_resource mr ON mr.id = fc.managed_resource_id " +
+            "JOIN permission p ON p.permission_name = 'PERM_' || mr.resource_type || '_' || mr.id " +
+            "WHERE mr.id = ANY (?) " +
+            "ON CONFLICT DO NOTHING";
+
+    private static final String DEFINED_PERMISSION_CONDITION =
+            "EXISTS (SELECT 1 FROM permission_functions pf " +
+            "        JOIN function_catalog fc ON fc.id = pf.function_catalog_id " +
+            "        JOIN managed_resource mr ON mr.id = fc.managed_resource_id " +
+            "        WHERE pf.permission_id = permission.permission_id AND mr.is_defined)";
+
+    private static final String GROUP_GRANTS_SQL =
+            "SELECT gr.group_id, array_agg(DISTINCT rp.permission_id) " +
+            "FROM group_roles gr " +
+            "JOIN role_permissions rp ON rp.role_id = gr.role_id " +
+            "WHERE gr.group_id = ANY (?) AND rp.permission_id = ANY (?) " +
+            "GROUP BY gr.group_id";
+
+    private static final String ROLE_GRANTS_SQL =
+            "SELECT role_id, array_agg(permission_id) " +
+            "FROM role_permissions " +
+            "WHERE role_id = ANY (?) AND permission_id = ANY (?) " +
+            "GROUP BY role_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public void upsertAll(Collection<Permission> permissions) {
+        if (permissions.isEmpty()) return;
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, permissions, BATCH_SIZE, (ps, permission) -> {
+            ps.setString(1, permission.getName());
+            ps.setString(2, permission.getFriendlyName());
+            ps.setString(3, permission.getDescription());
+            ps.setString(4, permission.getTargetType());
+            ps.setString(5, permission.getActionType());
+        });
+        entityManager.clear();
+    }
+
+    @Override
+    public void linkGeneratedPermissionsToCatalogs(Collection<Long> managedResourceIds) {
+        if (managedResourceIds.isEmpty()) return;
+        entityManager.flush();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(LINK_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", managedResourceIds.toArray()));
+            return ps;
+        });
+        entityManager.clear();
+    }
+
+    @Override
+    public Page<MatrixAxisItemDto> findMatrixSubjects(String subjectType, String keyword, Collection<Long> subjectIds, Pageable pageable) {
+        return "ROLE".equals(subjectType)
+                ? findAxis("role", "role_id", "role_name", "role_desc", keyword, subjectIds, null, pageable)
+                : findAxis("app_group", "group_id", "group_name", "description", keyword, subjectIds, null, pageable);
+    }
+
+    @Override
+    public Page<MatrixAxisItemDto> findMatrixPermissions(String keyword, Collection<Long> permissionIds, boolean definedOnly, Pageable pageable) {
+        return findAxis("permission", "permission_id", "permission_name", "friendly_name", keyword, permissionIds,
+                definedOnly ? DEFINED_PERMISSION_CONDITION : null, pageable);
+    }
+
+    @Override
+    public Map<Long, long[]> findGrantedPermissionIds(String subjectType, Collection<Long> subjectIds, Collection<Long> permissionIds) {
+        Map<Long, long[]> grants = new HashMap<>();
+        if (subjectIds.isEmpty() || permissionIds.isEmpty()) return grants;
+        String sql = "ROLE".equals(subjectType) ? ROLE_GRANTS_SQL : GROUP_GRANTS_SQL;
+        jdbcTemplate.query(statement(sql, List.of(subjectIds, permissionIds)), (RowCallbackHandler) rs -> {
+            Object[] values = (Object[]) rs.getArray(2).getArray();
+            long[] ids = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                ids[i] = ((Number) values[i]).longValue();
+            }
+            grants.put(rs.getLong(1), ids);
+        });
+        return grants;
+    }
+
+    /**
+     * 매트릭스 축 하나를 이름, id 순으로 페이징 조회합니다. label 이 비어 있으면 이름을 사용합니다.
+     */
+    private Page<MatrixAxisItemDto> findAxis(String table, String idColumn, String nameColumn, String labelColumn,
+                                             String keyword, Collection<Long> ids, String extraCondition, Pageable pageable) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (StringUtils.hasText(keyword)) {
+            conditions.add("(" + nameColumn + " ILIKE ? OR " + labelColumn + " ILIKE ?)");
+            String pattern = "%" + escapeLike(keyword.trim()) + "%";
+            args.add(pattern);
+            args.add(pattern);
+        }
+        if (!CollectionUtils.isEmpty(ids)) {
+            conditions.add(idColumn + " = ANY (?)");
+            args.add(ids);
+        }
+        if (extraCondition != null) {
+            conditions.add(extraCondition);
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+
+        Long total = jdbcTemplate.query(statement("SELECT count(*) FROM " + table + where, args),
+                rs -> rs.next() ? rs.getLong(1) : 0L);
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(pageable.getPageSize());
+        pageArgs.add(pageable.getOffset());
+        List<MatrixAxisItemDto> content = jdbcTemplate.query(
+                statement("SELECT " + idColumn + ", " + nameColumn + ", COALESCE(" + labelColumn + ", " + nameColumn + ") " +
+                        "FROM " + table + where + " ORDER BY " + nameColumn + ", " + idColumn + " LIMIT ? OFFSET ?", pageArgs),
+                (rs, rowNum) -> new MatrixAxisItemDto(rs.getLong(1), rs.getString(2), rs.getString(3)));
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    /**
+     * 컬렉션 인자는 bigint 배열로, 그 외에는 그대로 바인딩하는 PreparedStatement 를 만듭니다.
+     */
+    private PreparedStatementCreator statement(String sql, List<?> args) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            for (int i = 0; i < args.size(); i++) {
+                if (args.get(i) instanceof Collection<?> values) {
+                    ps.setArray(i + 1, con.createArrayOf("bigint", values.toArray()));
+                } else {
+                    ps.setObject(i + 1, args.get(i));
+                }
+            }
+            return ps;
+        };
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Override
+    public List<PermissionDto> findPermissionListPage(Long afterId, int limit) {
+        QPermission permission = QPermission.permission;
+        return queryFactory
+                .select(Projections.fields(PermissionDto.class,
+                        permission.id, permission.name, permission.friendlyName, permission.description,
+                        permission.targetType, permission.actionType))
+                .from(permission)
+                .where(afterId != null ? permission.id.gt(afterId) : null)
+                .orderBy(permission.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
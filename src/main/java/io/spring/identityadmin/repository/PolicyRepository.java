@@ -6,10 +6,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.util.AntPathMatcher;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface PolicyRepository extends JpaRepository<Policy, Long> {
+public interface PolicyRepository extends JpaRepository<Policy, Long>, PolicyRepositoryCustom {
 
     @Query("SELECT DISTINCT p FROM Policy p " +
             "LEFT JOIN FETCH p.targets t " +
@@ -59,6 +60,18 @@ public interface PolicyRepository extends JpaRepository<Policy, Long> {
             "WHERE p.friendlyDescription IS NULL")
     List<Policy> findByFriendlyDescriptionIsNull();
 
+    /**
+     * 설명 생성이 대기 중인(friendlyDescription 이 비어 있는) 정책의 ID 만 조회합니다.
+     */
+    @Query("SELECT p.id FROM Policy p WHERE p.friendlyDescription IS NULL")
+    List<Long> findIdsByFriendlyDescriptionIsNull();
+
+    @Query("SELECT DISTINCT p FROM Policy p " +
+            "LEFT JOIN FETCH p.rules r " +
+            "LEFT JOIN FETCH r.conditions " +
+            "WHERE p.id IN :ids")
+    List<Policy> findAllByIdWithRules(@Param("ids") Collection<Long> ids);
+
     /**
      * Ant-style 경로 매칭을 지원하는 편의 메서드.
      * DB에서 모든 URL 정책을 가져온 후, 메모리에서 AntPathMatcher를 사용해 필터링합니다.
@@ -0,0 +1,34 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.dto.PolicyDto;
+import io.spring.identityadmin.domain.entity.policy.Policy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface PolicyRepositoryCustom {
+    /**
+     * 여러 정책의 friendlyDescription 을 단일 UPDATE ... FROM (unnest) 문으로 일괄 갱신합니다.
+     * @param descriptionsByPolicyId 정책 ID → 생성된 설명
+     * @return 갱신된 행 수
+     */
+    int updateFriendlyDescriptions(Map<Long, String> descriptionsByPolicyId);
+
+    /**
+     * 모든 정책을 대상·규칙·조건과 함께 서버 측 커서로 한 건씩 읽어 consumer 에 전달합니다.
+     * 정책 하나당 한 행으로 집계하여 읽으므로 대상×조건 카테시안 조인이 발생하지 않고,
+     * 전체 정책을 한꺼번에 메모리에 올리지 않습니다.
+     * 전달되는 Policy 는 영속성 컨텍스트에 속하지 않은 분석용 객체이므로 저장하거나 수정해서는 안 됩니다.
+     * @param consumer 정책을 하나씩 전달받을 소비자
+     */
+    void scanAllWithDetails(Consumer<Policy> consumer);
+
+    /**
+     * 정책 목록 화면에 표시할 열과 대상만 (우선순위, id) 순으로 커서 이후부터 최대 limit 건 조회합니다.
+     * 대상은 조회한 정책 id 로 한 번 더 조회하여 붙이므로 정책×대상 행이 페이지 크기를 흐트러뜨리지 않습니다.
+     * @param afterPriority 직전 페이지 마지막 정책의 우선순위. 첫 페이지는 null
+     * @param afterId 직전 페이지 마지막 정책 id. 첫 페이지는 null
+     */
+    List<PolicyDto> findPolicyListPage(Integer afterPriority, Long afterId, int limit);
+}
@@ -0,0 +1,160 @@
+package io.spring.identityadmin.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.spring.identityadmin.domain.dto.PolicyDto;
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
+import io.spring.identityadmin.domain.entity.policy.PolicyRule;
+import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
+import io.spring.identityadmin.domain.entity.policy.QPolicy;
+import io.spring.identityadmin.domain.entity.policy.QPolicyTarget;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class PolicyRepositoryCustomImpl implements PolicyRepositoryCustom {
+
+    private static final int SCAN_FETCH_SIZE = 500;
+
+    private static final String UPDATE_DESCRIPTIONS_SQL =
+            "UPDATE policy p SET friendly_description = v.description " +
+            "FROM (SELECT unnest(?::bigint[]) AS id, unnest(?::text[]) AS description) v " +
+            "WHERE p.id = v.id";
+
+    // 대상과 규칙(조건 목록)을 정책별 JSON 배열로 집계하여 정책 하나당 한 행만 반환
+    private static final String SCAN_WITH_DETAILS_SQL =
+            "SELECT p.id, p.name, p.effect, p.priority, " +
+            "  (SELECT json_agg(json_build_array(t.target_type, t.target_identifier, t.http_method) ORDER BY t.id) " +
+            "     FROM policy_target t WHERE t.policy_id = p.id) AS targets, " +
+            "  (SELECT json_agg(rc.conditions ORDER BY rc.rule_id) " +
+            "     FROM (SELECT r.id AS rule_id, " +
+            "                  (SELECT coalesce(json_agg(c.condition_expression ORDER BY c.id), '[]'::json) " +
+            "                     FROM policy_condition c WHERE c.rule_id = r.id) AS conditions " +
+            "             FROM policy_rule r WHERE r.policy_id = p.id) rc) AS rules " +
+            "FROM policy p ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public int updateFriendlyDescriptions(Map<Long, String> descriptionsByPolicyId) {
+        if (descriptionsByPolicyId.isEmpty()) return 0;
+        List<Long> ids = new ArrayList<>(descriptionsByPolicyId.size());
+        List<String> descriptions = new ArrayList<>(descriptionsByPolicyId.size());
+        descriptionsByPolicyId.forEach((id, description) -> {
+            ids.add(id);
+            descriptions.add(description);
+        });
+
+        entityManager.flush();
+        int updated = jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPDATE_DESCRIPTIONS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            ps.setArray(2, con.createArrayOf("text", descriptions.toArray()));
+            return ps;
+        });
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public void scanAllWithDetails(Consumer<Policy> consumer) {
+        // PostgreSQL 은 auto-commit 이 꺼진 연결에서 fetchSize 가 지정되어야 서버 측 커서로 나누어 읽습니다.
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SCAN_WITH_DETAILS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(SCAN_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapPolicy(rs)));
+    }
+
+    private Policy mapPolicy(ResultSet rs) throws SQLException {
+        Policy policy = Policy.builder()
+                .id(rs.getLong("id"))
+                .name(rs.getString("name"))
+                .effect(Policy.Effect.valueOf(rs.getString("effect")))
+                .priority(rs.getInt("priority"))
+                .build();
+
+        for (JsonNode target : readJson(rs.getString("targets"))) {
+            policy.getTargets().add(PolicyTarget.builder()
+                    .policy(policy)
+                    .targetType(target.path(0).asText())
+                    .targetIdentifier(target.path(1).asText())
+                    .httpMethod(target.path(2).isNull() ? null : target.path(2).asText())
+                    .build());
+        }
+        for (JsonNode conditions : readJson(rs.getString("rules"))) {
+            PolicyRule rule = PolicyRule.builder().policy(policy).build();
+            for (JsonNode expression : conditions) {
+                rule.getConditions().add(PolicyCondition.builder()
+                        .rule(rule)
+                        .expression(expression.asText())
+                        .build());
+            }
+            policy.getRules().add(rule);
+        }
+        return policy;
+    }
+
+    private JsonNode readJson(String json) throws SQLException {
+        if (json == null) return objectMapper.createArrayNode();
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Failed to read aggregated policy details", e);
+        }
+    }
+
+    @Override
+    public List<PolicyDto> findPolicyListPage(Integer afterPriority, Long afterId, int limit) {
+        QPolicy policy = QPolicy.policy;
+        QPolicyTarget target = QPolicyTarget.policyTarget;
+        List<PolicyDto> policies = queryFactory
+                .select(Projections.fields(PolicyDto.class,
+                        policy.id, policy.name, policy.description, policy.friendlyDescription, policy.effect, policy.priority))
+                .from(policy)
+                .where(afterPriority != null && afterId != null
+                        ? policy.priority.gt(afterPriority).or(policy.priority.eq(afterPriority).and(policy.id.gt(afterId)))
+                        : null)
+                .orderBy(policy.priority.asc(), policy.id.asc())
+                .limit(limit)
+                .fetch();
+        if (policies.isEmpty()) return policies;
+
+        Map<Long, PolicyDto> byId = new HashMap<>();
+        for (PolicyDto dto : policies) {
+            dto.setTargets(new ArrayList<>());
+            byId.put(dto.getId(), dto);
+        }
+        for (Tuple row : queryFactory
+                .select(target.policy.id, target.targetType, target.targetIdentifier, target.httpMethod)
+                .from(target)
+                .where(target.policy.id.in(byId.keySet()))
+                .orderBy(target.id.asc())
+                .fetch()) {
+            byId.get(row.get(target.policy.id)).getTargets().add(new PolicyDto.TargetDto(
+                    row.get(target.targetType), row.get(target.targetIdentifier), row.get(target.httpMethod)));
+        }
+        return policies;
+    }
+}
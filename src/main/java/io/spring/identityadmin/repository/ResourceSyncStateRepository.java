@@ -0,0 +1,9 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.entity.ResourceSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResourceSyncStateRepository extends JpaRepository<ResourceSyncState, String> {
+}
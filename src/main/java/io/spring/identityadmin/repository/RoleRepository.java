@@ -4,12 +4,15 @@ import io.spring.identityadmin.domain.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface RoleRepository extends JpaRepository<Role, Long> {
+public interface RoleRepository extends JpaRepository<Role, Long>, RoleRepositoryCustom {
     Optional<Role> findByRoleName(String name);
 
+    List<Role> findAllByRoleNameIn(Collection<String> roleNames);
+
     @Override
     void delete(Role role);
 
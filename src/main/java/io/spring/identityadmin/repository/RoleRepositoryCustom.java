@@ -0,0 +1,18 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.dto.RoleDto;
+
+import java.util.List;
+
+public interface RoleRepositoryCustom {
+    /**
+     * role_permissions 의 모든 (역할 id, 권한 id) 쌍을 읽어 전달합니다.
+     */
+    void scanRolePermissionEdges(IdPairConsumer consumer);
+
+    /**
+     * 역할 목록 화면에 표시할 열과 권한 수(집계 서브쿼리)만 id 순으로 afterId 이후부터 최대 limit 건 조회합니다.
+     * @param afterId 직전 페이지 마지막 역할 id. 첫 페이지는 null
+     */
+    List<RoleDto> findRoleListPage(Long afterId, int limit);
+}
@@ -0,0 +1,46 @@
+package io.spring.identityadmin.repository;
+
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.spring.identityadmin.domain.dto.RoleDto;
+import io.spring.identityadmin.domain.entity.QRole;
+import io.spring.identityadmin.domain.entity.QRolePermission;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RoleRepositoryCustomImpl implements RoleRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public void scanRolePermissionEdges(IdPairConsumer consumer) {
+        jdbcTemplate.query("SELECT role_id, permission_id FROM role_permissions ORDER BY role_id, permission_id",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    @Override
+    public List<RoleDto> findRoleListPage(Long afterId, int limit) {
+        QRole role = QRole.role;
+        QRolePermission rolePermission = QRolePermission.rolePermission;
+        return queryFactory
+                .select(Projections.fields(RoleDto.class,
+                        role.id, role.roleName, role.roleDesc, role.isExpression,
+                        ExpressionUtils.as(JPAExpressions.select(rolePermission.count().intValue())
+                                .from(rolePermission)
+                                .where(rolePermission.role.id.eq(role.id)), "permissionCount")))
+                .from(role)
+                .where(afterId != null ? role.id.gt(afterId) : null)
+                .orderBy(role.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 
-public interface UserRepository extends JpaRepository<Users, Long> {
+public interface UserRepository extends JpaRepository<Users, Long>, UserRepositoryCustom {
 
     @Cacheable(value = "usersWithAuthorities", key = "#username")
     @Query("SELECT u FROM Users u " +
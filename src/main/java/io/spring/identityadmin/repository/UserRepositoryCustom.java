@@ -0,0 +1,109 @@
+package io.spring.identityadmin.repository;
+
+import io.spring.identityadmin.domain.dto.UserAuthoritySnapshot;
+import io.spring.identityadmin.domain.dto.UserListDto;
+import io.spring.identityadmin.domain.dto.UserSecurityFlags;
+import io.spring.identityadmin.domain.dto.UserSummaryDto;
+import io.spring.identityadmin.domain.dto.UserTransferRow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+public interface UserRepositoryCustom {
+    /**
+     * id 가 afterId 보다 큰 사용자를 id 순으로 최대 limit 명 읽고, 각 사용자의 역할·권한 문자열을 한 번의 쿼리로 함께 집계합니다.
+     * 마지막 사용자의 id 를 다음 호출의 afterId 로 넘기면 OFFSET 없이 전체 사용자를 페이지 단위로 순회할 수 있습니다.
+     * @param afterId 이전 페이지의 마지막 사용자 id (첫 페이지는 0)
+     * @param userIds 대상 사용자 id 목록. null 또는 비어 있으면 전체 사용자
+     * @param limit 페이지 크기
+     */
+    List<UserAuthoritySnapshot> findAuthoritySnapshots(long afterId, Collection<Long> userIds, int limit);
+
+    /**
+     * 주어진 사용자명들에 해당하는 사용자의 역할·권한 문자열 스냅샷을 한 번의 쿼리로 조회합니다.
+     * 존재하지 않는 사용자명은 결과에서 빠집니다.
+     */
+    List<UserAuthoritySnapshot> findAuthoritySnapshotsByUsernames(Collection<String> usernames);
+
+    /**
+     * findAuthoritySnapshots 로 순회하게 될 사용자 수를 반환합니다.
+     */
+    long countAuthoritySnapshots(Collection<Long> userIds);
+
+    /**
+     * 모든 사용자 id 를 서버 측 커서로 읽어 오름차순으로 전달합니다.
+     */
+    void scanUserIds(LongConsumer consumer);
+
+    /**
+     * user_groups 의 모든 (사용자 id, 그룹 id) 쌍을 기본 키 순서(사용자 id, 그룹 id)로 서버 측 커서로 읽어 전달합니다.
+     */
+    void scanGroupMemberships(IdPairConsumer consumer);
+
+    /**
+     * 사용자가 소속된 그룹 id 목록을 반환합니다.
+     * @return 사용자가 존재하지 않으면 빈 Optional
+     */
+    Optional<long[]> findGroupIdsByUserId(long userId);
+
+    /**
+     * 주어진 id 의 사용자 요약 정보를 id 순으로 조회합니다. 존재하지 않는 id 는 결과에서 빠집니다.
+     */
+    List<UserSummaryDto> findSummariesByIds(long[] userIds);
+
+    /**
+     * MFA 를 사용하지 않는 사용자 id 를 서버 측 커서로 읽어 오름차순으로 전달합니다.
+     */
+    void scanMfaDisabledUserIds(LongConsumer consumer);
+
+    /**
+     * 그룹을 통해 주어진 이름의 역할을 보유한 사용자 id 를 중복 없이 오름차순으로 전달합니다.
+     */
+    void scanUserIdsWithRole(String roleName, LongConsumer consumer);
+
+    /**
+     * 사용자 한 명의 MFA 사용 여부와 주어진 역할 보유 여부를 조회합니다.
+     * @return 사용자가 존재하지 않으면 빈 Optional
+     */
+    Optional<UserSecurityFlags> findSecurityFlags(long userId, String roleName);
+
+    /**
+     * 사용자 목록 화면에 표시할 열과 소속 그룹 수·역할 수(집계 서브쿼리)만 id 순으로 afterId 이후부터 최대 limit 건 조회합니다.
+     * @param afterId 직전 페이지 마지막 사용자 id. 첫 페이지는 null
+     */
+    List<UserListDto> findUserListPage(Long afterId, int limit);
+
+    /**
+     * 주어진 사용자명들의 id 를 한 번의 쿼리로 조회합니다. 존재하지 않는 사용자명은 결과에서 빠집니다.
+     */
+    Map<String, Long> findIdsByUsernames(Collection<String> usernames);
+
+    /**
+     * 사용자를 JDBC 배치 INSERT 로 일괄 생성합니다. 그 사이 다른 곳에서 생성된 사용자명은 건너뜁니다.
+     * password 는 인코딩된 값이어야 하며 groups 는 무시됩니다.
+     * @return 이미 존재하여 생성하지 않은 사용자명
+     */
+    Set<String> insertAll(Collection<UserTransferRow> users);
+
+    /**
+     * 사용자의 이름, MFA 사용 여부, 비밀번호를 JDBC 배치 UPDATE 로 일괄 갱신합니다. null 인 값은 기존 값을 유지합니다.
+     * @param usersById 사용자 id → 갱신할 값 (password 는 인코딩된 값, username·groups 는 무시)
+     */
+    void updateAll(Map<Long, UserTransferRow> usersById);
+
+    /**
+     * 주어진 사용자들의 소속 그룹을 한 번의 DELETE 와 JDBC 배치 INSERT 로 교체합니다.
+     * @param groupIdsByUserId 사용자 id → 새 소속 그룹 id 목록
+     */
+    void replaceGroupMemberships(Map<Long, long[]> groupIdsByUserId);
+
+    /**
+     * 모든 사용자를 소속 그룹 이름과 함께 id 순으로 서버 측 커서로 한 명씩 읽어 전달합니다. password 는 채우지 않습니다.
+     */
+    void scanTransferRows(Consumer<UserTransferRow> consumer);
+}
@@ -0,0 +1,339 @@
+package io.spring.identityadmin.repository;
+
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.spring.identityadmin.domain.dto.UserAuthoritySnapshot;
+import io.spring.identityadmin.domain.dto.UserListDto;
+import io.spring.identityadmin.domain.dto.UserSecurityFlags;
+import io.spring.identityadmin.domain.dto.UserSummaryDto;
+import io.spring.identityadmin.domain.dto.UserTransferRow;
+import io.spring.identityadmin.domain.entity.QGroupRole;
+import io.spring.identityadmin.domain.entity.QUserGroup;
+import io.spring.identityadmin.domain.entity.QUsers;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    // 페이지에 해당하는 사용자만 먼저 고른 뒤 그룹 → 역할 → 권한을 조인하여 사용자당 한 행으로 집계
+    private static final String SNAPSHOT_SQL_TEMPLATE =
+            "WITH page AS (SELECT u.id, u.username, u.name FROM users u WHERE %s) " +
+            "SELECT page.id, page.username, page.name, " +
+            "  array_remove(array_agg(DISTINCT CASE WHEN starts_with(r.role_name, 'ROLE_') THEN r.role_name " +
+            "                                       ELSE 'ROLE_' || upper(r.role_name) END), NULL) AS roles, " +
+            "  array_remove(array_agg(DISTINCT upper(p.permission_name)), NULL) AS permissions " +
+            "FROM page " +
+            "LEFT JOIN user_groups ug ON ug.user_id = page.id " +
+            "LEFT JOIN group_roles gr ON gr.group_id = ug.group_id " +
+            "LEFT JOIN role r ON r.role_id = gr.role_id " +
+            "LEFT JOIN role_permissions rp ON rp.role_id = r.role_id " +
+            "LEFT JOIN permission p ON p.permission_id = rp.permission_id " +
+            "GROUP BY page.id, page.username, page.name " +
+            "ORDER BY page.id";
+
+    private static final String KEYSET_PAGE_FILTER = "u.id > ? ORDER BY u.id LIMIT ?";
+    private static final String KEYSET_PAGE_BY_IDS_FILTER = "u.id > ? AND u.id = ANY(?) ORDER BY u.id LIMIT ?";
+    private static final String USERNAMES_FILTER = "u.username = ANY(?)";
+
+    private static final int SCAN_FETCH_SIZE = 10_000;
+
+    private static final String USER_GROUP_IDS_SQL =
+            "SELECT ug.group_id FROM users u LEFT JOIN user_groups ug ON ug.user_id = u.id WHERE u.id = ?";
+
+    private static final String SUMMARIES_BY_IDS_SQL =
+            "SELECT id, username, name FROM users WHERE id = ANY(?) ORDER BY id";
+
+    private static final String USER_IDS_WITH_ROLE_SQL =
+            "SELECT DISTINCT ug.user_id FROM user_groups ug " +
+            "JOIN group_roles gr ON gr.group_id = ug.group_id " +
+            "JOIN role r ON r.role_id = gr.role_id " +
+            "WHERE r.role_name = ? ORDER BY ug.user_id";
+
+    private static final String SECURITY_FLAGS_SQL =
+            "SELECT u.id, u.mfa_enabled, EXISTS (" +
+            "  SELECT 1 FROM user_groups ug " +
+            "  JOIN group_roles gr ON gr.group_id = ug.group_id " +
+            "  JOIN role r ON r.role_id = gr.role_id " +
+            "  WHERE ug.user_id = u.id AND r.role_name = ?) AS has_role " +
+            "FROM users u WHERE u.id = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String IDS_BY_USERNAMES_SQL = "SELECT username, id FROM users WHERE username = ANY(?)";
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, password, name, mfa_enabled) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (username) DO NOTHING";
+
+    private static final String UPDATE_USER_SQL =
+            "UPDATE users SET name = COALESCE(?, name), mfa_enabled = COALESCE(?, mfa_enabled), " +
+            "password = COALESCE(?, password) WHERE id = ?";
+
+    private static final String DELETE_MEMBERSHIPS_SQL = "DELETE FROM user_groups WHERE user_id = ANY(?)";
+
+    private static final String INSERT_MEMBERSHIP_SQL =
+            "INSERT INTO user_groups (user_id, group_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String TRANSFER_ROWS_SQL =
+            "SELECT u.username, u.name, u.mfa_enabled, " +
+            "  array_remove(array_agg(g.group_name ORDER BY g.group_name), NULL) AS group_names " +
+            "FROM users u " +
+            "LEFT JOIN user_groups ug ON ug.user_id = u.id " +
+            "LEFT JOIN app_group g ON g.group_id = ug.group_id " +
+            "GROUP BY u.id ORDER BY u.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<UserAuthoritySnapshot> findAuthoritySnapshots(long afterId, Collection<Long> userIds, int limit) {
+        boolean filtered = !CollectionUtils.isEmpty(userIds);
+        String sql = String.format(SNAPSHOT_SQL_TEMPLATE, filtered ? KEYSET_PAGE_BY_IDS_FILTER : KEYSET_PAGE_FILTER);
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            int index = 1;
+            ps.setLong(index++, afterId);
+            if (filtered) {
+                ps.setArray(index++, con.createArrayOf("bigint", userIds.toArray()));
+            }
+            ps.setInt(index, limit);
+            return ps;
+        }, (rs, rowNum) -> mapSnapshot(rs));
+    }
+
+    @Override
+    public List<UserAuthoritySnapshot> findAuthoritySnapshotsByUsernames(Collection<String> usernames) {
+        if (CollectionUtils.isEmpty(usernames)) return List.of();
+        String sql = String.format(SNAPSHOT_SQL_TEMPLATE, USERNAMES_FILTER);
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("varchar", usernames.toArray()));
+            return ps;
+        }, (rs, rowNum) -> mapSnapshot(rs));
+    }
+
+    @Override
+    public long countAuthoritySnapshots(Collection<Long> userIds) {
+        if (CollectionUtils.isEmpty(userIds)) {
+            Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+            return count != null ? count : 0L;
+        }
+        Long count = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT count(*) FROM users WHERE id = ANY(?)");
+            ps.setArray(1, con.createArrayOf("bigint", userIds.toArray()));
+            return ps;
+        }, rs -> rs.next() ? rs.getLong(1) : 0L);
+        return count != null ? count : 0L;
+    }
+
+    private UserAuthoritySnapshot mapSnapshot(ResultSet rs) throws SQLException {
+        Set<String> authorities = new HashSet<>();
+        addAll(authorities, rs.getArray("roles"));
+        addAll(authorities, rs.getArray("permissions"));
+        return new UserAuthoritySnapshot(
+                rs.getLong("id"),
+                rs.getString("username"),
+                rs.getString("name"),
+                Collections.unmodifiableSet(authorities));
+    }
+
+    private void addAll(Set<String> target, Array array) throws SQLException {
+        if (array == null) return;
+        for (Object value : (Object[]) array.getArray()) {
+            if (value != null) target.add((String) value);
+        }
+    }
+
+    @Override
+    public void scanUserIds(LongConsumer consumer) {
+        scan("SELECT id FROM users ORDER BY id", rs -> consumer.accept(rs.getLong(1)));
+    }
+
+    @Override
+    public void scanGroupMemberships(IdPairConsumer consumer) {
+        scan("SELECT user_id, group_id FROM user_groups ORDER BY user_id, group_id",
+                rs -> consumer.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    @Override
+    public Optional<long[]> findGroupIdsByUserId(long userId) {
+        List<Long> rows = jdbcTemplate.query(USER_GROUP_IDS_SQL, (rs, rowNum) -> {
+            long groupId = rs.getLong(1);
+            return rs.wasNull() ? null : groupId;
+        }, userId);
+        if (rows.isEmpty()) return Optional.empty();
+        // 소속 그룹이 없는 사용자는 LEFT JOIN 으로 group_id 가 null 인 한 행이 조회됩니다.
+        return Optional.of(rows.stream().filter(Objects::nonNull).mapToLong(Long::longValue).toArray());
+    }
+
+    @Override
+    public List<UserSummaryDto> findSummariesByIds(long[] userIds) {
+        if (userIds == null || userIds.length == 0) return List.of();
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SUMMARIES_BY_IDS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", LongStream.of(userIds).boxed().toArray()));
+            return ps;
+        }, (rs, rowNum) -> new UserSummaryDto(rs.getLong("id"), rs.getString("username"), rs.getString("name")));
+    }
+
+    @Override
+    public void scanMfaDisabledUserIds(LongConsumer consumer) {
+        scan("SELECT id FROM users WHERE NOT mfa_enabled ORDER BY id", rs -> consumer.accept(rs.getLong(1)));
+    }
+
+    @Override
+    public void scanUserIdsWithRole(String roleName, LongConsumer consumer) {
+        scan(USER_IDS_WITH_ROLE_SQL, rs -> consumer.accept(rs.getLong(1)), roleName);
+    }
+
+    @Override
+    public Optional<UserSecurityFlags> findSecurityFlags(long userId, String roleName) {
+        return jdbcTemplate.query(SECURITY_FLAGS_SQL,
+                (rs, rowNum) -> new UserSecurityFlags(rs.getLong("id"), rs.getBoolean("mfa_enabled"), rs.getBoolean("has_role")),
+                roleName, userId).stream().findFirst();
+    }
+
+    private void scan(String sql, RowCallbackHandler handler, Object... args) {
+        // PostgreSQL 은 auto-commit 이 꺼진 연결에서 fetchSize 가 지정되어야 서버 측 커서로 나누어 읽습니다.
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(SCAN_FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, handler);
+    }
+
+    @Override
+    public List<UserListDto> findUserListPage(Long afterId, int limit) {
+        QUsers user = QUsers.users;
+        QUserGroup userGroup = QUserGroup.userGroup;
+        QGroupRole groupRole = QGroupRole.groupRole;
+        return queryFactory
+                .select(Projections.fields(UserListDto.class,
+                        user.id, user.name, user.username, user.mfaEnabled,
+                        ExpressionUtils.as(JPAExpressions.select(userGroup.count().intValue())
+                                .from(userGroup)
+                                .where(userGroup.user.id.eq(user.id)), "groupCount"),
+                        ExpressionUtils.as(JPAExpressions.select(groupRole.role.id.countDistinct().intValue())
+                                .from(userGroup, groupRole)
+                                .where(userGroup.user.id.eq(user.id), groupRole.group.id.eq(userGroup.group.id)), "roleCount")))
+                .from(user)
+                .where(afterId != null ? user.id.gt(afterId) : null)
+                .orderBy(user.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<String, Long> findIdsByUsernames(Collection<String> usernames) {
+        Map<String, Long> ids = new HashMap<>();
+        if (CollectionUtils.isEmpty(usernames)) return ids;
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(IDS_BY_USERNAMES_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", usernames.toArray()));
+            return ps;
+        }, (RowCallbackHandler) rs -> ids.put(rs.getString(1), rs.getLong(2)));
+        return ids;
+    }
+
+    @Override
+    public Set<String> insertAll(Collection<UserTransferRow> users) {
+        Set<String> skipped = new HashSet<>();
+        if (users.isEmpty()) return skipped;
+        List<UserTransferRow> ordered = new ArrayList<>(users);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_USER_SQL, ordered, BATCH_SIZE, (ps, user) -> {
+            ps.setString(1, user.username());
+            ps.setString(2, user.password());
+            ps.setString(3, user.name());
+            ps.setBoolean(4, Boolean.TRUE.equals(user.mfaEnabled()));
+        });
+        // ON CONFLICT DO NOTHING 으로 건너뛴 행은 0 을 돌려받습니다. (드라이버가 SUCCESS_NO_INFO 를 돌려주면 생성된 것으로 봅니다.)
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) skipped.add(ordered.get(index).username());
+                index++;
+            }
+        }
+        return skipped;
+    }
+
+    @Override
+    public void updateAll(Map<Long, UserTransferRow> usersById) {
+        if (usersById.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_USER_SQL, usersById.entrySet(), BATCH_SIZE, (ps, entry) -> {
+            UserTransferRow user = entry.getValue();
+            ps.setString(1, user.name());
+            if (user.mfaEnabled() != null) {
+                ps.setBoolean(2, user.mfaEnabled());
+            } else {
+                ps.setNull(2, Types.BOOLEAN);
+            }
+            ps.setString(3, user.password());
+            ps.setLong(4, entry.getKey());
+        });
+    }
+
+    @Override
+    public void replaceGroupMemberships(Map<Long, long[]> groupIdsByUserId) {
+        if (groupIdsByUserId.isEmpty()) return;
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_MEMBERSHIPS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", groupIdsByUserId.keySet().toArray()));
+            return ps;
+        });
+        List<long[]> memberships = new ArrayList<>();
+        groupIdsByUserId.forEach((userId, groupIds) -> {
+            for (long groupId : groupIds) {
+                memberships.add(new long[]{userId, groupId});
+            }
+        });
+        jdbcTemplate.batchUpdate(INSERT_MEMBERSHIP_SQL, memberships, BATCH_SIZE, (ps, membership) -> {
+            ps.setLong(1, membership[0]);
+            ps.setLong(2, membership[1]);
+        });
+    }
+
+    @Override
+    public void scanTransferRows(Consumer<UserTransferRow> consumer) {
+        scan(TRANSFER_ROWS_SQL, rs -> {
+            List<String> groups = new ArrayList<>();
+            Array groupNames = rs.getArray("group_names");
+            if (groupNames != null) {
+                for (Object name : (Object[]) groupNames.getArray()) {
+                    groups.add((String) name);
+                }
+            }
+            consumer.accept(new UserTransferRow(rs.getString("username"), rs.getString("name"), null,
+                    rs.getBoolean("mfa_enabled"), groups));
+        });
+    }
+}
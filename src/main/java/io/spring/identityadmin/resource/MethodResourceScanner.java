@@ -5,70 +5,125 @@ import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.support.AopUtils;
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.data.repository.Repository;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 애플리케이션 빈의 public 메서드를 METHOD 리소스로 스캔합니다.
+ * 빈을 생성하지 않고 빈 정의의 타입만 조회하며, 컴파일 시점에 생성된 리소스 매니페스트에 있는 클래스는
+ * 리플렉션 없이 매니페스트 정보를 사용합니다. 매니페스트에 없는 클래스만 리플렉션으로 스캔합니다.
+ * 이미 생성된 싱글톤은 인스턴스에서 AOP 대상 클래스를 구하므로 JDK 동적 프록시로 감싼 빈도 구체 클래스로 스캔합니다.
+ * 빈 정의의 타입은 Spring Data 리포지토리 인터페이스나 프록시일 수 있으므로, 애플리케이션이 직접 작성한 구체 클래스만 스캔합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MethodResourceScanner implements ResourceScanner {
 
-    private final ApplicationContext applicationContext;
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final ResourceManifest resourceManifest;
 
     @Override
     public List<ManagedResource> scan() {
         List<ManagedResource> resources = new ArrayList<>();
-        String[] beanNames = applicationContext.getBeanDefinitionNames();
+        Set<Class<?>> scannedClasses = new HashSet<>();
+        int reflectedClassCount = 0;
+        String[] beanNames = beanFactory.getBeanDefinitionNames();
 
         for (String beanName : beanNames) {
-            Object bean = applicationContext.getBean(beanName);
-            Class<?> beanClass = AopUtils.getTargetClass(bean);
-
-            if (!beanClass.getPackageName().startsWith("io.spring.identityadmin")) continue;
-
-            for (Method method : beanClass.getDeclaredMethods()) {
-                if (!Modifier.isPublic(method.getModifiers())) continue;
-
-                String params = Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).collect(Collectors.joining(","));
-                String identifier = String.format("%s.%s", beanClass.getName(), method.getName());
-
-                Operation operation = method.getAnnotation(Operation.class);
-                String friendlyName;
-                String description;
-                boolean isDefined;
-
-                // [최종 수정] @Operation 존재 여부로 isDefined 필드를 명확하게 설정
-                if (operation != null && !operation.summary().isEmpty()) {
-                    friendlyName = operation.summary();
-                    description = operation.description();
-                    isDefined = true;
-                } else {
-                    friendlyName = method.getName();
-                    description = "개발자는 코드에 @Operation 어노테이션을 추가하여 이 메서드의 비즈니스 용도를 명시해야 합니다.";
-                    isDefined = false;
-                }
-
-                resources.add(ManagedResource.builder()
-                        .resourceIdentifier(identifier)
-                        .resourceType(ManagedResource.ResourceType.METHOD)
-                        .friendlyName(friendlyName)
-                        .description(description)
-                        .serviceOwner(beanClass.getSimpleName())
-                        .parameterTypes(params)
-                        .returnType(method.getReturnType().getSimpleName())
-                        .isManaged(operation != null)
-                        .isDefined(isDefined)
-                        .build());
+            Class<?> beanClass = resolveBeanClass(beanName);
+            if (beanClass == null) continue;
+
+            if (!isApplicationClass(beanClass)) continue;
+            if (!scannedClasses.add(beanClass)) continue;
+
+            Optional<List<ManagedResource>> manifestResources = resourceManifest.findMethodResources(beanClass);
+            if (manifestResources.isPresent()) {
+                resources.addAll(manifestResources.get());
+            } else {
+                resources.addAll(reflect(beanClass));
+                reflectedClassCount++;
             }
         }
-        log.info("Successfully scanned and discovered {} METHOD resources.", resources.size());
+        log.info("Successfully scanned and discovered {} METHOD resources ({} classes via manifest, {} via reflection).",
+                resources.size(), scannedClasses.size() - reflectedClassCount, reflectedClassCount);
+        return resources;
+    }
+
+    /**
+     * 이미 생성된 싱글톤이면 프록시를 벗긴 대상 클래스를, 아니면 빈을 생성하지 않고 빈 정의에서 예측한 타입을 반환합니다.
+     * FactoryBean 은 인스턴스가 아니라 생성하는 객체의 타입을 사용해야 하므로 빈 정의의 타입으로 판단합니다.
+     */
+    private Class<?> resolveBeanClass(String beanName) {
+        Object singleton = beanFactory.containsSingleton(beanName) ? beanFactory.getSingleton(beanName) : null;
+        if (singleton != null && !(singleton instanceof FactoryBean)) {
+            return ClassUtils.getUserClass(AopUtils.getTargetClass(singleton));
+        }
+        Class<?> beanType = beanFactory.getType(beanName, false);
+        return beanType == null ? null : ClassUtils.getUserClass(beanType);
+    }
+
+    /**
+     * 인터페이스(리포지토리 등), JDK·CGLIB 프록시, Spring Data 리포지토리, 프레임워크 패키지의 클래스를 제외합니다.
+     */
+    private boolean isApplicationClass(Class<?> beanClass) {
+        return !beanClass.isInterface()
+                && !Proxy.isProxyClass(beanClass)
+                && !beanClass.getName().contains(ClassUtils.CGLIB_CLASS_SEPARATOR)
+                && !Repository.class.isAssignableFrom(beanClass)
+                && beanClass.getPackageName().startsWith("io.spring.identityadmin");
+    }
+
+    private List<ManagedResource> reflect(Class<?> beanClass) {
+        List<ManagedResource> resources = new ArrayList<>();
+        for (Method method : beanClass.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers()) || method.isSynthetic()) continue;
+
+            String params = Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).collect(Collectors.joining(","));
+            String identifier = String.format("%s.%s", beanClass.getName(), method.getName());
+
+            Operation operation = method.getAnnotation(Operation.class);
+            String friendlyName;
+            String description;
+            boolean isDefined;
+
+            // [최종 수정] @Operation 존재 여부로 isDefined 필드를 명확하게 설정
+            if (operation != null && !operation.summary().isEmpty()) {
+                friendlyName = operation.summary();
+                description = operation.description();
+                isDefined = true;
+            } else {
+                friendlyName = method.getName();
+                description = "개발자는 코드에 @Operation 어노테이션을 추가하여 이 메서드의 비즈니스 용도를 명시해야 합니다.";
+                isDefined = false;
+            }
+
+            resources.add(ManagedResource.builder()
+                    .resourceIdentifier(identifier)
+                    .resourceType(ManagedResource.ResourceType.METHOD)
+                    .friendlyName(friendlyName)
+                    .description(description)
+                    .serviceOwner(beanClass.getSimpleName())
+                    .parameterTypes(params)
+                    .returnType(method.getReturnType().getSimpleName())
+                    .isManaged(operation != null)
+                    .isDefined(isDefined)
+                    .build());
+        }
         return resources;
     }
 
@@ -12,13 +12,17 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 import org.springframework.web.util.pattern.PathPattern;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * [최종 수정] @SecuredResource 의존성을 완전히 제거하고, 모든 @RequestMapping 계열 엔드포인트를 스캔합니다.
  * 리소스의 이름과 설명은 API 문서 표준인 @Operation 어노테이션을 활용합니다.
+ * 컴파일 시점에 생성된 리소스 매니페스트에 있는 컨트롤러는 매니페스트 정보를 사용하고,
+ * 매니페스트에 없는 컨트롤러의 핸들러 메서드만 리플렉션으로 분석합니다.
  */
 @Slf4j
 @Component
@@ -26,19 +30,32 @@ import java.util.Set;
 public class MvcResourceScanner implements ResourceScanner {
 
     private final RequestMappingHandlerMapping handlerMapping;
+    private final ResourceManifest resourceManifest;
 
     @Override
     public List<ManagedResource> scan() {
         final List<ManagedResource> resources = new ArrayList<>();
         final Map<RequestMappingInfo, HandlerMethod> handlerMethods = handlerMapping.getHandlerMethods();
+        // 컨트롤러 클래스별 매니페스트 조회 결과 (매니페스트에 없으면 Optional.empty())
+        final Map<Class<?>, Optional<List<ManagedResource>>> manifestByController = new HashMap<>();
+        int reflectedCount = 0;
 
         for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMethods.entrySet()) {
             final RequestMappingInfo mappingInfo = entry.getKey();
             final HandlerMethod handlerMethod = entry.getValue();
+            final Class<?> beanType = handlerMethod.getBeanType();
+
+            if (!beanType.getPackageName().startsWith("io.spring.identityadmin")) continue;
+            if (!manifestByController.containsKey(beanType)) {
+                Optional<List<ManagedResource>> manifestResources = resourceManifest.findUrlResources(beanType);
+                manifestByController.put(beanType, manifestResources);
+                manifestResources.ifPresent(resources::addAll);
+            }
+            if (manifestByController.get(beanType).isPresent()) continue;
 
             PathPatternsRequestCondition pathPatternsCondition = mappingInfo.getPathPatternsCondition();
             if (pathPatternsCondition == null || pathPatternsCondition.getPatterns().isEmpty()) continue;
-            if (!handlerMethod.getBeanType().getPackageName().startsWith("io.spring.identityadmin")) continue;
+            reflectedCount++;
 
             final String urlPattern = pathPatternsCondition.getPatterns().stream().findFirst().get().getPatternString();
             final String httpMethod = mappingInfo.getMethodsCondition().getMethods().stream()
@@ -71,7 +88,8 @@ public class MvcResourceScanner implements ResourceScanner {
                     .build());
         }
 
-        log.info("Successfully scanned and discovered {} URL resources.", resources.size());
+        log.info("Successfully scanned and discovered {} URL resources ({} handler methods via reflection).",
+                resources.size(), reflectedCount);
         return resources;
     }
 
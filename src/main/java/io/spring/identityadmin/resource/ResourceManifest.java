@@ -0,0 +1,132 @@
+package io.spring.identityadmin.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.identityadmin.domain.entity.ManagedResource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * resource-manifest-processor 가 컴파일 시점에 생성한 리소스 매니페스트를 읽어 제공합니다.
+ * 스캐너는 매니페스트에 기록된 클래스에 대해서는 리플렉션 없이 이 정보를 사용하고,
+ * 매니페스트에 없는 클래스(예: @Bean 메서드로 등록된 빈, 매니페스트 생성 이후 추가된 클래스)만 리플렉션으로 스캔합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceManifest {
+
+    public static final String MANIFEST_LOCATION = "META-INF/identity-admin/resource-manifest.json";
+
+    static final String UNDEFINED_METHOD_DESCRIPTION = "개발자는 코드에 @Operation 어노테이션을 추가하여 이 메서드의 비즈니스 용도를 명시해야 합니다.";
+    static final String UNDEFINED_URL_DESCRIPTION = "개발자는 코드에 @Operation 어노테이션을 추가하여 이 리소스의 비즈니스 용도를 명시해야 합니다.";
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Map<String, List<JsonNode>> entriesByClass;
+
+    /**
+     * 주어진 클래스에 대해 매니페스트에 기록된 METHOD 리소스 목록을 반환합니다.
+     * @return 매니페스트에 클래스가 없으면 Optional.empty() (호출자는 리플렉션으로 대체해야 함)
+     */
+    public Optional<List<ManagedResource>> findMethodResources(Class<?> beanClass) {
+        return find(beanClass, ManagedResource.ResourceType.METHOD);
+    }
+
+    /**
+     * 주어진 컨트롤러 클래스에 대해 매니페스트에 기록된 URL 리소스 목록을 반환합니다.
+     * @return 매니페스트에 클래스가 없으면 Optional.empty() (호출자는 리플렉션으로 대체해야 함)
+     */
+    public Optional<List<ManagedResource>> findUrlResources(Class<?> beanClass) {
+        return find(beanClass, ManagedResource.ResourceType.URL);
+    }
+
+    private Optional<List<ManagedResource>> find(Class<?> beanClass, ManagedResource.ResourceType resourceType) {
+        List<JsonNode> entries = entries().get(beanClass.getName());
+        if (entries == null) return Optional.empty();
+
+        List<ManagedResource> resources = new ArrayList<>();
+        for (JsonNode entry : entries) {
+            if (!resourceType.name().equals(entry.path("resourceType").asText())) continue;
+            resources.add(toManagedResource(entry, resourceType, beanClass.getSimpleName()));
+        }
+        return Optional.of(resources);
+    }
+
+    private ManagedResource toManagedResource(JsonNode entry, ManagedResource.ResourceType resourceType, String serviceOwner) {
+        boolean operationPresent = entry.path("operationPresent").asBoolean(false);
+        String summary = entry.path("summary").asText("");
+        boolean isDefined = operationPresent && !summary.isEmpty();
+
+        ManagedResource.ManagedResourceBuilder builder = ManagedResource.builder()
+                .resourceIdentifier(entry.path("resourceIdentifier").asText())
+                .resourceType(resourceType)
+                .friendlyName(isDefined ? summary : entry.path("methodName").asText())
+                .description(isDefined ? entry.path("description").asText("")
+                        : resourceType == ManagedResource.ResourceType.URL ? UNDEFINED_URL_DESCRIPTION : UNDEFINED_METHOD_DESCRIPTION)
+                .serviceOwner(serviceOwner)
+                .isManaged(operationPresent)
+                .isDefined(isDefined);
+
+        if (resourceType == ManagedResource.ResourceType.URL) {
+            builder.httpMethod(toHttpMethod(entry.path("httpMethod").asText("ANY")));
+        } else {
+            builder.parameterTypes(entry.path("parameterTypes").asText(""))
+                    .returnType(entry.path("returnType").asText(""));
+        }
+        return builder.build();
+    }
+
+    private ManagedResource.HttpMethod toHttpMethod(String httpMethod) {
+        try {
+            return ManagedResource.HttpMethod.valueOf(httpMethod.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ManagedResource.HttpMethod.ANY;
+        }
+    }
+
+    private Map<String, List<JsonNode>> entries() {
+        Map<String, List<JsonNode>> loaded = entriesByClass;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = entriesByClass;
+                if (loaded == null) {
+                    loaded = load();
+                    entriesByClass = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private Map<String, List<JsonNode>> load() {
+        ClassPathResource resource = new ClassPathResource(MANIFEST_LOCATION);
+        if (!resource.exists()) {
+            log.info("Resource manifest not found on classpath. Scanners will fall back to reflection.");
+            return Map.of();
+        }
+        Map<String, List<JsonNode>> result = new HashMap<>();
+        try (InputStream in = resource.getInputStream()) {
+            for (JsonNode classNode : objectMapper.readTree(in).path("classes")) {
+                List<JsonNode> entries = new ArrayList<>();
+                classNode.path("resources").forEach(entries::add);
+                result.put(classNode.path("className").asText(), entries);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read resource manifest. Scanners will fall back to reflection.", e);
+            return Map.of();
+        }
+        log.info("Loaded resource manifest for {} classes.", result.size());
+        return result;
+    }
+}
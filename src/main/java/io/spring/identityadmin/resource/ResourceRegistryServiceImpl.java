@@ -4,7 +4,9 @@ import io.spring.identityadmin.admin.metadata.service.PermissionCatalogService;
 import io.spring.identityadmin.domain.dto.ResourceMetadataDto;
 import io.spring.identityadmin.domain.dto.ResourceSearchCriteria;
 import io.spring.identityadmin.domain.entity.ManagedResource;
+import io.spring.identityadmin.domain.entity.ResourceSyncState;
 import io.spring.identityadmin.repository.ManagedResourceRepository;
+import io.spring.identityadmin.repository.ResourceSyncStateRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,8 +15,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -23,14 +32,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ResourceRegistryServiceImpl implements ResourceRegistryService {
 
+    private static final String SYNC_KEY = "RESOURCE_SCAN";
+
     private final List<ResourceScanner> scanners;
     private final ManagedResourceRepository managedResourceRepository;
     private final PermissionCatalogService permissionCatalogService;
+    private final ResourceSyncStateRepository resourceSyncStateRepository;
 
 
     /**
      * [최종 구현] refreshResources 로직을 통합하여, 리소스 스캔, 저장, 권한 동기화를
      * 하나의 트랜잭션으로 완벽하게 처리합니다.
+     * 스캔 결과의 지문이 마지막 동기화 때와 같으면 아무 작업도 하지 않으며,
+     * 다르면 신규/변경/제거된 리소스만 집합 단위 SQL로 반영하고 변경분만 권한 카탈로그에 전달합니다.
      */
     @Override
     @Transactional
@@ -46,37 +60,92 @@ public class ResourceRegistryServiceImpl implements ResourceRegistryService {
                         (existing, replacement) -> existing // 중복 키 발생 시 기존 값 유지
                 ));
 
-        // 2. DB에 이미 존재하는 리소스와 비교하여 신규/업데이트 대상 선정
+        // 2. 지난 동기화와 스캔 결과가 동일하면 전체 과정을 건너뜀
+        String fingerprint = fingerprint(discoveredResourcesMap.values());
+        ResourceSyncState syncState = resourceSyncStateRepository.findById(SYNC_KEY)
+                .orElseGet(() -> ResourceSyncState.create(SYNC_KEY));
+        if (fingerprint.equals(syncState.getFingerprint())) {
+            log.info("Resource fingerprint unchanged ({} resources). Skipping synchronization.", discoveredResourcesMap.size());
+            return;
+        }
+
+        // 3. DB에 이미 존재하는 리소스와 비교하여 신규/변경/제거 대상 선정
         Map<String, ManagedResource> existingResourcesMap = managedResourceRepository.findAll().stream()
                 .collect(Collectors.toMap(ManagedResource::getResourceIdentifier, Function.identity()));
 
-        List<ManagedResource> resourcesToSave = discoveredResourcesMap.values().stream()
-                .map(discovered -> {
+        List<ManagedResource> changedResources = discoveredResourcesMap.values().stream()
+                .filter(discovered -> {
                     ManagedResource existing = existingResourcesMap.get(discovered.getResourceIdentifier());
-                    if (existing != null) {
-                        // 기존 리소스가 있으면, 스캔된 정보(@Operation의 summary, description)로 업데이트
-                        existing.setFriendlyName(discovered.getFriendlyName());
-                        existing.setDescription(discovered.getDescription());
-                        existing.setServiceOwner(discovered.getServiceOwner());
-                        return existing;
-                    } else {
-                        // 새로운 리소스면 그대로 반환
-                        return discovered;
-                    }
+                    return existing == null || !sameScannedState(existing, discovered);
                 })
-                .collect(Collectors.toList());
+                .toList();
+        List<String> removedIdentifiers = existingResourcesMap.values().stream()
+                .filter(existing -> existing.isDefined() && !discoveredResourcesMap.containsKey(existing.getResourceIdentifier()))
+                .map(ManagedResource::getResourceIdentifier)
+                .toList();
 
-        // 3. 신규/업데이트된 ManagedResource를 DB에 저장
-        managedResourceRepository.saveAll(resourcesToSave);
-        log.info("{} ManagedResources have been saved or updated.", resourcesToSave.size());
+        // 4. 변경분만 집합 단위로 반영 (배치 upsert, 제거된 리소스는 단일 UPDATE로 미정의 처리)
+        managedResourceRepository.upsertAll(changedResources);
+        long undefinedCount = managedResourceRepository.markUndefined(removedIdentifiers);
+        log.info("{} ManagedResources inserted or updated, {} marked as undefined.", changedResources.size(), undefinedCount);
 
-        // 4. 저장된 최신 리소스 목록 전체를 권한 카탈로그 서비스에 전달하여 Permission 테이블과 동기화
-        List<ManagedResource> allLatestResources = managedResourceRepository.findAll();
-        permissionCatalogService.synchronize(allLatestResources);
+        // 5. 신규/변경된 리소스만 권한 카탈로그 서비스에 전달하여 Permission 테이블과 동기화
+        if (!changedResources.isEmpty()) {
+            List<ManagedResource> latestChangedResources = managedResourceRepository.findAllByResourceIdentifierIn(
+                    changedResources.stream().map(ManagedResource::getResourceIdentifier).toList());
+            permissionCatalogService.synchronize(latestChangedResources);
+        }
 
+        syncState.record(fingerprint, discoveredResourcesMap.size());
+        resourceSyncStateRepository.save(syncState);
         log.info("Resource scanning and permission synchronization process completed successfully.");
     }
 
+    /**
+     * 스캐너가 코드에서 읽어내는 필드들이 DB의 값과 모두 같은지 비교합니다.
+     * 관리자가 변경하는 isManaged 값은 비교 대상에서 제외합니다.
+     */
+    private boolean sameScannedState(ManagedResource existing, ManagedResource discovered) {
+        return existing.getResourceType() == discovered.getResourceType()
+                && existing.getHttpMethod() == discovered.getHttpMethod()
+                && existing.isDefined() == discovered.isDefined()
+                && Objects.equals(existing.getFriendlyName(), discovered.getFriendlyName())
+                && Objects.equals(existing.getDescription(), discovered.getDescription())
+                && Objects.equals(existing.getServiceOwner(), discovered.getServiceOwner())
+                && Objects.equals(existing.getParameterTypes(), discovered.getParameterTypes())
+                && Objects.equals(existing.getReturnType(), discovered.getReturnType());
+    }
+
+    /**
+     * 식별자 순으로 정렬된 스캔 결과 전체에 대한 SHA-256 지문을 계산합니다.
+     */
+    private String fingerprint(Collection<ManagedResource> resources) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+        resources.stream()
+                .sorted(Comparator.comparing(ManagedResource::getResourceIdentifier))
+                .forEach(resource -> {
+                    String line = String.join("\u001F",
+                            resource.getResourceIdentifier(),
+                            String.valueOf(resource.getResourceType()),
+                            String.valueOf(resource.getHttpMethod()),
+                            String.valueOf(resource.getFriendlyName()),
+                            String.valueOf(resource.getDescription()),
+                            String.valueOf(resource.getServiceOwner()),
+                            String.valueOf(resource.getParameterTypes()),
+                            String.valueOf(resource.getReturnType()),
+                            String.valueOf(resource.isManaged()),
+                            String.valueOf(resource.isDefined()));
+                    digest.update(line.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) '\n');
+                });
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     @Override
     @Transactional
     public void updateResource(Long id, ResourceMetadataDto metadataDto) {
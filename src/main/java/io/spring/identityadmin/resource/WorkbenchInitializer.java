@@ -1,53 +1,45 @@
 package io.spring.identityadmin.resource;
 
-import io.spring.identityadmin.domain.entity.policy.Policy;
-import io.spring.identityadmin.security.xacml.pap.service.PolicyEnrichmentService;
+import io.spring.identityadmin.security.xacml.pap.service.PolicyEnrichmentQueue;
 import io.spring.identityadmin.repository.PolicyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 /**
- * 애플리케이션이 완전히 시작된 후, '통합 워크벤치'에 필요한 초기화 작업을 수행합니다.
- * 이 클래스는 리소스 자동 스캔 및 DB 등록을 보장하는 핵심적인 역할을 합니다.
+ * 애플리케이션이 시작된 후, '통합 워크벤치'에 필요한 초기화 작업을 수행합니다.
+ * 리소스 자동 스캔 및 DB 등록, 정책 설명 보강은 관리 화면 전용 데이터이므로
+ * 트래픽 수신을 막지 않는 BACKGROUND 시작 작업으로 실행됩니다. (StartupConfig 참고)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class WorkbenchInitializer implements ApplicationRunner {
+public class WorkbenchInitializer {
 
     private final ResourceRegistryService resourceRegistryService;
     private final PolicyRepository policyRepository;
-    private final PolicyEnrichmentService policyEnrichmentService;
+    private final PolicyEnrichmentQueue policyEnrichmentQueue;
 
-    @Override
-    public void run(ApplicationArguments args) throws Exception {
+    public void synchronizeResources() {
         log.info("IAM Command Center: Starting resource synchronization on application startup...");
-        try {
-            resourceRegistryService.refreshAndSynchronizePermissions();
-            log.info("IAM Command Center: Resource synchronization completed successfully.");
-            log.info("Checking for policies without friendly descriptions...");
-
-            // 설명이 없는 정책들만 조회
-            List<Policy> policiesToUpdate = policyRepository.findByFriendlyDescriptionIsNull();
-
-            if (policiesToUpdate.isEmpty()) {
-                log.info("All policies have friendly descriptions. No updates needed.");
-                return;
-            }
-
-            log.info("Found {} policies to enrich. Starting process...", policiesToUpdate.size());
-            for (Policy policy : policiesToUpdate) {
-                policyEnrichmentService.enrichPolicyWithFriendlyDescription(policy);
-                policyRepository.save(policy);
-            }
-            log.info("Policy enrichment process completed.");
-        } catch (Exception e) {
-            log.error("IAM Command Center: Failed to initialize resources on startup.", e);
+        resourceRegistryService.refreshAndSynchronizePermissions();
+        log.info("IAM Command Center: Resource synchronization completed successfully.");
+    }
+
+    public void enrichPolicies() {
+        log.info("Checking for policies without friendly descriptions...");
+
+        // 설명이 없는 정책들의 ID만 조회하여 비동기 설명 생성 큐에 등록
+        List<Long> policyIdsToEnrich = policyRepository.findIdsByFriendlyDescriptionIsNull();
+
+        if (policyIdsToEnrich.isEmpty()) {
+            log.info("All policies have friendly descriptions. No updates needed.");
+            return;
         }
+
+        policyEnrichmentQueue.enqueueAll(policyIdsToEnrich);
+        log.info("Queued {} policies for friendly description enrichment.", policyIdsToEnrich.size());
     }
 }
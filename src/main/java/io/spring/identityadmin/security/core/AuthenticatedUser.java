@@ -0,0 +1,200 @@
+package io.spring.identityadmin.security.core;
+
+import io.spring.identityadmin.security.core.auth.AuthorityRegistry;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SecurityContext 에 보관하는 불변 인증 주체.
+ * 엔티티 그래프나 권한 객체 대신 사용자 id, 사용자명, 오름차순 권한 id 배열(AuthorityRegistry 참고)과 로그인 시점의 권한 세대만 가지며,
+ * 권한 객체는 {@link #getAuthorities()} 를 처음 호출할 때 AuthorityRegistry 에서 공유 목록을 받아옵니다.
+ * <p>
+ * 직렬화는 CompactForm 으로 대체되어 권한 id 를 차분 varint 로 기록하므로, 세션 저장·복제 크기가 권한 수 × 수 byte 수준입니다.
+ */
+public final class AuthenticatedUser implements AuthenticatedPrincipal, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long id;
+    private final String username;
+    private final int[] authorityIds;
+    private final long generation;
+
+    private transient volatile List<GrantedAuthority> authorities;
+    private transient volatile long materializedGeneration = -1;
+
+    /**
+     * @param authorityIds 오름차순으로 정렬된 권한 id 배열 (AuthorityRegistry#intern 결과). 복사 없이 사용됩니다.
+     * @param generation 권한 id 를 만든 시점의 AuthorityRegistry 세대
+     */
+    public AuthenticatedUser(long id, String username, int[] authorityIds, long generation) {
+        this.id = id;
+        this.username = username;
+        this.authorityIds = authorityIds;
+        this.generation = generation;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int[] getAuthorityIds() {
+        return authorityIds.clone();
+    }
+
+    /**
+     * 권한 객체 목록. 역할·권한 정의가 바뀌어 AuthorityRegistry 세대가 달라졌으면 새 정의로 다시 받아옵니다.
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        AuthorityRegistry registry = AuthorityRegistry.get();
+        long current = registry.generation();
+        List<GrantedAuthority> cached = authorities;
+        if (cached == null || materializedGeneration != current) {
+            cached = registry.materialize(authorityIds);
+            authorities = cached;
+            materializedGeneration = current;
+        }
+        return cached;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AuthenticatedUser that)) return false;
+        return id == that.id && username.equals(that.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id) * 31 + username.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{id=" + id + ", username='" + username + "', authorities=" + authorityIds.length + "}";
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new CompactForm(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("AuthenticatedUser is serialized through CompactForm.");
+    }
+
+    /**
+     * AuthenticatedUser 의 직렬화 형식: 버전(byte), id(long), 사용자명(UTF), 세대(long), 권한 수(varint),
+     * 첫 권한 id(zigzag varint), 이후 직전 id 와의 차이(varint).
+     */
+    static final class CompactForm implements Externalizable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private static final byte VERSION = 1;
+        /** 역직렬화할 권한 수의 상한. 손상되거나 조작된 입력이 배열 할당으로 메모리를 소진하지 않게 합니다. */
+        private static final int MAX_AUTHORITIES = 65_536;
+
+        private AuthenticatedUser user;
+
+        public CompactForm() {
+        }
+
+        CompactForm(AuthenticatedUser user) {
+            this.user = user;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeByte(VERSION);
+            out.writeLong(user.id);
+            out.writeUTF(user.username);
+            out.writeLong(user.generation);
+            int[] ids = user.authorityIds;
+            writeVarInt(out, ids.length);
+            int previous = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0) {
+                    writeVarInt(out, (ids[0] << 1) ^ (ids[0] >> 31));
+                } else {
+                    writeVarInt(out, ids[i] - previous);
+                }
+                previous = ids[i];
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new InvalidObjectException("Unsupported AuthenticatedUser format version: " + version);
+            }
+            long id = in.readLong();
+            String username = in.readUTF();
+            long generation = in.readLong();
+            int count = readVarInt(in);
+            if (count < 0 || count > MAX_AUTHORITIES) {
+                throw new InvalidObjectException("Invalid authority count in AuthenticatedUser: " + count);
+            }
+            int[] ids = new int[count];
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0) {
+                    int zigzag = readVarInt(in);
+                    ids[0] = (zigzag >>> 1) ^ -(zigzag & 1);
+                } else {
+                    ids[i] = ids[i - 1] + readVarInt(in);
+                }
+            }
+            this.user = new AuthenticatedUser(id, username, ids, generation);
+        }
+
+        @Serial
+        private Object readResolve() {
+            return user;
+        }
+
+        private static void writeVarInt(ObjectOutput out, int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+
+        private static int readVarInt(ObjectInput in) throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = in.readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new InvalidObjectException("Malformed varint in AuthenticatedUser.");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.spring.identityadmin.security.core;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * AuthenticatedUser 를 주체로 하는 인증 완료 토큰.
+ * 권한 목록을 필드로 두지 않고 주체에게 위임하며, 직렬화 시에는 주체만 기록합니다 (인증 상세 정보는 세션에 남기지 않습니다).
+ */
+public class AuthenticatedUserToken extends AbstractAuthenticationToken {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final AuthenticatedUser principal;
+
+    public AuthenticatedUserToken(AuthenticatedUser principal) {
+        super(List.of());
+        this.principal = principal;
+        super.setAuthenticated(true);
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return principal.getUsername();
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (!authenticated) {
+            super.setAuthenticated(false);
+            return;
+        }
+        throw new IllegalArgumentException("AuthenticatedUserToken is created authenticated; use the constructor instead.");
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedForm(principal, isAuthenticated());
+    }
+
+    /**
+     * 토큰의 직렬화 형식. 주체(AuthenticatedUser.CompactForm)만 기록하고 역직렬화 시 인증 완료 토큰으로 되돌립니다.
+     */
+    private record SerializedForm(AuthenticatedUser principal, boolean authenticated) implements Serializable {
+        @Serial
+        private Object readResolve() {
+            AuthenticatedUserToken token = new AuthenticatedUserToken(principal);
+            if (!authenticated) token.setAuthenticated(false);
+            return token;
+        }
+    }
+}
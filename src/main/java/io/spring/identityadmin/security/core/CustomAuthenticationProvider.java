@@ -1,8 +1,8 @@
 package io.spring.identityadmin.security.core;
 
-import io.spring.identityadmin.domain.dto.UserDto;
+import io.spring.identityadmin.domain.entity.Users;
+import io.spring.identityadmin.security.core.auth.AuthorityRegistry;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -16,7 +16,7 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
 
     private final UserDetailsService userDetailsService;
 //    private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final AuthorityRegistry authorityRegistry;
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
@@ -28,8 +28,10 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
 //        if(!passwordEncoder.matches(password, userDetails.getPassword())){
 //            throw new BadCredentialsException("Invalid password");
 //        }
-        UserDto userDto = modelMapper.map(userDetails.getAccount(), UserDto.class);
-        return new UsernamePasswordAuthenticationToken(userDto, userDetails.getPassword(), userDetails.getAuthorities());
+        Users user = userDetails.getAccount();
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getUsername(),
+                authorityRegistry.intern(userDetails.getAuthorities()), authorityRegistry.generation());
+        return new AuthenticatedUserToken(principal);
     }
 
     @Override
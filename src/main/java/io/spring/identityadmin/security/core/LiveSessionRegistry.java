@@ -0,0 +1,176 @@
+package io.spring.identityadmin.security.core;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.session.AbstractSessionEvent;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.core.session.SessionIdChangedEvent;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.Assert;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 활성 세션 지표를 즉시 제공하는 SessionRegistry 구현체.
+ * 세션 id → SessionInformation, 사용자명 → 세션 id 집합을 ConcurrentMap 으로 보관하고,
+ * 활성 세션·활성 사용자·동시 세션 사용자 수는 등록·제거 시 LongAdder 로 증감하므로 조회할 때 세션을 순회하지 않습니다.
+ * 폼 로그인 성공 시 등록되는 세션마다 최근 1시간의 분 단위 로그인 횟수를 함께 기록합니다.
+ * 세션 만료는 HttpSessionEventPublisher 가 발행하는 SessionDestroyedEvent 로 반영됩니다.
+ */
+public class LiveSessionRegistry implements SessionRegistry, ApplicationListener<AbstractSessionEvent> {
+
+    private static final long LOGIN_BUCKET_MILLIS = 60_000;
+    private static final int LOGIN_BUCKETS = 60;
+
+    /**
+     * @param multiSessionPrincipals 두 개 이상의 세션을 동시에 가진 사용자 수
+     * @param loginsPerMinute 최근 60분의 분 단위 로그인 횟수 (오래된 순)
+     */
+    public record SessionMetrics(long activeSessions, long activePrincipals, long multiSessionPrincipals,
+                                 long loginsLastHour, long[] loginsPerMinute) {}
+
+    private final ConcurrentMap<String, SessionInformation> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<String>> sessionIdsByPrincipal = new ConcurrentHashMap<>();
+    private final LongAdder activeSessions = new LongAdder();
+    private final LongAdder activePrincipals = new LongAdder();
+    private final LongAdder multiSessionPrincipals = new LongAdder();
+    private final SlidingWindowCounter logins = new SlidingWindowCounter(LOGIN_BUCKET_MILLIS, LOGIN_BUCKETS);
+
+    public long getActiveSessionCount() {
+        return activeSessions.sum();
+    }
+
+    public SessionMetrics getMetrics() {
+        long[] loginsPerMinute = logins.histogram(System.currentTimeMillis());
+        long loginsLastHour = 0;
+        for (long count : loginsPerMinute) {
+            loginsLastHour += count;
+        }
+        return new SessionMetrics(activeSessions.sum(), activePrincipals.sum(), multiSessionPrincipals.sum(),
+                loginsLastHour, loginsPerMinute);
+    }
+
+    @Override
+    public List<Object> getAllPrincipals() {
+        List<Object> principals = new ArrayList<>(sessionIdsByPrincipal.size());
+        for (Set<String> sessionIds : sessionIdsByPrincipal.values()) {
+            for (String sessionId : sessionIds) {
+                SessionInformation information = sessions.get(sessionId);
+                if (information != null) {
+                    principals.add(information.getPrincipal());
+                    break;
+                }
+            }
+        }
+        return principals;
+    }
+
+    @Override
+    public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+        Set<String> sessionIds = sessionIdsByPrincipal.get(keyOf(principal));
+        if (sessionIds == null) return List.of();
+        List<SessionInformation> result = new ArrayList<>(sessionIds.size());
+        for (String sessionId : sessionIds) {
+            SessionInformation information = sessions.get(sessionId);
+            if (information != null && (includeExpiredSessions || !information.isExpired())) {
+                result.add(information);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public SessionInformation getSessionInformation(String sessionId) {
+        Assert.hasText(sessionId, "SessionId required as per interface contract");
+        return sessions.get(sessionId);
+    }
+
+    @Override
+    public void refreshLastRequest(String sessionId) {
+        SessionInformation information = getSessionInformation(sessionId);
+        if (information != null) {
+            information.refreshLastRequest();
+        }
+    }
+
+    /**
+     * 로그인 성공 시 호출되어 세션을 등록하고 로그인 횟수를 기록합니다.
+     */
+    @Override
+    public void registerNewSession(String sessionId, Object principal) {
+        Assert.hasText(sessionId, "SessionId required as per interface contract");
+        Assert.notNull(principal, "Principal required as per interface contract");
+        removeSessionInformation(sessionId);
+        addSession(sessionId, principal, new Date());
+        logins.record(System.currentTimeMillis());
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        Assert.hasText(sessionId, "SessionId required as per interface contract");
+        SessionInformation information = sessions.remove(sessionId);
+        if (information == null) return;
+        activeSessions.decrement();
+        sessionIdsByPrincipal.computeIfPresent(keyOf(information.getPrincipal()), (key, sessionIds) -> {
+            if (sessionIds.remove(sessionId)) {
+                if (sessionIds.isEmpty()) {
+                    activePrincipals.decrement();
+                    return null;
+                }
+                if (sessionIds.size() == 1) {
+                    multiSessionPrincipals.decrement();
+                }
+            }
+            return sessionIds;
+        });
+    }
+
+    /**
+     * 세션 종료는 등록 정보를 제거하고, 세션 고정 방지로 id 만 바뀐 경우는 로그인으로 세지 않고 새 id 로 옮깁니다.
+     */
+    @Override
+    public void onApplicationEvent(AbstractSessionEvent event) {
+        if (event instanceof SessionDestroyedEvent destroyed) {
+            removeSessionInformation(destroyed.getId());
+        } else if (event instanceof SessionIdChangedEvent changed) {
+            SessionInformation information = sessions.get(changed.getOldSessionId());
+            if (information != null) {
+                removeSessionInformation(changed.getOldSessionId());
+                addSession(changed.getNewSessionId(), information.getPrincipal(), information.getLastRequest());
+            }
+        }
+    }
+
+    private void addSession(String sessionId, Object principal, Date lastRequest) {
+        sessions.put(sessionId, new SessionInformation(principal, sessionId, lastRequest));
+        activeSessions.increment();
+        // 집합 변경과 카운터 증감을 같은 키의 compute 안에서 수행하여 사용자 단위 카운터가 어긋나지 않게 합니다.
+        sessionIdsByPrincipal.compute(keyOf(principal), (key, sessionIds) -> {
+            Set<String> updated = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+            if (updated.add(sessionId)) {
+                if (updated.size() == 1) {
+                    activePrincipals.increment();
+                } else if (updated.size() == 2) {
+                    multiSessionPrincipals.increment();
+                }
+            }
+            return updated;
+        });
+    }
+
+    private static String keyOf(Object principal) {
+        if (principal instanceof UserDetails userDetails) return userDetails.getUsername();
+        if (principal instanceof AuthenticatedPrincipal authenticatedPrincipal) return authenticatedPrincipal.getName();
+        if (principal instanceof Principal javaPrincipal) return javaPrincipal.getName();
+        return String.valueOf(principal);
+    }
+}
@@ -14,7 +14,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
-import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -23,6 +22,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.session.HttpSessionEventPublisher;
 
 @Configuration
 @RequiredArgsConstructor
@@ -32,10 +32,12 @@ public class MySecurityConfig {
     private final CustomAuthenticationProvider customAuthenticationProvider;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, LiveSessionRegistry liveSessionRegistry) throws Exception {
         http.authorizeHttpRequests(auth -> auth
                 .anyRequest().access(customDynamicAuthorizationManager));
         http.formLogin(form -> form.loginPage("/login").defaultSuccessUrl("/admin"));
+        // 동시 세션 수는 제한하지 않고(-1), 로그인 성공 시 세션을 레지스트리에 등록하기 위해 사용
+        http.sessionManagement(session -> session.maximumSessions(-1).sessionRegistry(liveSessionRegistry));
         http.authenticationProvider(customAuthenticationProvider);
         http.csrf(AbstractHttpConfigurer::disable);
         return http.build();
@@ -68,10 +70,22 @@ public class MySecurityConfig {
     }
 
 
-    // RoleHierarchy 빈 등록 (계층적 역할 지원)
+    // 활성 세션 레지스트리 (대시보드·보안 점수의 세션 지표 제공)
     @Bean
-    public RoleHierarchyImpl roleHierarchy() {
-        return new RoleHierarchyImpl();
+    public LiveSessionRegistry liveSessionRegistry() {
+        return new LiveSessionRegistry();
+    }
+
+    // 서블릿 세션 종료·id 변경을 SessionRegistry 에 전달
+    @Bean
+    public HttpSessionEventPublisher httpSessionEventPublisher() {
+        return new HttpSessionEventPublisher();
+    }
+
+    // RoleHierarchy 빈 등록 (계층적 역할 지원, 런타임 교체 가능)
+    @Bean
+    public ReloadableRoleHierarchy roleHierarchy() {
+        return new ReloadableRoleHierarchy();
     }
 
 
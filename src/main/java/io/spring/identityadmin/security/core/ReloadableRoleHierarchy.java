@@ -0,0 +1,37 @@
+package io.spring.identityadmin.security.core;
+
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 런타임에 교체 가능한 RoleHierarchy 구현체.
+ * RoleHierarchyImpl.setHierarchy()는 내부 맵을 제자리에서 다시 채우기 때문에 평가 중인 요청 스레드가
+ * 반쯤 만들어진 계층을 볼 수 있습니다. 이 클래스는 새 계층을 완전히 생성한 뒤 참조만 원자적으로 교체합니다.
+ */
+public class ReloadableRoleHierarchy implements RoleHierarchy {
+
+    private volatile RoleHierarchy delegate = RoleHierarchyImpl.fromHierarchy("");
+    private volatile String hierarchyString = "";
+
+    /**
+     * 새 계층 문자열로 완성된 RoleHierarchyImpl을 만든 뒤 현재 위임 대상을 교체합니다.
+     * @param hierarchyString 역할 계층 문자열 (예: "ROLE_ADMIN > ROLE_MANAGER\nROLE_MANAGER > ROLE_USER")
+     */
+    public void reload(String hierarchyString) {
+        String normalized = hierarchyString != null ? hierarchyString : "";
+        this.delegate = RoleHierarchyImpl.fromHierarchy(normalized);
+        this.hierarchyString = normalized;
+    }
+
+    public String getHierarchyString() {
+        return hierarchyString;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getReachableGrantedAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        return delegate.getReachableGrantedAuthorities(authorities);
+    }
+}
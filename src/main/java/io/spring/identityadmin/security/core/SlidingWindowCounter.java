@@ -0,0 +1,53 @@
+package io.spring.identityadmin.security.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 크기 시간 구간(bucket)을 원형 배열로 돌려 쓰는 슬라이딩 윈도우 카운터.
+ * 기록은 구간 번호 확인과 LongAdder 증가만 하므로 잠금이 없고, 조회는 구간 수에만 비례합니다.
+ * 구간이 새 시간대로 넘어가는 순간 동시에 기록된 값 일부가 초기화와 겹쳐 빠질 수 있으며, 지표 용도로는 이를 허용합니다.
+ */
+final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final AtomicLongArray bucketEpochs;
+    private final LongAdder[] counts;
+
+    SlidingWindowCounter(long bucketMillis, int bucketCount) {
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        this.bucketEpochs = new AtomicLongArray(bucketCount);
+        this.counts = new LongAdder[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            counts[i] = new LongAdder();
+            bucketEpochs.set(i, -1);
+        }
+    }
+
+    void record(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int index = (int) (epoch % bucketCount);
+        long seen = bucketEpochs.get(index);
+        if (epoch < seen) return; // 이미 윈도우를 벗어난 시각
+        if (seen != epoch && bucketEpochs.compareAndSet(index, seen, epoch)) {
+            counts[index].reset();
+        }
+        counts[index].increment();
+    }
+
+    /**
+     * 현재 구간을 마지막으로 하는 최근 bucketCount 개 구간의 값을 오래된 순서로 반환합니다.
+     */
+    long[] histogram(long nowMillis) {
+        long currentEpoch = nowMillis / bucketMillis;
+        long[] histogram = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            long epoch = currentEpoch - (bucketCount - 1 - i);
+            int index = (int) (epoch % bucketCount);
+            histogram[i] = bucketEpochs.get(index) == epoch ? counts[index].sum() : 0;
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,156 @@
+package io.spring.identityadmin.security.core.auth;
+
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.domain.entity.Permission;
+import io.spring.identityadmin.domain.entity.Role;
+import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.repository.RoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션에 보관하는 인증 주체(AuthenticatedUser)가 권한 객체 대신 들고 다니는 int 권한 id 와 권한 객체 사이를 변환합니다.
+ * <p>
+ * 권한 id 는 DB id 를 그대로 사용하여 노드·재시작과 무관하게 같은 값을 가집니다. 역할은 -roleId, 권한은 +permissionId 입니다.
+ * 권한 객체는 id 별로 한 번만 만들어 공유하고, 같은 권한 id 배열을 가진 사용자들은 materialize 결과 목록도 공유하므로
+ * 세션 수가 늘어도 권한 객체 메모리는 서로 다른 역할·권한 수와 권한 조합 수에만 비례합니다.
+ * 역할·권한 정의가 바뀌면(TerminologyChangedEvent) 커밋 이후 캐시를 비우고 세대(generation)를 올려, 이미 로그인한 사용자의
+ * 권한 객체도 다음 조회 때 새 정의로 다시 만들어집니다.
+ * <p>
+ * 역직렬화된 세션 객체는 빈을 주입받을 수 없으므로 초기화 시 정적 참조를 등록하고 AuthenticatedUser 가 {@link #get()} 으로 찾습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorityRegistry {
+
+    private static final int MAX_CACHED_AUTHORITY_SETS = 10_000;
+    private static volatile AuthorityRegistry instance;
+
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final IntegrationEventBus eventBus;
+
+    private final Map<Integer, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+    private final Map<AuthorityIds, List<GrantedAuthority>> materialized = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    public void initialize() {
+        instance = this;
+        eventBus.subscribe(TerminologyChangedEvent.class, event -> AfterCommit.run(this::invalidate));
+    }
+
+    public static AuthorityRegistry get() {
+        AuthorityRegistry registry = instance;
+        if (registry == null) {
+            throw new IllegalStateException("AuthorityRegistry has not been initialized.");
+        }
+        return registry;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 권한 객체를 오름차순 권한 id 배열로 바꿉니다. RoleAuthority·PermissionAuthority 가 아닌 권한은 id 로 표현할 수 없으므로 제외됩니다.
+     * 전달된 권한 객체는 등록하지 않습니다. 정의 변경과 동시에 로그인하면 변경 전 객체가 새 세대의 캐시에 남을 수 있기 때문이며,
+     * 권한 객체는 materialize 가 처음 필요로 할 때 DB 에서 읽습니다.
+     */
+    public int[] intern(Collection<? extends GrantedAuthority> grantedAuthorities) {
+        int[] ids = new int[grantedAuthorities.size()];
+        int size = 0;
+        for (GrantedAuthority authority : grantedAuthorities) {
+            int id;
+            if (authority instanceof RoleAuthority role) {
+                id = -Math.toIntExact(role.getRoleId());
+            } else if (authority instanceof PermissionAuthority permission) {
+                id = Math.toIntExact(permission.getPermissionId());
+            } else {
+                continue;
+            }
+            ids[size++] = id;
+        }
+        int[] sorted = Arrays.copyOf(ids, size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * 권한 id 배열에 해당하는 권한 객체 목록을 반환합니다. 그 사이 삭제된 역할·권한은 목록에서 빠집니다.
+     */
+    public List<GrantedAuthority> materialize(int[] ids) {
+        AuthorityIds key = new AuthorityIds(ids);
+        List<GrantedAuthority> cached = materialized.get(key);
+        if (cached != null) return cached;
+
+        loadMissing(ids);
+        List<GrantedAuthority> resolved = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            GrantedAuthority authority = authorities.get(id);
+            if (authority != null) resolved.add(authority);
+        }
+        if (materialized.size() >= MAX_CACHED_AUTHORITY_SETS) {
+            materialized.clear();
+        }
+        List<GrantedAuthority> result = List.copyOf(resolved);
+        materialized.putIfAbsent(key, result);
+        return result;
+    }
+
+    private void loadMissing(int[] ids) {
+        List<Long> roleIds = new ArrayList<>();
+        List<Long> permissionIds = new ArrayList<>();
+        for (int id : ids) {
+            if (authorities.containsKey(id)) continue;
+            if (id < 0) roleIds.add((long) -id);
+            else permissionIds.add((long) id);
+        }
+        if (!roleIds.isEmpty()) {
+            for (Role role : roleRepository.findAllById(roleIds)) {
+                authorities.putIfAbsent(-Math.toIntExact(role.getId()), new RoleAuthority(role));
+            }
+        }
+        if (!permissionIds.isEmpty()) {
+            for (Permission permission : permissionRepository.findAllById(permissionIds)) {
+                authorities.putIfAbsent(Math.toIntExact(permission.getId()), new PermissionAuthority(permission));
+            }
+        }
+    }
+
+    private void invalidate() {
+        authorities.clear();
+        materialized.clear();
+        long current = generation.incrementAndGet();
+        log.debug("Authority registry invalidated. Generation is now {}.", current);
+    }
+
+    /**
+     * 권한 id 배열을 내용으로 비교하는 맵 키.
+     */
+    private record AuthorityIds(int[] ids) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof AuthorityIds that && Arrays.equals(ids, that.ids);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(ids);
+        }
+    }
+}
@@ -1,18 +1,19 @@
 package io.spring.identityadmin.security.xacml.pap.controller;
 
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.entity.policy.Policy;
 import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
+import io.spring.identityadmin.security.xacml.pap.service.PolicyEnrichmentQueue;
 import io.spring.identityadmin.security.xacml.pap.service.PolicyService;
 import io.spring.identityadmin.domain.dto.PolicyDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 @Controller
@@ -22,15 +23,15 @@ import java.util.stream.Collectors;
 public class PolicyController {
 
     private final PolicyService policyService;
-    private final ModelMapper modelMapper;
+    private final PolicyEnrichmentQueue policyEnrichmentQueue;
 
     @GetMapping
-    public String listPolicies(Model model) {
-        List<Policy> policies = policyService.getAllPolicies();
-        List<PolicyDto> dtoList = policies.stream()
-                .map(p -> modelMapper.map(p, PolicyDto.class))
-                .collect(Collectors.toList());
-        model.addAttribute("policies", dtoList);
+    public String listPolicies(@RequestParam(required = false) String cursor,
+                               @RequestParam(defaultValue = "50") int size, Model model) {
+        PageResponseDto<PolicyDto> page = policyService.getPolicyPage(new KeysetPageRequest(cursor, size));
+        model.addAttribute("policies", page.getContent());
+        model.addAttribute("page", page);
+        model.addAttribute("enrichmentFailedIds", policyEnrichmentQueue.getFailedPolicyIds());
         return "admin/policies";
     }
 
@@ -0,0 +1,26 @@
+package io.spring.identityadmin.security.xacml.pap.dto;
+
+import java.util.List;
+
+/**
+ * 역할 마이닝이 제안하는 통합 역할 후보입니다.
+ * @param permissionIds 후보 역할에 포함할 권한 (묶인 사용자 모두가 공통으로 보유한 권한)
+ * @param userCount 후보 역할을 부여받게 될 사용자 수
+ * @param entitlementPatterns 묶인 사용자들이 가진 서로 다른 권한 조합의 수
+ * @param coveredAssignments 후보 역할이 대신하는 사용자-권한 할당 수 (userCount × 권한 수)
+ * @param coverage 전체 사용자-권한 할당 중 coveredAssignments 의 비율
+ * @param coreShare 묶인 사용자의 보유 권한 중 후보 역할이 차지하는 평균 비율
+ * @param replaceableRoleIds 권한이 후보 역할에 모두 포함되어 후보 역할로 대체할 수 있는 기존 역할
+ * @param roleCountReduction 대체 가능한 기존 역할을 후보 역할 하나로 바꿀 때 줄어드는 역할 수
+ */
+public record RoleCandidateDto(
+        List<Long> permissionIds,
+        List<String> permissionNames,
+        long userCount,
+        int entitlementPatterns,
+        long coveredAssignments,
+        double coverage,
+        double coreShare,
+        List<Long> replaceableRoleIds,
+        int roleCountReduction
+) {}
@@ -1,5 +1,7 @@
 package io.spring.identityadmin.security.xacml.pap.service;
 
+import io.spring.identityadmin.common.event.dto.PolicyChangedEvent;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
 import io.spring.identityadmin.domain.dto.BusinessPolicyDto;
 import io.spring.identityadmin.domain.entity.ConditionTemplate;
 import io.spring.identityadmin.domain.entity.Users;
@@ -32,15 +34,17 @@ public class BusinessPolicyServiceImpl implements BusinessPolicyService {
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final CustomDynamicAuthorizationManager authorizationManager;
-    private final PolicyEnrichmentService policyEnrichmentService;
+    private final PolicyEnrichmentQueue policyEnrichmentQueue;
+    private final IntegrationEventBus eventBus;
 
     @Override
     @Transactional
     public Policy createPolicyFromBusinessRule(BusinessPolicyDto dto) {
         Policy policy = new Policy();
         translateAndApplyDtoToPolicy(policy, dto);
-        policyEnrichmentService.enrichPolicyWithFriendlyDescription(policy); // 설명 자동 생성
         Policy savedPolicy = policyRepository.save(policy);
+        policyEnrichmentQueue.enqueue(savedPolicy.getId()); // 설명 자동 생성 (커밋 후 비동기)
+        eventBus.publish(new PolicyChangedEvent(savedPolicy.getId()));
         authorizationManager.reload(); // 인가 시스템 런타임 갱신
         log.info("Successfully created a new policy '{}' from business rule.", savedPolicy.getName());
         return savedPolicy;
@@ -52,8 +56,10 @@ public class BusinessPolicyServiceImpl implements BusinessPolicyService {
         Policy existingPolicy = policyRepository.findByIdWithDetails(policyId)
                 .orElseThrow(() -> new IllegalArgumentException("Policy not found with id: " + policyId));
         translateAndApplyDtoToPolicy(existingPolicy, dto);
-        policyEnrichmentService.enrichPolicyWithFriendlyDescription(existingPolicy); // 설명 자동 생성
+        existingPolicy.setFriendlyDescription(null); // 새 설명이 생성될 때까지 '생성 중'으로 표시
         Policy savedPolicy = policyRepository.save(existingPolicy);
+        policyEnrichmentQueue.enqueue(savedPolicy.getId()); // 설명 자동 생성 (커밋 후 비동기)
+        eventBus.publish(new PolicyChangedEvent(savedPolicy.getId()));
         authorizationManager.reload(); // 인가 시스템 런타임 갱신
         log.info("Successfully updated the policy '{}' from business rule.", savedPolicy.getName());
         return savedPolicy;
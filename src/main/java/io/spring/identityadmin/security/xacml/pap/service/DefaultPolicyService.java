@@ -2,6 +2,8 @@ package io.spring.identityadmin.security.xacml.pap.service;
 
 import io.spring.identityadmin.common.event.dto.PolicyChangedEvent;
 import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.entity.policy.Policy;
 import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
 import io.spring.identityadmin.domain.entity.policy.PolicyRule;
@@ -29,7 +31,7 @@ public class DefaultPolicyService implements PolicyService {
     private final PolicyRepository policyRepository;
     private final PolicyRetrievalPoint policyRetrievalPoint;
     private final CustomDynamicAuthorizationManager authorizationManager;
-    private final PolicyEnrichmentService policyEnrichmentService;
+    private final PolicyEnrichmentQueue policyEnrichmentQueue;
     private final ModelMapper modelMapper;
     private final IntegrationEventBus eventBus;
 
@@ -39,6 +41,21 @@ public class DefaultPolicyService implements PolicyService {
         return policyRepository.findAllWithDetails();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<PolicyDto> getPolicyPage(KeysetPageRequest request) {
+        long[] keys = request.keys(2);
+        // 우선순위 열은 int 이므로 범위를 벗어난 키는 잘리지 않게 잘못된 커서로 보고 첫 페이지를 반환합니다.
+        if (keys != null && (keys[0] < Integer.MIN_VALUE || keys[0] > Integer.MAX_VALUE)) {
+            keys = null;
+        }
+        List<PolicyDto> rows = keys == null
+                ? policyRepository.findPolicyListPage(null, null, request.fetchSize())
+                : policyRepository.findPolicyListPage((int) keys[0], keys[1], request.fetchSize());
+        long total = keys == null ? policyRepository.count() : -1;
+        return PageResponseDto.ofKeyset(rows, request, total, policy -> KeysetPageRequest.cursorOf(policy.getPriority(), policy.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Policy findById(Long id) {
@@ -49,8 +66,8 @@ public class DefaultPolicyService implements PolicyService {
     @Override
     public Policy createPolicy(PolicyDto policyDto) {
         Policy policy = convertDtoToEntity(policyDto);
-        policyEnrichmentService.enrichPolicyWithFriendlyDescription(policy);
         Policy savedPolicy = policyRepository.save(policy);
+        policyEnrichmentQueue.enqueue(savedPolicy.getId()); // 설명은 커밋 후 비동기로 생성
         eventBus.publish(new PolicyChangedEvent(savedPolicy.getId()));
         reloadAuthorizationSystem();
         log.info("Policy created and authorization system reloaded. Policy Name: {}", savedPolicy.getName());
@@ -60,9 +77,10 @@ public class DefaultPolicyService implements PolicyService {
     @Override
     public void updatePolicy(PolicyDto policyDto) {
         Policy existingPolicy = findById(policyDto.getId());
-        policyEnrichmentService.enrichPolicyWithFriendlyDescription(existingPolicy);
         updateEntityFromDto(existingPolicy, policyDto);
+        existingPolicy.setFriendlyDescription(null); // 새 설명이 생성될 때까지 '생성 중'으로 표시
         Policy updatedPolicy = policyRepository.save(existingPolicy);
+        policyEnrichmentQueue.enqueue(updatedPolicy.getId());
         eventBus.publish(new PolicyChangedEvent(policyDto.getId()));
         reloadAuthorizationSystem();
         log.info("Policy updated and authorization system reloaded. Policy ID: {}", updatedPolicy.getId());
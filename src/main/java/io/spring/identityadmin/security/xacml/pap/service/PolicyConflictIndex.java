@@ -0,0 +1,259 @@
+package io.spring.identityadmin.security.xacml.pap.service;
+
+import io.spring.identityadmin.common.event.dto.PolicyChangedEvent;
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
+import io.spring.identityadmin.repository.PolicyRepository;
+import io.spring.identityadmin.security.xacml.pep.PathPatternContainment;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 정책 충돌 감지를 위한 상주 인덱스.
+ * 효과(ALLOW/DENY)별로 URL 대상은 세그먼트 트라이(리터럴 자식 + 와일드카드 자식 + '**' 버킷)에,
+ * 그 밖의 대상(METHOD 등)과 해석할 수 없는 URL 패턴은 "유형:식별자" 정확 일치 맵에 보관합니다.
+ * 최초 조회 시(또는 시작 작업에서) 한 번 전체를 적재하고, 이후에는 PolicyChangedEvent 를 받아 커밋 이후 해당 정책만 갱신합니다.
+ * 전체 적재는 동시에 하나만 실행되며, 적재 도중 바뀐 정책은 새 인덱스를 반영한 뒤에 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyConflictIndex {
+
+    private final PolicyRepository policyRepository;
+    private final IntegrationEventBus eventBus;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Policy.Effect, UrlTrieNode> urlTries = new EnumMap<>(Policy.Effect.class);
+    private final Map<Policy.Effect, Map<String, List<Entry>>> exactTargets = new EnumMap<>(Policy.Effect.class);
+    private final Map<Long, List<Entry>> entriesByPolicy = new HashMap<>();
+    /**
+     * 전체 적재(첫 적재와 재적재 모두) 도중 변경된 정책. 적재가 끝난 뒤 다시 반영하여 적재 시점 이후의 변경이 누락되지 않게 합니다.
+     * 추가와 꺼내기, building 변경은 이 집합으로 동기화하여 적재가 끝나는 순간에 들어온 변경도 빠지지 않게 합니다.
+     */
+    private final Set<Long> changedDuringBuild = new HashSet<>();
+    private volatile boolean building;
+    private volatile boolean loaded;
+
+    /**
+     * 조회된 기존 정책의 대상.
+     */
+    public record IndexedTarget(Long policyId, String policyName, String targetType, String targetIdentifier) {}
+
+    private static final class Entry {
+        private final IndexedTarget target;
+        private final List<Entry> bucket;
+
+        private Entry(IndexedTarget target, List<Entry> bucket) {
+            this.target = target;
+            this.bucket = bucket;
+        }
+    }
+
+    private static final class UrlTrieNode {
+        private final Map<String, UrlTrieNode> literalChildren = new HashMap<>();
+        private UrlTrieNode wildcardChild;
+        /** 이 위치에서 끝나는 패턴 */
+        private final List<Entry> endingHere = new ArrayList<>();
+        /** 이 위치에서 '**' 로 나머지 경로 전체와 매칭되는 패턴 */
+        private final List<Entry> restHere = new ArrayList<>();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        eventBus.subscribe(PolicyChangedEvent.class, event -> refreshAfterCommit(event.getPolicyId()));
+    }
+
+    /**
+     * 모든 정책을 커서로 읽어 인덱스를 새로 구성합니다.
+     */
+    public synchronized void rebuild() {
+        synchronized (changedDuringBuild) {
+            building = true;
+        }
+        Map<Long, Policy> policies = new HashMap<>();
+        List<Long> changed;
+        try {
+            policyRepository.scanAllWithDetails(policy -> policies.put(policy.getId(), policy));
+
+            lock.writeLock().lock();
+            try {
+                urlTries.clear();
+                exactTargets.clear();
+                entriesByPolicy.clear();
+                policies.values().forEach(this::insert);
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            synchronized (changedDuringBuild) {
+                building = false;
+                changed = new ArrayList<>(changedDuringBuild);
+                changedDuringBuild.clear();
+            }
+        }
+        log.info("Policy conflict index built with {} policies.", policies.size());
+        changed.forEach(this::refresh);
+    }
+
+    /**
+     * 아직 적재하지 않았으면 전체를 적재합니다. 시작 작업과 첫 조회가 겹쳐도 한 번만 적재됩니다.
+     */
+    public void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) rebuild();
+            }
+        }
+    }
+
+    /**
+     * 주어진 효과를 가진 정책 중, 주어진 대상과 겹치는 대상을 가진 정책들을 찾습니다.
+     * URL 대상은 패턴이 겹치는 경우(예: '/api/**' 와 '/api/users'), 그 밖의 대상은 식별자가 같은 경우를 겹친다고 봅니다.
+     */
+    public List<IndexedTarget> findOverlapping(Policy.Effect effect, String targetType, String targetIdentifier) {
+        ensureLoaded();
+        Set<Entry> candidates = new LinkedHashSet<>();
+        lock.readLock().lock();
+        try {
+            candidates.addAll(exactTargets.getOrDefault(effect, Map.of()).getOrDefault(exactKey(targetType, targetIdentifier), List.of()));
+            Optional<List<PathPatternContainment.Segment>> segments = urlSegments(targetType, targetIdentifier);
+            UrlTrieNode root = urlTries.get(effect);
+            if (segments.isPresent() && root != null) {
+                collectOverlapping(root, segments.get(), 0, candidates);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<IndexedTarget> result = new ArrayList<>(candidates.size());
+        for (Entry candidate : candidates) {
+            // 트라이의 와일드카드 가지는 후보를 넓게 모으므로 실제 겹침 여부를 최종 확인
+            if (candidate.target.targetType().equals(targetType)
+                    && (candidate.target.targetIdentifier().equals(targetIdentifier)
+                        || PathPatternContainment.overlaps(candidate.target.targetIdentifier(), targetIdentifier))) {
+                result.add(candidate.target);
+            }
+        }
+        return result;
+    }
+
+    private void refreshAfterCommit(Long policyId) {
+        if (policyId == null) return;
+        AfterCommit.run(() -> refresh(policyId));
+    }
+
+    private void refresh(Long policyId) {
+        synchronized (changedDuringBuild) {
+            if (!loaded || building) {
+                changedDuringBuild.add(policyId);
+                return;
+            }
+        }
+        Optional<Policy> policy = policyRepository.findByIdWithDetails(policyId);
+        lock.writeLock().lock();
+        try {
+            remove(policyId);
+            policy.ifPresent(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Policy conflict index refreshed for policy {}", policyId);
+    }
+
+    private void insert(Policy policy) {
+        List<Entry> entries = new ArrayList<>();
+        for (PolicyTarget target : policy.getTargets()) {
+            IndexedTarget indexed = new IndexedTarget(policy.getId(), policy.getName(), target.getTargetType(), target.getTargetIdentifier());
+            Optional<List<PathPatternContainment.Segment>> segments = urlSegments(target.getTargetType(), target.getTargetIdentifier());
+            List<Entry> bucket = segments.isPresent()
+                    ? urlBucket(urlTries.computeIfAbsent(policy.getEffect(), effect -> new UrlTrieNode()), segments.get())
+                    : exactTargets.computeIfAbsent(policy.getEffect(), effect -> new HashMap<>())
+                        .computeIfAbsent(exactKey(target.getTargetType(), target.getTargetIdentifier()), key -> new ArrayList<>());
+            Entry entry = new Entry(indexed, bucket);
+            bucket.add(entry);
+            entries.add(entry);
+        }
+        entriesByPolicy.put(policy.getId(), entries);
+    }
+
+    private void remove(Long policyId) {
+        List<Entry> entries = entriesByPolicy.remove(policyId);
+        if (entries != null) {
+            entries.forEach(entry -> entry.bucket.remove(entry));
+        }
+    }
+
+    private List<Entry> urlBucket(UrlTrieNode root, List<PathPatternContainment.Segment> segments) {
+        UrlTrieNode node = root;
+        for (PathPatternContainment.Segment segment : segments) {
+            switch (segment.kind()) {
+                case REST -> {
+                    return node.restHere; // '**' 이후의 세그먼트는 겹침 판정에 영향을 주지 않음
+                }
+                case LITERAL -> node = node.literalChildren.computeIfAbsent(segment.text(), text -> new UrlTrieNode());
+                default -> {
+                    if (node.wildcardChild == null) node.wildcardChild = new UrlTrieNode();
+                    node = node.wildcardChild;
+                }
+            }
+        }
+        return node.endingHere;
+    }
+
+    private void collectOverlapping(UrlTrieNode node, List<PathPatternContainment.Segment> query, int index, Set<Entry> out) {
+        out.addAll(node.restHere);
+        if (index == query.size()) {
+            out.addAll(node.endingHere);
+            return;
+        }
+
+        PathPatternContainment.Segment segment = query.get(index);
+        switch (segment.kind()) {
+            case REST -> collectSubtree(node, out);
+            case LITERAL -> {
+                UrlTrieNode literalChild = node.literalChildren.get(segment.text());
+                if (literalChild != null) collectOverlapping(literalChild, query, index + 1, out);
+            }
+            default -> node.literalChildren.forEach((text, child) -> {
+                if (segment.kind() == PathPatternContainment.Kind.ANY_SEGMENT || segment.regex().matcher(text).matches()) {
+                    collectOverlapping(child, query, index + 1, out);
+                }
+            });
+        }
+        if (segment.kind() != PathPatternContainment.Kind.REST && node.wildcardChild != null) {
+            collectOverlapping(node.wildcardChild, query, index + 1, out);
+        }
+    }
+
+    private void collectSubtree(UrlTrieNode node, Set<Entry> out) {
+        out.addAll(node.restHere);
+        out.addAll(node.endingHere);
+        node.literalChildren.values().forEach(child -> collectSubtree(child, out));
+        if (node.wildcardChild != null) collectSubtree(node.wildcardChild, out);
+    }
+
+    private Optional<List<PathPatternContainment.Segment>> urlSegments(String targetType, String targetIdentifier) {
+        return "URL".equals(targetType) ? PathPatternContainment.segments(targetIdentifier) : Optional.empty();
+    }
+
+    private String exactKey(String targetType, String targetIdentifier) {
+        return targetType + ":" + targetIdentifier;
+    }
+}
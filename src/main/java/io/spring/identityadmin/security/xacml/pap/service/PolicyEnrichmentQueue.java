@@ -0,0 +1,140 @@
+package io.spring.identityadmin.security.xacml.pap.service;
+
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 정책 설명(friendlyDescription) 생성을 정책 저장 경로에서 분리하는 비동기 작업 큐.
+ * 정책 ID 를 키로 중복을 제거하므로 짧은 시간 안에 같은 정책이 여러 번 수정되어도 한 번만 계산합니다.
+ * 단일 작업 스레드가 잠시 모은 뒤(DRAIN_DELAY_MILLIS) 최대 BATCH_SIZE 개씩 설명을 생성하고 일괄 갱신합니다.
+ * 설명이 생성되기 전까지 friendlyDescription 은 null 이며, 화면에는 '생성 중' 표시가 나타납니다.
+ * <p>
+ * 실패한 정책은 지수 백오프(RETRY_BASE_DELAY_MILLIS × 2^(시도-1))로 최대 MAX_ATTEMPTS 번까지 다시 시도하고,
+ * 그래도 실패하면 실패 정책으로 기록하여 화면에 '생성 실패' 로 표시합니다. 정책이 다시 수정되면 실패 기록은 지워지고 처음부터 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyEnrichmentQueue {
+
+    private static final long DRAIN_DELAY_MILLIS = 200;
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BASE_DELAY_MILLIS = 5_000;
+
+    private final PolicyEnrichmentService policyEnrichmentService;
+
+    private final Set<Long> pendingPolicyIds = ConcurrentHashMap.newKeySet();
+    /** 실패하여 재시도를 기다리는 정책 ID → 지금까지 실패한 횟수 */
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+    /** 재시도를 모두 소진하여 설명을 생성하지 못한 정책 ID */
+    private final Set<Long> failedPolicyIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "policy-enrichment");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 정책 설명 생성을 예약합니다. 트랜잭션 안에서 호출되면 커밋 이후에 큐에 들어가므로,
+     * 작업 스레드는 항상 커밋된 정책을 읽습니다.
+     */
+    public void enqueue(Long policyId) {
+        if (policyId == null) return;
+        enqueueAll(List.of(policyId));
+    }
+
+    public void enqueueAll(Collection<Long> policyIds) {
+        if (policyIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(policyIds);
+        AfterCommit.run(() -> submit(ids));
+    }
+
+    /**
+     * 재시도를 모두 소진하여 설명을 생성하지 못한 정책 ID.
+     */
+    public Set<Long> getFailedPolicyIds() {
+        return Set.copyOf(failedPolicyIds);
+    }
+
+    private void submit(Collection<Long> policyIds) {
+        // 새로 수정된 정책은 이전 실패 이력과 무관하게 처음부터 다시 시도
+        policyIds.forEach(policyId -> {
+            failedAttempts.remove(policyId);
+            failedPolicyIds.remove(policyId);
+        });
+        pendingPolicyIds.addAll(policyIds);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            worker.schedule(this::drain, DRAIN_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        List<Long> batch = new ArrayList<>(BATCH_SIZE);
+        for (Long policyId : pendingPolicyIds) {
+            if (batch.size() == BATCH_SIZE) break;
+            batch.add(policyId);
+        }
+        // 처리 중에 다시 수정된 정책은 재등록되어 다음 배치에서 다시 계산됩니다.
+        batch.forEach(pendingPolicyIds::remove);
+
+        if (!batch.isEmpty()) {
+            try {
+                PolicyEnrichmentService.EnrichmentResult result = policyEnrichmentService.enrichPolicies(batch);
+                log.debug("Enriched {} of {} queued policies.", result.updated(), batch.size());
+                Set<Long> failed = Set.copyOf(result.failedPolicyIds());
+                batch.stream().filter(policyId -> !failed.contains(policyId)).forEach(failedAttempts::remove);
+                failed.forEach(this::retryLater);
+            } catch (Exception e) {
+                log.warn("Failed to enrich policies {}. They will be retried.", batch, e);
+                batch.forEach(this::retryLater);
+            }
+        }
+        if (!pendingPolicyIds.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void retryLater(Long policyId) {
+        int attempts = failedAttempts.merge(policyId, 1, Integer::sum);
+        if (attempts >= MAX_ATTEMPTS) {
+            failedAttempts.remove(policyId);
+            failedPolicyIds.add(policyId);
+            log.error("Giving up generating a friendly description for policy {} after {} attempts.", policyId, attempts);
+            return;
+        }
+        long delay = RETRY_BASE_DELAY_MILLIS << (attempts - 1);
+        worker.schedule(() -> {
+            // 대기 중에 정책이 다시 수정되었으면 submit 이 이미 다시 등록했으므로 재시도하지 않음
+            if (failedAttempts.containsKey(policyId)) {
+                pendingPolicyIds.add(policyId);
+                scheduleDrain();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -1,19 +1,37 @@
 package io.spring.identityadmin.security.xacml.pap.service;
 
 import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.repository.PolicyRepository;
 import io.spring.identityadmin.security.xacml.pdp.translator.ExpressionNode;
 import io.spring.identityadmin.security.xacml.pdp.translator.PolicyTranslator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Policy 엔티티에 사용자 친화적인 추가 정보(예: 번역된 설명)를 생성하여 채워주는 서비스
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PolicyEnrichmentService {
 
     private final PolicyTranslator policyTranslator;
+    private final PolicyRepository policyRepository;
+
+    /**
+     * 일괄 설명 생성 결과.
+     * @param updated 갱신된 정책 수
+     * @param failedPolicyIds 설명을 생성하지 못한 정책 ID
+     */
+    public record EnrichmentResult(int updated, List<Long> failedPolicyIds) {}
 
     /**
      * 주어진 Policy 객체의 규칙(SpEL)을 분석하여,
@@ -24,13 +42,36 @@ public class PolicyEnrichmentService {
         if (policy == null) {
             return;
         }
+        policy.setFriendlyDescription(describe(policy));
+    }
 
+    /**
+     * 여러 정책의 설명을 한 번에 생성하여 단일 UPDATE 문으로 저장합니다.
+     * PolicyEnrichmentQueue 의 작업 스레드에서 호출됩니다.
+     * @param policyIds 설명을 생성할 정책 ID 목록
+     * @return 갱신된 정책 수와 설명을 생성하지 못한 정책 ID
+     */
+    @Transactional
+    public EnrichmentResult enrichPolicies(Collection<Long> policyIds) {
+        List<Policy> policies = policyRepository.findAllByIdWithRules(policyIds);
+        Map<Long, String> descriptions = new HashMap<>();
+        List<Long> failedPolicyIds = new ArrayList<>();
+        for (Policy policy : policies) {
+            try {
+                descriptions.put(policy.getId(), describe(policy));
+            } catch (Exception e) {
+                log.warn("Failed to generate friendly description for policy {}", policy.getId(), e);
+                failedPolicyIds.add(policy.getId());
+            }
+        }
+        return new EnrichmentResult(policyRepository.updateFriendlyDescriptions(descriptions), failedPolicyIds);
+    }
+
+    private String describe(Policy policy) {
         // PolicyTranslator를 사용하여 정책을 최종 ExpressionNode 트리로 파싱
         ExpressionNode rootNode = policyTranslator.parsePolicy(policy);
 
         // 파싱된 노드에서 사람이 읽을 수 있는 설명 전체를 가져옴
-        String description = rootNode.getConditionDescription();
-
-        policy.setFriendlyDescription(description);
+        return rootNode.getConditionDescription();
     }
 }
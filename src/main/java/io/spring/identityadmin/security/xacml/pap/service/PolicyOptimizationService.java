@@ -2,10 +2,22 @@ package io.spring.identityadmin.security.xacml.pap.service;
 
 import io.spring.identityadmin.domain.dto.PolicyDto;
 import io.spring.identityadmin.security.xacml.pap.dto.DuplicatePolicyDto;
+import io.spring.identityadmin.security.xacml.pap.dto.RoleCandidateDto;
 
 import java.util.List;
 
 public interface PolicyOptimizationService {
     List<DuplicatePolicyDto> findDuplicatePolicies();
+
+    /**
+     * 같은 효과와 대상을 가진 정책 중, 조건이 다른 정책의 조건에 엄격히 포함되는(함축하는) 정책 쌍을 찾습니다.
+     * 결과의 policyIds 는 [포함되는 정책, 포함하는 정책] 순서입니다.
+     */
+    List<DuplicatePolicyDto> findSubsumedPolicies();
     PolicyDto proposeMerge(List<Long> policyIds);
+
+    /**
+     * 사용자의 실제 권한 보유 현황을 분석하여, 여러 기존 역할을 대신할 수 있는 통합 역할 후보를 적용 범위가 큰 순서로 제안합니다.
+     */
+    List<RoleCandidateDto> proposeConsolidatedRoles(int limit);
 }
\ No newline at end of file
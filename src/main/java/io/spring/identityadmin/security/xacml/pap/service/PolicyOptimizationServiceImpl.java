@@ -5,73 +5,161 @@ import io.spring.identityadmin.domain.entity.policy.Policy;
 import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
 import io.spring.identityadmin.repository.PolicyRepository;
 import io.spring.identityadmin.security.xacml.pap.dto.DuplicatePolicyDto;
+import io.spring.identityadmin.security.xacml.pap.dto.RoleCandidateDto;
+import io.spring.identityadmin.security.xacml.pdp.translator.CanonicalExpression;
+import io.spring.identityadmin.security.xacml.pdp.translator.ExpressionCanonicalizer;
+import io.spring.identityadmin.security.xacml.pdp.translator.PolicyTranslator;
+import io.spring.identityadmin.security.xacml.pdp.translator.StructuralHash;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * [최종 구현] 정책 최적화 서비스의 완전한 구현체입니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PolicyOptimizationServiceImpl implements PolicyOptimizationService {
 
+    private static final int MAX_SUBSUMPTION_CANDIDATES = 1_000;
+    private static final int MAX_ROLE_CANDIDATES = 100;
+
     private final PolicyRepository policyRepository;
     private final ModelMapper modelMapper;
+    private final PolicyTranslator policyTranslator;
+    private final ExpressionCanonicalizer expressionCanonicalizer;
+    private final RoleMiningEngine roleMiningEngine;
 
     /**
-     * [최종 로직 구현] 정책의 '서명'을 생성하여 기능적으로 동일한 중복 정책을 탐지합니다.
+     * 정책의 '서명'을 생성하여 기능적으로 동일한 중복 정책을 탐지합니다.
+     * 정책은 커서로 한 건씩 읽어 서명만 남기므로, 정책 수에 비례하는 시간과 서명 크기만큼의 메모리만 사용합니다.
      */
     @Override
     public List<DuplicatePolicyDto> findDuplicatePolicies() {
-        List<Policy> policies = policyRepository.findAllWithDetails();
-
         // 정책의 '서명(Signature)'을 키로, 해당 서명을 가진 정책 ID 리스트를 값으로 하는 맵을 생성
-        Map<String, List<Long>> signatureMap = policies.stream()
-                .collect(Collectors.groupingBy(
-                        this::createPolicySignature,
-                        Collectors.mapping(Policy::getId, Collectors.toList())
-                ));
+        Map<StructuralHash, List<Long>> signatureMap = new HashMap<>();
+        policyRepository.scanAllWithDetails(policy -> {
+            CanonicalExpression condition = expressionCanonicalizer.canonicalize(policyTranslator.parsePolicy(policy));
+            StructuralHash signature = createScopeSignature(policy).with(condition.getHash());
+            signatureMap.computeIfAbsent(signature, key -> new ArrayList<>(1)).add(policy.getId());
+        });
 
         // 서명이 동일한 정책 그룹(ID가 2개 이상)을 찾아 DTO로 변환
         return signatureMap.entrySet().stream()
                 .filter(entry -> entry.getValue().size() > 1)
-                // [정상 동작 확인] DTO 생성자의 인자 순서(String, List<Long>, String)와 일치합니다.
-                .map(entry -> new DuplicatePolicyDto("동일한 대상과 규칙을 가진 중복 정책", entry.getValue(), entry.getKey()))
+                .map(entry -> new DuplicatePolicyDto("동일한 대상과 규칙을 가진 중복 정책", entry.getValue(), entry.getKey().toHex()))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 정책의 핵심 요소를 정규화하고 정렬하여 고유한 '서명' 문자열을 생성합니다.
-     * 서명이 동일하면 두 정책은 기능적으로 동일하다고 판단할 수 있습니다.
+     * 같은 효과·대상을 가진 정책끼리 묶은 뒤, 묶음 안에서 조건의 엄격한 포함 관계를 찾습니다.
+     * 함축 관계가 성립하려면 두 조건이 최소 하나의 단말 조건을 공유해야 하므로,
+     * 단말 조건 → 정책 역색인으로 비교 후보를 좁히고 정책당 후보 수를 MAX_SUBSUMPTION_CANDIDATES 로 제한합니다.
      */
-    private String createPolicySignature(Policy policy) {
+    @Override
+    public List<DuplicatePolicyDto> findSubsumedPolicies() {
+        Map<StructuralHash, List<AnalyzedPolicy>> policiesByScope = new HashMap<>();
+        // 동일한 조건 트리는 하나의 인스턴스를 공유하여 메모리 사용량을 줄임
+        Map<StructuralHash, CanonicalExpression> internedConditions = new HashMap<>();
+        policyRepository.scanAllWithDetails(policy -> {
+            CanonicalExpression parsed = expressionCanonicalizer.canonicalize(policyTranslator.parsePolicy(policy));
+            CanonicalExpression condition = internedConditions.computeIfAbsent(parsed.getHash(), key -> parsed);
+            policiesByScope.computeIfAbsent(createScopeSignature(policy), key -> new ArrayList<>(1))
+                    .add(new AnalyzedPolicy(policy.getId(), condition));
+        });
+
+        List<DuplicatePolicyDto> results = new ArrayList<>();
+        for (List<AnalyzedPolicy> group : policiesByScope.values()) {
+            if (group.size() > 1) {
+                collectSubsumptions(group, results);
+            }
+        }
+        return results;
+    }
+
+    private void collectSubsumptions(List<AnalyzedPolicy> group, List<DuplicatePolicyDto> results) {
+        Map<String, List<Integer>> policiesByAtom = new HashMap<>();
+        for (int i = 0; i < group.size(); i++) {
+            for (String atom : group.get(i).condition().getAtoms()) {
+                policiesByAtom.computeIfAbsent(atom, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (int i = 0; i < group.size(); i++) {
+            AnalyzedPolicy narrower = group.get(i);
+            for (int j : findCandidates(narrower, i, policiesByAtom)) {
+                AnalyzedPolicy broader = group.get(j);
+                if (narrower.condition().equals(broader.condition())) continue; // 완전 중복은 findDuplicatePolicies 에서 보고
+                if (expressionCanonicalizer.implies(narrower.condition(), broader.condition())
+                        && !expressionCanonicalizer.implies(broader.condition(), narrower.condition())) {
+                    results.add(new DuplicatePolicyDto(
+                            "정책 " + narrower.id() + "의 조건이 정책 " + broader.id() + "의 조건에 포함됨",
+                            List.of(narrower.id(), broader.id()),
+                            narrower.condition().getHash().toHex() + ":" + broader.condition().getHash().toHex()));
+                }
+            }
+        }
+    }
+
+    private Set<Integer> findCandidates(AnalyzedPolicy policy, int index, Map<String, List<Integer>> policiesByAtom) {
+        Set<Integer> candidates = new LinkedHashSet<>();
+        for (String atom : policy.condition().getAtoms()) {
+            for (int candidate : policiesByAtom.get(atom)) {
+                if (candidate == index) continue;
+                candidates.add(candidate);
+                if (candidates.size() >= MAX_SUBSUMPTION_CANDIDATES) {
+                    log.debug("Subsumption candidates for policy {} truncated at {}", policy.id(), MAX_SUBSUMPTION_CANDIDATES);
+                    return candidates;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 정책의 효과와 대상(정렬됨)으로 구성된 서명. 조건 해시를 결합하면 정책 전체 서명이 됩니다.
+     */
+    private StructuralHash createScopeSignature(Policy policy) {
         // 효과 (ALLOW | DENY)
-        String effect = policy.getEffect().name();
+        StructuralHash signature = StructuralHash.seed(policy.getEffect().name());
 
         // 대상 (Targets) - 정렬하여 일관성 유지
-        String targets = policy.getTargets().stream()
+        List<String> targets = policy.getTargets().stream()
                 .map(t -> t.getTargetType() + ":" + t.getTargetIdentifier() + ":" + t.getHttpMethod())
                 .sorted()
-                .collect(Collectors.joining(","));
-
-        // 조건 (Conditions) - 정렬하여 일관성 유지
-        String conditions = policy.getRules().stream()
-                .flatMap(rule -> rule.getConditions().stream())
-                .map(PolicyCondition::getExpression)
-                .sorted()
-                .collect(Collectors.joining("&&"));
+                .toList();
+        for (String target : targets) {
+            signature = signature.with(target);
+        }
+        return signature;
+    }
 
-        return String.join("|", effect, targets, conditions);
+    /**
+     * MinHash/LSH 역할 마이닝으로 권한 조합이 비슷한 사용자를 묶고, 묶음의 공통 권한을 통합 역할 후보로 제안합니다.
+     */
+    @Override
+    public List<RoleCandidateDto> proposeConsolidatedRoles(int limit) {
+        if (limit < 1 || limit > MAX_ROLE_CANDIDATES) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + MAX_ROLE_CANDIDATES + " 이하여야 합니다.");
+        }
+        return roleMiningEngine.mine(limit);
     }
 
+    private record AnalyzedPolicy(Long id, CanonicalExpression condition) {}
+
     /**
      * [최종 로직 구현] 여러 정책을 하나로 병합하는 제안을 생성합니다.
      * 동일한 대상과 효과를 가지지만, 주체만 다른 정책들을 병합하는 시나리오를 처리합니다.
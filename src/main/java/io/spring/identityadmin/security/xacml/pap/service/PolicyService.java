@@ -1,5 +1,7 @@
 package io.spring.identityadmin.security.xacml.pap.service;
 
+import io.spring.identityadmin.domain.dto.KeysetPageRequest;
+import io.spring.identityadmin.domain.dto.PageResponseDto;
 import io.spring.identityadmin.domain.dto.PolicyDto;
 import io.spring.identityadmin.domain.entity.policy.Policy;
 
@@ -11,6 +13,10 @@ import java.util.List;
  */
 public interface PolicyService {
     List<Policy> getAllPolicies();
+    /**
+     * 정책 목록 화면용 키셋 페이지를 (우선순위, id) 순으로 조회합니다. 전체 개수는 첫 페이지에서만 셉니다.
+     */
+    PageResponseDto<PolicyDto> getPolicyPage(KeysetPageRequest request);
     Policy findById(Long id);
     Policy createPolicy(PolicyDto policyDto);
     void updatePolicy(PolicyDto policyDto);
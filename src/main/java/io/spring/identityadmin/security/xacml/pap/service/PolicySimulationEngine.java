@@ -0,0 +1,210 @@
+package io.spring.identityadmin.security.xacml.pap.service;
+
+import io.spring.identityadmin.domain.dto.UserAuthoritySnapshot;
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
+import io.spring.identityadmin.repository.UserRepository;
+import io.spring.identityadmin.studio.dto.SimulationResultDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 정책 초안이 전체 사용자(또는 지정된 사용자)에게 미치는 권한 변화를 대량으로 시뮬레이션합니다.
+ * <p>
+ * 정책 초안의 조건식은 작업당 한 번만 파싱하고, 사용자는 역할·권한 문자열을 함께 집계한 키셋 페이지 단위로 읽습니다.
+ * 한 페이지를 전용 ForkJoinPool 에서 병렬 평가하는 동안 다음 페이지를 조회하므로 DB 조회와 평가가 겹쳐 실행되며,
+ * 사용자 엔티티와 연관 그래프를 영속성 컨텍스트에 올리지 않습니다.
+ * 비동기 작업은 진행률 조회와 취소가 가능하고, 결과는 조회 시점까지 누적된 만큼 점진적으로 제공됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicySimulationEngine {
+
+    private static final int PAGE_SIZE = 1_000;
+    private static final int MAX_RETAINED_IMPACTS = 100_000;
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofMinutes(30);
+    private static final Pattern AUTHORITY_PATTERN = Pattern.compile("hasAuthority\\('([^']*)'\\)");
+
+    private final UserRepository userRepository;
+    private final SpelExpressionParser expressionParser = new SpelExpressionParser();
+    private final ForkJoinPool evaluationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final Map<String, PolicySimulationJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 시뮬레이션을 가상 스레드에서 비동기로 시작하고 즉시 작업 핸들을 반환합니다.
+     * @param policyDraft 시뮬레이션할 정책 초안
+     * @param userIds 대상 사용자 id 목록. null 또는 비어 있으면 전체 사용자
+     */
+    public PolicySimulationJob start(Policy policyDraft, Collection<Long> userIds) {
+        CompiledDraft draft = compile(policyDraft);
+        PolicySimulationJob job = new PolicySimulationJob(policyDraft.getName(), MAX_RETAINED_IMPACTS);
+        evictFinishedJobs();
+        jobs.put(job.getJobId(), job);
+        Thread.ofVirtual().name("policy-simulation-" + job.getJobId()).start(() -> execute(job, draft, userIds));
+        return job;
+    }
+
+    /**
+     * 시뮬레이션을 호출 스레드에서 끝까지 실행한 뒤 완료된 작업을 반환합니다. (작업 목록에는 등록하지 않습니다)
+     */
+    public PolicySimulationJob run(Policy policyDraft, Collection<Long> userIds) {
+        PolicySimulationJob job = new PolicySimulationJob(policyDraft.getName(), MAX_RETAINED_IMPACTS);
+        execute(job, compile(policyDraft), userIds);
+        return job;
+    }
+
+    public Optional<PolicySimulationJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 실행 중인 작업을 취소합니다. 이미 평가 중인 페이지는 남은 사용자를 건너뛰고 종료됩니다.
+     * @return 취소되었으면 true, 작업이 없거나 이미 종료되었으면 false
+     */
+    public boolean cancel(String jobId) {
+        PolicySimulationJob job = jobs.get(jobId);
+        return job != null && job.cancel();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(PolicySimulationJob::cancel);
+        evaluationPool.shutdownNow();
+    }
+
+    private void execute(PolicySimulationJob job, CompiledDraft draft, Collection<Long> userIds) {
+        try {
+            job.setTotalUsers(userRepository.countAuthoritySnapshots(userIds));
+            if (draft.permissions().isEmpty()) {
+                // 초안이 부여/회수하는 권한이 없으면 어떤 사용자에게도 변화가 없습니다.
+                job.complete();
+                return;
+            }
+
+            long afterId = 0L;
+            ForkJoinTask<?> inFlight = null;
+            while (!job.isCancelled()) {
+                List<UserAuthoritySnapshot> page = userRepository.findAuthoritySnapshots(afterId, userIds, PAGE_SIZE);
+                // 다음 페이지 조회가 끝난 뒤에 이전 페이지 평가를 기다리므로 조회와 평가가 겹쳐 실행됩니다.
+                if (inFlight != null) inFlight.join();
+                if (page.isEmpty()) break;
+
+                afterId = page.getLast().id();
+                inFlight = evaluationPool.submit(() -> page.parallelStream().forEach(user -> {
+                    if (!job.isCancelled()) evaluate(draft, user, job);
+                }));
+                if (page.size() < PAGE_SIZE) break;
+            }
+            if (inFlight != null) inFlight.join();
+            job.complete();
+
+            if (job.getEvaluationErrors() > 0) {
+                log.warn("Policy simulation '{}' could not evaluate the draft condition for {} users.",
+                        job.getPolicyName(), job.getEvaluationErrors());
+            }
+        } catch (Exception e) {
+            log.error("Policy simulation '{}' failed.", job.getPolicyName(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void evaluate(CompiledDraft draft, UserAuthoritySnapshot user, PolicySimulationJob job) {
+        try {
+            if (!applies(draft, user)) return;
+            for (String permission : draft.permissions()) {
+                boolean held = user.authorities().contains(permission);
+                if (draft.effect() == Policy.Effect.ALLOW && !held) {
+                    job.addImpact(new SimulationResultDto.ImpactDetail(
+                            user.name(), "USER", permission, SimulationResultDto.ImpactType.PERMISSION_GAINED, draft.policyName()));
+                } else if (draft.effect() == Policy.Effect.DENY && held) {
+                    job.addImpact(new SimulationResultDto.ImpactDetail(
+                            user.name(), "USER", permission, SimulationResultDto.ImpactType.PERMISSION_LOST, draft.policyName()));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Error evaluating SpEL for simulation of user {}: {}", user.username(), e.getMessage());
+            job.evaluationFailed();
+        } finally {
+            job.userProcessed();
+        }
+    }
+
+    private boolean applies(CompiledDraft draft, UserAuthoritySnapshot user) {
+        if (draft.condition() == null) return true;
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user.username(), null,
+                user.authorities().stream().map(SimpleGrantedAuthority::new).toList());
+        SecurityExpressionRoot root = new SecurityExpressionRoot(authentication) {};
+        root.setTrustResolver(new AuthenticationTrustResolverImpl());
+
+        StandardEvaluationContext context = new StandardEvaluationContext(root);
+        context.setVariable("authentication", authentication);
+        return Boolean.TRUE.equals(draft.condition().getValue(context, Boolean.class));
+    }
+
+    /**
+     * 정책 초안의 조건식을 하나의 SpEL 식으로 결합해 한 번만 파싱하고, 초안이 다루는 PERM_ 권한 목록을 추출합니다.
+     */
+    private CompiledDraft compile(Policy policyDraft) {
+        if (policyDraft.getEffect() == null) {
+            throw new IllegalArgumentException("시뮬레이션할 정책의 효과(ALLOW/DENY)가 지정되지 않았습니다.");
+        }
+        List<String> expressions = policyDraft.getRules().stream()
+                .flatMap(r -> r.getConditions().stream())
+                .map(PolicyCondition::getExpression)
+                .toList();
+
+        Set<String> permissions = new LinkedHashSet<>();
+        for (String expression : expressions) {
+            Matcher matcher = AUTHORITY_PATTERN.matcher(expression);
+            while (matcher.find()) {
+                String authority = matcher.group(1);
+                if (authority.startsWith("PERM_")) {
+                    permissions.add(authority);
+                }
+            }
+        }
+
+        String joined = expressions.stream().map(e -> "(" + e + ")").collect(Collectors.joining(" && "));
+        Expression condition;
+        try {
+            condition = joined.isEmpty() ? null : expressionParser.parseExpression(joined);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("정책 조건식을 해석할 수 없습니다: " + e.getMessage(), e);
+        }
+        return new CompiledDraft(policyDraft.getName(), policyDraft.getEffect(), condition, Set.copyOf(permissions));
+    }
+
+    private void evictFinishedJobs() {
+        Instant threshold = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private record CompiledDraft(String policyName, Policy.Effect effect, Expression condition, Set<String> permissions) {}
+}
@@ -0,0 +1,142 @@
+package io.spring.identityadmin.security.xacml.pap.service;
+
+import io.spring.identityadmin.studio.dto.SimulationResultDto;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PolicySimulationEngine 이 실행하는 시뮬레이션 작업 하나의 진행 상태와 누적 결과입니다.
+ * 평가 스레드들이 동시에 결과를 추가하고, 조회 요청은 fromIndex 이후의 결과만 가져가 점진적으로 표시할 수 있습니다.
+ * 보관하는 영향 내역은 maxRetainedImpacts 건으로 제한되며, 초과분은 건수만 집계됩니다.
+ */
+@Getter
+public class PolicySimulationJob {
+
+    public enum Status { RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final String policyName;
+    private final Instant startedAt = Instant.now();
+    private final int maxRetainedImpacts;
+
+    private volatile Status status = Status.RUNNING;
+    private volatile long totalUsers;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    private final LongAdder processedUsers = new LongAdder();
+    private final LongAdder gainedCount = new LongAdder();
+    private final LongAdder lostCount = new LongAdder();
+    private final AtomicLong evaluationErrors = new AtomicLong();
+    private final List<SimulationResultDto.ImpactDetail> impacts = new ArrayList<>();
+
+    PolicySimulationJob(String policyName, int maxRetainedImpacts) {
+        this.policyName = policyName;
+        this.maxRetainedImpacts = maxRetainedImpacts;
+    }
+
+    public long getProcessedUsers() {
+        return processedUsers.sum();
+    }
+
+    public long getGainedCount() {
+        return gainedCount.sum();
+    }
+
+    public long getLostCount() {
+        return lostCount.sum();
+    }
+
+    public long getEvaluationErrors() {
+        return evaluationErrors.get();
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    public boolean isCancelled() {
+        return status == Status.CANCELLED;
+    }
+
+    /**
+     * 보관 한도를 넘어 버려진 영향 내역이 있는지 여부입니다.
+     */
+    public synchronized boolean isTruncated() {
+        return getGainedCount() + getLostCount() > impacts.size();
+    }
+
+    /**
+     * fromIndex 부터 최대 limit 건의 영향 내역을 복사하여 반환합니다.
+     */
+    public synchronized List<SimulationResultDto.ImpactDetail> getImpacts(int fromIndex, int limit) {
+        if (fromIndex < 0 || fromIndex >= impacts.size()) return Collections.emptyList();
+        int toIndex = (int) Math.min((long) fromIndex + limit, impacts.size());
+        return new ArrayList<>(impacts.subList(fromIndex, toIndex));
+    }
+
+    public synchronized int getRetainedImpactCount() {
+        return impacts.size();
+    }
+
+    public String getSummary() {
+        return String.format("총 %d명의 사용자에 대해 %d개의 권한 변경이 예상됩니다. (획득 %d, 상실 %d)",
+                getProcessedUsers(), getGainedCount() + getLostCount(), getGainedCount(), getLostCount());
+    }
+
+    public synchronized SimulationResultDto toResultDto() {
+        return new SimulationResultDto(getSummary(), new ArrayList<>(impacts));
+    }
+
+    void setTotalUsers(long totalUsers) {
+        this.totalUsers = totalUsers;
+    }
+
+    void userProcessed() {
+        processedUsers.increment();
+    }
+
+    void evaluationFailed() {
+        evaluationErrors.incrementAndGet();
+    }
+
+    void addImpact(SimulationResultDto.ImpactDetail impact) {
+        if (impact.impactType() == SimulationResultDto.ImpactType.PERMISSION_GAINED) {
+            gainedCount.increment();
+        } else {
+            lostCount.increment();
+        }
+        synchronized (this) {
+            if (impacts.size() < maxRetainedImpacts) {
+                impacts.add(impact);
+            }
+        }
+    }
+
+    synchronized boolean cancel() {
+        if (status != Status.RUNNING) return false;
+        status = Status.CANCELLED;
+        finishedAt = Instant.now();
+        return true;
+    }
+
+    synchronized void complete() {
+        if (status != Status.RUNNING) return;
+        status = Status.COMPLETED;
+        finishedAt = Instant.now();
+    }
+
+    synchronized void fail(String errorMessage) {
+        if (status != Status.RUNNING) return;
+        this.errorMessage = errorMessage;
+        status = Status.FAILED;
+        finishedAt = Instant.now();
+    }
+}
@@ -0,0 +1,335 @@
+package io.spring.identityadmin.security.xacml.pap.service;
+
+import io.spring.identityadmin.domain.entity.Permission;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.repository.RoleRepository;
+import io.spring.identityadmin.repository.UserRepository;
+import io.spring.identityadmin.security.xacml.pap.dto.RoleCandidateDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 실제 권한 보유 현황에서 통합 역할 후보를 찾는 역할 마이닝 엔진.
+ * <p>
+ * 사용자 → 그룹 → 역할 → 권한 관계로 사용자별 권한 비트맵을 만들되, 같은 그룹 집합·같은 권한 조합을 가진 사용자는 하나로 묶어
+ * 서로 다른 권한 조합(entitlement pattern)만 처리합니다. 각 조합의 MinHash 서명을 계산한 뒤 밴드 단위 LSH 버킷에 넣고,
+ * 같은 버킷의 대표 조합과 실제 Jaccard 유사도가 MIN_SIMILARITY 이상인 조합만 합쳐 군집을 만듭니다.
+ * 쌍별 비교 없이 조합 수에 비례하는 시간으로 끝나며, 서명 계산·버킷 구성·유사도 검증은 전용 ForkJoinPool 에서 병렬로 실행됩니다.
+ * 군집마다 모든 구성원이 공통으로 보유한 권한을 후보 역할로 제안하고, 적용 범위(coverage)와 역할 수 감소량 순으로 정렬합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleMiningEngine {
+
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int HASH_FUNCTIONS = BANDS * ROWS_PER_BAND;
+    private static final double MIN_SIMILARITY = 0.8;
+    private static final int MIN_CANDIDATE_USERS = 2;
+    private static final int MIN_CANDIDATE_PERMISSIONS = 2;
+    private static final long HASH_SEED = 0x5DEECE66DL;
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final ForkJoinPool miningPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 서로 다른 권한 조합 하나와 그 조합을 가진 사용자 수, 사용자들이 그룹을 통해 보유한 역할.
+     */
+    private record Entitlement(long[] bits, int permissionCount, int userCount, Set<Long> roleIds) {}
+
+    @PreDestroy
+    public void shutdown() {
+        miningPool.shutdownNow();
+    }
+
+    /**
+     * 통합 역할 후보를 계산하여 적용 범위와 역할 수 감소량이 큰 순서로 최대 limit 개 반환합니다.
+     */
+    public List<RoleCandidateDto> mine(int limit) {
+        long started = System.nanoTime();
+        Directory directory = loadDirectory();
+        List<Entitlement> entitlements = directory.entitlements();
+        if (entitlements.isEmpty()) return List.of();
+
+        int[][] signatures = miningPool.submit(() -> IntStream.range(0, entitlements.size()).parallel()
+                .mapToObj(i -> minHash(entitlements.get(i).bits()))
+                .toArray(int[][]::new)).join();
+
+        // 밴드마다 같은 버킷에 처음 들어온 조합을 대표로 하여 (대표, 조합) 후보 쌍을 만듭니다.
+        long[] candidatePairs = miningPool.submit(() -> IntStream.range(0, BANDS).parallel()
+                .mapToObj(band -> bandPairs(signatures, band))
+                .flatMapToLong(Arrays::stream)
+                .distinct()
+                .filter(pair -> jaccard(entitlements.get((int) (pair >>> 32)), entitlements.get((int) pair)) >= MIN_SIMILARITY)
+                .toArray()).join();
+
+        int[] parent = IntStream.range(0, entitlements.size()).toArray();
+        for (long pair : candidatePairs) {
+            union(parent, (int) (pair >>> 32), (int) pair);
+        }
+        Map<Integer, List<Integer>> clusters = new HashMap<>();
+        for (int i = 0; i < entitlements.size(); i++) {
+            clusters.computeIfAbsent(find(parent, i), root -> new ArrayList<>()).add(i);
+        }
+
+        List<RoleCandidateDto> candidates = miningPool.submit(() -> clusters.values().parallelStream()
+                .map(members -> toCandidate(members, entitlements, directory))
+                .filter(candidate -> candidate != null)
+                .sorted(Comparator.comparingLong(RoleCandidateDto::coveredAssignments).reversed()
+                        .thenComparing(Comparator.comparingInt(RoleCandidateDto::roleCountReduction).reversed()))
+                .limit(limit)
+                .toList()).join();
+
+        log.info("Role mining grouped {} entitlement patterns into {} clusters ({} candidate pairs) and proposed {} roles in {} ms.",
+                entitlements.size(), clusters.size(), candidatePairs.length, candidates.size(), (System.nanoTime() - started) / 1_000_000);
+        return candidates;
+    }
+
+    /**
+     * @param roleBits 역할 id → 역할 권한 비트맵
+     * @param permissionIds 비트 위치 → 권한 id
+     * @param totalAssignments 전체 사용자-권한 할당 수
+     */
+    private record Directory(List<Entitlement> entitlements, Map<Long, long[]> roleBits, long[] permissionIds,
+                             Map<Long, String> permissionNames, long totalAssignments) {}
+
+    private Directory loadDirectory() {
+        Map<Long, Integer> columnByPermissionId = new HashMap<>();
+        List<long[]> rolePermissionEdges = new ArrayList<>();
+        roleRepository.scanRolePermissionEdges((roleId, permissionId) -> {
+            columnByPermissionId.putIfAbsent(permissionId, columnByPermissionId.size());
+            rolePermissionEdges.add(new long[]{roleId, permissionId});
+        });
+        int words = Math.max(1, (columnByPermissionId.size() + Long.SIZE - 1) / Long.SIZE);
+        long[] permissionIds = new long[columnByPermissionId.size()];
+        columnByPermissionId.forEach((permissionId, column) -> permissionIds[column] = permissionId);
+
+        Map<Long, long[]> roleBits = new HashMap<>();
+        for (long[] edge : rolePermissionEdges) {
+            int column = columnByPermissionId.get(edge[1]);
+            roleBits.computeIfAbsent(edge[0], id -> new long[words])[column >>> 6] |= 1L << column;
+        }
+
+        Map<Long, List<Long>> rolesByGroup = new HashMap<>();
+        groupRepository.scanGroupRoleEdges((groupId, roleId) ->
+                rolesByGroup.computeIfAbsent(groupId, id -> new ArrayList<>()).add(roleId));
+
+        // 사용자 id 순으로 전달되므로 사용자가 바뀔 때마다 직전 사용자의 그룹 집합을 집계합니다.
+        Map<List<Long>, int[]> usersByGroupSet = new HashMap<>();
+        List<Long> currentGroups = new ArrayList<>();
+        long[] currentUser = {-1};
+        userRepository.scanGroupMemberships((userId, groupId) -> {
+            if (userId != currentUser[0]) {
+                if (!currentGroups.isEmpty()) usersByGroupSet.computeIfAbsent(List.copyOf(currentGroups), key -> new int[1])[0]++;
+                currentGroups.clear();
+                currentUser[0] = userId;
+            }
+            currentGroups.add(groupId);
+        });
+        if (!currentGroups.isEmpty()) usersByGroupSet.computeIfAbsent(List.copyOf(currentGroups), key -> new int[1])[0]++;
+
+        // 그룹 집합이 달라도 권한 조합이 같으면 하나의 조합으로 합칩니다.
+        Map<BitsKey, Entitlement> byBits = new HashMap<>();
+        long totalAssignments = 0;
+        for (Map.Entry<List<Long>, int[]> entry : usersByGroupSet.entrySet()) {
+            long[] bits = new long[words];
+            Set<Long> roleIds = new TreeSet<>();
+            for (Long groupId : entry.getKey()) {
+                for (Long roleId : rolesByGroup.getOrDefault(groupId, List.of())) {
+                    roleIds.add(roleId);
+                    long[] permissions = roleBits.get(roleId);
+                    if (permissions == null) continue;
+                    for (int word = 0; word < words; word++) bits[word] |= permissions[word];
+                }
+            }
+            int permissionCount = cardinality(bits);
+            if (permissionCount == 0) continue;
+            int userCount = entry.getValue()[0];
+            totalAssignments += (long) userCount * permissionCount;
+            byBits.merge(new BitsKey(bits), new Entitlement(bits, permissionCount, userCount, roleIds), (existing, added) -> {
+                Set<Long> mergedRoles = new TreeSet<>(existing.roleIds());
+                mergedRoles.addAll(added.roleIds());
+                return new Entitlement(existing.bits(), existing.permissionCount(), existing.userCount() + added.userCount(), mergedRoles);
+            });
+        }
+
+        Map<Long, String> permissionNames = new HashMap<>();
+        for (Permission permission : permissionRepository.findAll()) {
+            permissionNames.put(permission.getId(), permission.getName());
+        }
+        return new Directory(new ArrayList<>(byBits.values()), roleBits, permissionIds, permissionNames, totalAssignments);
+    }
+
+    /**
+     * 군집 구성원 모두가 공통으로 보유한 권한을 후보 역할로 만듭니다. 후보로서 의미가 없으면 null 을 반환합니다.
+     */
+    private RoleCandidateDto toCandidate(List<Integer> members, List<Entitlement> entitlements, Directory directory) {
+        long[] core = entitlements.get(members.getFirst()).bits().clone();
+        long userCount = 0;
+        Set<Long> heldRoles = new LinkedHashSet<>();
+        for (int member : members) {
+            Entitlement entitlement = entitlements.get(member);
+            for (int word = 0; word < core.length; word++) core[word] &= entitlement.bits()[word];
+            userCount += entitlement.userCount();
+            heldRoles.addAll(entitlement.roleIds());
+        }
+        int coreSize = cardinality(core);
+        if (userCount < MIN_CANDIDATE_USERS || coreSize < MIN_CANDIDATE_PERMISSIONS) return null;
+
+        List<Long> replaceableRoleIds = new ArrayList<>();
+        for (Long roleId : heldRoles) {
+            long[] permissions = directory.roleBits().get(roleId);
+            if (permissions != null && isSubset(permissions, core)) replaceableRoleIds.add(roleId);
+        }
+        int reduction = replaceableRoleIds.size() - 1;
+        if (reduction < 1) return null;
+
+        double coreShare = 0;
+        for (int member : members) {
+            Entitlement entitlement = entitlements.get(member);
+            coreShare += entitlement.userCount() * ((double) coreSize / entitlement.permissionCount());
+        }
+
+        List<Long> permissionIds = new ArrayList<>(coreSize);
+        List<String> permissionNames = new ArrayList<>(coreSize);
+        for (int word = 0; word < core.length; word++) {
+            long remaining = core[word];
+            while (remaining != 0) {
+                long permissionId = directory.permissionIds()[word * Long.SIZE + Long.numberOfTrailingZeros(remaining)];
+                permissionIds.add(permissionId);
+                permissionNames.add(directory.permissionNames().get(permissionId));
+                remaining &= remaining - 1;
+            }
+        }
+        long coveredAssignments = userCount * coreSize;
+        return new RoleCandidateDto(permissionIds, permissionNames, userCount, members.size(), coveredAssignments,
+                (double) coveredAssignments / directory.totalAssignments(), coreShare / userCount, replaceableRoleIds, reduction);
+    }
+
+    private static final long[] HASH_MULTIPLIERS = new long[HASH_FUNCTIONS];
+    private static final long[] HASH_OFFSETS = new long[HASH_FUNCTIONS];
+
+    static {
+        Random random = new Random(HASH_SEED);
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            HASH_MULTIPLIERS[i] = random.nextLong() | 1L;
+            HASH_OFFSETS[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * 비트맵에 포함된 권한 위치마다 HASH_FUNCTIONS 개의 해시를 계산하여 각 해시의 최솟값을 서명으로 사용합니다.
+     */
+    private static int[] minHash(long[] bits) {
+        int[] signature = new int[HASH_FUNCTIONS];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                long element = word * Long.SIZE + Long.numberOfTrailingZeros(remaining);
+                for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                    int hash = (int) (mix(element * HASH_MULTIPLIERS[i] + HASH_OFFSETS[i]) >>> 33);
+                    if (hash < signature[i]) signature[i] = hash;
+                }
+                remaining &= remaining - 1;
+            }
+        }
+        return signature;
+    }
+
+    private static long[] bandPairs(int[][] signatures, int band) {
+        Map<Long, Integer> representatives = new HashMap<>();
+        long[] pairs = new long[signatures.length];
+        int size = 0;
+        for (int i = 0; i < signatures.length; i++) {
+            long key = band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                key = mix(key * 31 + signatures[i][band * ROWS_PER_BAND + row]);
+            }
+            Integer representative = representatives.putIfAbsent(key, i);
+            if (representative != null) {
+                pairs[size++] = ((long) representative << 32) | i;
+            }
+        }
+        return Arrays.copyOf(pairs, size);
+    }
+
+    private static double jaccard(Entitlement a, Entitlement b) {
+        int intersection = 0;
+        for (int word = 0; word < a.bits().length; word++) {
+            intersection += Long.bitCount(a.bits()[word] & b.bits()[word]);
+        }
+        return (double) intersection / (a.permissionCount() + b.permissionCount() - intersection);
+    }
+
+    private static boolean isSubset(long[] bits, long[] of) {
+        for (int word = 0; word < bits.length; word++) {
+            if ((bits[word] & ~of[word]) != 0) return false;
+        }
+        return true;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) count += Long.bitCount(word);
+        return count;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+    }
+
+    /**
+     * SplitMix64 의 최종 혼합 단계.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * 권한 비트맵을 내용으로 비교하는 맵 키.
+     */
+    private record BitsKey(long[] bits) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof BitsKey that && Arrays.equals(bits, that.bits);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(bits);
+        }
+    }
+}
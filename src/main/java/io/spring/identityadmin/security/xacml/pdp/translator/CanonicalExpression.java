@@ -0,0 +1,99 @@
+package io.spring.identityadmin.security.xacml.pdp.translator;
+
+import lombok.Getter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+
+/**
+ * ExpressionNode 트리를 정규화한 불변 표현식.
+ * AND/OR 는 평탄화되고 자식이 해시 순으로 정렬·중복 제거되어 있으므로,
+ * 같은 의미를 다른 순서로 작성한 조건("A and B" / "B and A")은 같은 구조 해시를 가집니다.
+ * 인스턴스는 ExpressionCanonicalizer 를 통해서만 생성됩니다.
+ */
+@Getter
+public final class CanonicalExpression {
+
+    public enum Kind {
+        /** 주어진 권한 중 하나 이상 보유 (hasRole, hasAnyAuthority 등) */
+        ANY_OF,
+        /** 더 이상 분석할 수 없는 단말 조건 (isAuthenticated, hasIpAddress, 원본 SpEL 등) */
+        OPAQUE,
+        AND,
+        OR,
+        NOT
+    }
+
+    private final Kind kind;
+    private final SortedSet<String> authorities;
+    private final String opaqueKey;
+    private final List<CanonicalExpression> children;
+    private final StructuralHash hash;
+    private volatile Set<String> atoms;
+
+    CanonicalExpression(Kind kind, SortedSet<String> authorities, String opaqueKey, List<CanonicalExpression> children) {
+        this.kind = kind;
+        this.authorities = authorities;
+        this.opaqueKey = opaqueKey;
+        this.children = children;
+        this.hash = computeHash();
+    }
+
+    /**
+     * 이 표현식에 등장하는 모든 단말 조건의 키 집합 (권한은 "A:" 접두사, 분석 불가 조건은 "O:" 접두사).
+     * 두 표현식 사이에 함축 관계가 성립하려면 최소 하나의 단말 키를 공유해야 하므로, 포함 관계 후보를 좁히는 색인에 사용됩니다.
+     */
+    public Set<String> getAtoms() {
+        Set<String> result = atoms;
+        if (result == null) {
+            result = new HashSet<>();
+            collectAtoms(this, result);
+            atoms = result;
+        }
+        return result;
+    }
+
+    private static void collectAtoms(CanonicalExpression expression, Set<String> result) {
+        switch (expression.kind) {
+            case ANY_OF -> expression.authorities.forEach(authority -> result.add("A:" + authority));
+            case OPAQUE -> result.add("O:" + expression.opaqueKey);
+            default -> expression.children.forEach(child -> collectAtoms(child, result));
+        }
+    }
+
+    private StructuralHash computeHash() {
+        StructuralHash result = StructuralHash.seed(kind.name());
+        switch (kind) {
+            case ANY_OF -> {
+                for (String authority : authorities) result = result.with(authority);
+            }
+            case OPAQUE -> result = result.with(opaqueKey);
+            default -> {
+                for (CanonicalExpression child : children) result = result.with(child.hash);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof CanonicalExpression other && hash.equals(other.hash));
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash.high());
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case ANY_OF -> "anyOf" + authorities;
+            case OPAQUE -> opaqueKey;
+            case NOT -> "not(" + children.getFirst() + ")";
+            default -> kind.name().toLowerCase() + children;
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package io.spring.identityadmin.security.xacml.pdp.translator;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * PolicyTranslator 가 만든 ExpressionNode 트리를 CanonicalExpression 으로 정규화하고,
+ * 정규화된 두 표현식 사이의 함축(implication) 관계를 판정합니다.
+ *
+ * <p>정규화 규칙:
+ * <ul>
+ *   <li>중첩된 AND/AND, OR/OR 를 평탄화하고 자식을 구조 해시 순으로 정렬·중복 제거</li>
+ *   <li>OR 안의 권한 조건(ANY_OF)은 하나의 권한 집합으로 병합</li>
+ *   <li>AND 에서는 다른 자식에 의해 함축되는 자식을, OR 에서는 다른 자식을 함축하는 자식을 제거 (흡수 법칙)</li>
+ *   <li>NOT(NOT(x)) 는 x 로, 자식이 하나뿐인 AND/OR 는 그 자식으로 축약</li>
+ * </ul>
+ * 함축 판정은 건전(sound)하지만 완전하지는 않습니다. true 이면 항상 함축이 성립하고, false 는 '증명하지 못함'을 뜻합니다.
+ */
+@Component
+public class ExpressionCanonicalizer {
+
+    private static final Comparator<CanonicalExpression> BY_HASH =
+            Comparator.comparing(CanonicalExpression::getHash, StructuralHash.ORDER);
+
+    public CanonicalExpression canonicalize(ExpressionNode node) {
+        if (node instanceof LogicalNode logical) {
+            return switch (logical.getOperator()) {
+                case "NOT" -> negate(canonicalize(logical.getChildren().getFirst()));
+                case "AND" -> combine(CanonicalExpression.Kind.AND, canonicalizeAll(logical.getChildren()));
+                default -> combine(CanonicalExpression.Kind.OR, canonicalizeAll(logical.getChildren()));
+            };
+        }
+        TerminalNode terminal = (TerminalNode) node;
+        if (terminal.getAuthority() != null) {
+            return anyOf(splitAuthorities(terminal.getAuthority()));
+        }
+        return new CanonicalExpression(CanonicalExpression.Kind.OPAQUE, null,
+                terminal.getDescription() + (terminal.isAuthenticationRequired() ? "#auth" : ""), List.of());
+    }
+
+    /**
+     * premise 가 참이면 conclusion 도 반드시 참인지 판정합니다.
+     */
+    public boolean implies(CanonicalExpression premise, CanonicalExpression conclusion) {
+        if (premise.equals(conclusion)) return true;
+
+        // 결론이 AND 이면 모든 항을, 전제가 OR 이면 모든 분기가 결론을 함축해야 함
+        if (conclusion.getKind() == CanonicalExpression.Kind.AND) {
+            return conclusion.getChildren().stream().allMatch(child -> implies(premise, child));
+        }
+        if (premise.getKind() == CanonicalExpression.Kind.OR) {
+            return premise.getChildren().stream().allMatch(child -> implies(child, conclusion));
+        }
+        // 전제가 AND 이면 한 항만, 결론이 OR 이면 한 분기만 함축되면 충분
+        if (premise.getKind() == CanonicalExpression.Kind.AND
+                && premise.getChildren().stream().anyMatch(child -> implies(child, conclusion))) {
+            return true;
+        }
+        if (conclusion.getKind() == CanonicalExpression.Kind.OR
+                && conclusion.getChildren().stream().anyMatch(child -> implies(premise, child))) {
+            return true;
+        }
+
+        if (premise.getKind() == CanonicalExpression.Kind.ANY_OF && conclusion.getKind() == CanonicalExpression.Kind.ANY_OF) {
+            return conclusion.getAuthorities().containsAll(premise.getAuthorities());
+        }
+        if (premise.getKind() == CanonicalExpression.Kind.NOT && conclusion.getKind() == CanonicalExpression.Kind.NOT) {
+            return implies(conclusion.getChildren().getFirst(), premise.getChildren().getFirst());
+        }
+        return false;
+    }
+
+    private List<CanonicalExpression> canonicalizeAll(List<ExpressionNode> nodes) {
+        List<CanonicalExpression> result = new ArrayList<>(nodes.size());
+        for (ExpressionNode node : nodes) result.add(canonicalize(node));
+        return result;
+    }
+
+    private CanonicalExpression negate(CanonicalExpression child) {
+        if (child.getKind() == CanonicalExpression.Kind.NOT) {
+            return child.getChildren().getFirst();
+        }
+        return new CanonicalExpression(CanonicalExpression.Kind.NOT, null, null, List.of(child));
+    }
+
+    private CanonicalExpression combine(CanonicalExpression.Kind kind, List<CanonicalExpression> operands) {
+        // 1. 같은 연산자의 하위 노드 평탄화, OR 안의 권한 집합 병합
+        List<CanonicalExpression> flattened = new ArrayList<>();
+        SortedSet<String> mergedAuthorities = null;
+        for (CanonicalExpression operand : operands) {
+            List<CanonicalExpression> parts = operand.getKind() == kind ? operand.getChildren() : List.of(operand);
+            for (CanonicalExpression part : parts) {
+                if (kind == CanonicalExpression.Kind.OR && part.getKind() == CanonicalExpression.Kind.ANY_OF) {
+                    if (mergedAuthorities == null) mergedAuthorities = new TreeSet<>();
+                    mergedAuthorities.addAll(part.getAuthorities());
+                } else {
+                    flattened.add(part);
+                }
+            }
+        }
+        if (mergedAuthorities != null) {
+            flattened.add(anyOf(mergedAuthorities));
+        }
+
+        // 2. 해시 순 정렬 및 중복 제거
+        flattened.sort(BY_HASH);
+        List<CanonicalExpression> distinct = new ArrayList<>(flattened.size());
+        for (CanonicalExpression part : flattened) {
+            if (distinct.isEmpty() || !distinct.getLast().equals(part)) distinct.add(part);
+        }
+
+        // 3. 흡수 법칙: AND 에서는 더 약한 항, OR 에서는 더 강한 분기를 제거
+        //    서로 함축하는(동치인) 항이 여럿이면 정렬 순서상 가장 앞의 것 하나만 남김
+        List<CanonicalExpression> reduced = new ArrayList<>(distinct.size());
+        for (int i = 0; i < distinct.size(); i++) {
+            if (!isAbsorbed(kind, distinct, i)) reduced.add(distinct.get(i));
+        }
+
+        return reduced.size() == 1
+                ? reduced.getFirst()
+                : new CanonicalExpression(kind, null, null, List.copyOf(reduced));
+    }
+
+    private boolean isAbsorbed(CanonicalExpression.Kind kind, List<CanonicalExpression> operands, int index) {
+        CanonicalExpression candidate = operands.get(index);
+        for (int j = 0; j < operands.size(); j++) {
+            if (j == index) continue;
+            CanonicalExpression other = operands.get(j);
+            CanonicalExpression stronger = kind == CanonicalExpression.Kind.AND ? other : candidate;
+            CanonicalExpression weaker = kind == CanonicalExpression.Kind.AND ? candidate : other;
+            if (implies(stronger, weaker) && (j < index || !implies(weaker, stronger))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CanonicalExpression anyOf(SortedSet<String> authorities) {
+        return new CanonicalExpression(CanonicalExpression.Kind.ANY_OF, authorities, null, List.of());
+    }
+
+    private SortedSet<String> splitAuthorities(String authority) {
+        SortedSet<String> authorities = new TreeSet<>();
+        Arrays.stream(authority.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .forEach(authorities::add);
+        return authorities;
+    }
+}
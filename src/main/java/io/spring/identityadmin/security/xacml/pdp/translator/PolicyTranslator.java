@@ -3,9 +3,6 @@ package io.spring.identityadmin.security.xacml.pdp.translator;
 import io.spring.identityadmin.domain.entity.policy.Policy;
 import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
 import io.spring.identityadmin.domain.entity.policy.PolicyRule;
-import io.spring.identityadmin.repository.GroupRepository;
-import io.spring.identityadmin.repository.PermissionRepository;
-import io.spring.identityadmin.repository.RoleRepository;
 import io.spring.identityadmin.domain.dto.EntitlementDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +14,10 @@ import org.springframework.expression.spel.ast.*;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,12 +31,24 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class PolicyTranslator {
 
+    private static final int PARSE_CACHE_MAX_SIZE = 2048;
+
     private final SpelExpressionParser expressionParser = new SpelExpressionParser();
-    private final RoleRepository roleRepository;
-    private final GroupRepository groupRepository;
-    private final PermissionRepository permissionRepository;
+    private final TerminologyDictionary terminologyDictionary;
     private final List<SpelFunctionTranslator> translators;
 
+    /**
+     * 표현식 문자열 → 파싱된 ExpressionNode 트리 (LRU, 최대 PARSE_CACHE_MAX_SIZE 개).
+     * 트리는 파싱 이후 변경되지 않으므로 여러 정책과 스레드가 공유해도 안전합니다.
+     */
+    private final Map<String, ExpressionNode> parsedExpressionCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ExpressionNode> eldest) {
+                    return size() > PARSE_CACHE_MAX_SIZE;
+                }
+            });
+
     private record AnalysisResult(List<String> subjectDescriptions, String subjectType, List<String> actionDescriptions, List<String> conditionDescriptions) {}
 
     /**
@@ -72,24 +84,17 @@ public class PolicyTranslator {
         String subjectType = "N/A";
 
         Set<String> authorities = rootNode.getRequiredAuthorities();
+        // 정책에 등장하는 모든 용어를 유형별 일괄 조회(또는 사전 캐시)로 한 번에 해석
+        Map<String, String> friendlyNames = terminologyDictionary.describe(authorities);
         for (String auth : authorities) {
+            String friendlyName = friendlyNames.getOrDefault(auth, auth);
             if (auth.startsWith("ROLE_")) {
-                // 'ROLE_ADMIN' -> 'ADMIN'
-                String roleName = auth.substring(5);
-                // DB에서 Role 이름을 조회하여 설명 추가
-                String friendlyName = roleRepository.findByRoleName(roleName).map(r -> r.getRoleDesc()).orElse(roleName);
                 subjectDescs.add(friendlyName);
                 subjectType = "역할";
             } else if (auth.startsWith("GROUP_")) {
-                // 'GROUP_1' -> 1L
-                Long groupId = Long.parseLong(auth.substring(6));
-                // DB에서 Group 이름을 조회하여 설명 추가
-                String friendlyName = groupRepository.findById(groupId).map(g -> g.getName()).orElse("ID: " + groupId);
                 subjectDescs.add(friendlyName);
                 subjectType = "그룹";
             } else {
-                // DB에서 Permission 설명을 조회하여 설명 추가
-                String friendlyName = permissionRepository.findByName(auth).map(p -> p.getDescription()).orElse(auth);
                 actionDescs.add(friendlyName);
             }
         }
@@ -105,14 +110,31 @@ public class PolicyTranslator {
         return new AnalysisResult(subjectDescs, subjectType, actionDescs, conditionDescs);
     }
 
+    /**
+     * 조건 표현식을 ExpressionNode 트리로 파싱합니다. 같은 표현식 문자열은 캐시된 트리를 재사용합니다.
+     */
     public ExpressionNode parseCondition(PolicyCondition condition) {
+        String expressionText = condition.getExpression();
+        if (expressionText == null) {
+            return parseExpression(null);
+        }
+        ExpressionNode cached = parsedExpressionCache.get(expressionText);
+        if (cached != null) {
+            return cached;
+        }
+        ExpressionNode parsed = parseExpression(expressionText);
+        parsedExpressionCache.put(expressionText, parsed);
+        return parsed;
+    }
+
+    private ExpressionNode parseExpression(String expressionText) {
         try {
-            Expression expression = expressionParser.parseExpression(condition.getExpression());
+            Expression expression = expressionParser.parseExpression(expressionText);
             SpelNode ast = ((SpelExpression) expression).getAST();
             return walk(ast);
         } catch (Exception e) {
-            log.warn("Could not parse SpEL expression: {}. Treating as opaque condition.", condition.getExpression(), e);
-            return new TerminalNode(condition.getExpression()); // 파싱 실패 시 원본 문자열 그대로 반환
+            log.warn("Could not parse SpEL expression: {}. Treating as opaque condition.", expressionText, e);
+            return new TerminalNode(expressionText); // 파싱 실패 시 원본 문자열 그대로 반환
         }
     }
 
@@ -0,0 +1,62 @@
+package io.spring.identityadmin.security.xacml.pdp.translator;
+
+import java.util.Comparator;
+
+/**
+ * 정규화된 표현식 트리와 정책 서명에 사용하는 128비트 구조 해시.
+ * 두 개의 64비트 레인을 서로 다른 시드와 혼합 함수로 계산하며, 하위 노드 해시를 순서대로 결합합니다.
+ * 순서에 무관해야 하는 집합(교환 법칙이 성립하는 자식, 권한 집합)은 결합 전에 정렬되어 있어야 합니다.
+ */
+public record StructuralHash(long high, long low) {
+
+    public static final Comparator<StructuralHash> ORDER = Comparator
+            .comparingLong(StructuralHash::high)
+            .thenComparingLong(StructuralHash::low);
+
+    private static final long HIGH_SEED = 0x243F6A8885A308D3L;
+    private static final long LOW_SEED = 0x13198A2E03707344L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    public static StructuralHash seed(String tag) {
+        return new StructuralHash(HIGH_SEED, LOW_SEED).with(tag);
+    }
+
+    /**
+     * 문자열 하나를 결합한 새 해시를 반환합니다.
+     */
+    public StructuralHash with(String value) {
+        long h1 = 0xCBF29CE484222325L; // FNV-1a
+        long h2 = LOW_SEED;
+        int length = value == null ? -1 : value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            h1 = (h1 ^ c) * 0x100000001B3L;
+            h2 = h2 * GOLDEN_GAMMA + c;
+        }
+        return with(new StructuralHash(mix(h1 ^ length), mix(h2 + length)));
+    }
+
+    /**
+     * 하위 해시 하나를 결합한 새 해시를 반환합니다. 결합 순서에 따라 결과가 달라집니다.
+     */
+    public StructuralHash with(StructuralHash child) {
+        return new StructuralHash(
+                combine(high, child.high),
+                combine(low, Long.rotateLeft(child.low, 29) ^ child.high));
+    }
+
+    public String toHex() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    private static long combine(long seed, long value) {
+        return mix(seed ^ (value + GOLDEN_GAMMA + (seed << 6) + (seed >>> 2)));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,128 @@
+package io.spring.identityadmin.security.xacml.pdp.translator;
+
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.domain.entity.Group;
+import io.spring.identityadmin.domain.entity.Permission;
+import io.spring.identityadmin.domain.entity.Role;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.repository.RoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정책 번역에 사용되는 권한 문자열(ROLE_x, GROUP_n, 권한 이름)을 사람이 읽을 수 있는 이름으로 바꿔주는 용어 사전.
+ * 사전에 없는 용어들은 유형별로 한 번의 일괄 조회로 적재하며,
+ * 역할/그룹/권한 변경 이벤트(TerminologyChangedEvent)를 받으면 커밋 이후 사전 전체를 비웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TerminologyDictionary {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String GROUP_PREFIX = "GROUP_";
+
+    private final RoleRepository roleRepository;
+    private final GroupRepository groupRepository;
+    private final PermissionRepository permissionRepository;
+    private final IntegrationEventBus eventBus;
+
+    /** 권한 문자열 → 표시 이름. 무효화 시 새 맵으로 교체되어, 진행 중인 적재 결과가 새 사전에 섞이지 않습니다. */
+    private volatile Map<String, String> terms = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        eventBus.subscribe(TerminologyChangedEvent.class, event -> invalidateAfterCommit());
+    }
+
+    /**
+     * 주어진 권한 문자열들의 표시 이름을 반환합니다. 사전에 없는 항목은 역할, 그룹, 권한 유형별로 한 번씩만 조회합니다.
+     * @param authorities 정책에서 추출된 권한 문자열 목록
+     * @return 권한 문자열 → 표시 이름 (DB에 없는 항목은 원본 기반의 대체 이름)
+     */
+    public Map<String, String> describe(Collection<String> authorities) {
+        Map<String, String> snapshot = this.terms;
+        Map<String, String> result = new HashMap<>();
+        Set<String> roleNames = new HashSet<>();
+        Set<Long> groupIds = new HashSet<>();
+        Set<String> permissionNames = new HashSet<>();
+
+        for (String authority : authorities) {
+            String cached = snapshot.get(authority);
+            if (cached != null) {
+                result.put(authority, cached);
+            } else if (authority.startsWith(ROLE_PREFIX)) {
+                roleNames.add(authority.substring(ROLE_PREFIX.length()));
+            } else if (authority.startsWith(GROUP_PREFIX)) {
+                Long groupId = parseGroupId(authority);
+                if (groupId != null) {
+                    groupIds.add(groupId);
+                } else {
+                    result.put(authority, authority);
+                }
+            } else {
+                permissionNames.add(authority);
+            }
+        }
+
+        Map<String, String> loaded = new HashMap<>();
+        if (!roleNames.isEmpty()) {
+            Map<String, String> descriptions = new HashMap<>();
+            for (Role role : roleRepository.findAllByRoleNameIn(roleNames)) {
+                if (role.getRoleDesc() != null) descriptions.put(role.getRoleName(), role.getRoleDesc());
+            }
+            roleNames.forEach(name -> loaded.put(ROLE_PREFIX + name, descriptions.getOrDefault(name, name)));
+        }
+        if (!groupIds.isEmpty()) {
+            Map<Long, String> names = new HashMap<>();
+            for (Group group : groupRepository.findAllById(groupIds)) {
+                if (group.getName() != null) names.put(group.getId(), group.getName());
+            }
+            groupIds.forEach(id -> loaded.put(GROUP_PREFIX + id, names.getOrDefault(id, "ID: " + id)));
+        }
+        if (!permissionNames.isEmpty()) {
+            Map<String, String> descriptions = new HashMap<>();
+            for (Permission permission : permissionRepository.findAllByNameIn(permissionNames)) {
+                if (permission.getDescription() != null) descriptions.put(permission.getName(), permission.getDescription());
+            }
+            permissionNames.forEach(name -> loaded.put(name, descriptions.getOrDefault(name, name)));
+        }
+
+        snapshot.putAll(loaded);
+        result.putAll(loaded);
+        return result;
+    }
+
+    public void invalidate() {
+        this.terms = new ConcurrentHashMap<>();
+        log.debug("Terminology dictionary invalidated.");
+    }
+
+    /**
+     * 변경 트랜잭션이 커밋되기 전에 사전을 비우면 다른 스레드가 이전 값을 다시 적재할 수 있으므로,
+     * 트랜잭션 안에서 호출된 경우에는 커밋 이후에 무효화합니다.
+     */
+    private void invalidateAfterCommit() {
+        AfterCommit.run(this::invalidate);
+    }
+
+    private Long parseGroupId(String authority) {
+        try {
+            return Long.parseLong(authority.substring(GROUP_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
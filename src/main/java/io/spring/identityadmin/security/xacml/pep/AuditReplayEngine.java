@@ -0,0 +1,259 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import io.spring.identityadmin.domain.dto.UserAuthoritySnapshot;
+import io.spring.identityadmin.domain.entity.AuditLog;
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
+import io.spring.identityadmin.repository.AuditLogRepository;
+import io.spring.identityadmin.repository.UserRepository;
+import io.spring.identityadmin.security.xacml.prp.PolicyRetrievalPoint;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 감사 로그에 기록된 URL 요청(주체, 자원, 행위)을 후보 정책 집합으로 다시 평가하여,
+ * 현재 정책 대비 결정이 바뀌는 요청과 두 스냅샷의 결정 지연 시간 분포를 보고합니다.
+ * <p>
+ * 현재 정책과 후보 정책은 모두 운영 중인 CustomDynamicAuthorizationManager 와 별도로 컴파일한 UrlPolicySnapshot 으로 평가하므로
+ * 재생은 운영 인가에 영향을 주지 않습니다. 감사 로그는 서버 측 커서로 읽어 배치 단위로 전용 ForkJoinPool 에서 병렬 평가하며,
+ * 동시에 평가 중인 배치 수를 제한하여 조회가 평가보다 앞서 나가지 않게 합니다.
+ * 주체의 권한은 재생 시점의 사용자 그룹·역할·권한으로 구성됩니다.
+ * <p>
+ * 운영 PEP 는 일치하는 정책이 없는 요청(NO_MATCH)을 허용하므로, 결정 변화는 두 스냅샷의 실효 허용 여부가 달라진 경우만 집계하고
+ * 허용 여부는 같지만 ALLOW 와 NO_MATCH 사이를 오간 요청은 별도로 집계합니다.
+ * 두 스냅샷 모두 운영 PEP 와 같은 가려진 대상 제외 설정으로 컴파일합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditReplayEngine {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_RETAINED_FLIPS = 50_000;
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofMinutes(30);
+    private static final String ANONYMOUS_PRINCIPAL = "anonymousUser";
+
+    private final AuditLogRepository auditLogRepository;
+    private final UserRepository userRepository;
+    private final PolicyRetrievalPoint policyRetrievalPoint;
+    private final ExpressionAuthorizationManagerResolver managerResolver;
+    private final UrlPolicyReachabilityAnalyzer reachabilityAnalyzer;
+    private final ForkJoinPool replayPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final Map<String, AuditReplayJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * CustomDynamicAuthorizationManager 와 같은 설정입니다. 재생 스냅샷도 운영 스냅샷과 같은 대상을 제외해야 결정이 일치합니다.
+     */
+    @Value("${identity-admin.authorization.exclude-unreachable-policies:false}")
+    private boolean excludeUnreachablePolicies;
+
+    /**
+     * 재생 작업을 가상 스레드에서 비동기로 시작하고 즉시 작업 핸들을 반환합니다.
+     * 후보 정책 집합은 현재 URL 정책 목록에서 removedPolicyIds 와 candidatePolicies 에 포함된 id 의 정책을 빼고
+     * candidatePolicies 를 더한 뒤 우선순위 순으로 정렬하여 만듭니다.
+     * @param from 재생할 감사 로그 시작 시각 (포함)
+     * @param to 재생할 감사 로그 종료 시각 (제외)
+     * @param candidatePolicies 추가하거나 교체할 정책 (id 가 없으면 신규 정책)
+     * @param removedPolicyIds 후보 집합에서 제거할 정책 id
+     */
+    public AuditReplayJob start(LocalDateTime from, LocalDateTime to, List<Policy> candidatePolicies, Set<Long> removedPolicyIds) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("재생 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        List<Policy> currentPolicies = policyRetrievalPoint.findUrlPolicies();
+        List<Policy> overlaidPolicies = UrlPolicySnapshot.overlay(currentPolicies, candidatePolicies, removedPolicyIds);
+        UrlPolicySnapshot currentSnapshot = UrlPolicySnapshot.compile(currentPolicies, managerResolver, excludedTargetsOf(currentPolicies));
+        UrlPolicySnapshot candidateSnapshot = UrlPolicySnapshot.compile(overlaidPolicies, managerResolver, excludedTargetsOf(overlaidPolicies));
+
+        AuditReplayJob job = new AuditReplayJob(from, to, MAX_RETAINED_FLIPS);
+        evictFinishedJobs();
+        jobs.put(job.getJobId(), job);
+        Thread.ofVirtual().name("audit-replay-" + job.getJobId())
+                .start(() -> execute(job, currentSnapshot, candidateSnapshot));
+        return job;
+    }
+
+    private Set<PolicyTarget> excludedTargetsOf(List<Policy> policiesInEvaluationOrder) {
+        if (!excludeUnreachablePolicies) return Set.of();
+        return reachabilityAnalyzer.analyze(policiesInEvaluationOrder, false).shadowedTargetSet();
+    }
+
+    public Optional<AuditReplayJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 실행 중인 작업을 취소합니다. 감사 로그 조회를 중단하고, 이미 제출된 배치는 남은 요청을 건너뜁니다.
+     * @return 취소되었으면 true, 작업이 없거나 이미 종료되었으면 false
+     */
+    public boolean cancel(String jobId) {
+        AuditReplayJob job = jobs.get(jobId);
+        return job != null && job.cancel();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(AuditReplayJob::cancel);
+        replayPool.shutdownNow();
+    }
+
+    private void execute(AuditReplayJob job, UrlPolicySnapshot currentSnapshot, UrlPolicySnapshot candidateSnapshot) {
+        int maxInFlightBatches = replayPool.getParallelism() * 2;
+        Semaphore inFlight = new Semaphore(maxInFlightBatches);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Map<String, Authentication> authentications = new ConcurrentHashMap<>();
+        List<AuditLog> batch = new ArrayList<>(BATCH_SIZE);
+
+        try {
+            auditLogRepository.scanUrlDecisions(job.getFrom(), job.getTo(), record -> {
+                if (job.isCancelled() || failure.get() != null) {
+                    throw new ReplayInterruptedException();
+                }
+                batch.add(record);
+                if (batch.size() == BATCH_SIZE) {
+                    submit(List.copyOf(batch), job, currentSnapshot, candidateSnapshot, authentications, inFlight, failure);
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                submit(List.copyOf(batch), job, currentSnapshot, candidateSnapshot, authentications, inFlight, failure);
+            }
+        } catch (ReplayInterruptedException e) {
+            log.info("Audit replay {} stopped before reading the whole window.", job.getJobId());
+        } catch (Exception e) {
+            failure.compareAndSet(null, e);
+        }
+
+        // 제출된 모든 배치가 끝날 때까지 대기
+        inFlight.acquireUninterruptibly(maxInFlightBatches);
+
+        Throwable error = failure.get();
+        if (error != null) {
+            log.error("Audit replay {} failed.", job.getJobId(), error);
+            job.fail(error.getMessage());
+        } else {
+            job.complete();
+            log.info("Audit replay {} finished. {} requests replayed, {} decisions flipped.",
+                    job.getJobId(), job.getReplayedCount(), job.getFlipCount());
+        }
+    }
+
+    private void submit(List<AuditLog> records, AuditReplayJob job, UrlPolicySnapshot currentSnapshot, UrlPolicySnapshot candidateSnapshot,
+                        Map<String, Authentication> authentications, Semaphore inFlight, AtomicReference<Throwable> failure) {
+        inFlight.acquireUninterruptibly();
+        replayPool.execute(() -> {
+            try {
+                resolveAuthentications(records, authentications);
+                records.parallelStream().forEach(record -> {
+                    if (!job.isCancelled()) {
+                        replay(record, job, currentSnapshot, candidateSnapshot, authentications.get(record.getPrincipalName()));
+                    }
+                });
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * 배치에 처음 등장한 주체들의 권한을 한 번의 쿼리로 조회하여 캐시에 채웁니다.
+     */
+    private void resolveAuthentications(List<AuditLog> records, Map<String, Authentication> authentications) {
+        Set<String> missing = records.stream()
+                .map(AuditLog::getPrincipalName)
+                .filter(name -> !authentications.containsKey(name))
+                .collect(Collectors.toCollection(HashSet::new));
+        if (missing.isEmpty()) return;
+
+        if (missing.remove(ANONYMOUS_PRINCIPAL)) {
+            authentications.putIfAbsent(ANONYMOUS_PRINCIPAL, new AnonymousAuthenticationToken(
+                    "audit-replay", ANONYMOUS_PRINCIPAL, AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        }
+        for (UserAuthoritySnapshot user : userRepository.findAuthoritySnapshotsByUsernames(missing)) {
+            authentications.putIfAbsent(user.username(), toAuthentication(user.username(), user.authorities()));
+            missing.remove(user.username());
+        }
+        // 삭제되었거나 알 수 없는 주체는 권한 없는 인증 사용자로 재생합니다.
+        missing.forEach(name -> authentications.putIfAbsent(name, toAuthentication(name, Set.of())));
+    }
+
+    private Authentication toAuthentication(String username, Collection<String> authorities) {
+        return new UsernamePasswordAuthenticationToken(username, null,
+                authorities.stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    private void replay(AuditLog record, AuditReplayJob job, UrlPolicySnapshot currentSnapshot, UrlPolicySnapshot candidateSnapshot,
+                        Authentication authentication) {
+        String method = record.getAction() != null ? record.getAction() : "GET";
+
+        long start = System.nanoTime();
+        UrlPolicySnapshot.Outcome current = currentSnapshot.evaluate(authentication,
+                ReplayHttpServletRequests.create(method, record.getResourceIdentifier(), record.getClientIp())).outcome();
+        long afterCurrent = System.nanoTime();
+        UrlPolicySnapshot.Outcome candidate = candidateSnapshot.evaluate(authentication,
+                ReplayHttpServletRequests.create(method, record.getResourceIdentifier(), record.getClientIp())).outcome();
+        long afterCandidate = System.nanoTime();
+
+        job.getCurrentLatency().record(afterCurrent - start);
+        job.getCandidateLatency().record(afterCandidate - afterCurrent);
+        job.replayed(recordedOutcomeOf(record) != current);
+
+        if (AuditReplayJob.isGranted(current) != AuditReplayJob.isGranted(candidate)) {
+            job.addFlip(new AuditReplayJob.DecisionFlip(
+                    record.getId(), record.getTimestamp(), record.getPrincipalName(), record.getAction(),
+                    record.getResourceIdentifier(), record.getDecision(), current, candidate));
+        } else if (current != candidate) {
+            job.addUnchangedGrantTransition(current, candidate);
+        }
+    }
+
+    /**
+     * 감사 로그에 기록된 결정을 평가 결과로 되돌립니다.
+     * CustomDynamicAuthorizationManager 는 일치하는 정책이 없어 허용한 요청도 DENY 로 기록하므로 기록된 사유로 NO_MATCH 를 구분합니다.
+     */
+    private UrlPolicySnapshot.Outcome recordedOutcomeOf(AuditLog record) {
+        if ("ALLOW".equals(record.getDecision())) return UrlPolicySnapshot.Outcome.ALLOW;
+        if (CustomDynamicAuthorizationManager.NO_MATCH_REASON.equals(record.getReason())) return UrlPolicySnapshot.Outcome.NO_MATCH;
+        return UrlPolicySnapshot.Outcome.DENY;
+    }
+
+    private void evictFinishedJobs() {
+        Instant threshold = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    /**
+     * 취소 또는 배치 실패 시 감사 로그 커서 순회를 중단하기 위한 신호입니다.
+     */
+    private static final class ReplayInterruptedException extends RuntimeException {
+        ReplayInterruptedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AuditReplayEngine 이 실행하는 감사 로그 재생 작업 하나의 진행 상태와 누적 결과입니다.
+ * 결정이 바뀐 요청(flip)은 발견되는 즉시 추가되며, 조회 요청은 fromIndex 이후의 결과만 가져가 점진적으로 표시할 수 있습니다.
+ * 보관하는 flip 내역은 maxRetainedFlips 건으로 제한되며, 초과분은 건수만 집계됩니다.
+ * 운영 PEP 는 ALLOW 와 NO_MATCH 를 모두 허용하므로 flip 은 실효 허용 여부가 바뀐 요청만 의미하며,
+ * 허용 여부는 그대로인 평가 결과 변화(ALLOW↔NO_MATCH, DENY↔ERROR)는 건수만 따로 집계합니다.
+ */
+@Getter
+public class AuditReplayJob {
+
+    public enum Status { RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    public record DecisionFlip(
+            Long auditLogId,
+            LocalDateTime timestamp,
+            String principalName,
+            String action,
+            String resourceIdentifier,
+            String recordedDecision,
+            UrlPolicySnapshot.Outcome currentOutcome,
+            UrlPolicySnapshot.Outcome candidateOutcome
+    ) {}
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Instant startedAt = Instant.now();
+    private final int maxRetainedFlips;
+    private final LatencyHistogram currentLatency = new LatencyHistogram();
+    private final LatencyHistogram candidateLatency = new LatencyHistogram();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    private final LongAdder replayedCount = new LongAdder();
+    private final LongAdder allowToDenyCount = new LongAdder();
+    private final LongAdder denyToAllowCount = new LongAdder();
+    private final LongAdder noMatchTransitionCount = new LongAdder();
+    private final LongAdder errorTransitionCount = new LongAdder();
+    private final LongAdder driftFromRecordedCount = new LongAdder();
+    private final List<DecisionFlip> flips = new ArrayList<>();
+
+    AuditReplayJob(LocalDateTime from, LocalDateTime to, int maxRetainedFlips) {
+        this.from = from;
+        this.to = to;
+        this.maxRetainedFlips = maxRetainedFlips;
+    }
+
+    public long getReplayedCount() {
+        return replayedCount.sum();
+    }
+
+    public long getAllowToDenyCount() {
+        return allowToDenyCount.sum();
+    }
+
+    public long getDenyToAllowCount() {
+        return denyToAllowCount.sum();
+    }
+
+    /**
+     * 허용 여부는 같지만 ALLOW 와 NO_MATCH 사이에서 평가 결과가 바뀐 건수입니다. flip 에는 포함되지 않습니다.
+     */
+    public long getNoMatchTransitionCount() {
+        return noMatchTransitionCount.sum();
+    }
+
+    /**
+     * 거부는 그대로이지만 DENY 와 ERROR 사이에서 평가 결과가 바뀐 건수입니다. flip 에는 포함되지 않습니다.
+     */
+    public long getErrorTransitionCount() {
+        return errorTransitionCount.sum();
+    }
+
+    /**
+     * 현재 스냅샷의 재평가 결과가 감사 로그에 기록된 결정과 다른 건수입니다.
+     * 기록 이후 사용자 권한이나 정책이 바뀌었거나, 조건식이 감사 로그에 남지 않는 요청 정보에 의존하는 경우 발생합니다.
+     */
+    public long getDriftFromRecordedCount() {
+        return driftFromRecordedCount.sum();
+    }
+
+    public long getFlipCount() {
+        return getAllowToDenyCount() + getDenyToAllowCount();
+    }
+
+    /**
+     * 운영 PEP 가 해당 평가 결과의 요청을 허용하는지 여부입니다. 일치하는 정책이 없는 요청은 허용됩니다.
+     */
+    public static boolean isGranted(UrlPolicySnapshot.Outcome outcome) {
+        return outcome == UrlPolicySnapshot.Outcome.ALLOW || outcome == UrlPolicySnapshot.Outcome.NO_MATCH;
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    public boolean isCancelled() {
+        return status == Status.CANCELLED;
+    }
+
+    /**
+     * 보관 한도를 넘어 버려진 flip 내역이 있는지 여부입니다.
+     */
+    public synchronized boolean isTruncated() {
+        return getFlipCount() > flips.size();
+    }
+
+    /**
+     * fromIndex 부터 최대 limit 건의 flip 내역을 복사하여 반환합니다.
+     */
+    public synchronized List<DecisionFlip> getFlips(int fromIndex, int limit) {
+        if (fromIndex < 0 || fromIndex >= flips.size()) return Collections.emptyList();
+        int toIndex = (int) Math.min((long) fromIndex + limit, flips.size());
+        return new ArrayList<>(flips.subList(fromIndex, toIndex));
+    }
+
+    void replayed(boolean driftFromRecorded) {
+        replayedCount.increment();
+        if (driftFromRecorded) driftFromRecordedCount.increment();
+    }
+
+    /**
+     * 실효 허용 여부가 바뀐 요청을 기록합니다.
+     */
+    void addFlip(DecisionFlip flip) {
+        if (isGranted(flip.currentOutcome())) {
+            allowToDenyCount.increment();
+        } else {
+            denyToAllowCount.increment();
+        }
+        synchronized (this) {
+            if (flips.size() < maxRetainedFlips) {
+                flips.add(flip);
+            }
+        }
+    }
+
+    /**
+     * 허용 여부는 같고 평가 결과만 바뀐 요청을 집계합니다.
+     */
+    void addUnchangedGrantTransition(UrlPolicySnapshot.Outcome current, UrlPolicySnapshot.Outcome candidate) {
+        if (isGranted(current)) {
+            noMatchTransitionCount.increment();
+        } else {
+            errorTransitionCount.increment();
+        }
+    }
+
+    synchronized boolean cancel() {
+        if (status != Status.RUNNING) return false;
+        status = Status.CANCELLED;
+        finishedAt = Instant.now();
+        return true;
+    }
+
+    synchronized void complete() {
+        if (status != Status.RUNNING) return;
+        status = Status.COMPLETED;
+        finishedAt = Instant.now();
+    }
+
+    synchronized void fail(String errorMessage) {
+        if (status != Status.RUNNING) return;
+        this.errorMessage = errorMessage;
+        status = Status.FAILED;
+        finishedAt = Instant.now();
+    }
+}
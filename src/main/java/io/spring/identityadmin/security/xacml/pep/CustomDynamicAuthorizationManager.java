@@ -2,26 +2,21 @@ package io.spring.identityadmin.security.xacml.pep;
 
 import io.spring.identityadmin.admin.monitoring.service.AuditLogService;
 import io.spring.identityadmin.domain.entity.policy.Policy;
-import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
 import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
 import io.spring.identityadmin.security.xacml.prp.PolicyRetrievalPoint;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
-import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
-import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcherEntry;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.ArrayList;
 
 
 @Slf4j
@@ -29,75 +24,48 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 public class CustomDynamicAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
 
+    /**
+     * 일치하는 정책이 없어 기본 허용한 요청의 감사 로그 사유. 결정은 기존 기록과의 호환을 위해 DENY 로 남으므로 AuditReplayEngine 이 이 사유로 구분합니다.
+     */
+    static final String NO_MATCH_REASON = "No matching policy found (Default Deny)";
+
     private final PolicyRetrievalPoint policyRetrievalPoint;
     private final ExpressionAuthorizationManagerResolver managerResolver;
-    private List<RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>>> mappings;
-    private static final Pattern AUTHORITY_PATTERN = Pattern.compile("^[A-Z_]+$");
+    /**
+     * 요청 스레드가 읽는 불변 매핑 스냅샷. reload 시 새 스냅샷을 완성한 뒤 한 번에 교체하므로
+     * check()는 잠금 없이도 항상 완전한 이전 또는 새 정책 집합만 보게 됩니다.
+     * 시작 작업(StartupTaskRunner)이 첫 스냅샷을 적재하기 전까지는 null 이며, 그동안의 요청은 거부됩니다.
+     */
+    private volatile UrlPolicySnapshot snapshot;
     private final AuditLogService auditLogService;
-
-    @PostConstruct
-    public void initialize() {
-        log.info("Initializing dynamic authorization mappings from Policy model...");
-        this.mappings = new ArrayList<>();
-
-        List<Policy> urlPolicies = policyRetrievalPoint.findUrlPolicies();
-
-        for (Policy policy : urlPolicies) {
-            String expression = getExpressionFromPolicy(policy);
-
-            for (PolicyTarget target : policy.getTargets()) {
-                if ("URL".equals(target.getTargetType())) {
-                    RequestMatcher matcher = PathPatternRequestMatcher.withDefaults().matcher(target.getTargetIdentifier());
-                    AuthorizationManager<RequestAuthorizationContext> manager = managerResolver.resolve(expression);
-                    this.mappings.add(new RequestMatcherEntry<>(matcher, manager));
-                    log.debug("Policy mapping loaded - URL '{}' mapped to expression '{}' using {}", target.getTargetIdentifier(), expression, manager.getClass().getSimpleName());
-                }
-            }
-        }
-        log.info("Initialization complete. {} URL policy mappings configured.", this.mappings.size());
-    }
+    private final UrlPolicyReachabilityAnalyzer reachabilityAnalyzer;
+    private final ShadowPolicyEvaluator shadowPolicyEvaluator;
 
     /**
-     * 정책 객체로부터 최종 인가 표현식 문자열을 생성합니다.
-     * 여러 조건은 OR로 결합되며, 순수 권한 문자열은 hasAnyAuthority()로 묶어 효율을 높입니다.
+     * true 이면 더 높은 우선순위의 정책에 완전히 가려진 URL 대상을 스냅샷에서 제외합니다.
+     * 가려진 대상은 어떤 요청과도 매칭되지 않으므로 결정 결과는 같고 매처 평가 횟수만 줄어듭니다.
      */
-    private String getExpressionFromPolicy(Policy policy) {
-        List<String> conditionExpressions = policy.getRules().stream()
-                .flatMap(rule -> rule.getConditions().stream())
-                .map(PolicyCondition::getExpression)
-                .toList();
-
-        if (conditionExpressions.isEmpty()) {
-            return (policy.getEffect() == Policy.Effect.ALLOW) ? "permitAll" : "denyAll";
-        }
+    @Value("${identity-admin.authorization.exclude-unreachable-policies:false}")
+    private boolean excludeUnreachablePolicies;
 
-        String finalExpression;
-
-        // 1. 조건이 단 하나일 경우
-        if (conditionExpressions.size() == 1) {
-            finalExpression = conditionExpressions.getFirst(); // 괄호 없이 순수 표현식(예: 'ROLE_ADMIN' 또는 'hasRole(''USER'')')을 그대로 사용
-
-            // 2. 조건이 여러 개일 경우
-        } else {
-            boolean allAreSimpleAuthorities = conditionExpressions.stream().allMatch(expr -> AUTHORITY_PATTERN.matcher(expr).matches());
-
-            // 2-1. 모든 조건이 순수 권한 문자열이면 hasAnyAuthority()로 효율적으로 묶음
-            if (allAreSimpleAuthorities) {
-                finalExpression = "hasAnyAuthority(" +
-                        conditionExpressions.stream().map(auth -> "'" + auth + "'").collect(Collectors.joining(",")) +
-                        ")";
-                // 2-2. SpEL이 하나라도 섞여 있으면 or 로 결합
-            } else {
-                finalExpression = conditionExpressions.stream()
-                        .map(expr -> "(" + expr + ")")
-                        .collect(Collectors.joining(" or "));
-            }
+    /**
+     * 정책 저장소에서 URL 정책을 읽어 새 매핑 스냅샷을 구성하고 교체합니다.
+     * 애플리케이션 시작 시에는 readiness 를 막는 시작 작업으로 실행됩니다. (StartupConfig 참고)
+     */
+    public void initialize() {
+        log.info("Initializing dynamic authorization mappings from Policy model...");
+        List<Policy> urlPolicies = policyRetrievalPoint.findUrlPolicies();
+        Set<PolicyTarget> excludedTargets = Set.of();
+        if (excludeUnreachablePolicies) {
+            UrlPolicyReachabilityAnalyzer.Report report = reachabilityAnalyzer.analyze(urlPolicies, false);
+            excludedTargets = report.shadowedTargetSet();
+            log.info("Excluding {} shadowed URL targets ({} unreachable policies) from the authorization snapshot.",
+                    excludedTargets.size(), report.unreachablePolicies().size());
         }
 
-        if (policy.getEffect() == Policy.Effect.DENY) {
-            return "!(" + finalExpression + ")";
-        }
-        return finalExpression;
+        UrlPolicySnapshot snapshot = UrlPolicySnapshot.compile(urlPolicies, managerResolver, excludedTargets);
+        this.snapshot = snapshot;
+        log.info("Initialization complete. {} URL policy mappings configured.", snapshot.size());
     }
 
     @Override
@@ -109,22 +77,30 @@ public class CustomDynamicAuthorizationManager implements AuthorizationManager<R
         String action = context.getRequest().getMethod();
         String clientIp = context.getRequest().getRemoteAddr();
 
-        for (RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>> mapping : this.mappings) {
-            if (mapping.getRequestMatcher().matcher(context.getRequest()).isMatch()) {
-                log.debug("Request matched by '{}'. Delegating to its AuthorizationManager.", mapping.getRequestMatcher());
+        UrlPolicySnapshot snapshot = this.snapshot;
+        if (snapshot == null) {
+            log.warn("Policy snapshot is not loaded yet. Denying request: {}", resource);
+            auditLogService.logDecision(principal, resource, action, "DENY", "Policy snapshot not loaded yet", clientIp);
+            return new AuthorizationDecision(false);
+        }
+        RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>> mapping = snapshot.match(context.getRequest());
+        if (mapping != null) {
+            log.debug("Request matched by '{}'. Delegating to its AuthorizationManager.", mapping.getRequestMatcher());
 
-                AuthorizationManager<RequestAuthorizationContext> manager = mapping.getEntry();
-                AuthorizationDecision decision = manager.check(authentication, context);
+            AuthorizationManager<RequestAuthorizationContext> manager = mapping.getEntry();
+            AuthorizationDecision decision = manager.check(authentication, context);
 
-                String reason = "Policy rule matched: " + mapping.getRequestMatcher();
-                auditLogService.logDecision(principal, resource, action, decision.isGranted() ? "ALLOW" : "DENY", reason, clientIp);
+            String reason = "Policy rule matched: " + mapping.getRequestMatcher();
+            auditLogService.logDecision(principal, resource, action, decision.isGranted() ? "ALLOW" : "DENY", reason, clientIp);
+            shadowPolicyEvaluator.submit(authentication.get(), context.getRequest(), snapshot,
+                    decision.isGranted() ? UrlPolicySnapshot.Outcome.ALLOW : UrlPolicySnapshot.Outcome.DENY);
 
-                return decision;
-            }
+            return decision;
         }
         log.trace("No matching policy found for request. Denying access by default.");
         AuthorizationDecision authorizationDecision = new AuthorizationDecision(true);
-        auditLogService.logDecision(principal, resource, action, "DENY", "No matching policy found (Default Deny)", clientIp);
+        auditLogService.logDecision(principal, resource, action, "DENY", NO_MATCH_REASON, clientIp);
+        shadowPolicyEvaluator.submit(authentication.get(), context.getRequest(), snapshot, UrlPolicySnapshot.Outcome.NO_MATCH);
         return authorizationDecision;
     }
 
@@ -0,0 +1,191 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * PathPattern 문법(리터럴, *, ?, {var}, {var:regex}, **, {*var})으로 작성된 URL 패턴 사이의 포함·겹침 관계를 판정합니다.
+ * covers(broader, narrower) 가 true 이면 narrower 와 매칭되는 모든 경로는 broader 와도 매칭됩니다. (증명할 수 없으면 false)
+ * overlaps(a, b) 가 false 이면 두 패턴 모두와 매칭되는 경로는 존재하지 않습니다. (배제할 수 없으면 true)
+ * <p>
+ * PathPattern 은 "/a" 와 "/a/" 를 다르게 매칭하므로 빈 세그먼트(끝의 '/', 연속된 '/')는 빈 리터럴 세그먼트로 보존합니다.
+ * 빈 세그먼트는 '**' 만 포함할 수 있다고 보고, '*'·{var}·부분 패턴이 빈 세그먼트를 포함한다고는 판정하지 않습니다.
+ */
+public final class PathPatternContainment {
+
+    public enum Kind { LITERAL, ANY_SEGMENT, PARTIAL, REST }
+
+    public record Segment(Kind kind, String text, Pattern regex) {}
+
+    private static final Pattern CAPTURE_VARIABLE = Pattern.compile("^\\{[^:{}*]+}$");
+
+    private PathPatternContainment() {
+    }
+
+    public static boolean covers(String broaderPattern, String narrowerPattern) {
+        Optional<List<Segment>> broader = parse(broaderPattern);
+        Optional<List<Segment>> narrower = parse(narrowerPattern);
+        return broader.isPresent() && narrower.isPresent() && covers(broader.get(), 0, narrower.get(), 0);
+    }
+
+    /**
+     * 두 패턴 모두와 매칭되는 경로가 존재할 수 있는지 판정합니다. 해석할 수 없는 패턴은 문자열이 같을 때만 겹친다고 봅니다.
+     */
+    public static boolean overlaps(String pattern, String otherPattern) {
+        Optional<List<Segment>> segments = parse(pattern);
+        Optional<List<Segment>> otherSegments = parse(otherPattern);
+        if (segments.isEmpty() || otherSegments.isEmpty()) {
+            return pattern != null && pattern.equals(otherPattern);
+        }
+        return overlaps(segments.get(), 0, otherSegments.get(), 0);
+    }
+
+    /**
+     * 패턴을 세그먼트 목록으로 해석합니다. '/' 로 시작하지 않거나 해석할 수 없는 패턴이면 Optional.empty().
+     */
+    public static Optional<List<Segment>> segments(String pattern) {
+        return parse(pattern);
+    }
+
+    /**
+     * 패턴의 첫 세그먼트가 리터럴이면 그 값을 반환합니다.
+     * 리터럴로 시작하는 패턴은 같은 첫 세그먼트를 가진 패턴만 포함할 수 있으므로 비교 후보를 좁히는 데 사용합니다.
+     */
+    public static Optional<String> firstLiteralSegment(String pattern) {
+        return parse(pattern)
+                .filter(segments -> !segments.isEmpty() && segments.getFirst().kind() == Kind.LITERAL)
+                .map(segments -> segments.getFirst().text());
+    }
+
+    /**
+     * 매처 비용 측정에 사용할, 패턴과 매칭되는 대표 경로를 만듭니다.
+     */
+    public static String samplePath(String pattern) {
+        StringBuilder path = new StringBuilder();
+        for (Segment segment : parse(pattern).orElse(List.of())) {
+            path.append('/').append(segment.kind() == Kind.LITERAL ? segment.text() : "x");
+        }
+        return path.isEmpty() ? "/" : path.toString();
+    }
+
+    private static boolean covers(List<Segment> broader, int i, List<Segment> narrower, int j) {
+        if (i == broader.size()) return j == narrower.size();
+
+        Segment b = broader.get(i);
+        if (b.kind() == Kind.REST) {
+            // '**' 는 narrower 의 나머지 세그먼트를 (narrower 의 '**' 까지 포함하여) 원하는 만큼 흡수할 수 있음
+            for (int k = j; k <= narrower.size(); k++) {
+                if (covers(broader, i + 1, narrower, k)) return true;
+            }
+            return false;
+        }
+        if (j == narrower.size()) return false;
+
+        Segment n = narrower.get(j);
+        if (n.kind() == Kind.REST) return false;
+
+        boolean segmentCovered = switch (b.kind()) {
+            case ANY_SEGMENT -> !isEmptySegment(n);
+            case LITERAL -> n.kind() == Kind.LITERAL && b.text().equals(n.text());
+            case PARTIAL -> b.text().equals(n.text())
+                    || (n.kind() == Kind.LITERAL && !isEmptySegment(n) && b.regex().matcher(n.text()).matches());
+            case REST -> false; // 위에서 처리됨
+        };
+        return segmentCovered && covers(broader, i + 1, narrower, j + 1);
+    }
+
+    private static boolean isEmptySegment(Segment segment) {
+        return segment.kind() == Kind.LITERAL && segment.text().isEmpty();
+    }
+
+    private static boolean overlaps(List<Segment> a, int i, List<Segment> b, int j) {
+        if (i == a.size() && j == b.size()) return true;
+        // '**' 는 나머지 경로 전체(0개 이상의 세그먼트)와 매칭될 수 있음
+        if (i < a.size() && a.get(i).kind() == Kind.REST) return true;
+        if (j < b.size() && b.get(j).kind() == Kind.REST) return true;
+        if (i == a.size() || j == b.size()) return false;
+
+        Segment x = a.get(i);
+        Segment y = b.get(j);
+        boolean segmentOverlaps;
+        if (x.kind() == Kind.ANY_SEGMENT || y.kind() == Kind.ANY_SEGMENT) {
+            segmentOverlaps = true;
+        } else if (x.kind() == Kind.LITERAL && y.kind() == Kind.LITERAL) {
+            segmentOverlaps = x.text().equals(y.text());
+        } else if (x.kind() == Kind.LITERAL) {
+            segmentOverlaps = y.regex().matcher(x.text()).matches();
+        } else if (y.kind() == Kind.LITERAL) {
+            segmentOverlaps = x.regex().matcher(y.text()).matches();
+        } else {
+            segmentOverlaps = true; // 세그먼트 내부 패턴끼리의 교집합은 판정하지 않음 (겹칠 수 있다고 간주)
+        }
+        return segmentOverlaps && overlaps(a, i + 1, b, j + 1);
+    }
+
+    private static Optional<List<Segment>> parse(String pattern) {
+        if (pattern == null || !pattern.startsWith("/")) return Optional.empty();
+        List<Segment> segments = new ArrayList<>();
+        // limit -1: 끝의 빈 세그먼트도 남김 ("/a/" -> ["a", ""], "/" -> [""])
+        for (String text : pattern.substring(1).split("/", -1)) {
+            if (text.isEmpty()) {
+                segments.add(new Segment(Kind.LITERAL, text, null));
+            } else if ("**".equals(text) || (text.startsWith("{*") && text.endsWith("}"))) {
+                segments.add(new Segment(Kind.REST, text, null));
+            } else if ("*".equals(text) || CAPTURE_VARIABLE.matcher(text).matches()) {
+                segments.add(new Segment(Kind.ANY_SEGMENT, text, null));
+            } else if (text.indexOf('*') >= 0 || text.indexOf('?') >= 0 || text.indexOf('{') >= 0) {
+                Pattern regex = toRegex(text);
+                if (regex == null) return Optional.empty();
+                segments.add(new Segment(Kind.PARTIAL, text, regex));
+            } else {
+                segments.add(new Segment(Kind.LITERAL, text, null));
+            }
+        }
+        return Optional.of(segments);
+    }
+
+    /**
+     * 세그먼트 내부 패턴을 정규식으로 변환합니다. 변수는 Spring 보다 엄격하게(1자 이상) 변환하여 포함 판정이 과대평가되지 않게 합니다.
+     */
+    private static Pattern toRegex(String segment) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+            }
+            if (c == '*') {
+                regex.append("[^/]*");
+            } else if (c == '?') {
+                regex.append("[^/]");
+            } else if (c == '{') {
+                int depth = 1;
+                int end = i + 1;
+                while (end < segment.length() && depth > 0) {
+                    if (segment.charAt(end) == '{') depth++;
+                    if (segment.charAt(end) == '}') depth--;
+                    end++;
+                }
+                if (depth != 0) return null;
+                String variable = segment.substring(i + 1, end - 1);
+                int colon = variable.indexOf(':');
+                regex.append(colon < 0 ? "[^/]+" : "(?:" + variable.substring(colon + 1) + ")");
+                i = end - 1;
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) regex.append(Pattern.quote(literal.toString()));
+        try {
+            return Pattern.compile(regex.toString());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.MappingMatch;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 감사 로그에 기록된 요청(메서드, URI, 클라이언트 IP)만으로 인가 스냅샷을 평가할 수 있도록 최소한의 HttpServletRequest 를 만듭니다.
+ * 요청 매처와 SpEL 평가가 사용하는 경로·메서드·IP·속성 외의 값은 비어 있는 기본값을 반환합니다.
+ * 헤더, 파라미터, 세션 정보는 감사 로그에 남지 않으므로 이에 의존하는 조건식은 실제 요청과 다르게 평가될 수 있습니다.
+ * 섀도 평가처럼 원본 요청의 쿼리 문자열을 알고 있으면 함께 넘겨 쿼리 파라미터까지 재현할 수 있습니다.
+ */
+final class ReplayHttpServletRequests {
+
+    private static final HttpServletMapping ROOT_MAPPING = new HttpServletMapping() {
+        @Override public String getMatchValue() { return ""; }
+        @Override public String getPattern() { return "/"; }
+        @Override public String getServletName() { return "dispatcherServlet"; }
+        @Override public MappingMatch getMappingMatch() { return MappingMatch.DEFAULT; }
+    };
+
+    private ReplayHttpServletRequests() {
+    }
+
+    static HttpServletRequest create(String method, String requestUri, String remoteAddr) {
+        return create(method, requestUri, null, remoteAddr);
+    }
+
+    /**
+     * @param queryString 원본 요청의 getQueryString() 값. 파라미터는 이 값을 해석하여 제공합니다 (null 이면 파라미터 없음)
+     */
+    static HttpServletRequest create(String method, String requestUri, String queryString, String remoteAddr) {
+        Map<String, String[]> parameters = parseQuery(queryString);
+        Map<String, Object> attributes = new HashMap<>();
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getMethod" -> method;
+                    case "getRequestURI", "getServletPath" -> requestUri;
+                    case "getRequestURL" -> new StringBuffer("http://localhost").append(requestUri);
+                    case "getQueryString" -> queryString;
+                    case "getContextPath" -> "";
+                    case "getRemoteAddr", "getRemoteHost" -> remoteAddr;
+                    case "getScheme" -> "http";
+                    case "getServerName" -> "localhost";
+                    case "getServerPort" -> 80;
+                    case "getProtocol" -> "HTTP/1.1";
+                    case "getLocale" -> Locale.getDefault();
+                    case "getDispatcherType" -> DispatcherType.REQUEST;
+                    case "getHttpServletMapping" -> ROOT_MAPPING;
+                    case "getHeaders", "getHeaderNames" -> Collections.emptyEnumeration();
+                    case "getParameter" -> {
+                        String[] values = parameters.get((String) args[0]);
+                        yield values == null || values.length == 0 ? null : values[0];
+                    }
+                    case "getParameterValues" -> parameters.get((String) args[0]);
+                    case "getParameterMap" -> parameters;
+                    case "getParameterNames" -> Collections.enumeration(parameters.keySet());
+                    case "getLocales" -> Collections.emptyEnumeration();
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "getAttributeNames" -> Collections.enumeration(Map.copyOf(attributes).keySet());
+                    case "setAttribute" -> {
+                        if (args[1] == null) attributes.remove((String) args[0]);
+                        else attributes.put((String) args[0], args[1]);
+                        yield null;
+                    }
+                    case "removeAttribute" -> attributes.remove((String) args[0]);
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "ReplayRequest[" + method + " " + requestUri + "]";
+                    default -> defaultValue(invoked);
+                });
+    }
+
+    private static Map<String, String[]> parseQuery(String queryString) {
+        if (queryString == null || queryString.isEmpty()) return Map.of();
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        for (String pair : queryString.split("&")) {
+            if (pair.isEmpty()) continue;
+            int separator = pair.indexOf('=');
+            String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), StandardCharsets.UTF_8);
+            String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            values.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        values.forEach((name, list) -> parameters.put(name, list.toArray(String[]::new)));
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == long.class) return 0L;
+        if (type == char.class) return '\0';
+        if (type == double.class) return 0d;
+        if (type == float.class) return 0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        return 0;
+    }
+}
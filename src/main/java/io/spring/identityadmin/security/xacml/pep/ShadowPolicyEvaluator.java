@@ -0,0 +1,227 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.security.xacml.prp.PolicyRetrievalPoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 운영 PEP 의 요청 일부를 후보 정책 스냅샷으로 한 번 더 평가하는 섀도(shadow) 평가기입니다.
+ * <p>
+ * 요청 스레드는 표본으로 뽑힌 요청의 주체·메서드·URI·쿼리 문자열·IP 와 운영 스냅샷만 제한된 큐에 넣고 바로 돌아가며,
+ * 평가는 가상 스레드 워커가 수행합니다. 큐가 가득 차면 표본을 버리고 건수만 집계하므로
+ * 섀도 평가는 사용자 요청의 지연 시간이나 인가 결정에 영향을 주지 않습니다.
+ * <p>
+ * 워커는 복사해 둔 값으로 재구성한 같은 요청으로 운영 스냅샷과 후보 스냅샷을 모두 평가하여 비교하므로,
+ * 재구성되지 않는 요청 정보(헤더, 세션, 본문 파라미터 등)에 의존하는 조건식이 불일치로 잘못 집계되지 않습니다.
+ * 재구성한 요청의 운영 평가가 실제 운영 결정과 다른 표본은 재현 불일치(unreproduced)로 따로 집계됩니다.
+ * 운영 결정과 후보 결정이 다른 요청은 (메서드, 운영 규칙, 후보 규칙, 결정 쌍) 단위로 집계됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShadowPolicyEvaluator {
+
+    private static final int MAX_MISMATCH_KEYS = 1_000;
+
+    private final ExpressionAuthorizationManagerResolver managerResolver;
+    private final PolicyRetrievalPoint policyRetrievalPoint;
+
+    @Value("${identity-admin.authorization.shadow.sample-rate:0.01}")
+    private double defaultSampleRate;
+
+    @Value("${identity-admin.authorization.shadow.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${identity-admin.authorization.shadow.workers:2}")
+    private int workerCount;
+
+    /** 활성화된 후보. null 이면 섀도 평가가 꺼져 있으며, 요청 스레드는 필드 읽기 한 번만 수행합니다. */
+    private volatile Candidate candidate;
+    private BlockingQueue<ShadowTask> queue;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private record Candidate(UrlPolicySnapshot snapshot, String label, double sampleRate, Instant activatedAt, Tally tally) {}
+
+    private record ShadowTask(Candidate candidate, UrlPolicySnapshot activeSnapshot, Authentication authentication,
+                              String method, String requestUri, String queryString, String remoteAddr,
+                              UrlPolicySnapshot.Outcome activeOutcome) {}
+
+    private record MismatchKey(String method, String activeRule, String candidateRule,
+                               UrlPolicySnapshot.Outcome activeOutcome, UrlPolicySnapshot.Outcome candidateOutcome) {}
+
+    private static final class MismatchCounter {
+        private final String sampleRequestUri;
+        private final LongAdder count = new LongAdder();
+
+        private MismatchCounter(String sampleRequestUri) {
+            this.sampleRequestUri = sampleRequestUri;
+        }
+    }
+
+    private static final class Tally {
+        private final LongAdder sampled = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder evaluated = new LongAdder();
+        private final LongAdder mismatched = new LongAdder();
+        private final LongAdder unreproduced = new LongAdder();
+        private final LongAdder overflowMismatches = new LongAdder();
+        private final Map<MismatchKey, MismatchCounter> mismatches = new ConcurrentHashMap<>();
+    }
+
+    public record Mismatch(String method, String activeRule, String candidateRule,
+                           UrlPolicySnapshot.Outcome activeOutcome, UrlPolicySnapshot.Outcome candidateOutcome,
+                           String sampleRequestUri, long count) {}
+
+    /**
+     * 섀도 평가 집계 보고서입니다.
+     * @param unreproduced 재구성한 요청의 운영 스냅샷 평가가 실제 운영 결정과 달랐던 표본 수
+     * @param overflowMismatches 서로 다른 불일치 유형이 보관 한도를 넘어 유형별로 집계되지 못한 건수
+     */
+    public record Report(boolean active, String label, double sampleRate, Instant activatedAt,
+                         long sampled, long dropped, long evaluated, long mismatched, long unreproduced, long overflowMismatches,
+                         List<Mismatch> mismatches) {}
+
+    @PostConstruct
+    public void startWorkers() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("shadow-policy-evaluator-" + i).start(this::drain));
+        }
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+        candidate = null;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 현재 URL 정책에 후보 변경을 겹친 정책 집합을 컴파일하여 섀도 평가를 시작합니다. 이전 후보와 집계는 교체됩니다.
+     * 후보 스냅샷은 활성화 시점의 정책을 기준으로 만들어지므로, 이후 운영 정책이 바뀌면 다시 활성화해야 합니다.
+     * @param overrides 추가하거나 교체할 정책 (id 가 없으면 신규 정책)
+     * @param removedPolicyIds 후보 집합에서 제거할 정책 id
+     * @param sampleRate 섀도 평가할 요청 비율 (0 초과 1 이하). null 이면 설정값을 사용
+     */
+    public Report activate(String label, List<Policy> overrides, Set<Long> removedPolicyIds, Double sampleRate) {
+        double rate = sampleRate != null ? sampleRate : defaultSampleRate;
+        if (!(rate > 0 && rate <= 1)) {
+            throw new IllegalArgumentException("섀도 평가 표본 비율은 0 초과 1 이하여야 합니다: " + rate);
+        }
+        List<Policy> candidatePolicies = UrlPolicySnapshot.overlay(policyRetrievalPoint.findUrlPolicies(), overrides, removedPolicyIds);
+        UrlPolicySnapshot snapshot = UrlPolicySnapshot.compile(candidatePolicies, managerResolver, Set.of());
+        this.candidate = new Candidate(snapshot, label, rate, Instant.now(), new Tally());
+        log.info("Shadow policy evaluation '{}' activated with {} URL mappings at sample rate {}.", label, snapshot.size(), rate);
+        return report();
+    }
+
+    /**
+     * 섀도 평가를 중단하고 마지막 집계 보고서를 반환합니다.
+     */
+    public Report deactivate() {
+        Report last = report();
+        this.candidate = null;
+        log.info("Shadow policy evaluation deactivated. {} evaluated, {} mismatched.", last.evaluated(), last.mismatched());
+        return last;
+    }
+
+    public Report report() {
+        Candidate current = this.candidate;
+        if (current == null) {
+            return new Report(false, null, 0, null, 0, 0, 0, 0, 0, 0, List.of());
+        }
+        Tally tally = current.tally();
+        List<Mismatch> mismatches = tally.mismatches.entrySet().stream()
+                .map(e -> new Mismatch(e.getKey().method(), e.getKey().activeRule(), e.getKey().candidateRule(),
+                        e.getKey().activeOutcome(), e.getKey().candidateOutcome(),
+                        e.getValue().sampleRequestUri, e.getValue().count.sum()))
+                .sorted(Comparator.comparingLong(Mismatch::count).reversed())
+                .toList();
+        return new Report(true, current.label(), current.sampleRate(), current.activatedAt(),
+                tally.sampled.sum(), tally.dropped.sum(), tally.evaluated.sum(), tally.mismatched.sum(),
+                tally.unreproduced.sum(), tally.overflowMismatches.sum(), mismatches);
+    }
+
+    /**
+     * 요청 스레드에서 호출됩니다. 섀도 평가가 꺼져 있거나 표본에 뽑히지 않으면 즉시 반환하고,
+     * 뽑힌 요청은 문자열 몇 개만 복사하여 큐에 넣고, 파라미터 해석은 워커에서 쿼리 문자열로 합니다. 이 메서드는 블로킹하지 않습니다.
+     * @param activeSnapshot 운영 결정을 내린 스냅샷
+     * @param activeOutcome 실제 요청에 대한 운영 결정
+     */
+    public void submit(Authentication authentication, HttpServletRequest request,
+                       UrlPolicySnapshot activeSnapshot, UrlPolicySnapshot.Outcome activeOutcome) {
+        Candidate current = this.candidate;
+        if (current == null || ThreadLocalRandom.current().nextDouble() >= current.sampleRate()) {
+            return;
+        }
+        current.tally().sampled.increment();
+        ShadowTask task = new ShadowTask(current, activeSnapshot, authentication, request.getMethod(), request.getRequestURI(),
+                request.getQueryString(), request.getRemoteAddr(), activeOutcome);
+        if (!queue.offer(task)) {
+            current.tally().dropped.increment();
+        }
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            ShadowTask task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // 평가 도중 후보가 교체되었다면 이전 후보의 표본은 버립니다.
+            if (task.candidate() != this.candidate) continue;
+            try {
+                evaluate(task);
+            } catch (Exception e) {
+                log.debug("Shadow evaluation failed for {} {}: {}", task.method(), task.requestUri(), e.getMessage());
+            }
+        }
+    }
+
+    private void evaluate(ShadowTask task) {
+        // 요청 속성은 평가 중에 기록될 수 있으므로 양쪽에 같은 값으로 재구성한 별도 요청을 사용합니다.
+        UrlPolicySnapshot.Evaluation active = task.activeSnapshot().evaluate(task.authentication(), replayRequestOf(task));
+        UrlPolicySnapshot.Evaluation shadow = task.candidate().snapshot().evaluate(task.authentication(), replayRequestOf(task));
+        Tally tally = task.candidate().tally();
+        tally.evaluated.increment();
+        if (active.outcome() != task.activeOutcome()) tally.unreproduced.increment();
+        if (shadow.outcome() == active.outcome()) return;
+
+        tally.mismatched.increment();
+        MismatchKey key = new MismatchKey(task.method(), active.matchedRule(), shadow.matchedRule(), active.outcome(), shadow.outcome());
+        MismatchCounter counter = tally.mismatches.get(key);
+        if (counter == null) {
+            if (tally.mismatches.size() >= MAX_MISMATCH_KEYS) {
+                tally.overflowMismatches.increment();
+                return;
+            }
+            counter = tally.mismatches.computeIfAbsent(key, k -> new MismatchCounter(task.requestUri()));
+        }
+        counter.count.increment();
+    }
+
+    private HttpServletRequest replayRequestOf(ShadowTask task) {
+        return ReplayHttpServletRequests.create(task.method(), task.requestUri(), task.queryString(), task.remoteAddr());
+    }
+}
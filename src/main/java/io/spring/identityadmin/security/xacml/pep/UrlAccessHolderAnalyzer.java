@@ -0,0 +1,171 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
+import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
+import io.spring.identityadmin.security.xacml.pdp.translator.CanonicalExpression;
+import io.spring.identityadmin.security.xacml.pdp.translator.ExpressionCanonicalizer;
+import io.spring.identityadmin.security.xacml.pdp.translator.PolicyTranslator;
+import io.spring.identityadmin.security.xacml.pip.access.AccessHolders;
+import io.spring.identityadmin.security.xacml.pip.access.ReverseAccessIndex;
+import io.spring.identityadmin.security.xacml.prp.PolicyRetrievalPoint;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * "누가 이 URL 에 접근할 수 있는가" 를 ReverseAccessIndex 로 계산합니다.
+ * <p>
+ * 대상 식별자가 주어진 값과 같은 정책을 우선 사용하고, 없으면 PEP 와 같은 순서로 URL 에 처음 일치하는 정책을 고릅니다.
+ * 정책의 조건식은 PEP 와 같은 규칙(조건 OR 결합, DENY 정책은 부정)으로 하나의 식으로 만든 뒤 정규화하여,
+ * 권한 조건은 인덱스의 사용자 집합으로, 사용자 속성만으로 판정할 수 없는 조건은 "전원 가능 ~ 전원 불가" 구간으로 계산합니다.
+ * 결과는 구간의 상한이며, 하한과 상한이 같으면 정확한 결과입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UrlAccessHolderAnalyzer {
+
+    private static final Pattern AUTHORITY_PATTERN = Pattern.compile("^[A-Z_]+$");
+    // PolicyTranslator 가 permitAll / denyAll / isAuthenticated 에 붙이는 설명과 같은 값
+    private static final String PERMIT_ALL_KEY = "모든 사용자 허용";
+    private static final String DENY_ALL_KEY = "모든 사용자 거부";
+    private static final String AUTHENTICATED_KEY = "인증된 사용자#auth";
+    private static final String ANONYMOUS_KEY = "익명 사용자";
+
+    private final PolicyRetrievalPoint policyRetrievalPoint;
+    private final PolicyTranslator policyTranslator;
+    private final ExpressionCanonicalizer canonicalizer;
+    private final ReverseAccessIndex reverseAccessIndex;
+
+    /**
+     * @param policyId 결정을 내리는 정책 (일치하는 정책이 없으면 null)
+     * @param matchedPattern 일치한 정책 대상 패턴
+     * @param expression 사용자 집합 계산에 사용한 조건식
+     */
+    public record Result(Long policyId, String policyName, String matchedPattern, String expression, AccessHolders holders) {}
+
+    /**
+     * 주어진 URL 또는 정책 대상 패턴에 접근할 수 있는 사용자 집합을 계산합니다.
+     * 일치하는 정책이 없는 요청은 현재 PEP 가 허용하므로 모든 사용자를 반환합니다.
+     */
+    public Result analyze(String url) {
+        List<Policy> policies = policyRetrievalPoint.findUrlPolicies();
+        Match match = findExactTarget(policies, url);
+        if (match == null) {
+            match = findFirstMatching(policies, url);
+        }
+        if (match == null) {
+            return new Result(null, null, null, null, new AccessHolders(reverseAccessIndex.findAllUsers(), true));
+        }
+
+        String expression = indexableExpressionOf(match.policy());
+        CanonicalExpression canonical = canonicalizer.canonicalize(
+                policyTranslator.parseCondition(PolicyCondition.builder().expression(expression).build()));
+        Bounds bounds = evaluate(canonical, reverseAccessIndex.findAllUsers());
+        return new Result(match.policy().getId(), match.policy().getName(), match.target().getTargetIdentifier(),
+                expression, new AccessHolders(bounds.upper(), bounds.lower().equals(bounds.upper())));
+    }
+
+    private record Match(Policy policy, PolicyTarget target) {}
+
+    /**
+     * 조건식을 만족하는 사용자 집합의 하한(반드시 만족)과 상한(만족할 수 있음).
+     */
+    private record Bounds(BitSet lower, BitSet upper) {}
+
+    private Match findExactTarget(List<Policy> policies, String url) {
+        for (Policy policy : policies) {
+            for (PolicyTarget target : policy.getTargets()) {
+                if ("URL".equals(target.getTargetType()) && url.equals(target.getTargetIdentifier())) {
+                    return new Match(policy, target);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Match findFirstMatching(List<Policy> policies, String url) {
+        HttpServletRequest request = ReplayHttpServletRequests.create("GET", url, null);
+        for (Policy policy : policies) {
+            for (PolicyTarget target : policy.getTargets()) {
+                if ("URL".equals(target.getTargetType())
+                        && PathPatternRequestMatcher.withDefaults().matcher(target.getTargetIdentifier()).matcher(request).isMatch()) {
+                    return new Match(policy, target);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * UrlPolicySnapshot 과 같은 규칙으로 정책의 최종 조건식을 만들되, 순수 권한 문자열 조건은 hasAuthority() 로 감싸
+     * 정규화 결과가 권한 조건(ANY_OF)이 되도록 합니다.
+     */
+    private String indexableExpressionOf(Policy policy) {
+        List<String> conditions = policy.getRules().stream()
+                .flatMap(rule -> rule.getConditions().stream())
+                .map(PolicyCondition::getExpression)
+                .map(expression -> AUTHORITY_PATTERN.matcher(expression).matches() ? "hasAuthority('" + expression + "')" : expression)
+                .toList();
+        if (conditions.isEmpty()) {
+            return policy.getEffect() == Policy.Effect.ALLOW ? "permitAll" : "denyAll";
+        }
+        String combined = conditions.size() == 1
+                ? conditions.getFirst()
+                : conditions.stream().map(expression -> "(" + expression + ")").collect(Collectors.joining(" or "));
+        return policy.getEffect() == Policy.Effect.DENY ? "!(" + combined + ")" : combined;
+    }
+
+    private Bounds evaluate(CanonicalExpression expression, BitSet allUsers) {
+        return switch (expression.getKind()) {
+            case ANY_OF -> {
+                BitSet holders = reverseAccessIndex.findUsersWithAnyAuthority(Set.copyOf(expression.getAuthorities()));
+                yield new Bounds(holders, holders);
+            }
+            case OPAQUE -> opaqueBounds(expression.getOpaqueKey(), allUsers);
+            case AND, OR -> {
+                Bounds result = null;
+                for (CanonicalExpression child : expression.getChildren()) {
+                    Bounds next = evaluate(child, allUsers);
+                    if (result == null) {
+                        result = new Bounds((BitSet) next.lower().clone(), (BitSet) next.upper().clone());
+                    } else if (expression.getKind() == CanonicalExpression.Kind.AND) {
+                        result.lower().and(next.lower());
+                        result.upper().and(next.upper());
+                    } else {
+                        result.lower().or(next.lower());
+                        result.upper().or(next.upper());
+                    }
+                }
+                yield result != null ? result : new Bounds(new BitSet(), new BitSet());
+            }
+            case NOT -> {
+                Bounds child = evaluate(expression.getChildren().getFirst(), allUsers);
+                BitSet lower = (BitSet) allUsers.clone();
+                lower.andNot(child.upper());
+                BitSet upper = (BitSet) allUsers.clone();
+                upper.andNot(child.lower());
+                yield new Bounds(lower, upper);
+            }
+        };
+    }
+
+    /**
+     * 디렉터리 사용자는 인증된 주체로 평가되므로 인증·익명 여부 조건은 정확히 계산하고,
+     * 그 밖의 분석할 수 없는 조건은 누구든 통과할 수도, 아무도 통과하지 못할 수도 있는 것으로 봅니다.
+     */
+    private Bounds opaqueBounds(String opaqueKey, BitSet allUsers) {
+        return switch (opaqueKey) {
+            case PERMIT_ALL_KEY, AUTHENTICATED_KEY -> new Bounds(allUsers, allUsers);
+            case DENY_ALL_KEY, ANONYMOUS_KEY -> new Bounds(new BitSet(), new BitSet());
+            default -> new Bounds(new BitSet(), allUsers);
+        };
+    }
+}
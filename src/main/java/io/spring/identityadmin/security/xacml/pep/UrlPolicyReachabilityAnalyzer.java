@@ -0,0 +1,162 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * URL PEP(CustomDynamicAuthorizationManager)는 우선순위 순으로 첫 번째로 매칭된 정책만 평가합니다.
+ * 이 분석기는 같은 순서로 URL 대상을 훑으며, 더 앞선 대상의 패턴이 완전히 포함하는 대상(가려진 대상)을 찾습니다.
+ * 가려진 대상은 어떤 요청에서도 매칭되지 않지만 앞선 대상과 매칭되지 않은 모든 요청에서 매처 비용을 발생시킵니다.
+ *
+ * <p>PEP 의 매처는 HTTP 메서드를 구분하지 않으므로 경로 포함 관계만으로 (경로, 메서드) 전체에 대한 도달 가능성이 결정됩니다.
+ * 우선순위가 같은 서로 다른 정책 사이의 순서는 보장되지 않으므로, 더 높은 우선순위(작은 값)의 정책이나
+ * 같은 정책의 앞선 대상에 의해 가려지는 경우만 보고합니다.
+ */
+@Slf4j
+@Component
+public class UrlPolicyReachabilityAnalyzer {
+
+    private static final int COST_SAMPLE_ITERATIONS = 200;
+
+    /**
+     * @param target 가려진 대상
+     * @param shadowingPolicy 이 대상을 가리는 정책
+     * @param shadowingTarget 이 대상을 가리는 대상
+     * @param matcherCostNanos 가려진 대상의 매처 1회 평가에 드는 추정 비용 (측정하지 않은 경우 0)
+     */
+    public record ShadowedTarget(Policy policy, PolicyTarget target, Policy shadowingPolicy, PolicyTarget shadowingTarget, long matcherCostNanos) {}
+
+    /**
+     * @param evaluatedTargets 분석한 URL 대상 수
+     * @param shadowedTargets 가려진 대상 목록 (평가 순서)
+     * @param unreachablePolicies 모든 URL 대상이 가려져 절대 매칭되지 않는 정책
+     */
+    public record Report(int evaluatedTargets, List<ShadowedTarget> shadowedTargets, List<Policy> unreachablePolicies) {
+
+        /**
+         * 가려진 대상 집합 (엔티티 동일성 기준).
+         */
+        public Set<PolicyTarget> shadowedTargetSet() {
+            Set<PolicyTarget> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+            shadowedTargets.forEach(shadowed -> targets.add(shadowed.target()));
+            return targets;
+        }
+
+        /**
+         * 가려진 매처를 모두 제거했을 때, 가려진 대상 위치까지 도달하는 요청 하나가 절약하는 매처 비용의 합(상한).
+         */
+        public long estimatedSavingNanosPerRequest() {
+            return shadowedTargets.stream().mapToLong(ShadowedTarget::matcherCostNanos).sum();
+        }
+    }
+
+    private record Entry(int order, Policy policy, PolicyTarget target) {}
+
+    /**
+     * @param policiesInEvaluationOrder PEP 가 매핑을 구성할 때와 같은 순서(우선순위 오름차순)의 정책 목록
+     * @param measureCost true 이면 가려진 대상마다 매처 평가 비용을 측정합니다
+     */
+    public Report analyze(List<Policy> policiesInEvaluationOrder, boolean measureCost) {
+        List<Entry> entries = new ArrayList<>();
+        for (Policy policy : policiesInEvaluationOrder) {
+            for (PolicyTarget target : policy.getTargets()) {
+                if ("URL".equals(target.getTargetType())) {
+                    entries.add(new Entry(entries.size(), policy, target));
+                }
+            }
+        }
+
+        // 리터럴로 시작하는 대상은 같은 첫 세그먼트를 가진 앞선 대상이나 와일드카드로 시작하는 앞선 대상만 자신을 가릴 수 있음
+        Map<String, List<Entry>> precedingByFirstSegment = new HashMap<>();
+        List<Entry> precedingWithWildcardStart = new ArrayList<>();
+        List<ShadowedTarget> shadowedTargets = new ArrayList<>();
+        Map<Policy, Integer> shadowedCountByPolicy = new IdentityHashMap<>();
+
+        for (Entry entry : entries) {
+            Optional<String> firstSegment = PathPatternContainment.firstLiteralSegment(entry.target().getTargetIdentifier());
+            Entry shadowing = findShadowing(entry, precedingWithWildcardStart);
+            if (shadowing == null && firstSegment.isPresent()) {
+                shadowing = findShadowing(entry, precedingByFirstSegment.getOrDefault(firstSegment.get(), List.of()));
+            }
+
+            if (shadowing != null) {
+                long cost = measureCost ? measureMatcherCost(entry.target().getTargetIdentifier()) : 0L;
+                shadowedTargets.add(new ShadowedTarget(entry.policy(), entry.target(), shadowing.policy(), shadowing.target(), cost));
+                shadowedCountByPolicy.merge(entry.policy(), 1, Integer::sum);
+            }
+
+            if (firstSegment.isPresent()) {
+                precedingByFirstSegment.computeIfAbsent(firstSegment.get(), key -> new ArrayList<>()).add(entry);
+            } else {
+                precedingWithWildcardStart.add(entry);
+            }
+        }
+
+        Map<Policy, Integer> urlTargetCountByPolicy = new LinkedHashMap<>();
+        entries.forEach(entry -> urlTargetCountByPolicy.merge(entry.policy(), 1, Integer::sum));
+        List<Policy> unreachablePolicies = new ArrayList<>();
+        urlTargetCountByPolicy.forEach((policy, count) -> {
+            if (count.equals(shadowedCountByPolicy.get(policy))) unreachablePolicies.add(policy);
+        });
+
+        log.debug("URL policy reachability: {} targets analyzed, {} shadowed, {} policies unreachable",
+                entries.size(), shadowedTargets.size(), unreachablePolicies.size());
+        return new Report(entries.size(), Collections.unmodifiableList(shadowedTargets), Collections.unmodifiableList(unreachablePolicies));
+    }
+
+    private Entry findShadowing(Entry entry, List<Entry> candidates) {
+        for (Entry candidate : candidates) {
+            if (precedesStrictly(candidate, entry)
+                    && PathPatternContainment.covers(candidate.target().getTargetIdentifier(), entry.target().getTargetIdentifier())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private boolean precedesStrictly(Entry earlier, Entry later) {
+        if (earlier.policy() == later.policy()) {
+            return earlier.order() < later.order();
+        }
+        return earlier.policy().getPriority() < later.policy().getPriority();
+    }
+
+    /**
+     * 패턴을 대표 경로에 대해 반복 매칭하여 1회 평가의 평균 비용(나노초)을 추정합니다.
+     */
+    private long measureMatcherCost(String pattern) {
+        try {
+            PathPattern pathPattern = PathPatternParser.defaultInstance.parse(pattern);
+            PathContainer path = PathContainer.parsePath(PathPatternContainment.samplePath(pattern));
+            int matched = 0;
+            for (int i = 0; i < COST_SAMPLE_ITERATIONS; i++) {
+                if (pathPattern.matches(path)) matched++; // 워밍업
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < COST_SAMPLE_ITERATIONS; i++) {
+                if (pathPattern.matches(path)) matched++;
+            }
+            long elapsed = System.nanoTime() - start;
+            log.trace("Measured pattern {} ({} matches)", pattern, matched);
+            return Math.max(1L, elapsed / COST_SAMPLE_ITERATIONS);
+        } catch (RuntimeException e) {
+            log.debug("Could not measure matcher cost for pattern {}", pattern, e);
+            return 0L;
+        }
+    }
+}
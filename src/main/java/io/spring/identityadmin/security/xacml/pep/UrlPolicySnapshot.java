@@ -0,0 +1,172 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
+import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcherEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * URL 정책 목록을 컴파일한 불변 인가 스냅샷입니다.
+ * 정책 대상마다 (요청 매처, 인가 매니저) 쌍을 정책 목록 순서대로 보관하며, 첫 번째로 일치하는 항목이 결정을 내립니다.
+ * CustomDynamicAuthorizationManager 가 요청 처리에 사용하는 스냅샷과, 감사 로그 재생처럼 운영 스냅샷과 별도로
+ * 후보 정책 집합을 평가할 때 사용하는 스냅샷이 모두 이 클래스로 만들어집니다.
+ */
+public final class UrlPolicySnapshot {
+
+    private static final Pattern AUTHORITY_PATTERN = Pattern.compile("^[A-Z_]+$");
+
+    /**
+     * 스냅샷이 요청 하나에 내린 결정. NO_MATCH 는 일치하는 정책이 없는 경우, ERROR 는 평가 중 예외가 발생한 경우입니다.
+     */
+    public enum Outcome { ALLOW, DENY, NO_MATCH, ERROR }
+
+    /**
+     * 결정과, 결정을 내린 매핑의 요청 매처 설명(일치하는 매핑이 없으면 null)입니다.
+     */
+    public record Evaluation(Outcome outcome, String matchedRule) {}
+
+    private final List<RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>>> mappings;
+
+    private UrlPolicySnapshot(List<RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>>> mappings) {
+        this.mappings = List.copyOf(mappings);
+    }
+
+    /**
+     * 정책 목록(우선순위 순)을 스냅샷으로 컴파일합니다.
+     * @param policies 우선순위 순으로 정렬된 정책 목록
+     * @param managerResolver 조건식을 인가 매니저로 변환할 리졸버
+     * @param excludedTargets 스냅샷에서 제외할 대상 (예: 더 높은 우선순위 정책에 가려진 대상)
+     */
+    public static UrlPolicySnapshot compile(List<Policy> policies, ExpressionAuthorizationManagerResolver managerResolver,
+                                            Set<PolicyTarget> excludedTargets) {
+        List<RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>>> mappings = new ArrayList<>();
+        for (Policy policy : policies) {
+            String expression = expressionOf(policy);
+            for (PolicyTarget target : policy.getTargets()) {
+                if ("URL".equals(target.getTargetType()) && !excludedTargets.contains(target)) {
+                    RequestMatcher matcher = PathPatternRequestMatcher.withDefaults().matcher(target.getTargetIdentifier());
+                    mappings.add(new RequestMatcherEntry<>(matcher, managerResolver.resolve(expression)));
+                }
+            }
+        }
+        return new UrlPolicySnapshot(mappings);
+    }
+
+    /**
+     * 요청과 일치하는 첫 번째 매핑을 반환합니다.
+     * @return 일치하는 매핑이 없으면 null
+     */
+    public RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>> match(HttpServletRequest request) {
+        for (RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>> mapping : mappings) {
+            if (mapping.getRequestMatcher().matcher(request).isMatch()) {
+                return mapping;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청을 이 스냅샷으로 평가합니다. 평가 중 발생한 예외는 ERROR 로 변환되며 호출자에게 전파되지 않습니다.
+     * 감사 로그 기록 없이 결정만 계산하므로 재생이나 섀도 평가처럼 운영 결정과 별개로 평가할 때 사용합니다.
+     */
+    public Evaluation evaluate(Authentication authentication, HttpServletRequest request) {
+        RequestMatcherEntry<AuthorizationManager<RequestAuthorizationContext>> mapping = null;
+        try {
+            mapping = match(request);
+            if (mapping == null) return new Evaluation(Outcome.NO_MATCH, null);
+            AuthorizationDecision decision = mapping.getEntry().check(() -> authentication, new RequestAuthorizationContext(request));
+            return new Evaluation(decision != null && decision.isGranted() ? Outcome.ALLOW : Outcome.DENY,
+                    mapping.getRequestMatcher().toString());
+        } catch (Exception e) {
+            return new Evaluation(Outcome.ERROR, mapping != null ? mapping.getRequestMatcher().toString() : null);
+        }
+    }
+
+    public int size() {
+        return mappings.size();
+    }
+
+    /**
+     * 현재 정책 목록에 후보 변경을 겹친 정책 목록을 만듭니다.
+     * removedPolicyIds 와 overrides 에 포함된 id 의 정책을 빼고 overrides 를 더한 뒤 우선순위 순으로 정렬합니다.
+     * @param overrides 추가하거나 교체할 정책 (id 가 없으면 신규 정책)
+     */
+    static List<Policy> overlay(List<Policy> currentPolicies, List<Policy> overrides, Set<Long> removedPolicyIds) {
+        List<Policy> additions = overrides != null ? overrides : List.of();
+        Set<Long> replacedIds = additions.stream().map(Policy::getId).filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        if (removedPolicyIds != null) {
+            replacedIds.addAll(removedPolicyIds);
+        }
+
+        List<Policy> policies = new ArrayList<>(currentPolicies.size() + additions.size());
+        for (Policy policy : currentPolicies) {
+            if (!replacedIds.contains(policy.getId())) {
+                policies.add(policy);
+            }
+        }
+        policies.addAll(additions);
+        // 안정 정렬이므로 우선순위가 같은 기존 정책들의 상대 순서는 유지됩니다.
+        policies.sort(Comparator.comparingInt(Policy::getPriority));
+        return policies;
+    }
+
+    /**
+     * 정책 객체로부터 최종 인가 표현식 문자열을 생성합니다.
+     * 여러 조건은 OR로 결합되며, 순수 권한 문자열은 hasAnyAuthority()로 묶어 효율을 높입니다.
+     */
+    static String expressionOf(Policy policy) {
+        List<String> conditionExpressions = policy.getRules().stream()
+                .flatMap(rule -> rule.getConditions().stream())
+                .map(PolicyCondition::getExpression)
+                .toList();
+
+        if (conditionExpressions.isEmpty()) {
+            return (policy.getEffect() == Policy.Effect.ALLOW) ? "permitAll" : "denyAll";
+        }
+
+        String finalExpression;
+
+        // 1. 조건이 단 하나일 경우
+        if (conditionExpressions.size() == 1) {
+            finalExpression = conditionExpressions.getFirst(); // 괄호 없이 순수 표현식(예: 'ROLE_ADMIN' 또는 'hasRole(''USER'')')을 그대로 사용
+
+            // 2. 조건이 여러 개일 경우
+        } else {
+            boolean allAreSimpleAuthorities = conditionExpressions.stream().allMatch(expr -> AUTHORITY_PATTERN.matcher(expr).matches());
+
+            // 2-1. 모든 조건이 순수 권한 문자열이면 hasAnyAuthority()로 효율적으로 묶음
+            if (allAreSimpleAuthorities) {
+                finalExpression = "hasAnyAuthority(" +
+                        conditionExpressions.stream().map(auth -> "'" + auth + "'").collect(Collectors.joining(",")) +
+                        ")";
+                // 2-2. SpEL이 하나라도 섞여 있으면 or 로 결합
+            } else {
+                finalExpression = conditionExpressions.stream()
+                        .map(expr -> "(" + expr + ")")
+                        .collect(Collectors.joining(" or "));
+            }
+        }
+
+        if (policy.getEffect() == Policy.Effect.DENY) {
+            return "!(" + finalExpression + ")";
+        }
+        return finalExpression;
+    }
+}
@@ -0,0 +1,53 @@
+package io.spring.identityadmin.security.xacml.pip.access;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 역방향 접근 인덱스 조회 결과인 사용자 id 집합입니다.
+ * exact 가 false 이면 집합은 접근 가능성이 있는 사용자의 상한이며,
+ * IP·시간처럼 사용자 속성만으로 판정할 수 없는 조건에 따라 실제로는 거부될 수 있는 사용자가 포함되어 있습니다.
+ */
+public final class AccessHolders {
+
+    private final BitSet users;
+    private final boolean exact;
+    private final int count;
+
+    public AccessHolders(BitSet users, boolean exact) {
+        this.users = users;
+        this.exact = exact;
+        this.count = users.cardinality();
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * afterUserId 보다 큰 사용자 id 를 오름차순으로 최대 limit 개 반환합니다.
+     * 마지막 id 를 다음 호출의 afterUserId 로 넘기면 집합 전체를 순회할 수 있습니다.
+     */
+    public long[] page(long afterUserId, int limit) {
+        if (afterUserId >= Integer.MAX_VALUE || limit <= 0) return new long[0];
+        long[] page = new long[Math.min(limit, count)];
+        int filled = 0;
+        int next = users.nextSetBit((int) Math.max(afterUserId + 1, 0));
+        while (next >= 0 && filled < page.length) {
+            page[filled++] = next;
+            next = next == Integer.MAX_VALUE ? -1 : users.nextSetBit(next + 1);
+        }
+        return filled == page.length ? page : Arrays.copyOf(page, filled);
+    }
+
+    /**
+     * userId 보다 큰 사용자 id 가 남아 있는지 여부입니다.
+     */
+    public boolean hasMoreAfter(long userId) {
+        return userId < Integer.MAX_VALUE && users.nextSetBit((int) Math.max(userId + 1, 0)) >= 0;
+    }
+}
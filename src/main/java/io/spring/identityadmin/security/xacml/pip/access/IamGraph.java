@@ -0,0 +1,269 @@
+package io.spring.identityadmin.security.xacml.pip.access;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 그룹 → 역할 → (상위 역할 → 하위 역할) → 권한 관계를 int 노드 번호와 CSR(압축 희소 행) 인접 배열로 보관하는 불변 그래프.
+ * 노드 i 의 나가는 간선은 targets[offsets[i] .. offsets[i + 1]) 에 있으며, 경로 질의는 이 배열 위의 BFS 로 답합니다.
+ * 인스턴스는 Builder 로 만들거나 {@link #withEdges} 로 한 노드의 간선만 바꾼 사본으로 만들며, IamGraphIndex 가 변경 시 통째로 교체합니다.
+ */
+public final class IamGraph {
+
+    public enum NodeType { GROUP, ROLE, PERMISSION }
+
+    /**
+     * @param entityId 그룹·역할·권한 엔티티의 id
+     */
+    public record Node(int index, NodeType type, long entityId, String name, String description) {}
+
+    private final Node[] nodes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final Map<NodeType, Map<Long, Integer>> indexByEntity;
+    private final String roleHierarchy;
+
+    private IamGraph(Node[] nodes, int[] offsets, int[] targets, Map<NodeType, Map<Long, Integer>> indexByEntity, String roleHierarchy) {
+        this.nodes = nodes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.indexByEntity = indexByEntity;
+        this.roleHierarchy = roleHierarchy;
+    }
+
+    public int nodeCount() {
+        return nodes.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public Node node(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * 노드에서 나가는 간선의 도착 노드 번호를 복사하여 반환합니다.
+     */
+    public int[] neighbors(int index) {
+        return Arrays.copyOfRange(targets, offsets[index], offsets[index + 1]);
+    }
+
+    /**
+     * @return 그래프에 없는 엔티티이면 -1
+     */
+    public int indexOf(NodeType type, long entityId) {
+        Integer index = indexByEntity.get(type).get(entityId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 그래프를 만들 때 반영한 역할 계층 문자열입니다.
+     */
+    public String getRoleHierarchy() {
+        return roleHierarchy;
+    }
+
+    /**
+     * from 엔티티에서 to 종류 엔티티로 나가는 간선을 추가·제거한 새 그래프를 반환합니다. 노드와 다른 노드의 간선은 그대로 공유·복사하므로
+     * DB 를 다시 읽지 않고 간선 배열 복사 한 번으로 끝납니다. 그래프에 없는 엔티티(구성 이후 생성된 엔티티)는 Builder 와 같이 무시합니다.
+     * @return 바뀐 간선이 없으면 이 그래프
+     */
+    public IamGraph withEdges(NodeType fromType, long fromId, NodeType toType, long[] addedIds, long[] removedIds) {
+        int from = indexOf(fromType, fromId);
+        if (from < 0) return this;
+        Set<Integer> removed = new HashSet<>();
+        for (long id : removedIds) {
+            removed.add(indexOf(toType, id));
+        }
+        int start = offsets[from];
+        int end = offsets[from + 1];
+        int[] adjacency = new int[end - start + addedIds.length];
+        int size = 0;
+        for (int e = start; e < end; e++) {
+            if (!removed.contains(targets[e])) adjacency[size++] = targets[e];
+        }
+        int retained = size;
+        for (long id : addedIds) {
+            int to = indexOf(toType, id);
+            if (to >= 0 && !contains(adjacency, size, to)) adjacency[size++] = to;
+        }
+        if (retained == end - start && size == retained) return this;
+
+        int delta = size - (end - start);
+        int[] newTargets = new int[targets.length + delta];
+        System.arraycopy(targets, 0, newTargets, 0, start);
+        System.arraycopy(adjacency, 0, newTargets, start, size);
+        System.arraycopy(targets, end, newTargets, start + size, targets.length - end);
+        int[] newOffsets = offsets.clone();
+        for (int i = from + 1; i < newOffsets.length; i++) {
+            newOffsets[i] += delta;
+        }
+        return new IamGraph(nodes, newOffsets, newTargets, indexByEntity, roleHierarchy);
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * sources 에서 시작하는 BFS 를 수행하고, 각 노드까지의 최단 거리와 최단 경로상의 모든 직전 노드를 기록합니다.
+     */
+    public ShortestPaths search(int[] sources) {
+        int[] distance = new int[nodes.length];
+        Arrays.fill(distance, -1);
+        // 직전 노드 목록을 간선 수 크기의 연결 리스트 배열로 보관 (노드별 head → next 체인)
+        int[] predecessorHead = new int[nodes.length];
+        Arrays.fill(predecessorHead, -1);
+        int[] predecessorNode = new int[targets.length];
+        int[] predecessorNext = new int[targets.length];
+        int predecessorCount = 0;
+
+        int[] queue = new int[nodes.length];
+        int head = 0;
+        int tail = 0;
+        for (int source : sources) {
+            if (source >= 0 && distance[source] < 0) {
+                distance[source] = 0;
+                queue[tail++] = source;
+            }
+        }
+        while (head < tail) {
+            int current = queue[head++];
+            for (int e = offsets[current]; e < offsets[current + 1]; e++) {
+                int next = targets[e];
+                if (distance[next] < 0) {
+                    distance[next] = distance[current] + 1;
+                    queue[tail++] = next;
+                }
+                if (distance[next] == distance[current] + 1) {
+                    predecessorNode[predecessorCount] = current;
+                    predecessorNext[predecessorCount] = predecessorHead[next];
+                    predecessorHead[next] = predecessorCount++;
+                }
+            }
+        }
+        return new ShortestPaths(distance, predecessorHead, predecessorNode, predecessorNext);
+    }
+
+    /**
+     * 한 번의 BFS 결과. 여러 목표 노드에 대한 경로를 추가 탐색 없이 꺼낼 수 있습니다.
+     */
+    public static final class ShortestPaths {
+        private final int[] distance;
+        private final int[] predecessorHead;
+        private final int[] predecessorNode;
+        private final int[] predecessorNext;
+
+        private ShortestPaths(int[] distance, int[] predecessorHead, int[] predecessorNode, int[] predecessorNext) {
+            this.distance = distance;
+            this.predecessorHead = predecessorHead;
+            this.predecessorNode = predecessorNode;
+            this.predecessorNext = predecessorNext;
+        }
+
+        public boolean isReachable(int target) {
+            return target >= 0 && distance[target] >= 0;
+        }
+
+        public int distanceTo(int target) {
+            return distance[target];
+        }
+
+        /**
+         * 출발 노드에서 target 까지의 모든 최단 경로를 최대 maxPaths 개 반환합니다. 각 경로는 출발 노드부터 target 까지의 노드 번호 배열입니다.
+         */
+        public List<int[]> pathsTo(int target, int maxPaths) {
+            List<int[]> paths = new ArrayList<>();
+            if (!isReachable(target)) return paths;
+            int[] path = new int[distance[target] + 1];
+            collect(target, path, paths, maxPaths);
+            return paths;
+        }
+
+        private void collect(int node, int[] path, List<int[]> paths, int maxPaths) {
+            path[distance[node]] = node;
+            if (distance[node] == 0) {
+                paths.add(path.clone());
+                return;
+            }
+            for (int p = predecessorHead[node]; p >= 0 && paths.size() < maxPaths; p = predecessorNext[p]) {
+                collect(predecessorNode[p], path, paths, maxPaths);
+            }
+        }
+    }
+
+    public static Builder builder(String roleHierarchy) {
+        return new Builder(roleHierarchy);
+    }
+
+    public static final class Builder {
+        private final String roleHierarchy;
+        private final List<Node> nodes = new ArrayList<>();
+        private final Map<NodeType, Map<Long, Integer>> indexByEntity = new HashMap<>();
+        private int[] edgeFrom = new int[64];
+        private int[] edgeTo = new int[64];
+        private int edgeCount;
+        private final Set<Long> edgeKeys = new HashSet<>();
+
+        private Builder(String roleHierarchy) {
+            this.roleHierarchy = roleHierarchy;
+            for (NodeType type : NodeType.values()) {
+                indexByEntity.put(type, new HashMap<>());
+            }
+        }
+
+        public Builder node(NodeType type, long entityId, String name, String description) {
+            indexByEntity.get(type).computeIfAbsent(entityId, id -> {
+                nodes.add(new Node(nodes.size(), type, entityId, name, description));
+                return nodes.size() - 1;
+            });
+            return this;
+        }
+
+        /**
+         * 두 엔티티 사이에 간선을 추가합니다. 어느 한쪽이 등록되지 않은 엔티티이거나 이미 있는 간선이면 무시합니다.
+         */
+        public Builder edge(NodeType fromType, long fromId, NodeType toType, long toId) {
+            Integer from = indexByEntity.get(fromType).get(fromId);
+            Integer to = indexByEntity.get(toType).get(toId);
+            if (from == null || to == null || !edgeKeys.add(((long) from << 32) | to)) return this;
+            if (edgeCount == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+            }
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount] = to;
+            edgeCount++;
+            return this;
+        }
+
+        public IamGraph build() {
+            int nodeCount = nodes.size();
+            int[] offsets = new int[nodeCount + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                offsets[edgeFrom[e] + 1]++;
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            int[] cursor = Arrays.copyOf(offsets, nodeCount);
+            int[] targets = new int[edgeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                targets[cursor[edgeFrom[e]]++] = edgeTo[e];
+            }
+            Map<NodeType, Map<Long, Integer>> index = new HashMap<>();
+            indexByEntity.forEach((type, byId) -> index.put(type, Map.copyOf(byId)));
+            return new IamGraph(nodes.toArray(Node[]::new), offsets, targets, index, roleHierarchy);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.spring.identityadmin.security.xacml.pip.access;
+
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.repository.RoleRepository;
+import io.spring.identityadmin.security.core.ReloadableRoleHierarchy;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Studio 접근 경로 분석에 사용하는 IamGraph 를 유지합니다.
+ * 그룹·역할·권한과 그 사이의 관계, 활성 역할 계층을 읽어 그래프를 만들고, TerminologyChangedEvent 를 받으면 커밋 이후 다시 만듭니다.
+ * 그룹-역할·역할-권한 연결만 바뀐 AssociationChangedEvent 는 DB 를 읽지 않고 현재 그래프에 바뀐 간선만 반영합니다.
+ * 역할 계층은 변경 이벤트가 없으므로 조회 시 현재 계층 문자열이 그래프를 만들 때와 다르면 다시 만듭니다.
+ * 사용자 → 그룹 소속은 그래프에 두지 않고 ReverseAccessIndex 에서 찾습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IamGraphIndex {
+
+    private final GroupRepository groupRepository;
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final ReloadableRoleHierarchy roleHierarchy;
+    private final IntegrationEventBus eventBus;
+
+    private volatile IamGraph graph;
+
+    @PostConstruct
+    public void subscribe() {
+        eventBus.subscribe(TerminologyChangedEvent.class, event -> AfterCommit.run(this::rebuild));
+        eventBus.subscribe(AssociationChangedEvent.class, this::applyAssociationChange);
+    }
+
+    /**
+     * 현재 그래프를 반환합니다. 아직 만들지 않았거나 역할 계층이 바뀌었으면 먼저 다시 만듭니다.
+     */
+    public IamGraph current() {
+        IamGraph current = graph;
+        if (current == null || !Objects.equals(current.getRoleHierarchy(), roleHierarchy.getHierarchyString())) {
+            synchronized (this) {
+                current = graph;
+                if (current == null || !Objects.equals(current.getRoleHierarchy(), roleHierarchy.getHierarchyString())) {
+                    rebuild();
+                    current = graph;
+                }
+            }
+        }
+        return current;
+    }
+
+    public synchronized void rebuild() {
+        String hierarchy = roleHierarchy.getHierarchyString();
+        IamGraph.Builder builder = IamGraph.builder(hierarchy);
+        Map<String, Long> roleIdByName = new HashMap<>();
+
+        groupRepository.findAll().forEach(group ->
+                builder.node(IamGraph.NodeType.GROUP, group.getId(), group.getName(), group.getDescription()));
+        roleRepository.findAll().forEach(role -> {
+            builder.node(IamGraph.NodeType.ROLE, role.getId(), role.getRoleName(), role.getRoleDesc());
+            roleIdByName.put(hierarchyKey(role.getRoleName()), role.getId());
+        });
+        permissionRepository.findAll().forEach(permission ->
+                builder.node(IamGraph.NodeType.PERMISSION, permission.getId(), permission.getName(), permission.getDescription()));
+
+        groupRepository.scanGroupRoleEdges((groupId, roleId) ->
+                builder.edge(IamGraph.NodeType.GROUP, groupId, IamGraph.NodeType.ROLE, roleId));
+        roleRepository.scanRolePermissionEdges((roleId, permissionId) ->
+                builder.edge(IamGraph.NodeType.ROLE, roleId, IamGraph.NodeType.PERMISSION, permissionId));
+        addHierarchyEdges(builder, hierarchy, roleIdByName);
+
+        IamGraph built = builder.build();
+        this.graph = built;
+        log.info("IAM graph built with {} nodes and {} edges.", built.nodeCount(), built.edgeCount());
+    }
+
+    private synchronized void applyAssociationChange(AssociationChangedEvent event) {
+        IamGraph current = graph;
+        // 아직 만들지 않았으면 처음 만들 때 변경 내용을 읽습니다.
+        if (current == null) return;
+        switch (event.getAssociation()) {
+            case GROUP_ROLE -> graph = current.withEdges(IamGraph.NodeType.GROUP, event.getOwnerId(),
+                    IamGraph.NodeType.ROLE, event.getAddedIds(), event.getRemovedIds());
+            case ROLE_PERMISSION -> graph = current.withEdges(IamGraph.NodeType.ROLE, event.getOwnerId(),
+                    IamGraph.NodeType.PERMISSION, event.getAddedIds(), event.getRemovedIds());
+            case USER_GROUP -> {
+                // 사용자 소속은 그래프에 두지 않습니다.
+            }
+        }
+    }
+
+    /**
+     * "ROLE_ADMIN > ROLE_MANAGER" 형식의 각 줄(연쇄 "A > B > C" 포함)을 상위 역할 → 하위 역할 간선으로 추가합니다.
+     * 역할 이름은 RoleHierarchyService 의 검증과 같이 "ROLE_" 접두사와 대소문자를 무시하고 비교합니다.
+     */
+    private void addHierarchyEdges(IamGraph.Builder builder, String hierarchy, Map<String, Long> roleIdByName) {
+        if (hierarchy == null || hierarchy.isBlank()) return;
+        for (String line : hierarchy.split("\\n")) {
+            String[] chain = line.split(">");
+            for (int i = 0; i + 1 < chain.length; i++) {
+                Long higher = roleIdByName.get(hierarchyKey(chain[i]));
+                Long lower = roleIdByName.get(hierarchyKey(chain[i + 1]));
+                if (higher != null && lower != null) {
+                    builder.edge(IamGraph.NodeType.ROLE, higher, IamGraph.NodeType.ROLE, lower);
+                }
+            }
+        }
+    }
+
+    private static String hierarchyKey(String roleName) {
+        String trimmed = roleName.trim().toUpperCase(Locale.ROOT);
+        return trimmed.startsWith("ROLE_") ? trimmed.substring(5) : trimmed;
+    }
+}
@@ -0,0 +1,105 @@
+package io.spring.identityadmin.security.xacml.pip.access;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 그룹 하나에 소속된 사용자 id 집합.
+ * 구성원이 적으면 정렬된 int 배열로, 배열이 같은 범위의 비트맵보다 커지면 BitSet 으로 보관하여
+ * 소규모 그룹과 전사 그룹이 섞여 있어도 메모리 사용량이 구성원 수 또는 최대 사용자 id 중 작은 쪽에 비례하게 합니다.
+ * 동기화하지 않으므로 ReverseAccessIndex 의 잠금 안에서만 사용합니다.
+ */
+final class MemberSet {
+
+    private static final int MIN_BITMAP_SIZE = 64;
+
+    private int[] ids;
+    private int size;
+    private BitSet bits;
+
+    MemberSet() {
+        this.ids = new int[4];
+    }
+
+    private MemberSet(int[] sortedIds, int size) {
+        this.ids = sortedIds;
+        this.size = size;
+        compactIfDense();
+    }
+
+    /**
+     * 오름차순으로 정렬된 중복 없는 id 배열로 집합을 만듭니다. 배열은 복사 없이 사용됩니다.
+     */
+    static MemberSet ofSorted(int[] sortedIds, int size) {
+        return new MemberSet(sortedIds, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int userId) {
+        return bits != null ? bits.get(userId) : Arrays.binarySearch(ids, 0, size, userId) >= 0;
+    }
+
+    void add(int userId) {
+        if (bits != null) {
+            if (!bits.get(userId)) {
+                bits.set(userId);
+                size++;
+            }
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, userId);
+        if (index >= 0) return;
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = userId;
+        size++;
+        compactIfDense();
+    }
+
+    void remove(int userId) {
+        if (bits != null) {
+            if (bits.get(userId)) {
+                bits.clear(userId);
+                size--;
+            }
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, userId);
+        if (index < 0) return;
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * 이 집합의 모든 id 를 target 에 더합니다.
+     */
+    void orInto(BitSet target) {
+        if (bits != null) {
+            target.or(bits);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            target.set(ids[i]);
+        }
+    }
+
+    private void compactIfDense() {
+        if (size < MIN_BITMAP_SIZE) return;
+        // int 배열(4 byte/원소)이 최대 id 까지의 비트맵(1 bit/id)보다 커지면 비트맵으로 전환
+        long maxId = ids[size - 1];
+        if ((long) size * Integer.SIZE >= maxId) {
+            BitSet bitmap = new BitSet((int) maxId + 1);
+            for (int i = 0; i < size; i++) {
+                bitmap.set(ids[i]);
+            }
+            this.bits = bitmap;
+            this.ids = null;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package io.spring.identityadmin.security.xacml.pip.access;
+
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipBulkChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipChangedEvent;
+import io.spring.identityadmin.common.event.service.AfterCommit;
+import io.spring.identityadmin.common.event.service.IntegrationEventBus;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * "누가 이 권한을 가지고 있는가" 에 답하기 위한 상주 역방향 인덱스.
+ * 권한 문자열(역할·권한) → 그룹 id 목록, 그룹 id → 소속 사용자 집합(MemberSet) 두 단계로 보관하며,
+ * 조회는 권한을 부여하는 그룹들의 사용자 집합을 BitSet 하나로 합치는 것으로 끝나므로 사용자 수와 무관하게 DB 를 읽지 않습니다.
+ * <p>
+ * 그룹 → 권한 관계는 작으므로 TerminologyChangedEvent 나 그룹-역할·역할-권한 AssociationChangedEvent 를 받으면 커밋 이후 통째로 다시 읽고,
+ * 사용자 소속은 UserMembershipChangedEvent 를 받아 해당 사용자만 갱신하고, 많은 사용자가 한꺼번에 바뀐 UserMembershipBulkChangedEvent 는 전체를 다시 읽습니다.
+ * 사용자 id 를 비트 위치로 사용하므로 사용자 id 는 int 범위 안에 있어야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReverseAccessIndex {
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final RoleHierarchy roleHierarchy;
+    private final IntegrationEventBus eventBus;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, MemberSet> membersByGroup = new HashMap<>();
+    private final BitSet allUsers = new BitSet();
+    private volatile GroupAuthorities groupAuthorities = new GroupAuthorities(Map.of(), Set.of());
+    /**
+     * 전체 적재(첫 적재와 재적재 모두) 도중 소속이 바뀐 사용자. 적재가 끝난 뒤 다시 반영하여,
+     * 적재 시점 이후의 변경이 누락되거나 새 스냅샷으로 덮어써지지 않게 합니다.
+     */
+    private final Set<Long> usersChangedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean groupsChangedDuringBuild;
+    private volatile boolean building;
+    private volatile boolean loaded;
+
+    /**
+     * 그룹 → 권한 관계의 불변 스냅샷.
+     * @param groupsByAuthority 권한 문자열 → 그 권한을 (역할을 통해) 부여하는 그룹 id
+     * @param groupIds 역할이 없는 그룹을 포함한 모든 그룹 id
+     */
+    private record GroupAuthorities(Map<String, long[]> groupsByAuthority, Set<Long> groupIds) {}
+
+    @PostConstruct
+    public void subscribe() {
+        eventBus.subscribe(UserMembershipChangedEvent.class, event -> AfterCommit.run(() -> refreshUser(event.getUserId())));
+        eventBus.subscribe(UserMembershipBulkChangedEvent.class, event -> AfterCommit.run(() -> refreshUsers(event)));
+        eventBus.subscribe(TerminologyChangedEvent.class, event -> AfterCommit.run(this::refreshGroupAuthorities));
+        eventBus.subscribe(AssociationChangedEvent.class, event -> {
+            if (event.getAssociation() != AssociationChangedEvent.Association.USER_GROUP) refreshGroupAuthorities();
+        });
+    }
+
+    /**
+     * 모든 사용자와 그룹 소속, 그룹 권한을 커서로 읽어 인덱스를 새로 구성합니다.
+     * 동시에 하나만 실행되며, 실행 중에 들어온 사용자·그룹 변경은 새 스냅샷을 반영한 뒤에 다시 적용합니다.
+     */
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        building = true;
+        BitSet users = new BitSet();
+        Map<Long, MemberSet> members;
+        GroupAuthorities authorities;
+        try {
+            authorities = loadGroupAuthorities();
+            userRepository.scanUserIds(userId -> users.set(toBitIndex(userId)));
+
+            // 사용자 id 순으로 읽으므로 그룹별 배열에는 id 가 오름차순으로 쌓입니다.
+            Map<Long, GrowableIntArray> builders = new HashMap<>();
+            userRepository.scanGroupMemberships((userId, groupId) ->
+                    builders.computeIfAbsent(groupId, id -> new GrowableIntArray()).append(toBitIndex(userId)));
+            members = new HashMap<>(builders.size() * 2);
+            for (Map.Entry<Long, GrowableIntArray> entry : builders.entrySet()) {
+                members.put(entry.getKey(), MemberSet.ofSorted(entry.getValue().values, entry.getValue().size));
+            }
+
+            lock.writeLock().lock();
+            try {
+                membersByGroup.clear();
+                membersByGroup.putAll(members);
+                allUsers.clear();
+                allUsers.or(users);
+                groupAuthorities = authorities;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            building = false;
+        }
+        log.info("Reverse access index built with {} users, {} groups and {} authorities in {} ms.",
+                users.cardinality(), members.size(), authorities.groupsByAuthority().size(), (System.nanoTime() - started) / 1_000_000);
+
+        if (groupsChangedDuringBuild) {
+            groupsChangedDuringBuild = false;
+            refreshGroupAuthorities();
+        }
+        List<Long> changed = new ArrayList<>(usersChangedDuringBuild);
+        usersChangedDuringBuild.removeAll(changed);
+        changed.forEach(this::refreshUser);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 주어진 권한 문자열 중 하나 이상을 보유한 사용자 집합을 반환합니다.
+     * 역할 계층을 반영하여, 상위 역할을 통해 주어진 권한에 도달하는 사용자도 포함합니다.
+     * @return 호출자가 자유롭게 수정할 수 있는 새 BitSet
+     */
+    public BitSet findUsersWithAnyAuthority(Collection<String> authorities) {
+        ensureLoaded();
+        Set<Long> groupIds = new HashSet<>();
+        for (Map.Entry<String, long[]> entry : groupAuthorities.groupsByAuthority().entrySet()) {
+            if (reachesAny(entry.getKey(), authorities)) {
+                for (long groupId : entry.getValue()) groupIds.add(groupId);
+            }
+        }
+
+        BitSet result = new BitSet();
+        lock.readLock().lock();
+        try {
+            for (Long groupId : groupIds) {
+                MemberSet members = membersByGroup.get(groupId);
+                if (members != null) members.orInto(result);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 등록된 모든 사용자 집합을 반환합니다.
+     * @return 호출자가 자유롭게 수정할 수 있는 새 BitSet
+     */
+    public BitSet findAllUsers() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return (BitSet) allUsers.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자가 소속된 그룹 id 를 인덱스에서 찾습니다. 그룹 수에 비례하는 비용이며 DB 를 읽지 않습니다.
+     * @return 인덱스에 없는 사용자이면 빈 Optional
+     */
+    public Optional<long[]> findGroupIdsOfUser(long userId) {
+        ensureLoaded();
+        if (userId < 0 || userId > Integer.MAX_VALUE) return Optional.empty();
+        int bitIndex = (int) userId;
+        lock.readLock().lock();
+        try {
+            if (!allUsers.get(bitIndex)) return Optional.empty();
+            return Optional.of(membersByGroup.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(bitIndex))
+                    .mapToLong(Map.Entry::getKey)
+                    .sorted()
+                    .toArray());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean reachesAny(String heldAuthority, Collection<String> targets) {
+        if (targets.contains(heldAuthority)) return true;
+        Collection<? extends GrantedAuthority> reachable =
+                roleHierarchy.getReachableGrantedAuthorities(List.of(new SimpleGrantedAuthority(heldAuthority)));
+        for (GrantedAuthority authority : reachable) {
+            if (targets.contains(authority.getAuthority())) return true;
+        }
+        return false;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) rebuild();
+            }
+        }
+    }
+
+    private void refreshUser(Long userId) {
+        if (userId == null) return;
+        if (!loaded || building) {
+            usersChangedDuringBuild.add(userId);
+            return;
+        }
+        int bitIndex = toBitIndex(userId);
+        Optional<long[]> groupIds = userRepository.findGroupIdsByUserId(userId);
+        lock.writeLock().lock();
+        try {
+            // 사용자 → 그룹 역방향 목록을 두지 않는 대신, 수가 적은 그룹 전체에서 사용자를 제거한 뒤 현재 소속만 다시 추가
+            membersByGroup.values().forEach(members -> members.remove(bitIndex));
+            if (groupIds.isPresent()) {
+                allUsers.set(bitIndex);
+                for (long groupId : groupIds.get()) {
+                    membersByGroup.computeIfAbsent(groupId, id -> new MemberSet()).add(bitIndex);
+                }
+            } else {
+                allUsers.clear(bitIndex);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Reverse access index refreshed for user {}", userId);
+    }
+
+    private void refreshUsers(UserMembershipBulkChangedEvent event) {
+        if (loaded && event.requiresRebuild()) {
+            rebuild();
+            return;
+        }
+        for (long userId : event.getUserIds()) {
+            refreshUser(userId);
+        }
+    }
+
+    private void refreshGroupAuthorities() {
+        if (!loaded || building) {
+            groupsChangedDuringBuild = true;
+            return;
+        }
+        GroupAuthorities authorities = loadGroupAuthorities();
+        lock.writeLock().lock();
+        try {
+            // 삭제된 그룹의 소속은 DB 에서 함께 삭제(ON DELETE CASCADE)되므로 인덱스에서도 제거
+            membersByGroup.keySet().retainAll(authorities.groupIds());
+            groupAuthorities = authorities;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Reverse access index refreshed group authorities ({} authorities).", authorities.groupsByAuthority().size());
+    }
+
+    private GroupAuthorities loadGroupAuthorities() {
+        Map<String, GrowableLongArray> builders = new LinkedHashMap<>();
+        Set<Long> groupIds = new HashSet<>();
+        groupRepository.scanGroupAuthorities((groupId, authority) -> {
+            groupIds.add(groupId);
+            if (authority != null) {
+                builders.computeIfAbsent(authority, key -> new GrowableLongArray()).append(groupId);
+            }
+        });
+        Map<String, long[]> result = new HashMap<>(builders.size() * 2);
+        builders.forEach((authority, builder) -> result.put(authority, Arrays.copyOf(builder.values, builder.size)));
+        return new GroupAuthorities(Map.copyOf(result), Set.copyOf(groupIds));
+    }
+
+    private static int toBitIndex(long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("User id out of the range supported by the reverse access index: " + userId);
+        }
+        return (int) userId;
+    }
+
+    private static final class GrowableIntArray {
+        private int[] values = new int[8];
+        private int size;
+
+        private void append(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+
+    private static final class GrowableLongArray {
+        private long[] values = new long[4];
+        private int size;
+
+        private void append(long value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+}
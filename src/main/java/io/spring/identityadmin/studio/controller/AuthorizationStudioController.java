@@ -1,17 +1,26 @@
 package io.spring.identityadmin.studio.controller;
 
 import io.spring.identityadmin.admin.support.visualization.dto.GraphDataDto;
+import io.spring.identityadmin.security.xacml.pep.ShadowPolicyEvaluator;
+import io.spring.identityadmin.studio.dto.AccessHoldersDto;
+import io.spring.identityadmin.studio.dto.AuditReplayProgressDto;
+import io.spring.identityadmin.studio.dto.AuditReplayRequestDto;
 import io.spring.identityadmin.studio.dto.ExplorerItemDto;
 import io.spring.identityadmin.studio.dto.InitiateGrantRequestDto;
+import io.spring.identityadmin.studio.dto.PolicyReachabilityDto;
+import io.spring.identityadmin.studio.dto.ShadowEvaluationRequestDto;
+import io.spring.identityadmin.studio.dto.SimulationProgressDto;
 import io.spring.identityadmin.studio.dto.SimulationRequestDto;
 import io.spring.identityadmin.studio.service.StudioActionService;
 import io.spring.identityadmin.studio.service.StudioExplorerService;
 import io.spring.identityadmin.studio.service.StudioVisualizerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -51,11 +60,79 @@ public class AuthorizationStudioController {
         return ResponseEntity.ok(visualizerService.getEffectivePermissionsForSubject(subjectId, subjectType));
     }
 
+    @GetMapping("/api/policy-reachability")
+    public ResponseEntity<PolicyReachabilityDto> analyzePolicyReachability() {
+        return ResponseEntity.ok(visualizerService.analyzePolicyReachability());
+    }
+
+    @GetMapping("/api/access-holders")
+    public ResponseEntity<AccessHoldersDto> findAccessHolders(@RequestParam(required = false) String authority,
+                                                              @RequestParam(required = false) String url,
+                                                              @RequestParam(defaultValue = "0") long after,
+                                                              @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(visualizerService.findAccessHolders(authority, url, after, size));
+    }
+
+    @GetMapping("/api/access-holders/stream")
+    public ResponseEntity<StreamingResponseBody> streamAccessHolders(@RequestParam(required = false) String authority,
+                                                                     @RequestParam(required = false) String url) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(out -> visualizerService.streamAccessHolders(authority, url, out));
+    }
+
     @PostMapping("/api/simulate")
     public ResponseEntity<?> runSimulation(@RequestBody SimulationRequestDto request) {
         return ResponseEntity.ok(actionService.runPolicySimulation(request));
     }
 
+    @PostMapping("/api/simulations")
+    public ResponseEntity<SimulationProgressDto> startSimulation(@RequestBody SimulationRequestDto request) {
+        return ResponseEntity.ok(actionService.startBulkSimulation(request));
+    }
+
+    @GetMapping("/api/simulations/{jobId}")
+    public ResponseEntity<SimulationProgressDto> getSimulationProgress(@PathVariable String jobId, @RequestParam(defaultValue = "0") int fromIndex) {
+        return ResponseEntity.ok(actionService.getSimulationProgress(jobId, fromIndex));
+    }
+
+    @DeleteMapping("/api/simulations/{jobId}")
+    public ResponseEntity<Void> cancelSimulation(@PathVariable String jobId) {
+        actionService.cancelSimulation(jobId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/api/audit-replays")
+    public ResponseEntity<AuditReplayProgressDto> startAuditReplay(@RequestBody AuditReplayRequestDto request) {
+        return ResponseEntity.ok(actionService.startAuditReplay(request));
+    }
+
+    @GetMapping("/api/audit-replays/{jobId}")
+    public ResponseEntity<AuditReplayProgressDto> getAuditReplayProgress(@PathVariable String jobId, @RequestParam(defaultValue = "0") int fromIndex) {
+        return ResponseEntity.ok(actionService.getAuditReplayProgress(jobId, fromIndex));
+    }
+
+    @DeleteMapping("/api/audit-replays/{jobId}")
+    public ResponseEntity<Void> cancelAuditReplay(@PathVariable String jobId) {
+        actionService.cancelAuditReplay(jobId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/api/shadow-evaluation")
+    public ResponseEntity<ShadowPolicyEvaluator.Report> activateShadowEvaluation(@RequestBody ShadowEvaluationRequestDto request) {
+        return ResponseEntity.ok(actionService.activateShadowEvaluation(request));
+    }
+
+    @GetMapping("/api/shadow-evaluation")
+    public ResponseEntity<ShadowPolicyEvaluator.Report> getShadowEvaluationReport() {
+        return ResponseEntity.ok(actionService.getShadowEvaluationReport());
+    }
+
+    @DeleteMapping("/api/shadow-evaluation")
+    public ResponseEntity<ShadowPolicyEvaluator.Report> deactivateShadowEvaluation() {
+        return ResponseEntity.ok(actionService.deactivateShadowEvaluation());
+    }
+
     @PostMapping("/api/initiate-grant")
     public ResponseEntity<?> initiateGrant(@RequestBody InitiateGrantRequestDto request) {
         return ResponseEntity.ok(actionService.initiateGrantWorkflow(request));
@@ -0,0 +1,15 @@
+package io.spring.identityadmin.studio.dto;
+
+import io.spring.identityadmin.domain.dto.UserSummaryDto;
+
+import java.util.List;
+
+/**
+ * "누가 접근할 수 있는가" 조회 결과의 한 페이지.
+ * @param policyId URL 조회에서 결정을 내리는 정책 (권한 조회이거나 일치하는 정책이 없으면 null)
+ * @param exact false 이면 사용자 속성만으로 판정할 수 없는 조건 때문에 실제로는 거부될 수 있는 사용자가 포함된 상한 결과
+ * @param totalHolders 조건을 만족하는 전체 사용자 수
+ * @param nextCursor 다음 페이지 조회 시 after 로 넘길 사용자 id (마지막 페이지이면 null)
+ */
+public record AccessHoldersDto(String authority, String url, Long policyId, String policyName, String matchedPattern,
+                               boolean exact, long totalHolders, List<UserSummaryDto> holders, Long nextCursor) {}
@@ -0,0 +1,27 @@
+package io.spring.identityadmin.studio.dto;
+
+import io.spring.identityadmin.security.xacml.pep.AuditReplayJob;
+import io.spring.identityadmin.security.xacml.pep.LatencyHistogram;
+
+import java.util.List;
+
+/**
+ * 감사 로그 재생 작업의 진행 상태와, 요청한 위치(fromIndex) 이후에 새로 발견된 결정 변화 내역을 담는 DTO 입니다.
+ * 클라이언트는 nextIndex 를 다음 조회의 fromIndex 로 넘겨 결과를 점진적으로 받아갑니다.
+ */
+public record AuditReplayProgressDto(
+        String jobId,
+        String status,                        // RUNNING, COMPLETED, CANCELLED, FAILED
+        long replayedCount,
+        long allowToDenyCount,                // 허용(ALLOW/NO_MATCH) → 거부(DENY/ERROR)
+        long denyToAllowCount,                // 거부(DENY/ERROR) → 허용(ALLOW/NO_MATCH)
+        long noMatchTransitionCount,          // 허용은 그대로인 ALLOW↔NO_MATCH 변화
+        long errorTransitionCount,            // 거부는 그대로인 DENY↔ERROR 변화
+        long driftFromRecordedCount,          // 현재 정책의 재평가 결과가 기록된 결정과 다른 건수
+        LatencyHistogram.Summary currentLatency,
+        LatencyHistogram.Summary candidateLatency,
+        List<AuditReplayJob.DecisionFlip> flips,
+        int nextIndex,
+        boolean truncated,
+        String errorMessage
+) {}
@@ -0,0 +1,18 @@
+package io.spring.identityadmin.studio.dto;
+
+import io.spring.identityadmin.domain.dto.PolicyDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 감사 로그 재생 요청 DTO 입니다.
+ * 후보 정책 집합 = 현재 URL 정책 - removedPolicyIds - (candidatePolicies 와 id 가 같은 정책) + candidatePolicies
+ */
+public record AuditReplayRequestDto(
+        LocalDateTime from,
+        LocalDateTime to,
+        List<PolicyDto> candidatePolicies, // 추가하거나 수정할 정책 초안 (id 가 있으면 기존 정책을 대체)
+        Set<Long> removedPolicyIds         // 후보 집합에서 삭제할 정책
+) {}
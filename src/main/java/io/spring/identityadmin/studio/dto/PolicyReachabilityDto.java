@@ -0,0 +1,24 @@
+package io.spring.identityadmin.studio.dto;
+
+import java.util.List;
+
+/**
+ * URL 정책 도달 가능성 분석 결과.
+ * @param evaluatedTargets 분석한 URL 대상 수
+ * @param shadowedTargetCount 더 앞선 정책에 가려져 절대 매칭되지 않는 대상 수
+ * @param estimatedSavingNanosPerRequest 가려진 매처를 제거했을 때 요청 하나가 절약하는 매처 비용 추정치(상한, 나노초)
+ * @param excludedFromSnapshot 가려진 대상이 현재 PEP 스냅샷에서 제외되고 있는지 여부
+ * @param policies 가려진 대상을 하나 이상 가진 정책 목록 (평가 순서)
+ */
+public record PolicyReachabilityDto(int evaluatedTargets, int shadowedTargetCount, long estimatedSavingNanosPerRequest,
+                                    boolean excludedFromSnapshot, List<ShadowedPolicyDto> policies) {
+
+    /**
+     * @param fullyUnreachable 정책의 모든 URL 대상이 가려져 정책 전체가 절대 평가되지 않는지 여부
+     */
+    public record ShadowedPolicyDto(Long policyId, String policyName, int priority, boolean fullyUnreachable,
+                                    List<ShadowedTargetDto> shadowedTargets) {}
+
+    public record ShadowedTargetDto(String pattern, Long shadowedByPolicyId, String shadowedByPolicyName,
+                                    String shadowedByPattern, long matcherCostNanos) {}
+}
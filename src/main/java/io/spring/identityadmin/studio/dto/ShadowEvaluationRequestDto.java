@@ -0,0 +1,17 @@
+package io.spring.identityadmin.studio.dto;
+
+import io.spring.identityadmin.domain.dto.PolicyDto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 운영 PEP 섀도 평가 활성화 요청 DTO 입니다.
+ * 후보 정책 집합 = 현재 URL 정책 - removedPolicyIds - (candidatePolicies 와 id 가 같은 정책) + candidatePolicies
+ */
+public record ShadowEvaluationRequestDto(
+        String label,                      // 보고서에 표시할 후보 이름 (예: "정책 리팩터링 v2")
+        List<PolicyDto> candidatePolicies,
+        Set<Long> removedPolicyIds,
+        Double sampleRate                  // 섀도 평가할 요청 비율. null 이면 설정값 사용
+) {}
@@ -0,0 +1,21 @@
+package io.spring.identityadmin.studio.dto;
+
+import java.util.List;
+
+/**
+ * 비동기 정책 시뮬레이션 작업의 진행 상태와, 요청한 위치(fromIndex) 이후에 새로 누적된 영향 내역을 담는 DTO 입니다.
+ * 클라이언트는 nextIndex 를 다음 조회의 fromIndex 로 넘겨 결과를 점진적으로 받아갑니다.
+ */
+public record SimulationProgressDto(
+        String jobId,
+        String status,          // RUNNING, COMPLETED, CANCELLED, FAILED
+        long totalUsers,
+        long processedUsers,
+        long gainedCount,
+        long lostCount,
+        String summary,
+        List<SimulationResultDto.ImpactDetail> impactDetails,
+        int nextIndex,
+        boolean truncated,      // 보관 한도를 넘어 일부 영향 내역이 생략되었는지 여부
+        String errorMessage
+) {}
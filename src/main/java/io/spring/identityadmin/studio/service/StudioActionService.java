@@ -1,11 +1,25 @@
 package io.spring.identityadmin.studio.service;
 
+import io.spring.identityadmin.security.xacml.pep.ShadowPolicyEvaluator;
+import io.spring.identityadmin.studio.dto.AuditReplayProgressDto;
+import io.spring.identityadmin.studio.dto.AuditReplayRequestDto;
 import io.spring.identityadmin.studio.dto.InitiateGrantRequestDto;
+import io.spring.identityadmin.studio.dto.ShadowEvaluationRequestDto;
+import io.spring.identityadmin.studio.dto.SimulationProgressDto;
 import io.spring.identityadmin.studio.dto.SimulationRequestDto;
 import io.spring.identityadmin.studio.dto.SimulationResultDto;
 import io.spring.identityadmin.studio.dto.WizardInitiationDto;
 
 public interface StudioActionService {
     SimulationResultDto runPolicySimulation(SimulationRequestDto simulationRequest);
+    SimulationProgressDto startBulkSimulation(SimulationRequestDto simulationRequest);
+    SimulationProgressDto getSimulationProgress(String jobId, int fromIndex);
+    void cancelSimulation(String jobId);
+    AuditReplayProgressDto startAuditReplay(AuditReplayRequestDto replayRequest);
+    AuditReplayProgressDto getAuditReplayProgress(String jobId, int fromIndex);
+    void cancelAuditReplay(String jobId);
+    ShadowPolicyEvaluator.Report activateShadowEvaluation(ShadowEvaluationRequestDto shadowRequest);
+    ShadowPolicyEvaluator.Report getShadowEvaluationReport();
+    ShadowPolicyEvaluator.Report deactivateShadowEvaluation();
     WizardInitiationDto initiateGrantWorkflow(InitiateGrantRequestDto grantRequest);
 }
\ No newline at end of file
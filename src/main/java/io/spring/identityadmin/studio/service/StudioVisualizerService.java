@@ -3,6 +3,8 @@ package io.spring.identityadmin.studio.service;
 import io.spring.identityadmin.admin.support.visualization.dto.GraphDataDto; // 신규 import
 import io.spring.identityadmin.studio.dto.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -36,4 +38,23 @@ public interface StudioVisualizerService {
      */
     List<EffectivePermissionDto> getEffectivePermissionsForSubject(Long subjectId, String subjectType);
 
-}
\ No newline at end of file
+    /**
+     * 우선순위가 더 높은 URL 정책에 완전히 가려져 어떤 요청에서도 매칭되지 않는 정책을 찾고,
+     * 이를 제거했을 때 요청당 절약되는 매처 비용을 추정합니다.
+     * @return 가려진 정책과 대상, 비용 추정치를 담은 DTO
+     */
+    PolicyReachabilityDto analyzePolicyReachability();
+
+    /**
+     * 주어진 권한 문자열을 보유하거나 주어진 URL 의 정책을 통과할 수 있는 사용자를 id 순으로 한 페이지 조회합니다.
+     * authority 와 url 중 정확히 하나를 지정해야 합니다.
+     * @param afterUserId 이전 페이지의 nextCursor (첫 페이지는 0)
+     * @param size 페이지 크기
+     */
+    AccessHoldersDto findAccessHolders(String authority, String url, long afterUserId, int size);
+
+    /**
+     * findAccessHolders 와 같은 대상 사용자 전체를 한 줄에 한 명씩 JSON(NDJSON)으로 기록합니다.
+     */
+    void streamAccessHolders(String authority, String url, OutputStream out) throws IOException;
+}
@@ -1,9 +1,19 @@
 package io.spring.identityadmin.studio.service.impl;
 
+import io.spring.identityadmin.domain.dto.PolicyDto;
 import io.spring.identityadmin.domain.entity.policy.Policy;
 import io.spring.identityadmin.security.xacml.pap.dto.SimulationContext;
 import io.spring.identityadmin.security.xacml.pap.service.PolicyBuilderService;
+import io.spring.identityadmin.security.xacml.pap.service.PolicySimulationEngine;
+import io.spring.identityadmin.security.xacml.pap.service.PolicySimulationJob;
+import io.spring.identityadmin.security.xacml.pep.AuditReplayEngine;
+import io.spring.identityadmin.security.xacml.pep.AuditReplayJob;
+import io.spring.identityadmin.security.xacml.pep.ShadowPolicyEvaluator;
+import io.spring.identityadmin.studio.dto.AuditReplayProgressDto;
+import io.spring.identityadmin.studio.dto.AuditReplayRequestDto;
 import io.spring.identityadmin.studio.dto.InitiateGrantRequestDto;
+import io.spring.identityadmin.studio.dto.ShadowEvaluationRequestDto;
+import io.spring.identityadmin.studio.dto.SimulationProgressDto;
 import io.spring.identityadmin.studio.dto.SimulationRequestDto;
 import io.spring.identityadmin.studio.dto.SimulationResultDto;
 import io.spring.identityadmin.studio.dto.WizardInitiationDto;
@@ -14,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -25,7 +36,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StudioActionServiceImpl implements StudioActionService {
 
+    private static final int MAX_IMPACTS_PER_POLL = 1_000;
+    private static final int MAX_FLIPS_PER_POLL = 1_000;
+
     private final PolicyBuilderService policyBuilderService;
+    private final PolicySimulationEngine policySimulationEngine;
+    private final AuditReplayEngine auditReplayEngine;
+    private final ShadowPolicyEvaluator shadowPolicyEvaluator;
     private final PermissionWizardService permissionWizardService;
     private final ModelMapper modelMapper;
 
@@ -48,6 +65,126 @@ public class StudioActionServiceImpl implements StudioActionService {
         return policyBuilderService.simulatePolicy(policyDraft, simulationContext);
     }
 
+    /**
+     * 정책 초안을 전체 사용자에 대해 시뮬레이션하는 비동기 작업을 시작합니다.
+     * 결과는 getSimulationProgress 로 진행 중에도 점진적으로 조회할 수 있습니다.
+     */
+    @Override
+    public SimulationProgressDto startBulkSimulation(SimulationRequestDto simulationRequest) {
+        log.info("Starting bulk policy simulation for action: {}", simulationRequest.actionType());
+        Policy policyDraft = modelMapper.map(simulationRequest.policyDraft(), Policy.class);
+        PolicySimulationJob job = policySimulationEngine.start(policyDraft, null);
+        return toProgressDto(job, 0);
+    }
+
+    @Override
+    public SimulationProgressDto getSimulationProgress(String jobId, int fromIndex) {
+        return toProgressDto(findJob(jobId), fromIndex);
+    }
+
+    @Override
+    public void cancelSimulation(String jobId) {
+        findJob(jobId);
+        policySimulationEngine.cancel(jobId);
+    }
+
+    private PolicySimulationJob findJob(String jobId) {
+        return policySimulationEngine.findJob(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Simulation job not found: " + jobId));
+    }
+
+    private SimulationProgressDto toProgressDto(PolicySimulationJob job, int fromIndex) {
+        // 상태를 먼저 읽어야 COMPLETED 응답에 마지막 결과까지 포함됩니다.
+        PolicySimulationJob.Status status = job.getStatus();
+        List<SimulationResultDto.ImpactDetail> impacts = job.getImpacts(fromIndex, MAX_IMPACTS_PER_POLL);
+        return new SimulationProgressDto(
+                job.getJobId(),
+                status.name(),
+                job.getTotalUsers(),
+                job.getProcessedUsers(),
+                job.getGainedCount(),
+                job.getLostCount(),
+                job.getSummary(),
+                impacts,
+                Math.max(fromIndex, 0) + impacts.size(),
+                job.isTruncated(),
+                job.getErrorMessage());
+    }
+
+    /**
+     * 기간 내 감사 로그를 후보 정책 집합으로 다시 평가하는 비동기 재생 작업을 시작합니다.
+     * 현재 운영 중인 인가 스냅샷은 변경되지 않습니다.
+     */
+    @Override
+    public AuditReplayProgressDto startAuditReplay(AuditReplayRequestDto replayRequest) {
+        log.info("Starting audit replay for window {} ~ {}.", replayRequest.from(), replayRequest.to());
+        List<Policy> candidatePolicies = toPolicies(replayRequest.candidatePolicies());
+        AuditReplayJob job = auditReplayEngine.start(replayRequest.from(), replayRequest.to(), candidatePolicies, replayRequest.removedPolicyIds());
+        return toReplayProgressDto(job, 0);
+    }
+
+    @Override
+    public AuditReplayProgressDto getAuditReplayProgress(String jobId, int fromIndex) {
+        return toReplayProgressDto(findReplayJob(jobId), fromIndex);
+    }
+
+    @Override
+    public void cancelAuditReplay(String jobId) {
+        findReplayJob(jobId);
+        auditReplayEngine.cancel(jobId);
+    }
+
+    private AuditReplayJob findReplayJob(String jobId) {
+        return auditReplayEngine.findJob(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Audit replay job not found: " + jobId));
+    }
+
+    private AuditReplayProgressDto toReplayProgressDto(AuditReplayJob job, int fromIndex) {
+        // 상태를 먼저 읽어야 COMPLETED 응답에 마지막 결과까지 포함됩니다.
+        AuditReplayJob.Status status = job.getStatus();
+        List<AuditReplayJob.DecisionFlip> flips = job.getFlips(fromIndex, MAX_FLIPS_PER_POLL);
+        return new AuditReplayProgressDto(
+                job.getJobId(),
+                status.name(),
+                job.getReplayedCount(),
+                job.getAllowToDenyCount(),
+                job.getDenyToAllowCount(),
+                job.getNoMatchTransitionCount(),
+                job.getErrorTransitionCount(),
+                job.getDriftFromRecordedCount(),
+                job.getCurrentLatency().summary(),
+                job.getCandidateLatency().summary(),
+                flips,
+                Math.max(fromIndex, 0) + flips.size(),
+                job.isTruncated(),
+                job.getErrorMessage());
+    }
+
+    /**
+     * 후보 정책 집합으로 운영 요청 일부를 섀도 평가하기 시작합니다. 운영 인가 결정은 바뀌지 않습니다.
+     */
+    @Override
+    public ShadowPolicyEvaluator.Report activateShadowEvaluation(ShadowEvaluationRequestDto shadowRequest) {
+        String label = shadowRequest.label() != null ? shadowRequest.label() : "Studio-Shadow-" + System.currentTimeMillis();
+        return shadowPolicyEvaluator.activate(label, toPolicies(shadowRequest.candidatePolicies()),
+                shadowRequest.removedPolicyIds(), shadowRequest.sampleRate());
+    }
+
+    @Override
+    public ShadowPolicyEvaluator.Report getShadowEvaluationReport() {
+        return shadowPolicyEvaluator.report();
+    }
+
+    @Override
+    public ShadowPolicyEvaluator.Report deactivateShadowEvaluation() {
+        return shadowPolicyEvaluator.deactivate();
+    }
+
+    private List<Policy> toPolicies(List<PolicyDto> policyDtos) {
+        if (policyDtos == null) return List.of();
+        return policyDtos.stream().map(dto -> modelMapper.map(dto, Policy.class)).toList();
+    }
+
     /**
      * [최종 로직 구현] 권한 부여 마법사 시작
      * 1. Studio에서 받은 초기 데이터(주체, 권한)를 기반으로 정책 이름과 설명을 자동 생성합니다.
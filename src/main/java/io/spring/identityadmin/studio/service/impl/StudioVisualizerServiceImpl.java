@@ -1,20 +1,32 @@
 package io.spring.identityadmin.studio.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.spring.identityadmin.admin.support.visualization.dto.GraphDataDto;
-import io.spring.identityadmin.domain.entity.*;
-import io.spring.identityadmin.repository.GroupRepository;
-import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.domain.dto.UserSummaryDto;
+import io.spring.identityadmin.domain.entity.policy.Policy;
 import io.spring.identityadmin.repository.UserRepository;
+import io.spring.identityadmin.security.xacml.pep.UrlAccessHolderAnalyzer;
+import io.spring.identityadmin.security.xacml.pep.UrlPolicyReachabilityAnalyzer;
+import io.spring.identityadmin.security.xacml.pip.access.AccessHolders;
+import io.spring.identityadmin.security.xacml.pip.access.IamGraph;
+import io.spring.identityadmin.security.xacml.pip.access.IamGraphIndex;
+import io.spring.identityadmin.security.xacml.pip.access.ReverseAccessIndex;
+import io.spring.identityadmin.security.xacml.prp.PolicyRetrievalPoint;
+import io.spring.identityadmin.studio.dto.AccessHoldersDto;
 import io.spring.identityadmin.studio.dto.AccessPathDto;
 import io.spring.identityadmin.studio.dto.AccessPathNode;
 import io.spring.identityadmin.studio.dto.EffectivePermissionDto;
+import io.spring.identityadmin.studio.dto.PolicyReachabilityDto;
 import io.spring.identityadmin.studio.service.StudioVisualizerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -24,220 +36,291 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StudioVisualizerServiceImpl implements StudioVisualizerService {
 
+    private static final int MAX_HOLDERS_PER_PAGE = 1_000;
+    private static final int MAX_ACCESS_PATHS = 50;
+
     private final UserRepository userRepository;
-    private final GroupRepository groupRepository;
-    private final PermissionRepository permissionRepository;
+    private final PolicyRetrievalPoint policyRetrievalPoint;
+    private final UrlPolicyReachabilityAnalyzer reachabilityAnalyzer;
+    private final ReverseAccessIndex reverseAccessIndex;
+    private final IamGraphIndex iamGraphIndex;
+    private final UrlAccessHolderAnalyzer accessHolderAnalyzer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${identity-admin.authorization.exclude-unreachable-policies:false}")
+    private boolean excludeUnreachablePolicies;
 
     @Override
     public GraphDataDto analyzeAccessPathAsGraph(Long subjectId, String subjectType, Long permissionId) {
-        Permission targetPermission = permissionRepository.findById(permissionId)
-                .orElseThrow(() -> new IllegalArgumentException("Permission not found with ID: " + permissionId));
-
-        if ("USER".equalsIgnoreCase(subjectType)) {
-            return analyzeUserAccessPathAsGraph(subjectId, targetPermission);
-        } else if ("GROUP".equalsIgnoreCase(subjectType)) {
-            return analyzeGroupAccessPathAsGraph(subjectId, targetPermission);
-        } else {
+        IamGraph graph = iamGraphIndex.current();
+        int target = permissionIndexOf(graph, permissionId);
+        Subject subject = resolveSubject(graph, subjectId, subjectType);
+        if (subject == null) {
             log.warn("Graph analysis for type '{}' is not supported.", subjectType);
             return new GraphDataDto(Collections.emptyList(), Collections.emptyList());
         }
-    }
-
-    private GraphDataDto analyzeUserAccessPathAsGraph(Long userId, Permission targetPermission) {
-        Users user = userRepository.findByIdWithGroupsRolesAndPermissions(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
-
-        List<GraphDataDto.Node> nodes = new ArrayList<>();
-        List<GraphDataDto.Edge> edges = new ArrayList<>();
-        boolean accessGranted = false;
-
-        String userNodeId = "user_" + user.getId();
-        nodes.add(new GraphDataDto.Node(userNodeId, user.getName(), "USER", Map.of("email", user.getUsername())));
-        String permNodeId = "perm_" + targetPermission.getId();
-
-        // [핵심 수정] 권한 라벨이 null이 되지 않도록 처리
-        String permLabel = StringUtils.hasText(targetPermission.getDescription()) ? targetPermission.getDescription() : targetPermission.getName();
 
-        for (UserGroup userGroup : user.getUserGroups()) {
-            Group group = userGroup.getGroup();
-            String groupNodeId = "group_" + group.getId();
-            nodes.add(new GraphDataDto.Node(groupNodeId, group.getName(), "GROUP", Map.of("description", group.getDescription())));
-            edges.add(new GraphDataDto.Edge(userNodeId, groupNodeId, "소속"));
-
-            for (GroupRole groupRole : group.getGroupRoles()) {
-                Role role = groupRole.getRole();
-                String roleNodeId = "role_" + role.getId();
-                nodes.add(new GraphDataDto.Node(roleNodeId, role.getRoleName(), "ROLE", Map.of("description", role.getRoleDesc())));
-                edges.add(new GraphDataDto.Edge(groupNodeId, roleNodeId, "역할 보유"));
-
-                if (role.getRolePermissions().stream().anyMatch(rp -> rp.getPermission().equals(targetPermission))) {
-                    accessGranted = true;
-                    edges.add(new GraphDataDto.Edge(roleNodeId, permNodeId, "권한 포함 (허용)"));
+        IamGraph.ShortestPaths paths = graph.search(subject.sources());
+        boolean accessGranted = paths.isReachable(target);
+        Map<String, GraphDataDto.Node> nodes = new LinkedHashMap<>();
+        Map<String, GraphDataDto.Edge> edges = new LinkedHashMap<>();
+        nodes.put(subject.graphNode().id(), subject.graphNode());
+
+        if (accessGranted) {
+            // 모든 최단 부여 경로(역할 계층 경유 포함)를 합쳐서 표시
+            for (int[] path : paths.pathsTo(target, MAX_ACCESS_PATHS)) {
+                String previousId = subject.graphNode().id();
+                String previousType = subject.graphNode().type();
+                for (int i = subject.sourceIsSubject() ? 1 : 0; i < path.length; i++) {
+                    IamGraph.Node node = graph.node(path[i]);
+                    String nodeId = graphNodeId(node);
+                    nodes.putIfAbsent(nodeId, toGraphNode(node, true));
+                    edges.putIfAbsent(previousId + "->" + nodeId, new GraphDataDto.Edge(previousId, nodeId, edgeLabel(previousType, node.type())));
+                    previousId = nodeId;
+                    previousType = node.type().name();
                 }
             }
+        } else {
+            // 부여 경로가 없으면 주체가 가진 그룹·역할과 함께 거부 표시
+            IamGraph.Node permission = graph.node(target);
+            for (int source : subject.sources()) {
+                IamGraph.Node group = graph.node(source);
+                String groupId = graphNodeId(group);
+                if (!subject.sourceIsSubject()) {
+                    nodes.putIfAbsent(groupId, toGraphNode(group, false));
+                    edges.putIfAbsent(subject.graphNode().id() + "->" + groupId, new GraphDataDto.Edge(subject.graphNode().id(), groupId, "소속"));
+                }
+                for (int roleIndex : graph.neighbors(source)) {
+                    IamGraph.Node role = graph.node(roleIndex);
+                    String roleId = graphNodeId(role);
+                    nodes.putIfAbsent(roleId, toGraphNode(role, false));
+                    edges.putIfAbsent(groupId + "->" + roleId, new GraphDataDto.Edge(groupId, roleId, "역할 보유"));
+                    edges.putIfAbsent(roleId + "->" + graphNodeId(permission), new GraphDataDto.Edge(roleId, graphNodeId(permission), "권한 없음 (거부)"));
+                }
+            }
+            nodes.put(graphNodeId(permission), toGraphNode(permission, false));
         }
 
-        nodes.add(new GraphDataDto.Node(permNodeId, permLabel, "PERMISSION", Map.of("name", targetPermission.getName(), "granted", accessGranted)));
-
-        if (!accessGranted) {
-            user.getUserGroups().stream()
-                    .flatMap(ug -> ug.getGroup().getGroupRoles().stream())
-                    .map(gr -> "role_" + gr.getRole().getId())
-                    .forEach(roleNodeId -> edges.add(new GraphDataDto.Edge(roleNodeId, permNodeId, "권한 없음 (거부)")));
-        }
-
-        return new GraphDataDto(
-                new ArrayList<>(new LinkedHashSet<>(nodes)),
-                new ArrayList<>(new LinkedHashSet<>(edges))
-        );
+        return new GraphDataDto(new ArrayList<>(nodes.values()), new ArrayList<>(edges.values()));
     }
 
-    private GraphDataDto analyzeGroupAccessPathAsGraph(Long groupId, Permission targetPermission) {
-        Group group = groupRepository.findByIdWithRoles(groupId)
-                .orElseThrow(() -> new IllegalArgumentException("Group not found with ID: " + groupId));
-
-        List<GraphDataDto.Node> nodes = new ArrayList<>();
-        List<GraphDataDto.Edge> edges = new ArrayList<>();
-        boolean accessGranted = false;
+    // =================================================================
+    //                    기존 메서드 (하위 호환성을 위해 유지)
+    // =================================================================
 
-        String groupNodeId = "group_" + group.getId();
-        nodes.add(new GraphDataDto.Node(groupNodeId, group.getName(), "GROUP", Map.of("description", group.getDescription())));
-        String permNodeId = "perm_" + targetPermission.getId();
+    @Override
+    public AccessPathDto analyzeAccessPath(Long subjectId, String subjectType, Long permissionId) {
+        IamGraph graph = iamGraphIndex.current();
+        int target = permissionIndexOf(graph, permissionId);
+        Subject subject = resolveSubject(graph, subjectId, subjectType);
+        if (subject == null) {
+            log.warn("Access path analysis for type '{}' is not supported.", subjectType);
+            return new AccessPathDto(Collections.emptyList(), false, "지원하지 않는 주체 타입입니다.");
+        }
 
-        // [핵심 수정] 권한 라벨이 null이 되지 않도록 처리
-        String permLabel = StringUtils.hasText(targetPermission.getDescription()) ? targetPermission.getDescription() : targetPermission.getName();
+        List<AccessPathNode> path = new ArrayList<>();
+        path.add(subject.pathNode());
+        List<int[]> shortestPaths = graph.search(subject.sources()).pathsTo(target, 1);
+        if (shortestPaths.isEmpty()) {
+            log.debug("No access path found for {} {} to permission {}", subjectType, subjectId, graph.node(target).name());
+            path.add(toPathNode(graph.node(target)));
+            return new AccessPathDto(path, false, "접근 거부: 해당 권한을 부여하는 경로를 찾을 수 없습니다.");
+        }
 
-        for (GroupRole groupRole : group.getGroupRoles()) {
-            Role role = groupRole.getRole();
-            String roleNodeId = "role_" + role.getId();
-            nodes.add(new GraphDataDto.Node(roleNodeId, role.getRoleName(), "ROLE", Map.of("description", role.getRoleDesc())));
-            edges.add(new GraphDataDto.Edge(groupNodeId, roleNodeId, "역할 보유"));
+        int[] shortest = shortestPaths.getFirst();
+        for (int i = subject.sourceIsSubject() ? 1 : 0; i < shortest.length; i++) {
+            path.add(toPathNode(graph.node(shortest[i])));
+        }
+        String roles = roleChainOf(graph, shortest);
+        String tense = subject.sourceIsSubject() ? "부여됩니다." : "부여되었습니다.";
+        return new AccessPathDto(path, true, "접근 허용: 역할 '" + roles + "'을 통해 권한이 " + tense);
+    }
 
-            if (role.getRolePermissions().stream().anyMatch(rp -> rp.getPermission().equals(targetPermission))) {
-                accessGranted = true;
-                edges.add(new GraphDataDto.Edge(roleNodeId, permNodeId, "권한 포함 (허용)"));
-            }
+    /**
+     * 주체에서 BFS 한 번으로 도달 가능한 모든 권한을 찾고, 각 권한의 근거로 첫 번째 최단 경로의 그룹·역할을 표시합니다.
+     */
+    @Override
+    public List<EffectivePermissionDto> getEffectivePermissionsForSubject(Long subjectId, String subjectType) {
+        IamGraph graph = iamGraphIndex.current();
+        Subject subject = resolveSubject(graph, subjectId, subjectType);
+        if (subject == null) {
+            return Collections.emptyList();
         }
 
-        nodes.add(new GraphDataDto.Node(permNodeId, permLabel, "PERMISSION", Map.of("name", targetPermission.getName(), "granted", accessGranted)));
+        IamGraph.ShortestPaths paths = graph.search(subject.sources());
+        List<EffectivePermissionDto> result = new ArrayList<>();
+        for (int index = 0; index < graph.nodeCount(); index++) {
+            IamGraph.Node node = graph.node(index);
+            if (node.type() != IamGraph.NodeType.PERMISSION || !paths.isReachable(index)) continue;
+            int[] path = paths.pathsTo(index, 1).getFirst();
+            String origin = (subject.sourceIsSubject() ? "" : "그룹: " + graph.node(path[0]).name() + " / ")
+                    + "역할: " + roleChainOf(graph, path);
+            result.add(new EffectivePermissionDto(node.name(), node.description(), origin));
+        }
+        result.sort(Comparator.comparing(EffectivePermissionDto::permissionDescription, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
 
-        if (!accessGranted) {
-            group.getGroupRoles().stream()
-                    .map(gr -> "role_" + gr.getRole().getId())
-                    .forEach(roleNodeId -> edges.add(new GraphDataDto.Edge(roleNodeId, permNodeId, "권한 없음 (거부)")));
+    /**
+     * 경로 분석의 출발점.
+     * @param sources 그래프상의 출발 노드 (사용자는 소속 그룹들, 그룹은 자기 자신)
+     * @param sourceIsSubject 출발 노드가 주체 자신인지 여부 (그룹 주체)
+     */
+    private record Subject(GraphDataDto.Node graphNode, AccessPathNode pathNode, int[] sources, boolean sourceIsSubject) {}
+
+    /**
+     * @return 지원하지 않는 주체 타입이면 null
+     */
+    private Subject resolveSubject(IamGraph graph, Long subjectId, String subjectType) {
+        if ("USER".equalsIgnoreCase(subjectType)) {
+            // 사용자 소속은 역방향 접근 인덱스에서, 표시용 이름만 DB 에서 기본 키로 조회
+            long[] groupIds = reverseAccessIndex.findGroupIdsOfUser(subjectId)
+                    .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + subjectId));
+            UserSummaryDto user = userRepository.findSummariesByIds(new long[]{subjectId}).stream().findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + subjectId));
+            int[] sources = Arrays.stream(groupIds)
+                    .mapToInt(groupId -> graph.indexOf(IamGraph.NodeType.GROUP, groupId))
+                    .filter(index -> index >= 0)
+                    .toArray();
+            return new Subject(
+                    new GraphDataDto.Node("user_" + user.id(), user.name(), "USER", Map.of("email", user.username())),
+                    new AccessPathNode("사용자", user.name(), user.username()),
+                    sources, false);
         }
+        if ("GROUP".equalsIgnoreCase(subjectType)) {
+            int index = graph.indexOf(IamGraph.NodeType.GROUP, subjectId);
+            if (index < 0) {
+                throw new IllegalArgumentException("Group not found with ID: " + subjectId);
+            }
+            IamGraph.Node group = graph.node(index);
+            return new Subject(toGraphNode(group, false), toPathNode(group), new int[]{index}, true);
+        }
+        return null;
+    }
 
-        return new GraphDataDto(
-                new ArrayList<>(new LinkedHashSet<>(nodes)),
-                new ArrayList<>(new LinkedHashSet<>(edges))
-        );
+    private int permissionIndexOf(IamGraph graph, Long permissionId) {
+        int index = graph.indexOf(IamGraph.NodeType.PERMISSION, permissionId);
+        if (index < 0) {
+            throw new IllegalArgumentException("Permission not found with ID: " + permissionId);
+        }
+        return index;
     }
 
-    // =================================================================
-    //                    기존 메서드 (하위 호환성을 위해 유지)
-    // =================================================================
+    private String roleChainOf(IamGraph graph, int[] path) {
+        return Arrays.stream(path)
+                .mapToObj(graph::node)
+                .filter(node -> node.type() == IamGraph.NodeType.ROLE)
+                .map(IamGraph.Node::name)
+                .collect(Collectors.joining(" > "));
+    }
 
-    @Override
-    public AccessPathDto analyzeAccessPath(Long subjectId, String subjectType, Long permissionId) {
-        Permission targetPermission = permissionRepository.findById(permissionId)
-                .orElseThrow(() -> new IllegalArgumentException("Permission not found with ID: " + permissionId));
+    private String graphNodeId(IamGraph.Node node) {
+        return switch (node.type()) {
+            case GROUP -> "group_" + node.entityId();
+            case ROLE -> "role_" + node.entityId();
+            case PERMISSION -> "perm_" + node.entityId();
+        };
+    }
 
-        if ("USER".equalsIgnoreCase(subjectType)) {
-            return analyzeUserAccessPath(subjectId, targetPermission);
-        } else if ("GROUP".equalsIgnoreCase(subjectType)) {
-            return analyzeGroupAccessPath(subjectId, targetPermission);
-        } else {
-            log.warn("Access path analysis for type '{}' is not supported.", subjectType);
-            return new AccessPathDto(Collections.emptyList(), false, "지원하지 않는 주체 타입입니다.");
+    private GraphDataDto.Node toGraphNode(IamGraph.Node node, boolean granted) {
+        if (node.type() == IamGraph.NodeType.PERMISSION) {
+            // [핵심 수정] 권한 라벨이 null이 되지 않도록 처리
+            String label = StringUtils.hasText(node.description()) ? node.description() : node.name();
+            return new GraphDataDto.Node(graphNodeId(node), label, node.type().name(), Map.of("name", node.name(), "granted", granted));
         }
+        Map<String, Object> properties = node.description() != null ? Map.of("description", node.description()) : Map.of();
+        return new GraphDataDto.Node(graphNodeId(node), node.name(), node.type().name(), properties);
     }
 
-    private AccessPathDto analyzeUserAccessPath(Long userId, Permission targetPermission) {
-        Users user = userRepository.findByIdWithGroupsRolesAndPermissions(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
+    private AccessPathNode toPathNode(IamGraph.Node node) {
+        return switch (node.type()) {
+            case GROUP -> new AccessPathNode("그룹", node.name(), node.description());
+            case ROLE -> new AccessPathNode("역할", node.name(), node.description());
+            case PERMISSION -> new AccessPathNode("권한", node.description(), node.name());
+        };
+    }
 
-        List<AccessPathNode> path = new ArrayList<>();
-        path.add(new AccessPathNode("사용자", user.getName(), user.getUsername()));
-
-        for (UserGroup userGroup : user.getUserGroups()) {
-            Group group = userGroup.getGroup();
-            for (GroupRole groupRole : group.getGroupRoles()) {
-                Role role = groupRole.getRole();
-                for (RolePermission rolePermission : role.getRolePermissions()) {
-                    if (rolePermission.getPermission().equals(targetPermission)) {
-                        log.debug("Access path found for user {} to permission {} via role {}", user.getUsername(), targetPermission.getName(), role.getRoleName());
-                        path.add(new AccessPathNode("그룹", group.getName(), group.getDescription()));
-                        path.add(new AccessPathNode("역할", role.getRoleName(), role.getRoleDesc()));
-                        path.add(new AccessPathNode("권한", targetPermission.getDescription(), targetPermission.getName()));
-                        return new AccessPathDto(path, true, "접근 허용: 역할 '" + role.getRoleName() + "'을 통해 권한이 부여되었습니다.");
-                    }
-                }
-            }
+    private String edgeLabel(String fromType, IamGraph.NodeType toType) {
+        return switch (toType) {
+            case GROUP -> "소속";
+            case ROLE -> IamGraph.NodeType.ROLE.name().equals(fromType) ? "상위 역할 포함" : "역할 보유";
+            case PERMISSION -> "권한 포함 (허용)";
+        };
+    }
+
+    @Override
+    public PolicyReachabilityDto analyzePolicyReachability() {
+        UrlPolicyReachabilityAnalyzer.Report report = reachabilityAnalyzer.analyze(policyRetrievalPoint.findUrlPolicies(), true);
+        Set<Policy> unreachable = Collections.newSetFromMap(new IdentityHashMap<>());
+        unreachable.addAll(report.unreachablePolicies());
+
+        Map<Policy, List<PolicyReachabilityDto.ShadowedTargetDto>> targetsByPolicy = new LinkedHashMap<>();
+        for (UrlPolicyReachabilityAnalyzer.ShadowedTarget shadowed : report.shadowedTargets()) {
+            targetsByPolicy.computeIfAbsent(shadowed.policy(), key -> new ArrayList<>()).add(new PolicyReachabilityDto.ShadowedTargetDto(
+                    shadowed.target().getTargetIdentifier(),
+                    shadowed.shadowingPolicy().getId(),
+                    shadowed.shadowingPolicy().getName(),
+                    shadowed.shadowingTarget().getTargetIdentifier(),
+                    shadowed.matcherCostNanos()));
         }
 
-        log.debug("No access path found for user {} to permission {}", user.getUsername(), targetPermission.getName());
-        path.add(new AccessPathNode("권한", targetPermission.getDescription(), targetPermission.getName()));
-        return new AccessPathDto(path, false, "접근 거부: 해당 권한을 부여하는 경로를 찾을 수 없습니다.");
+        List<PolicyReachabilityDto.ShadowedPolicyDto> policies = targetsByPolicy.entrySet().stream()
+                .map(entry -> new PolicyReachabilityDto.ShadowedPolicyDto(
+                        entry.getKey().getId(),
+                        entry.getKey().getName(),
+                        entry.getKey().getPriority(),
+                        unreachable.contains(entry.getKey()),
+                        entry.getValue()))
+                .toList();
+
+        return new PolicyReachabilityDto(report.evaluatedTargets(), report.shadowedTargets().size(),
+                report.estimatedSavingNanosPerRequest(), excludeUnreachablePolicies, policies);
     }
 
-    private AccessPathDto analyzeGroupAccessPath(Long groupId, Permission targetPermission) {
-        Group group = groupRepository.findByIdWithRoles(groupId)
-                .orElseThrow(() -> new IllegalArgumentException("Group not found with ID: " + groupId));
+    /**
+     * 사용자 집합은 역방향 접근 인덱스에서 계산하고, DB 에서는 응답할 페이지의 사용자 요약 정보만 조회합니다.
+     */
+    @Override
+    public AccessHoldersDto findAccessHolders(String authority, String url, long afterUserId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HOLDERS_PER_PAGE));
+        ResolvedHolders resolved = resolveHolders(authority, url);
+        long[] page = resolved.holders().page(afterUserId, pageSize);
+        List<UserSummaryDto> users = userRepository.findSummariesByIds(page);
+        Long nextCursor = page.length > 0 && resolved.holders().hasMoreAfter(page[page.length - 1]) ? page[page.length - 1] : null;
+
+        UrlAccessHolderAnalyzer.Result urlResult = resolved.urlResult();
+        return new AccessHoldersDto(authority, url,
+                urlResult != null ? urlResult.policyId() : null,
+                urlResult != null ? urlResult.policyName() : null,
+                urlResult != null ? urlResult.matchedPattern() : null,
+                resolved.holders().isExact(), resolved.holders().count(), users, nextCursor);
+    }
 
-        List<AccessPathNode> path = new ArrayList<>();
-        path.add(new AccessPathNode("그룹", group.getName(), group.getDescription()));
-
-        for (GroupRole groupRole : group.getGroupRoles()) {
-            Role role = groupRole.getRole();
-            for (RolePermission rolePermission : role.getRolePermissions()) {
-                if (rolePermission.getPermission().equals(targetPermission)) {
-                    path.add(new AccessPathNode("역할", role.getRoleName(), role.getRoleDesc()));
-                    path.add(new AccessPathNode("권한", targetPermission.getDescription(), targetPermission.getName()));
-                    return new AccessPathDto(path, true, "접근 허용: 역할 '" + role.getRoleName() + "'을 통해 권한이 부여됩니다.");
-                }
+    @Override
+    public void streamAccessHolders(String authority, String url, OutputStream out) throws IOException {
+        AccessHolders holders = resolveHolders(authority, url).holders();
+        long after = 0;
+        long[] page;
+        while ((page = holders.page(after, MAX_HOLDERS_PER_PAGE)).length > 0) {
+            for (UserSummaryDto user : userRepository.findSummariesByIds(page)) {
+                out.write(objectMapper.writeValueAsBytes(user));
+                out.write('\n');
             }
+            out.flush();
+            after = page[page.length - 1];
         }
-        path.add(new AccessPathNode("권한", targetPermission.getDescription(), targetPermission.getName()));
-        return new AccessPathDto(path, false, "접근 거부: 해당 권한을 부여하는 경로를 찾을 수 없습니다.");
     }
 
-    @Override
-    public List<EffectivePermissionDto> getEffectivePermissionsForSubject(Long subjectId, String subjectType) {
-        Map<String, String> permissionOrigins = new HashMap<>();
+    private record ResolvedHolders(AccessHolders holders, UrlAccessHolderAnalyzer.Result urlResult) {}
 
-        if ("USER".equalsIgnoreCase(subjectType)) {
-            Users user = userRepository.findByIdWithGroupsRolesAndPermissions(subjectId)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + subjectId));
-
-            user.getUserGroups().forEach(ug -> {
-                Group group = ug.getGroup();
-                group.getGroupRoles().forEach(gr -> {
-                    Role role = gr.getRole();
-                    String origin = "그룹: " + group.getName() + " / 역할: " + role.getRoleName();
-                    role.getRolePermissions().forEach(rp -> permissionOrigins.putIfAbsent(rp.getPermission().getName(), origin));
-                });
-            });
-
-        } else if ("GROUP".equalsIgnoreCase(subjectType)) {
-            Group group = groupRepository.findByIdWithRoles(subjectId)
-                    .orElseThrow(() -> new IllegalArgumentException("Group not found with ID: " + subjectId));
-
-            group.getGroupRoles().forEach(gr -> {
-                Role role = gr.getRole();
-                String origin = "역할: " + role.getRoleName();
-                role.getRolePermissions().forEach(rp -> permissionOrigins.putIfAbsent(rp.getPermission().getName(), origin));
-            });
-        } else {
-            return Collections.emptyList();
+    private ResolvedHolders resolveHolders(String authority, String url) {
+        if (StringUtils.hasText(authority) == StringUtils.hasText(url)) {
+            throw new IllegalArgumentException("authority 와 url 중 하나만 지정해야 합니다.");
         }
-
-        if(permissionOrigins.isEmpty()) {
-            return Collections.emptyList();
+        if (StringUtils.hasText(authority)) {
+            return new ResolvedHolders(new AccessHolders(reverseAccessIndex.findUsersWithAnyAuthority(Set.of(authority.trim())), true), null);
         }
-
-        return permissionRepository.findAllByNameIn(permissionOrigins.keySet()).stream()
-                .map(p -> new EffectivePermissionDto(p.getName(), p.getDescription(), permissionOrigins.get(p.getName())))
-                .sorted(Comparator.comparing(EffectivePermissionDto::permissionDescription))
-                .collect(Collectors.toList());
+        UrlAccessHolderAnalyzer.Result result = accessHolderAnalyzer.analyze(url.trim());
+        return new ResolvedHolders(result.holders(), result);
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import io.spring.identityadmin.domain.dto.PolicyDto;
 import io.spring.identityadmin.domain.dto.UserDto;
 import io.spring.identityadmin.domain.entity.Users;
 import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.security.core.AuthenticatedUser;
 import io.spring.identityadmin.security.core.CustomUserDetails;
 import io.spring.identityadmin.security.xacml.pap.service.PolicyService;
 import io.spring.identityadmin.studio.dto.InitiateGrantRequestDto;
@@ -142,7 +143,9 @@ public class PermissionWizardServiceImpl implements PermissionWizardService {
         }
 
         Object principal = authentication.getPrincipal();
-        if (principal instanceof CustomUserDetails userDetails) {
+        if (principal instanceof AuthenticatedUser user) {
+            return user.getId();
+        } else if (principal instanceof CustomUserDetails userDetails) {
             Users user = userDetails.getUsers();
             return user.getId();
 
@@ -1,6 +1,7 @@
 -- PostgreSQL 기준 스키마
 
 -- 기존 테이블이 있다면 삭제하여 초기 상태 보장
+DROP TABLE IF EXISTS RESOURCE_SYNC_STATE CASCADE;
 DROP TABLE IF EXISTS WIZARD_SESSION CASCADE;
 DROP TABLE IF EXISTS POLICY_TEMPLATE CASCADE;
 DROP TABLE IF EXISTS BUSINESS_RESOURCE_ACTION CASCADE;
@@ -194,4 +195,17 @@ CREATE TABLE WIZARD_SESSION (
                                 owner_user_id BIGINT NOT NULL,
                                 created_at TIMESTAMP NOT NULL,
                                 expires_at TIMESTAMP NOT NULL
-);
\ No newline at end of file
+);
+
+-- 리소스 동기화 지문 테이블
+CREATE TABLE RESOURCE_SYNC_STATE (
+                                     sync_key VARCHAR(100) PRIMARY KEY,
+                                     fingerprint VARCHAR(64) NOT NULL,
+                                     resource_count INT NOT NULL,
+                                     synchronized_at TIMESTAMP NOT NULL
+);
+
+-- 목록 화면 키셋 페이지 조회와 집계 서브쿼리용 인덱스 (조인 테이블의 PK 는 선행 컬럼 방향만 지원)
+CREATE INDEX idx_user_groups_group_id ON USER_GROUPS (group_id);
+CREATE INDEX idx_policy_priority_id ON POLICY (priority, id);
+CREATE INDEX idx_policy_target_policy_id ON POLICY_TARGET (policy_id);
@@ -150,6 +150,88 @@ class StudioUI {
             <div class="space-y-2">${permsHtml.length > 0 ? permsHtml : '<p class="text-slate-500 p-4 bg-slate-50 rounded-md text-center">부여된 권한이 없습니다.</p>'}</div>`;
     }
 
+    renderPolicyReachability(data) {
+        const policiesHtml = data.policies.map(policy => `
+            <div class="p-3 border rounded-md mb-2 bg-white">
+                <p class="font-semibold text-gray-800">
+                    ${policy.policyName} <span class="text-xs text-slate-500">(ID ${policy.policyId}, 우선순위 ${policy.priority})</span>
+                    ${policy.fullyUnreachable ? '<span class="ml-2 text-xs px-2 py-0.5 rounded bg-red-100 text-red-700">도달 불가</span>' : '<span class="ml-2 text-xs px-2 py-0.5 rounded bg-yellow-100 text-yellow-700">일부 대상 가려짐</span>'}
+                </p>
+                ${policy.shadowedTargets.map(target => `
+                    <p class="text-sm text-slate-600 mt-1">
+                        <span class="font-mono text-xs bg-slate-100 p-1 rounded">${target.pattern}</span>
+                        <i class="fas fa-long-arrow-alt-left mx-1"></i>
+                        <span class="font-mono text-xs bg-slate-100 p-1 rounded">${target.shadowedByPattern}</span>
+                        (${target.shadowedByPolicyName}, ID ${target.shadowedByPolicyId}) · 매처 ${target.matcherCostNanos}ns
+                    </p>`).join('')}
+            </div>`).join('');
+        const savingMicros = (data.estimatedSavingNanosPerRequest / 1000).toFixed(2);
+        this.elements.canvasContent.innerHTML = `
+            <h2 class="text-xl font-bold mb-2">도달 불가 정책 분석</h2>
+            <p class="text-sm text-slate-500 mb-4">
+                URL 대상 ${data.evaluatedTargets}개 중 ${data.shadowedTargetCount}개가 더 높은 우선순위의 정책에 가려져 있습니다.
+                제거 시 요청당 최대 약 ${savingMicros}µs 의 매처 비용이 절약됩니다.
+                ${data.excludedFromSnapshot ? '(현재 PEP 스냅샷에서 제외되어 있음)' : ''}
+            </p>
+            <div class="space-y-2">${policiesHtml.length > 0 ? policiesHtml : '<p class="text-slate-500 p-4 bg-slate-50 rounded-md text-center">가려진 정책이 없습니다.</p>'}</div>`;
+    }
+
+    renderSimulationForm() {
+        this.elements.canvasContent.innerHTML = `
+            <h2 class="text-xl font-bold mb-2">정책 영향 시뮬레이션</h2>
+            <p class="text-sm text-slate-500 mb-4">정책 초안을 전체 사용자에게 적용했을 때 권한을 새로 얻거나 잃는 사용자를 계산합니다. 조건식에 hasAuthority('PERM_...') 로 지정한 권한이 대상입니다.</p>
+            <div class="space-y-3">
+                <input type="text" id="simulation-name" placeholder="정책 이름" class="w-full px-3 py-2 border rounded-lg text-sm">
+                <select id="simulation-effect" class="w-full px-3 py-2 border rounded-lg text-sm">
+                    <option value="ALLOW">ALLOW (권한 부여)</option>
+                    <option value="DENY">DENY (권한 회수)</option>
+                </select>
+                <textarea id="simulation-condition" rows="3" placeholder="hasAuthority('ROLE_MANAGER') and hasAuthority('PERM_REPORT_READ')" class="w-full px-3 py-2 border rounded-lg text-sm font-mono"></textarea>
+                <button id="simulation-start-btn" class="w-full btn-primary text-sm py-2"><i class="fas fa-play mr-2"></i>시뮬레이션 시작</button>
+            </div>`;
+    }
+
+    renderSimulationJob(progress) {
+        this.elements.canvasContent.innerHTML = `
+            <h2 class="text-xl font-bold mb-2">정책 영향 시뮬레이션</h2>
+            <div class="flex items-center justify-between mb-2 text-sm">
+                <span id="simulation-status" class="font-semibold"></span>
+                <button id="simulation-cancel-btn" class="text-xs px-3 py-1 rounded-md border text-red-600 hover:bg-red-50"><i class="fas fa-stop mr-1"></i>취소</button>
+            </div>
+            <div class="w-full h-2 bg-slate-100 rounded mb-2"><div id="simulation-bar" class="h-2 bg-app-primary rounded" style="width: 0%"></div></div>
+            <p id="simulation-summary" class="text-sm text-slate-500 mb-4"></p>
+            <div id="simulation-impacts" class="space-y-1 text-sm"></div>
+            <p id="simulation-more" class="hidden text-xs text-slate-400 mt-2"></p>`;
+        this.renderedImpactCount = 0;
+        this.updateSimulationProgress(progress);
+    }
+
+    updateSimulationProgress(progress) {
+        const statusLabels = { RUNNING: '진행 중', COMPLETED: '완료', CANCELLED: '취소됨', FAILED: '실패' };
+        const percent = progress.totalUsers > 0 ? Math.floor(progress.processedUsers * 100 / progress.totalUsers) : (progress.status === 'RUNNING' ? 0 : 100);
+        document.getElementById('simulation-status').textContent =
+            `${statusLabels[progress.status] || progress.status} · ${progress.processedUsers} / ${progress.totalUsers}명`;
+        document.getElementById('simulation-bar').style.width = `${percent}%`;
+        document.getElementById('simulation-cancel-btn').classList.toggle('hidden', progress.status !== 'RUNNING');
+        document.getElementById('simulation-summary').textContent = progress.status === 'FAILED'
+            ? `시뮬레이션 실패: ${progress.errorMessage || '알 수 없는 오류'}`
+            : progress.summary;
+
+        const rows = progress.impactDetails.slice(0, Math.max(0, StudioUI.MAX_RENDERED_IMPACTS - this.renderedImpactCount));
+        document.getElementById('simulation-impacts').insertAdjacentHTML('beforeend', rows.map(impact => `
+            <div class="p-2 border rounded-md bg-white">
+                <span class="text-xs px-2 py-0.5 rounded ${impact.impactType === 'PERMISSION_GAINED' ? 'bg-green-100 text-green-700' : 'bg-red-100 text-red-700'}">${impact.impactType === 'PERMISSION_GAINED' ? '획득' : '상실'}</span>
+                <span class="font-semibold ml-1">${impact.subjectName}</span>
+                <span class="font-mono text-xs bg-slate-100 p-1 rounded ml-1">${impact.permissionName}</span>
+            </div>`).join(''));
+        this.renderedImpactCount += rows.length;
+
+        const hidden = progress.gainedCount + progress.lostCount - this.renderedImpactCount;
+        const more = document.getElementById('simulation-more');
+        more.classList.toggle('hidden', hidden <= 0 || progress.status === 'RUNNING');
+        more.textContent = `화면에는 ${this.renderedImpactCount}건까지만 표시합니다 (나머지 ${hidden}건${progress.truncated ? ', 보관 한도 초과분 포함' : ''}).`;
+    }
+
     renderInspector(state, analysisData) {
         const subject = state.getSubject();
         const permission = state.getPermission();
@@ -446,6 +528,8 @@ class StudioUI {
     }
 }
 
+StudioUI.MAX_RENDERED_IMPACTS = 1000;
+
 // 3. API 통신 클래스
 class StudioAPI {
     async fetchApi(url, options = {}) {
@@ -484,6 +568,20 @@ class StudioAPI {
         return this.fetchApi(`/admin/studio/api/access-path-graph?subjectId=${subjectId}&subjectType=${subjectType}&permissionId=${permissionId}`);
     }
     getEffectivePermissions(subjectId, subjectType) { return this.fetchApi(`/admin/studio/api/effective-permissions?subjectId=${subjectId}&subjectType=${subjectType}`); }
+    getPolicyReachability() { return this.fetchApi('/admin/studio/api/policy-reachability'); }
+    getAccessHolders(query, after = 0, size = 100) {
+        const params = new URLSearchParams({ ...query, after, size });
+        return this.fetchApi(`/admin/studio/api/access-holders?${params}`);
+    }
+    startSimulation(request) { return this.fetchApi('/admin/studio/api/simulations', { method: 'POST', body: JSON.stringify(request) }); }
+    getSimulationProgress(jobId, fromIndex = 0) { return this.fetchApi(`/admin/studio/api/simulations/${jobId}?fromIndex=${fromIndex}`); }
+    cancelSimulation(jobId) { return this.fetchApi(`/admin/studio/api/simulations/${jobId}`, { method: 'DELETE' }); }
+    startAuditReplay(request) { return this.fetchApi('/admin/studio/api/audit-replays', { method: 'POST', body: JSON.stringify(request) }); }
+    getAuditReplayProgress(jobId, fromIndex = 0) { return this.fetchApi(`/admin/studio/api/audit-replays/${jobId}?fromIndex=${fromIndex}`); }
+    cancelAuditReplay(jobId) { return this.fetchApi(`/admin/studio/api/audit-replays/${jobId}`, { method: 'DELETE' }); }
+    activateShadowEvaluation(request) { return this.fetchApi('/admin/studio/api/shadow-evaluation', { method: 'POST', body: JSON.stringify(request) }); }
+    getShadowEvaluationReport() { return this.fetchApi('/admin/studio/api/shadow-evaluation'); }
+    deactivateShadowEvaluation() { return this.fetchApi('/admin/studio/api/shadow-evaluation', { method: 'DELETE' }); }
 
 }
 
@@ -497,6 +595,8 @@ class StudioApp {
             canvasPanel: document.getElementById('canvas-panel'),
             canvasGuide: document.getElementById('canvas-guide'),
             canvasContent: document.getElementById('canvas-content'),
+            reachabilityButton: document.getElementById('reachability-btn'),
+            simulationButton: document.getElementById('simulation-btn'),
             inspectorPanel: document.getElementById('inspector-panel'),
             inspectorPlaceholder: document.getElementById('inspector-placeholder'),
             inspectorContent: document.getElementById('inspector-content'),
@@ -504,6 +604,7 @@ class StudioApp {
         this.state = new StudioState();
         this.ui = new StudioUI(this.elements);
         this.api = new StudioAPI();
+        this.simulation = null; // 화면에 표시 중인 시뮬레이션 작업 { jobId, nextIndex, status }
     }
 
     init() {
@@ -528,6 +629,99 @@ class StudioApp {
         this.elements.inspectorPanel.addEventListener('click', e => {
             if (e.target.closest('#grant-btn')) this.handleGrantClick();
         });
+        this.elements.reachabilityButton.addEventListener('click', () => this.showPolicyReachability());
+        this.elements.simulationButton.addEventListener('click', () => this.showSimulationForm());
+        this.elements.canvasContent.addEventListener('click', e => {
+            if (e.target.closest('#simulation-start-btn')) this.startSimulation();
+            if (e.target.closest('#simulation-cancel-btn')) this.cancelSimulation();
+        });
+    }
+
+    async showPolicyReachability() {
+        this.leaveSimulation();
+        this.ui.hideGuide();
+        this.ui.showLoading(this.ui.elements.canvasContent);
+        try {
+            const data = await this.api.getPolicyReachability();
+            this.ui.renderPolicyReachability(data);
+        } catch (error) {
+            this.ui.showError(this.ui.elements.canvasContent, '정책 도달 가능성 분석 실패');
+        }
+    }
+
+    showSimulationForm() {
+        this.leaveSimulation();
+        this.ui.hideGuide();
+        this.ui.renderSimulationForm();
+    }
+
+    async startSimulation() {
+        const condition = document.getElementById('simulation-condition').value.trim();
+        if (!condition) {
+            showToast("시뮬레이션할 조건식을 입력해주세요.", "error");
+            return;
+        }
+        const request = {
+            actionType: 'CREATE',
+            policyDraft: {
+                name: document.getElementById('simulation-name').value.trim() || '시뮬레이션 초안',
+                effect: document.getElementById('simulation-effect').value,
+                rules: [{ conditions: [condition] }]
+            }
+        };
+        const startButton = document.getElementById('simulation-start-btn');
+        startButton.disabled = true;
+        try {
+            const progress = await this.api.startSimulation(request);
+            this.simulation = { jobId: progress.jobId, nextIndex: progress.nextIndex, status: progress.status };
+            this.ui.renderSimulationJob(progress);
+            this.pollSimulation(progress.jobId);
+        } catch (error) {
+            // fetchApi 가 오류 메시지를 토스트로 표시하므로 입력 폼을 그대로 둡니다.
+            startButton.disabled = false;
+        }
+    }
+
+    /**
+     * 작업이 끝날 때까지 진행률을 조회하고, 이전 조회 이후 누적된 영향 내역만 받아 이어 붙입니다.
+     * 완료 후에도 한 번에 받지 못한 내역이 남아 있으면 모두 받을 때까지 계속 조회합니다.
+     */
+    async pollSimulation(jobId) {
+        while (this.simulation && this.simulation.jobId === jobId) {
+            let progress;
+            try {
+                progress = await this.api.getSimulationProgress(jobId, this.simulation.nextIndex);
+            } catch (error) {
+                return;
+            }
+            if (!this.simulation || this.simulation.jobId !== jobId) return;
+            this.simulation.nextIndex = progress.nextIndex;
+            this.simulation.status = progress.status;
+            this.ui.updateSimulationProgress(progress);
+            if (progress.status !== 'RUNNING' && progress.impactDetails.length === 0) return;
+            if (progress.status === 'RUNNING') {
+                await new Promise(resolve => setTimeout(resolve, 1000));
+            }
+        }
+    }
+
+    async cancelSimulation() {
+        if (!this.simulation) return;
+        try {
+            await this.api.cancelSimulation(this.simulation.jobId);
+        } catch (error) {
+            // 다음 진행률 조회에서 실제 상태가 반영됩니다.
+        }
+    }
+
+    /**
+     * 캔버스가 다른 화면으로 바뀌면 진행률 조회를 멈추고, 아직 실행 중인 작업은 취소합니다.
+     */
+    leaveSimulation() {
+        if (this.simulation && this.simulation.status === 'RUNNING') {
+            this.api.cancelSimulation(this.simulation.jobId).catch(() => {});
+        }
+        this.simulation = null;
     }
 
     handleExplorerClick(e) {
@@ -540,6 +734,7 @@ class StudioApp {
     }
 
     async updateCanvasAndInspector() {
+        this.leaveSimulation();
         // renderInspector를 try 블록 안으로 이동시키고, API 결과(data)를 전달합니다.
         const subject = this.state.getSubject();
         const permission = this.state.getPermission();
@@ -0,0 +1,153 @@
+package io.spring.identityadmin.admin.iam.service.impl;
+
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.service.InMemoryEventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AssociationSynchronizer 가 바뀐 연결만 추가·제거하고, 실패하면 컬렉션을 건드리지 않으며,
+ * 변경이 있을 때만 커밋 이후에 AssociationChangedEvent 를 발행하는지 검증합니다.
+ */
+class AssociationSynchronizerTest {
+
+    private record Target(Long id) {
+    }
+
+    private record Link(Target target) {
+        Long targetId() {
+            return target.id();
+        }
+    }
+
+    private final Map<Long, Target> targets = LongStream.rangeClosed(1, 5).boxed()
+            .collect(Collectors.toMap(Function.identity(), Target::new));
+    /** findAllById 로 조회한 id. 추가할 대상만 읽는지 확인합니다. */
+    private final List<Long> lookedUp = new ArrayList<>();
+    private final List<AssociationChangedEvent> published = new ArrayList<>();
+    private AssociationSynchronizer synchronizer;
+    private JpaRepository<Target, Long> targetRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        targetRepository = mock(JpaRepository.class);
+        when(targetRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<Target> found = new ArrayList<>();
+            for (Long id : ids) {
+                lookedUp.add(id);
+                if (targets.containsKey(id)) found.add(targets.get(id));
+            }
+            return found;
+        });
+        InMemoryEventBus eventBus = new InMemoryEventBus();
+        eventBus.subscribe(AssociationChangedEvent.class, published::add);
+        synchronizer = new AssociationSynchronizer(eventBus);
+    }
+
+    private List<Link> links(long... ids) {
+        List<Link> links = new ArrayList<>();
+        for (long id : ids) links.add(new Link(targets.get(id)));
+        return links;
+    }
+
+    private AssociationSynchronizer.Diff synchronize(List<Link> links, List<Long> desiredIds) {
+        return synchronizer.synchronize(AssociationChangedEvent.Association.GROUP_ROLE, 7L, links, Link::targetId,
+                desiredIds, targetRepository, Target::id, Link::new);
+    }
+
+    private static TreeSet<Long> idsOf(List<Link> links) {
+        return links.stream().map(Link::targetId).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Test
+    void appliesOnlyTheAddedAndRemovedLinks() {
+        List<Link> links = links(1, 2, 3);
+        Link kept = links.get(1);
+
+        AssociationSynchronizer.Diff diff = synchronize(links, List.of(2L, 3L, 4L));
+
+        assertThat(diff.addedIds()).containsExactly(4L);
+        assertThat(diff.removedIds()).containsExactly(1L);
+        assertThat(idsOf(links)).containsExactly(2L, 3L, 4L);
+        assertThat(links).contains(kept);
+        assertThat(lookedUp).containsExactly(4L);
+
+        assertThat(published).hasSize(1);
+        AssociationChangedEvent event = published.get(0);
+        assertThat(event.getAssociation()).isEqualTo(AssociationChangedEvent.Association.GROUP_ROLE);
+        assertThat(event.getOwnerId()).isEqualTo(7L);
+        assertThat(event.getAddedIds()).containsExactly(4L);
+        assertThat(event.getRemovedIds()).containsExactly(1L);
+    }
+
+    @Test
+    void nullDesiredIdsRemoveEveryLink() {
+        List<Link> links = links(1, 2);
+
+        AssociationSynchronizer.Diff diff = synchronize(links, null);
+
+        assertThat(links).isEmpty();
+        assertThat(diff.removedIds()).containsExactly(1L, 2L);
+        assertThat(lookedUp).isEmpty();
+    }
+
+    @Test
+    void unknownTargetIdFailsBeforeTheCollectionChanges() {
+        List<Link> links = links(1, 2);
+
+        assertThatThrownBy(() -> synchronize(links, List.of(2L, 4L, 99L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("99");
+
+        assertThat(idsOf(links)).containsExactly(1L, 2L);
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void emptyDiffPublishesNothing() {
+        List<Link> links = links(1, 2);
+
+        AssociationSynchronizer.Diff diff = synchronize(links, List.of(2L, 1L));
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(idsOf(links)).containsExactly(1L, 2L);
+        assertThat(lookedUp).isEmpty();
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void eventIsPublishedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            synchronize(links(1), List.of(2L));
+            assertThat(published).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getAddedIds()).containsExactly(2L);
+        assertThat(published.get(0).getRemovedIds()).containsExactly(1L);
+    }
+}
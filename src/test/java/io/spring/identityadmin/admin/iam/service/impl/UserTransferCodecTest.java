@@ -0,0 +1,142 @@
+package io.spring.identityadmin.admin.iam.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.identityadmin.admin.iam.service.UserTransferFormat;
+import io.spring.identityadmin.domain.dto.UserTransferRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UserTransferCodec 이 RFC 4180 CSV 와 JSONL 을 한 행씩 읽으면서 형식 오류를 행 단위로 보고하고 다음 행을 계속 읽는지 검증합니다.
+ */
+class UserTransferCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<UserTransferCodec.Entry> readAll(UserTransferFormat format, String content) throws IOException {
+        List<UserTransferCodec.Entry> entries = new ArrayList<>();
+        try (UserTransferCodec.RowReader reader = UserTransferCodec.reader(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+            UserTransferCodec.Entry entry;
+            while ((entry = reader.next()) != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    void quotedFieldsMayContainCommasQuotesAndNewlines() throws IOException {
+        List<UserTransferCodec.Entry> entries = readAll(UserTransferFormat.CSV,
+                "username,name,groups\r\n"
+                        + "kim,\"Kim, \"\"Jr\"\"\nSeoul\",\"dev|ops\"\r\n"
+                        + "\r\n"
+                        + "lee,Lee,\r\n");
+
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(0).row()).isEqualTo(
+                new UserTransferRow("kim", "Kim, \"Jr\"\nSeoul", null, null, List.of("dev", "ops")));
+        assertThat(entries.get(0).line()).isEqualTo(2L);
+        // 따옴표 안의 줄바꿈과 빈 줄도 줄 번호에 포함됩니다.
+        assertThat(entries.get(1).line()).isEqualTo(5L);
+        assertThat(entries.get(1).row()).isEqualTo(new UserTransferRow("lee", "Lee", null, null, List.of()));
+    }
+
+    @Test
+    void utf8BomAndHeaderCaseAreIgnored() throws IOException {
+        List<UserTransferCodec.Entry> entries = readAll(UserTransferFormat.CSV,
+                "\uFEFFUserName,MFAENABLED\nkim,yes\n");
+
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).row()).isEqualTo(new UserTransferRow("kim", null, null, true, null));
+    }
+
+    @Test
+    void invalidHeaderIsRejected() {
+        assertThatThrownBy(() -> readAll(UserTransferFormat.CSV, ""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> readAll(UserTransferFormat.CSV, "username,email\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("email");
+        assertThatThrownBy(() -> readAll(UserTransferFormat.CSV, "username,Username\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> readAll(UserTransferFormat.CSV, "name,password\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("username");
+    }
+
+    @Test
+    void columnCountMismatchFailsOnlyThatRow() throws IOException {
+        List<UserTransferCodec.Entry> entries = readAll(UserTransferFormat.CSV,
+                "username,name\nkim\nlee,Lee,extra\npark,Park\n");
+
+        assertThat(entries).hasSize(3);
+        assertThat(entries.get(0).row()).isNull();
+        assertThat(entries.get(0).error()).contains("열 수");
+        assertThat(entries.get(1).row()).isNull();
+        assertThat(entries.get(1).line()).isEqualTo(3L);
+        assertThat(entries.get(2).row()).isEqualTo(new UserTransferRow("park", "Park", null, null, null));
+    }
+
+    @Test
+    void tooLongRowIsSkippedAndReadingContinues() throws IOException {
+        String longName = "x".repeat(UserTransferCodec.MAX_RECORD_CHARS + 1);
+
+        List<UserTransferCodec.Entry> csv = readAll(UserTransferFormat.CSV,
+                "username,name\nkim,\"" + longName + "\nstill quoted\"\nlee,Lee\n");
+        assertThat(csv).hasSize(2);
+        assertThat(csv.get(0).row()).isNull();
+        assertThat(csv.get(0).error()).contains("너무 깁니다");
+        assertThat(csv.get(1).line()).isEqualTo(4L);
+        assertThat(csv.get(1).row()).isEqualTo(new UserTransferRow("lee", "Lee", null, null, null));
+
+        List<UserTransferCodec.Entry> jsonl = readAll(UserTransferFormat.JSONL,
+                "{\"username\":\"" + longName + "\"}\n{\"username\":\"lee\"}\n");
+        assertThat(jsonl).hasSize(2);
+        assertThat(jsonl.get(0).error()).contains("너무 깁니다");
+        assertThat(jsonl.get(1).row()).isEqualTo(new UserTransferRow("lee", null, null, null, null));
+    }
+
+    @Test
+    void malformedRecordsAreReportedWithTheirLine() throws IOException {
+        List<UserTransferCodec.Entry> csv = readAll(UserTransferFormat.CSV,
+                "username,mfaEnabled\nkim,maybe\nlee,\"unterminated\n");
+        assertThat(csv).hasSize(2);
+        assertThat(csv.get(0).error()).contains("mfaEnabled");
+        assertThat(csv.get(1).line()).isEqualTo(3L);
+        assertThat(csv.get(1).error()).contains("따옴표");
+
+        List<UserTransferCodec.Entry> jsonl = readAll(UserTransferFormat.JSONL,
+                "\n{\"username\":\"kim\",\"groups\":[\"dev\"]}\n{not json}\n");
+        assertThat(jsonl).hasSize(2);
+        assertThat(jsonl.get(0).line()).isEqualTo(2L);
+        assertThat(jsonl.get(0).row()).isEqualTo(new UserTransferRow("kim", null, null, null, List.of("dev")));
+        assertThat(jsonl.get(1).row()).isNull();
+        assertThat(jsonl.get(1).error()).startsWith("JSON");
+    }
+
+    @Test
+    void exportedCsvReadsBackUnchanged() throws IOException {
+        List<UserTransferRow> rows = List.of(
+                new UserTransferRow("kim", "Kim, \"Jr\"\r\nSeoul", null, true, List.of("dev", "ops")),
+                new UserTransferRow("lee", null, null, false, List.of()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        UserTransferCodec.RowWriter writer = UserTransferCodec.writer(UserTransferFormat.CSV, out, objectMapper);
+        for (UserTransferRow row : rows) {
+            writer.write(row);
+        }
+        writer.flush();
+
+        List<UserTransferCodec.Entry> entries = readAll(UserTransferFormat.CSV, out.toString(StandardCharsets.UTF_8));
+        assertThat(entries.stream().map(UserTransferCodec.Entry::row).toList()).isEqualTo(rows);
+    }
+}
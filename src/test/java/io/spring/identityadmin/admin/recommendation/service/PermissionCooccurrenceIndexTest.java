@@ -0,0 +1,156 @@
+package io.spring.identityadmin.admin.recommendation.service;
+
+import io.spring.identityadmin.common.event.dto.AssociationChangedEvent;
+import io.spring.identityadmin.common.event.service.InMemoryEventBus;
+import io.spring.identityadmin.domain.entity.Group;
+import io.spring.identityadmin.domain.entity.Permission;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.IdPairConsumer;
+import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.repository.RoleRepository;
+import io.spring.identityadmin.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PermissionCooccurrenceIndex 가 그룹-역할·역할-권한 연결 변경을 DB 를 다시 읽지 않고 반영하여,
+ * 같은 상태에서 새로 구성한 행렬과 같은 추천을 내는지 검증합니다.
+ */
+class PermissionCooccurrenceIndexTest {
+
+    private static final long DEV = 1L;
+    private static final long OPS = 2L;
+    private static final long DEVELOPER = 10L;
+    private static final long OPERATOR = 20L;
+    private static final long READ = 100L;
+    private static final long DEPLOY = 200L;
+    private static final long AUDIT = 300L;
+
+    /** 사용자 1 은 dev, 4 는 ops 에만 속하고 2, 3 은 두 그룹 모두에 속합니다 (setUp 참고). */
+    private final Map<Long, long[]> memberships = new TreeMap<>();
+    private final Map<Long, Set<Long>> groupRoles = new TreeMap<>();
+    private final Map<Long, Set<Long>> rolePermissions = new TreeMap<>();
+    private final InMemoryEventBus eventBus = new InMemoryEventBus();
+    private PermissionCooccurrenceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        doAnswer(invocation -> {
+            IdPairConsumer consumer = invocation.getArgument(0);
+            memberships.forEach((userId, groupIds) -> {
+                for (long groupId : groupIds) consumer.accept(userId, groupId);
+            });
+            return null;
+        }).when(userRepository).scanGroupMemberships(any());
+        when(userRepository.findGroupIdsByUserId(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(memberships.get(invocation.<Long>getArgument(0))));
+
+        GroupRepository groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findAll()).thenAnswer(invocation -> List.of(
+                Group.builder().id(DEV).name("dev").build(),
+                Group.builder().id(OPS).name("ops").build()));
+        doAnswer(invocation -> {
+            IdPairConsumer consumer = invocation.getArgument(0);
+            groupRoles.forEach((groupId, roleIds) -> roleIds.forEach(roleId -> consumer.accept(groupId, roleId)));
+            return null;
+        }).when(groupRepository).scanGroupRoleEdges(any());
+
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        doAnswer(invocation -> {
+            IdPairConsumer consumer = invocation.getArgument(0);
+            rolePermissions.forEach((roleId, permissionIds) -> permissionIds.forEach(permissionId -> consumer.accept(roleId, permissionId)));
+            return null;
+        }).when(roleRepository).scanRolePermissionEdges(any());
+
+        PermissionRepository permissionRepository = mock(PermissionRepository.class);
+        when(permissionRepository.findAll()).thenAnswer(invocation -> List.of(
+                Permission.builder().id(READ).description("read").build(),
+                Permission.builder().id(DEPLOY).description("deploy").build(),
+                Permission.builder().id(AUDIT).description("audit").build()));
+
+        index = new PermissionCooccurrenceIndex(userRepository, groupRepository, roleRepository, permissionRepository, eventBus);
+        index.subscribe();
+
+        groupRoles.put(DEV, new TreeSet<>(Set.of(DEVELOPER)));
+        groupRoles.put(OPS, new TreeSet<>(Set.of(OPERATOR)));
+        rolePermissions.put(DEVELOPER, new TreeSet<>(Set.of(READ)));
+        rolePermissions.put(OPERATOR, new TreeSet<>(Set.of(DEPLOY)));
+        memberships.put(1L, new long[]{DEV});
+        memberships.put(2L, new long[]{DEV, OPS});
+        memberships.put(3L, new long[]{DEV, OPS});
+        memberships.put(4L, new long[]{OPS});
+        index.rebuild();
+    }
+
+    private List<Long> recommended(long userId, long... groupIds) {
+        return index.recommend(userId, java.util.Arrays.stream(groupIds).boxed().toList(), 10).stream()
+                .map(PermissionCooccurrenceIndex.Recommendation::permissionId)
+                .toList();
+    }
+
+    private void change(AssociationChangedEvent.Association association, long ownerId, long[] added, long[] removed) {
+        Set<Long> targets = association == AssociationChangedEvent.Association.GROUP_ROLE
+                ? groupRoles.computeIfAbsent(ownerId, id -> new TreeSet<>())
+                : rolePermissions.computeIfAbsent(ownerId, id -> new TreeSet<>());
+        for (long id : added) targets.add(id);
+        for (long id : removed) targets.remove(id);
+        eventBus.publish(new AssociationChangedEvent(association, ownerId, added, removed));
+    }
+
+    @Test
+    void recommendsPermissionsHeldByMostOtherMembers() {
+        // dev 의 다른 구성원 2, 3 은 ops 를 통해 DEPLOY 를 가집니다.
+        assertThat(recommended(1L, DEV)).containsExactly(DEPLOY);
+        assertThat(recommended(4L, OPS)).containsExactly(READ);
+    }
+
+    @Test
+    void groupRoleChangesAreAppliedWithoutRebuild() {
+        change(AssociationChangedEvent.Association.GROUP_ROLE, OPS, new long[]{DEVELOPER}, new long[]{OPERATOR});
+
+        assertThat(recommended(1L, DEV)).isEmpty();
+        assertThat(recommended(4L, OPS)).isEmpty();
+        List<Long> applied = recommended(1L, DEV, OPS);
+
+        index.rebuild();
+        assertThat(recommended(1L, DEV, OPS)).isEqualTo(applied);
+    }
+
+    @Test
+    void rolePermissionChangesUpdateEveryGroupWithTheRole() {
+        change(AssociationChangedEvent.Association.ROLE_PERMISSION, OPERATOR, new long[]{AUDIT}, new long[0]);
+
+        assertThat(recommended(1L, DEV)).containsExactlyInAnyOrder(DEPLOY, AUDIT);
+
+        change(AssociationChangedEvent.Association.ROLE_PERMISSION, OPERATOR, new long[0], new long[]{DEPLOY, AUDIT});
+        assertThat(recommended(1L, DEV)).isEmpty();
+
+        index.rebuild();
+        assertThat(recommended(1L, DEV)).isEmpty();
+        assertThat(recommended(4L, OPS)).containsExactly(READ);
+    }
+
+    @Test
+    void unknownGroupsAndPermissionsAreIgnoredUntilRebuild() {
+        change(AssociationChangedEvent.Association.GROUP_ROLE, 99L, new long[]{OPERATOR}, new long[0]);
+        change(AssociationChangedEvent.Association.ROLE_PERMISSION, DEVELOPER, new long[]{999L}, new long[0]);
+
+        assertThat(recommended(1L, DEV)).containsExactly(DEPLOY);
+        assertThat(recommended(4L, OPS)).containsExactly(READ);
+    }
+}
@@ -0,0 +1,80 @@
+package io.spring.identityadmin.domain.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KeysetPageRequest 가 페이지 크기와 잘못된 커서를 안전한 값으로 맞추고,
+ * PageResponseDto.ofKeyset 이 한 건 더 조회한 결과로 다음 커서를 만드는지 검증합니다.
+ */
+class KeysetPageRequestTest {
+
+    @Test
+    void clampsPageSize() {
+        assertThat(new KeysetPageRequest(null, 0).size()).isEqualTo(1);
+        assertThat(new KeysetPageRequest(null, -10).size()).isEqualTo(1);
+        assertThat(new KeysetPageRequest(null, 10_000).size()).isEqualTo(KeysetPageRequest.MAX_SIZE);
+        assertThat(new KeysetPageRequest(null, 20).size()).isEqualTo(20);
+        assertThat(new KeysetPageRequest(null, 20).fetchSize()).isEqualTo(21);
+    }
+
+    @Test
+    void malformedCursorIsTreatedAsFirstPage() {
+        assertThat(new KeysetPageRequest("abc", 10).cursor()).isNull();
+        assertThat(new KeysetPageRequest("", 10).cursor()).isNull();
+        assertThat(new KeysetPageRequest("10:", 10).cursor()).isNull();
+        assertThat(new KeysetPageRequest("1:x", 10).cursor()).isNull();
+        assertThat(new KeysetPageRequest("99999999999999999999", 10).afterId()).isNull();
+        assertThat(new KeysetPageRequest("-3:42", 10).keys(2)).containsExactly(-3L, 42L);
+    }
+
+    @Test
+    void cursorWithWrongKeyCountIsTreatedAsFirstPage() {
+        KeysetPageRequest request = new KeysetPageRequest("5:42", 10);
+
+        assertThat(request.keys(2)).containsExactly(5L, 42L);
+        assertThat(request.keys(1)).isNull();
+        assertThat(request.afterId()).isNull();
+        assertThat(new KeysetPageRequest("42", 10).keys(2)).isNull();
+        assertThat(new KeysetPageRequest("42", 10).afterId()).isEqualTo(42L);
+    }
+
+    @Test
+    void cursorOfJoinsKeys() {
+        assertThat(KeysetPageRequest.cursorOf(7)).isEqualTo("7");
+        assertThat(KeysetPageRequest.cursorOf(-1, 42)).isEqualTo("-1:42");
+    }
+
+    @Test
+    void fullFetchYieldsNextCursorFromLastRowOfThePage() {
+        KeysetPageRequest request = new KeysetPageRequest(null, 3);
+        List<Long> rows = LongStream.rangeClosed(1, request.fetchSize()).boxed().toList();
+
+        PageResponseDto<Long> page = PageResponseDto.ofKeyset(rows, request, 10, id -> KeysetPageRequest.cursorOf(id));
+
+        assertThat(page.getContent()).containsExactly(1L, 2L, 3L);
+        assertThat(page.getNextCursor()).isEqualTo("3");
+        assertThat(page.isLast()).isFalse();
+        assertThat(page.getTotalElements()).isEqualTo(10L);
+        assertThat(page.getTotalPages()).isEqualTo(4);
+
+        KeysetPageRequest next = new KeysetPageRequest(page.getNextCursor(), 3);
+        assertThat(next.afterId()).isEqualTo(3L);
+    }
+
+    @Test
+    void shortFetchIsTheLastPage() {
+        KeysetPageRequest request = new KeysetPageRequest("3", 3);
+
+        PageResponseDto<Long> page = PageResponseDto.ofKeyset(List.of(4L, 5L, 6L), request, -1, id -> KeysetPageRequest.cursorOf(id));
+
+        assertThat(page.getContent()).containsExactly(4L, 5L, 6L);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isLast()).isTrue();
+        assertThat(page.getTotalPages()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,129 @@
+package io.spring.identityadmin.security.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AuthenticatedUser 가 CompactForm 을 거쳐 직렬화·역직렬화될 때 id, 사용자명, 세대, 권한 id 배열이 그대로 보존되는지 검증합니다.
+ */
+class AuthenticatedUserTest {
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static AuthenticatedUser roundTrip(AuthenticatedUser user) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(user)))) {
+            return (AuthenticatedUser) in.readObject();
+        }
+    }
+
+    private static void assertRoundTrip(int[] authorityIds) throws Exception {
+        AuthenticatedUser user = new AuthenticatedUser(42L, "관리자", authorityIds, 7L);
+        AuthenticatedUser restored = roundTrip(user);
+        assertThat(restored).isEqualTo(user);
+        assertThat(restored.getId()).isEqualTo(42L);
+        assertThat(restored.getUsername()).isEqualTo("관리자");
+        assertThat(restored.getGeneration()).isEqualTo(7L);
+        assertThat(restored.getAuthorityIds()).isEqualTo(authorityIds);
+    }
+
+    @Test
+    void roundTripsTypicalAuthoritySets() throws Exception {
+        assertRoundTrip(new int[]{1});
+        assertRoundTrip(new int[]{0, 1, 2, 130, 16_500, 2_100_000});
+    }
+
+    @Test
+    void roundTripsEmptyAuthorityArray() throws Exception {
+        assertRoundTrip(new int[0]);
+    }
+
+    @Test
+    void roundTripsNegativeAndExtremeIds() throws Exception {
+        assertRoundTrip(new int[]{-5});
+        assertRoundTrip(new int[]{-1000, -3, -1, 0, 4});
+        assertRoundTrip(new int[]{Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE});
+        assertRoundTrip(new int[]{Integer.MAX_VALUE});
+    }
+
+    @Test
+    void deltaEncodingKeepsSessionsSmall() throws Exception {
+        int[] ids = IntStream.range(0, 300).map(i -> 5_000 + i * 3).toArray();
+        byte[] compact = serialize(new AuthenticatedUser(1L, "user", ids, 1L));
+        // 첫 id 를 제외한 권한 하나당 1 byte (차이 3) + 고정 헤더
+        assertThat(compact.length).isLessThan(ids.length + 200);
+    }
+
+    @Test
+    void rejectsUnknownFormatVersion() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeByte(2);
+        }
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThatThrownBy(() -> new AuthenticatedUser.CompactForm().readExternal(in))
+                .isInstanceOf(InvalidObjectException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    void rejectsMalformedVarint() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeLong(1L);
+            out.writeUTF("user");
+            out.writeLong(1L);
+            for (int i = 0; i < 5; i++) out.writeByte(0xFF);
+        }
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThatThrownBy(() -> new AuthenticatedUser.CompactForm().readExternal(in))
+                .isInstanceOf(InvalidObjectException.class)
+                .hasMessageContaining("varint");
+    }
+
+    private static ObjectInputStream compactFormWithCount(byte... countVarint) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeLong(1L);
+            out.writeUTF("user");
+            out.writeLong(1L);
+            out.write(countVarint);
+        }
+        return new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    void rejectsNegativeAuthorityCount() throws Exception {
+        // varint 로 기록된 -1
+        ObjectInputStream in = compactFormWithCount((byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x0F);
+        assertThatThrownBy(() -> new AuthenticatedUser.CompactForm().readExternal(in))
+                .isInstanceOf(InvalidObjectException.class)
+                .hasMessageContaining("authority count");
+    }
+
+    @Test
+    void rejectsOversizedAuthorityCountBeforeAllocating() throws Exception {
+        // varint 로 기록된 Integer.MAX_VALUE. 상한 검사가 없으면 약 8GB 배열을 할당하려 합니다.
+        ObjectInputStream in = compactFormWithCount((byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x07);
+        assertThatThrownBy(() -> new AuthenticatedUser.CompactForm().readExternal(in))
+                .isInstanceOf(InvalidObjectException.class)
+                .hasMessageContaining("authority count");
+    }
+}
@@ -0,0 +1,151 @@
+package io.spring.identityadmin.security.xacml.pap.service;
+
+import io.spring.identityadmin.common.event.dto.PolicyChangedEvent;
+import io.spring.identityadmin.common.event.service.InMemoryEventBus;
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
+import io.spring.identityadmin.repository.PolicyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PolicyConflictIndex 가 트라이 후보 수집과 최종 겹침 확인을 거쳐 겹치는 대상만 찾고, 겹치지 않는 대상은 보고하지 않는지,
+ * 전체 적재 도중 바뀐 정책이 새 인덱스에 덮어써지지 않는지 검증합니다.
+ */
+class PolicyConflictIndexTest {
+
+    private final Map<Long, Policy> storedPolicies = new ConcurrentHashMap<>();
+    private final InMemoryEventBus eventBus = new InMemoryEventBus();
+    private Runnable duringScan = () -> {};
+    private PolicyConflictIndex index;
+
+    @BeforeEach
+    void setUp() {
+        PolicyRepository policyRepository = mock(PolicyRepository.class);
+        doAnswer(invocation -> {
+            Consumer<Policy> consumer = invocation.getArgument(0);
+            List<Policy> snapshot = List.copyOf(storedPolicies.values());
+            duringScan.run();
+            snapshot.forEach(consumer);
+            return null;
+        }).when(policyRepository).scanAllWithDetails(any());
+        when(policyRepository.findByIdWithDetails(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(storedPolicies.get(invocation.<Long>getArgument(0))));
+
+        index = new PolicyConflictIndex(policyRepository, eventBus);
+        index.subscribe();
+
+        store(1L, Policy.Effect.ALLOW, "URL", "/api/**");
+        store(2L, Policy.Effect.ALLOW, "URL", "/admin/users/{id}");
+        store(3L, Policy.Effect.ALLOW, "URL", "/files/*.txt");
+        store(4L, Policy.Effect.DENY, "URL", "/api/secret");
+        store(5L, Policy.Effect.ALLOW, "METHOD", "io.example.UserService.delete");
+        store(6L, Policy.Effect.ALLOW, "URL", "/reports/");
+    }
+
+    private void store(Long id, Policy.Effect effect, String targetType, String... identifiers) {
+        Policy policy = Policy.builder()
+                .id(id)
+                .name("policy-" + id)
+                .effect(effect)
+                .targets(Arrays.stream(identifiers)
+                        .map(identifier -> PolicyTarget.builder().targetType(targetType).targetIdentifier(identifier).build())
+                        .collect(Collectors.toCollection(HashSet::new)))
+                .build();
+        storedPolicies.put(id, policy);
+    }
+
+    private List<Long> overlapping(Policy.Effect effect, String targetType, String targetIdentifier) {
+        return index.findOverlapping(effect, targetType, targetIdentifier).stream()
+                .map(PolicyConflictIndex.IndexedTarget::policyId)
+                .sorted()
+                .toList();
+    }
+
+    @Test
+    void detectsOverlappingUrlPatternsOfSameEffect() {
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/api/users")).containsExactly(1L);
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/admin/users/42")).containsExactly(2L);
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/admin/*/7")).containsExactly(2L);
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/**")).containsExactly(1L, 2L, 3L, 6L);
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/files/{name}")).containsExactly(3L);
+    }
+
+    @Test
+    void ignoresOtherEffectsAndDisjointPatterns() {
+        assertThat(overlapping(Policy.Effect.DENY, "URL", "/admin/users/1")).isEmpty();
+        assertThat(overlapping(Policy.Effect.DENY, "URL", "/api/**")).containsExactly(4L);
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/admin/groups/1")).isEmpty();
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/admin/users/1/edit")).isEmpty();
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/files/a.csv")).isEmpty();
+    }
+
+    @Test
+    void trailingSlashIsNotTheSamePath() {
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/reports/")).containsExactly(6L);
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/reports")).isEmpty();
+    }
+
+    @Test
+    void nonUrlTargetsMatchOnlyByIdentifier() {
+        assertThat(overlapping(Policy.Effect.ALLOW, "METHOD", "io.example.UserService.delete")).containsExactly(5L);
+        assertThat(overlapping(Policy.Effect.ALLOW, "METHOD", "io.example.UserService.update")).isEmpty();
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "io.example.UserService.delete")).isEmpty();
+    }
+
+    @Test
+    void policyChangesAreAppliedIncrementally() {
+        index.rebuild();
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/billing/invoices")).isEmpty();
+
+        store(7L, Policy.Effect.ALLOW, "URL", "/billing/**");
+        eventBus.publish(new PolicyChangedEvent(7L));
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/billing/invoices")).containsExactly(7L);
+
+        storedPolicies.remove(1L);
+        eventBus.publish(new PolicyChangedEvent(1L));
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/api/users")).isEmpty();
+    }
+
+    @Test
+    void policyChangedDuringRebuildIsAppliedAfterIt() {
+        index.ensureLoaded();
+        duringScan = () -> {
+            store(7L, Policy.Effect.ALLOW, "URL", "/billing/**");
+            eventBus.publish(new PolicyChangedEvent(7L));
+            storedPolicies.remove(1L);
+            eventBus.publish(new PolicyChangedEvent(1L));
+        };
+
+        index.rebuild();
+
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/billing/invoices")).containsExactly(7L);
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/api/users")).isEmpty();
+    }
+
+    @Test
+    void policyChangedDuringFirstLoadIsApplied() {
+        duringScan = () -> {
+            store(7L, Policy.Effect.ALLOW, "URL", "/billing/**");
+            eventBus.publish(new PolicyChangedEvent(7L));
+        };
+
+        assertThat(overlapping(Policy.Effect.ALLOW, "URL", "/billing/invoices")).containsExactly(7L);
+    }
+}
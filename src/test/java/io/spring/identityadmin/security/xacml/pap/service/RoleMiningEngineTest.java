@@ -0,0 +1,171 @@
+package io.spring.identityadmin.security.xacml.pap.service;
+
+import io.spring.identityadmin.domain.entity.Permission;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.IdPairConsumer;
+import io.spring.identityadmin.repository.PermissionRepository;
+import io.spring.identityadmin.repository.RoleRepository;
+import io.spring.identityadmin.repository.UserRepository;
+import io.spring.identityadmin.security.xacml.pap.dto.RoleCandidateDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RoleMiningEngine 이 거의 같은 권한 조합만 하나의 군집으로 묶고,
+ * 후보 역할의 적용 범위·역할 수 감소량과 정렬 순서를 올바르게 계산하는지 검증합니다.
+ * <p>
+ * 픽스처의 권한 조합:
+ * <ul>
+ *   <li>그룹 1 (사용자 3명): 권한 1~10, 11 — 그룹 2 와 Jaccard 10/11 로 같은 군집</li>
+ *   <li>그룹 2 (사용자 2명): 권한 1~10</li>
+ *   <li>그룹 3 (사용자 4명): 권한 1~5, 21~24</li>
+ *   <li>그룹 4 (사용자 4명): 권한 31~39 (역할 3개로 나뉨)</li>
+ *   <li>그룹 5 (사용자 2명): 권한 1~10, 41~43 — 그룹 2 와 Jaccard 10/13 으로 0.8 미만</li>
+ * </ul>
+ */
+class RoleMiningEngineTest {
+
+    /** 전체 사용자-권한 할당 수: 3×11 + 2×10 + 4×9 + 4×9 + 2×13 */
+    private static final long TOTAL_ASSIGNMENTS = 151;
+
+    private final Map<Long, long[]> rolePermissions = new TreeMap<>(Map.of(
+            1L, range(1, 5),
+            2L, range(6, 10),
+            3L, new long[]{11},
+            5L, range(21, 24),
+            6L, range(31, 33),
+            7L, range(34, 36),
+            8L, range(37, 39),
+            9L, range(41, 43)));
+    private final Map<Long, long[]> groupRoles = new TreeMap<>(Map.of(
+            1L, new long[]{1, 2, 3},
+            2L, new long[]{1, 2},
+            3L, new long[]{1, 5},
+            4L, new long[]{6, 7, 8},
+            5L, new long[]{1, 2, 9}));
+    /** 사용자 id → 소속 그룹 id. 엔진은 사용자 id 순으로 읽는다고 가정하므로 정렬 맵을 사용합니다. */
+    private final Map<Long, long[]> memberships = new TreeMap<>();
+    private RoleMiningEngine engine;
+
+    private static long[] range(long from, long to) {
+        return LongStream.rangeClosed(from, to).toArray();
+    }
+
+    private void addUsers(long firstUserId, int count, long groupId) {
+        for (long userId = firstUserId; userId < firstUserId + count; userId++) {
+            memberships.put(userId, new long[]{groupId});
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        addUsers(1, 3, 1);
+        addUsers(4, 2, 2);
+        addUsers(6, 4, 3);
+        addUsers(10, 4, 4);
+        addUsers(14, 2, 5);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        doAnswer(invocation -> {
+            IdPairConsumer consumer = invocation.getArgument(0);
+            memberships.forEach((userId, groupIds) -> LongStream.of(groupIds).forEach(groupId -> consumer.accept(userId, groupId)));
+            return null;
+        }).when(userRepository).scanGroupMemberships(any());
+
+        GroupRepository groupRepository = mock(GroupRepository.class);
+        doAnswer(invocation -> {
+            IdPairConsumer consumer = invocation.getArgument(0);
+            groupRoles.forEach((groupId, roleIds) -> LongStream.of(roleIds).forEach(roleId -> consumer.accept(groupId, roleId)));
+            return null;
+        }).when(groupRepository).scanGroupRoleEdges(any());
+
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        doAnswer(invocation -> {
+            IdPairConsumer consumer = invocation.getArgument(0);
+            rolePermissions.forEach((roleId, permissionIds) -> LongStream.of(permissionIds).forEach(permissionId -> consumer.accept(roleId, permissionId)));
+            return null;
+        }).when(roleRepository).scanRolePermissionEdges(any());
+
+        PermissionRepository permissionRepository = mock(PermissionRepository.class);
+        when(permissionRepository.findAll()).thenAnswer(invocation -> rolePermissions.values().stream()
+                .flatMapToLong(LongStream::of)
+                .mapToObj(id -> Permission.builder().id(id).name("perm-" + id).build())
+                .toList());
+
+        engine = new RoleMiningEngine(userRepository, groupRepository, roleRepository, permissionRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void nearIdenticalPatternsFormOneCandidate() {
+        RoleCandidateDto merged = engine.mine(10).get(0);
+
+        assertThat(merged.permissionIds()).containsExactlyInAnyOrder(LongStream.of(range(1, 10)).boxed().toArray());
+        assertThat(merged.permissionNames()).contains("perm-1", "perm-10");
+        assertThat(merged.userCount()).isEqualTo(5L);
+        assertThat(merged.entitlementPatterns()).isEqualTo(2);
+        // 역할 3 (권한 11) 은 그룹 2 사용자에게 없으므로 대체 대상이 아닙니다.
+        assertThat(merged.replaceableRoleIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void patternsBelowSimilarityThresholdStaySeparate() {
+        List<RoleCandidateDto> candidates = engine.mine(10);
+
+        assertThat(candidates).hasSize(4);
+        RoleCandidateDto wider = candidates.stream()
+                .filter(candidate -> candidate.permissionIds().contains(41L))
+                .findFirst().orElseThrow();
+        assertThat(wider.permissionIds()).containsExactlyInAnyOrder(LongStream.concat(LongStream.of(range(1, 10)), LongStream.of(range(41, 43))).boxed().toArray());
+        assertThat(wider.userCount()).isEqualTo(2L);
+        assertThat(wider.entitlementPatterns()).isEqualTo(1);
+    }
+
+    @Test
+    void computesCoveredAssignmentsAndRoleCountReduction() {
+        List<RoleCandidateDto> candidates = engine.mine(10);
+
+        RoleCandidateDto merged = candidates.get(0);
+        assertThat(merged.coveredAssignments()).isEqualTo(50L);
+        assertThat(merged.coverage()).isEqualTo(50.0 / TOTAL_ASSIGNMENTS);
+        assertThat(merged.roleCountReduction()).isEqualTo(1);
+
+        RoleCandidateDto split = candidates.stream()
+                .filter(candidate -> candidate.permissionIds().contains(31L))
+                .findFirst().orElseThrow();
+        assertThat(split.coveredAssignments()).isEqualTo(36L);
+        assertThat(split.replaceableRoleIds()).containsExactlyInAnyOrder(6L, 7L, 8L);
+        assertThat(split.roleCountReduction()).isEqualTo(2);
+        assertThat(split.coreShare()).isEqualTo(1.0);
+    }
+
+    @Test
+    void ordersByCoveredAssignmentsThenRoleCountReduction() {
+        List<RoleCandidateDto> candidates = engine.mine(10);
+
+        assertThat(candidates.stream().map(RoleCandidateDto::coveredAssignments).toList())
+                .containsExactly(50L, 36L, 36L, 26L);
+        assertThat(candidates.stream().map(RoleCandidateDto::roleCountReduction).toList())
+                .containsExactly(1, 2, 1, 2);
+        assertThat(candidates.get(1).permissionIds()).contains(31L);
+        assertThat(candidates.get(2).permissionIds()).contains(21L);
+
+        assertThat(engine.mine(2)).hasSize(2);
+    }
+}
@@ -0,0 +1,103 @@
+package io.spring.identityadmin.security.xacml.pdp.translator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ExpressionCanonicalizer 가 같은 의미의 조건을 같은 정규형으로 만들고, 함축 판정이 건전한지 검증합니다.
+ */
+class ExpressionCanonicalizerTest {
+
+    private final ExpressionCanonicalizer canonicalizer = new ExpressionCanonicalizer();
+
+    private static ExpressionNode role(String authority) {
+        return new TerminalNode("hasAuthority('" + authority + "')", authority, true);
+    }
+
+    private static ExpressionNode opaque(String description) {
+        return new TerminalNode(description);
+    }
+
+    private static ExpressionNode and(ExpressionNode... children) {
+        return new LogicalNode("AND", List.of(children));
+    }
+
+    private static ExpressionNode or(ExpressionNode... children) {
+        return new LogicalNode("OR", List.of(children));
+    }
+
+    private static ExpressionNode not(ExpressionNode child) {
+        return new LogicalNode("NOT", List.of(child));
+    }
+
+    private CanonicalExpression canonical(ExpressionNode node) {
+        return canonicalizer.canonicalize(node);
+    }
+
+    @Test
+    void operandOrderAndNestingDoNotChangeCanonicalForm() {
+        ExpressionNode ip = opaque("hasIpAddress('10.0.0.0/8')");
+        assertThat(canonical(and(role("A"), ip))).isEqualTo(canonical(and(ip, role("A"))));
+        assertThat(canonical(and(role("A"), and(role("B"), ip)))).isEqualTo(canonical(and(and(ip, role("A")), role("B"))));
+        assertThat(canonical(and(role("A"), ip))).isNotEqualTo(canonical(or(role("A"), ip)));
+    }
+
+    @Test
+    void authoritiesInsideOrAreMergedIntoOneSet() {
+        CanonicalExpression merged = canonical(or(role("B"), or(role("A"), role("C"))));
+        assertThat(merged.getKind()).isEqualTo(CanonicalExpression.Kind.ANY_OF);
+        assertThat(merged.getAuthorities()).containsExactly("A", "B", "C");
+        assertThat(merged).isEqualTo(canonical(new TerminalNode("hasAnyAuthority", "C, A ,B", true)));
+    }
+
+    @Test
+    void duplicatesAndSingleChildrenCollapse() {
+        assertThat(canonical(and(role("A"), role("A")))).isEqualTo(canonical(role("A")));
+        assertThat(canonical(or(opaque("x")))).isEqualTo(canonical(opaque("x")));
+        assertThat(canonical(not(not(opaque("x"))))).isEqualTo(canonical(opaque("x")));
+    }
+
+    @Test
+    void absorptionRemovesRedundantOperands() {
+        // A AND (A OR B) == A
+        assertThat(canonical(and(role("A"), or(role("A"), role("B"))))).isEqualTo(canonical(role("A")));
+        // x OR (x AND y) == x
+        ExpressionNode x = opaque("x");
+        assertThat(canonical(or(x, and(x, opaque("y"))))).isEqualTo(canonical(x));
+    }
+
+    @Test
+    void authenticationRequirementDistinguishesOpaqueConditions() {
+        assertThat(canonical(new TerminalNode("custom", true))).isNotEqualTo(canonical(new TerminalNode("custom", false)));
+    }
+
+    @Test
+    void impliesIsSoundForAuthoritySetsAndConjunctions() {
+        CanonicalExpression a = canonical(role("A"));
+        CanonicalExpression aOrB = canonical(or(role("A"), role("B")));
+        CanonicalExpression aAndX = canonical(and(role("A"), opaque("x")));
+
+        assertThat(canonicalizer.implies(a, aOrB)).isTrue();
+        assertThat(canonicalizer.implies(aOrB, a)).isFalse();
+        assertThat(canonicalizer.implies(aAndX, a)).isTrue();
+        assertThat(canonicalizer.implies(a, aAndX)).isFalse();
+        assertThat(canonicalizer.implies(aAndX, aOrB)).isTrue();
+    }
+
+    @Test
+    void impliesReversesUnderNegation() {
+        CanonicalExpression notAOrB = canonical(not(or(role("A"), role("B"))));
+        CanonicalExpression notA = canonical(not(role("A")));
+        assertThat(canonicalizer.implies(notAOrB, notA)).isTrue();
+        assertThat(canonicalizer.implies(notA, notAOrB)).isFalse();
+    }
+
+    @Test
+    void unrelatedOpaqueConditionsAreNotProvenToImplyEachOther() {
+        assertThat(canonicalizer.implies(canonical(opaque("x")), canonical(opaque("y")))).isFalse();
+        assertThat(canonical(and(role("A"), opaque("x"))).getAtoms()).containsExactlyInAnyOrder("A:A", "O:x");
+    }
+}
@@ -0,0 +1,270 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import io.spring.identityadmin.admin.iam.service.impl.RoleHierarchyService;
+import io.spring.identityadmin.admin.monitoring.service.AuditLogService;
+import io.spring.identityadmin.domain.entity.RoleHierarchyEntity;
+import io.spring.identityadmin.domain.entity.policy.Policy;
+import io.spring.identityadmin.domain.entity.policy.PolicyCondition;
+import io.spring.identityadmin.domain.entity.policy.PolicyRule;
+import io.spring.identityadmin.domain.entity.policy.PolicyTarget;
+import io.spring.identityadmin.repository.RoleHierarchyRepository;
+import io.spring.identityadmin.security.core.ReloadableRoleHierarchy;
+import io.spring.identityadmin.security.xacml.prp.PolicyRetrievalPoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 정책 재적재(reload), 역할 계층 교체, 캐시 무효화가 요청 스레드의 인가 평가와 동시에 일어날 때
+ * 예외가 발생하지 않고, 모든 결정이 완전한 이전 스냅샷 또는 새 스냅샷 중 하나로 설명되는지 검증합니다.
+ */
+class AuthorizationReloadStressTest {
+
+    private static final int POLICY_COUNT = 200;
+    private static final int READER_THREADS = 8;
+    private static final long RUN_MILLIS = 2_000;
+
+    private static final String FULL_HIERARCHY = "ROLE_ADMIN > ROLE_MANAGER\nROLE_MANAGER > ROLE_USER";
+    private static final String FLAT_HIERARCHY = "ROLE_ADMIN > ROLE_USER";
+    private static final Set<String> FULL_REACHABLE = Set.of("ROLE_ADMIN", "ROLE_MANAGER", "ROLE_USER");
+    private static final Set<String> FLAT_REACHABLE = Set.of("ROLE_ADMIN", "ROLE_USER");
+
+    @Test
+    void checkNeverObservesHalfBuiltPolicySetWhileReloading() throws Exception {
+        AlternatingPolicyRetrievalPoint retrievalPoint = new AlternatingPolicyRetrievalPoint();
+        SnapshotManagerResolver managerResolver = new SnapshotManagerResolver();
+        CustomDynamicAuthorizationManager manager = new CustomDynamicAuthorizationManager(
+                retrievalPoint, managerResolver, new NoOpAuditLogService(), new UrlPolicyReachabilityAnalyzer(),
+                new ShadowPolicyEvaluator(managerResolver, retrievalPoint));
+        manager.initialize();
+
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicLong decisions = new AtomicLong();
+        AtomicInteger reloads = new AtomicInteger();
+        Supplier<Authentication> authentication = () -> new TestingAuthenticationToken("stress-user", null, "ROLE_USER");
+
+        runConcurrently(failures,
+                () -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int index = random.nextInt(POLICY_COUNT);
+                    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resource/" + index + "/item");
+                    AuthorizationDecision decision = manager.check(authentication, new RequestAuthorizationContext(request));
+
+                    assertThat(decision)
+                            .as("request /resource/%d/item must be decided by a policy, not the fallback", index)
+                            .isInstanceOf(SnapshotDecision.class);
+                    SnapshotDecision snapshotDecision = (SnapshotDecision) decision;
+                    assertThat(snapshotDecision.generation).isIn(0, 1);
+                    assertThat(snapshotDecision.policyIndex).isEqualTo(index);
+                    assertThat(snapshotDecision.isGranted()).isEqualTo(expectedGrant(snapshotDecision.generation, index));
+                    decisions.incrementAndGet();
+                },
+                () -> {
+                    manager.reload();
+                    reloads.incrementAndGet();
+                },
+                retrievalPoint::clearUrlPoliciesCache);
+
+        assertThat(failures).isEmpty();
+        assertThat(decisions.get()).isPositive();
+        assertThat(reloads.get()).isPositive();
+    }
+
+    @Test
+    void roleHierarchyEvaluationNeverObservesPartialHierarchyWhileSwapping() throws Exception {
+        ReloadableRoleHierarchy roleHierarchy = new ReloadableRoleHierarchy();
+        AtomicInteger activeVersion = new AtomicInteger();
+
+        RoleHierarchyRepository repository = mock(RoleHierarchyRepository.class, withSettings().stubOnly());
+        when(repository.findByIsActiveTrue()).thenAnswer(invocation -> Optional.of(RoleHierarchyEntity.builder()
+                .hierarchyString(activeVersion.get() % 2 == 0 ? FULL_HIERARCHY : FLAT_HIERARCHY)
+                .isActive(true)
+                .build()));
+
+        RoleHierarchyService roleHierarchyService = new RoleHierarchyService(repository, null, roleHierarchy);
+        roleHierarchyService.initializeRoleHierarchy();
+
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicLong evaluations = new AtomicLong();
+        List<GrantedAuthority> adminOnly = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+        runConcurrently(failures,
+                () -> {
+                    Set<String> reachable = roleHierarchy.getReachableGrantedAuthorities(adminOnly).stream()
+                            .map(GrantedAuthority::getAuthority)
+                            .collect(Collectors.toSet());
+                    assertThat(reachable).isIn(FULL_REACHABLE, FLAT_REACHABLE);
+                    evaluations.incrementAndGet();
+                },
+                roleHierarchyService::reloadRoleHierarchyBean,
+                activeVersion::incrementAndGet);
+
+        assertThat(failures).isEmpty();
+        assertThat(evaluations.get()).isPositive();
+    }
+
+    /**
+     * 읽기 작업을 여러 스레드에서, 재적재와 캐시 무효화를 각각 별도 스레드에서 정해진 시간 동안 반복 실행합니다.
+     * 발생한 모든 예외와 단언 실패는 failures 큐에 수집됩니다.
+     */
+    private void runConcurrently(Queue<Throwable> failures, Runnable read, Runnable reload, Runnable evict) throws InterruptedException {
+        List<Runnable> workers = new ArrayList<>();
+        for (int i = 0; i < READER_THREADS; i++) {
+            workers.add(read);
+        }
+        workers.add(reload);
+        workers.add(reload);
+        workers.add(evict);
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+        CountDownLatch startGate = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+        try {
+            for (Runnable worker : workers) {
+                executor.submit(() -> {
+                    try {
+                        startGate.await();
+                        while (System.nanoTime() < deadline && failures.isEmpty()) {
+                            worker.run();
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                });
+            }
+            startGate.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(RUN_MILLIS * 10, TimeUnit.MILLISECONDS)).isTrue();
+        }
+    }
+
+    /**
+     * 세대 0은 모든 리소스를 허용하고, 세대 1은 짝수 번호 리소스만 허용합니다.
+     */
+    private static boolean expectedGrant(int generation, int index) {
+        return generation == 0 || index % 2 == 0;
+    }
+
+    /**
+     * 캐시가 무효화될 때마다 두 정책 스냅샷을 번갈아 반환하는 PRP.
+     */
+    private static final class AlternatingPolicyRetrievalPoint implements PolicyRetrievalPoint {
+
+        private final AtomicInteger evictions = new AtomicInteger();
+
+        @Override
+        public List<Policy> findUrlPolicies() {
+            int generation = evictions.get() % 2;
+            List<Policy> policies = new ArrayList<>(POLICY_COUNT);
+            for (int i = 0; i < POLICY_COUNT; i++) {
+                policies.add(buildPolicy(generation, i));
+            }
+            return policies;
+        }
+
+        @Override
+        public void clearUrlPoliciesCache() {
+            evictions.incrementAndGet();
+        }
+
+        @Override
+        public List<Policy> findMethodPolicies(String methodIdentifier) {
+            return List.of();
+        }
+
+        @Override
+        public void clearMethodPoliciesCache() {
+        }
+
+        private Policy buildPolicy(int generation, int index) {
+            Policy policy = Policy.builder()
+                    .id((long) index)
+                    .name("stress-policy-" + index)
+                    .effect(Policy.Effect.ALLOW)
+                    .priority(index)
+                    .build();
+            PolicyRule rule = PolicyRule.builder().policy(policy).build();
+            rule.getConditions().add(PolicyCondition.builder()
+                    .rule(rule)
+                    .expression(generation + ":" + index + ":" + expectedGrant(generation, index))
+                    .build());
+            policy.getRules().add(rule);
+            policy.getTargets().add(PolicyTarget.builder()
+                    .policy(policy)
+                    .targetType("URL")
+                    .targetIdentifier("/resource/" + index + "/**")
+                    .build());
+            return policy;
+        }
+    }
+
+    /**
+     * "세대:인덱스:허용여부" 형태의 표현식을 해당 스냅샷 정보를 담은 결정을 반환하는 매니저로 변환합니다.
+     */
+    private static final class SnapshotManagerResolver extends ExpressionAuthorizationManagerResolver {
+
+        SnapshotManagerResolver() {
+            super(List.of(), null);
+        }
+
+        @Override
+        public AuthorizationManager<RequestAuthorizationContext> resolve(String expression) {
+            String[] parts = expression.split(":");
+            int generation = Integer.parseInt(parts[0]);
+            int index = Integer.parseInt(parts[1]);
+            boolean granted = Boolean.parseBoolean(parts[2]);
+            return (authentication, context) -> new SnapshotDecision(granted, generation, index);
+        }
+    }
+
+    private static final class SnapshotDecision extends AuthorizationDecision {
+
+        private final int generation;
+        private final int policyIndex;
+
+        SnapshotDecision(boolean granted, int generation, int policyIndex) {
+            super(granted);
+            this.generation = generation;
+            this.policyIndex = policyIndex;
+        }
+    }
+
+    private static final class NoOpAuditLogService extends AuditLogService {
+
+        NoOpAuditLogService() {
+            super(null);
+        }
+
+        @Override
+        public void logDecision(String principal, String resource, String action, String decision, String reason, String clientIp) {
+        }
+    }
+}
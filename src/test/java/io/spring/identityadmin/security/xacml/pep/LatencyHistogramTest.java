@@ -0,0 +1,104 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LatencyHistogram 의 버킷 경계와 백분위 계산이 문서화된 오차(12.5%) 안에서 항상 실제 값 이상을 보고하는지 검증합니다.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZeros() {
+        assertThat(new LatencyHistogram().summary()).isEqualTo(new LatencyHistogram.Summary(0, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+        LatencyHistogram.Summary summary = histogram.summary();
+        assertThat(summary.count()).isEqualTo(8L);
+        assertThat(summary.p50Nanos()).isEqualTo(3L);
+        assertThat(summary.p90Nanos()).isEqualTo(7L);
+        assertThat(summary.maxNanos()).isEqualTo(7L);
+        assertThat(summary.meanNanos()).isEqualTo(3L);
+    }
+
+    @Test
+    void powerOfTwoBoundariesStartNewBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(15);
+        histogram.record(16);
+        histogram.record(17);
+        // 15 는 폭 1 버킷의 마지막 값이고, 16 과 17 은 폭 2 인 [16, 17] 버킷에 함께 들어갑니다.
+        assertThat(histogram.summary().p50Nanos()).isEqualTo(17L);
+
+        LatencyHistogram single = new LatencyHistogram();
+        single.record(15);
+        single.record(16);
+        assertThat(single.summary().p50Nanos()).isEqualTo(15L);
+    }
+
+    @Test
+    void percentileIsUpperBoundOfBucketWithinRelativeError() {
+        List<Long> values = new ArrayList<>();
+        for (long value = 8; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            values.add(value);
+        }
+        for (long value : values) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE);
+            long p50 = histogram.summary().p50Nanos();
+            assertThat(p50).isGreaterThanOrEqualTo(value);
+            assertThat((double) p50).isLessThanOrEqualTo(value * 1.125);
+        }
+    }
+
+    @Test
+    void percentilesNeverExceedObservedMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) histogram.record(100);
+        for (int i = 0; i < 10; i++) histogram.record(10_000);
+
+        LatencyHistogram.Summary summary = histogram.summary();
+        assertThat(summary.p50Nanos()).isEqualTo(103L);
+        assertThat(summary.p90Nanos()).isEqualTo(103L);
+        assertThat(summary.p99Nanos()).isEqualTo(10_000L);
+        assertThat(summary.maxNanos()).isEqualTo(10_000L);
+        assertThat(summary.meanNanos()).isEqualTo(1_090L);
+    }
+
+    @Test
+    void negativeAndExtremeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogram.Summary summary = histogram.summary();
+        assertThat(summary.p50Nanos()).isEqualTo(0L);
+        assertThat(summary.p99Nanos()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void concurrentRecordsAreAllCounted() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) histogram.record(i);
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) thread.join();
+        assertThat(histogram.summary().count()).isEqualTo(40_000L);
+        assertThat(histogram.summary().maxNanos()).isEqualTo(9_999L);
+    }
+}
@@ -0,0 +1,91 @@
+package io.spring.identityadmin.security.xacml.pep;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PathPatternContainment 의 포함·겹침 판정이 PathPattern 매칭보다 넓게(잘못 포함하는 쪽으로) 판정하지 않는지 검증합니다.
+ */
+class PathPatternContainmentTest {
+
+    @Test
+    void trailingSlashIsDistinctSegment() {
+        assertThat(PathPatternContainment.covers("/a", "/a/")).isFalse();
+        assertThat(PathPatternContainment.covers("/a/", "/a")).isFalse();
+        assertThat(PathPatternContainment.covers("/a/", "/a/")).isTrue();
+        assertThat(PathPatternContainment.covers("/a/*", "/a/")).isFalse();
+        assertThat(PathPatternContainment.covers("/a/{id}", "/a/")).isFalse();
+        assertThat(PathPatternContainment.covers("/a/x*", "/a/")).isFalse();
+        assertThat(PathPatternContainment.covers("/*", "/")).isFalse();
+        assertThat(PathPatternContainment.covers("/a//b", "/a/b")).isFalse();
+    }
+
+    @Test
+    void doubleWildcardCoversTrailingSlashAndRest() {
+        assertThat(PathPatternContainment.covers("/a/**", "/a/")).isTrue();
+        assertThat(PathPatternContainment.covers("/a/**", "/a")).isTrue();
+        assertThat(PathPatternContainment.covers("/a/**", "/a/b/c")).isTrue();
+        assertThat(PathPatternContainment.covers("/a/**", "/a/{id}/**")).isTrue();
+        assertThat(PathPatternContainment.covers("/**", "/")).isTrue();
+        assertThat(PathPatternContainment.covers("/a/**", "/b/c")).isFalse();
+        assertThat(PathPatternContainment.covers("/a/*", "/a/**")).isFalse();
+        assertThat(PathPatternContainment.covers("/a/{*rest}", "/a/b/c")).isTrue();
+        assertThat(PathPatternContainment.covers("/a/**/c", "/a/b/x/c")).isTrue();
+        assertThat(PathPatternContainment.covers("/a/**/c", "/a/b/x/d")).isFalse();
+    }
+
+    @Test
+    void captureVariableCoversExactlyOneNonEmptySegment() {
+        assertThat(PathPatternContainment.covers("/users/{id}", "/users/42")).isTrue();
+        assertThat(PathPatternContainment.covers("/users/{id}", "/users/*")).isTrue();
+        assertThat(PathPatternContainment.covers("/users/{id}", "/users/42/edit")).isFalse();
+        assertThat(PathPatternContainment.covers("/users/{id}", "/users")).isFalse();
+        assertThat(PathPatternContainment.covers("/users/42", "/users/{id}")).isFalse();
+    }
+
+    @Test
+    void regexVariableAndPartialSegments() {
+        assertThat(PathPatternContainment.covers("/users/{id:\\d+}", "/users/42")).isTrue();
+        assertThat(PathPatternContainment.covers("/users/{id:\\d+}", "/users/abc")).isFalse();
+        assertThat(PathPatternContainment.covers("/users/{id:\\d+}", "/users/{id}")).isFalse();
+        assertThat(PathPatternContainment.covers("/files/*.txt", "/files/a.txt")).isTrue();
+        assertThat(PathPatternContainment.covers("/files/*.txt", "/files/a.csv")).isFalse();
+        assertThat(PathPatternContainment.covers("/files/*", "/files/*.txt")).isTrue();
+        assertThat(PathPatternContainment.covers("/files/*.txt", "/files/*")).isFalse();
+    }
+
+    @Test
+    void singleWildcard() {
+        assertThat(PathPatternContainment.covers("/a/*", "/a/b")).isTrue();
+        assertThat(PathPatternContainment.covers("/a/*", "/a/b/c")).isFalse();
+        assertThat(PathPatternContainment.covers("/*/b", "/a/b")).isTrue();
+        assertThat(PathPatternContainment.covers("/*/b", "/a/c")).isFalse();
+    }
+
+    @Test
+    void unparseablePatternsAreNeverCovered() {
+        assertThat(PathPatternContainment.covers("/**", "relative")).isFalse();
+        assertThat(PathPatternContainment.covers("/**", null)).isFalse();
+        assertThat(PathPatternContainment.covers("/a/{unclosed", "/a/b")).isFalse();
+    }
+
+    @Test
+    void overlapsIsConservative() {
+        assertThat(PathPatternContainment.overlaps("/a/*", "/a/")).isTrue();
+        assertThat(PathPatternContainment.overlaps("/a", "/a/")).isFalse();
+        assertThat(PathPatternContainment.overlaps("/a/**", "/b/**")).isFalse();
+        assertThat(PathPatternContainment.overlaps("/a/{id}", "/*/b")).isTrue();
+        assertThat(PathPatternContainment.overlaps("/files/*.txt", "/files/a.csv")).isFalse();
+        assertThat(PathPatternContainment.overlaps("relative", "relative")).isTrue();
+    }
+
+    @Test
+    void samplePathKeepsTrailingSlash() {
+        assertThat(PathPatternContainment.samplePath("/a/")).isEqualTo("/a/");
+        assertThat(PathPatternContainment.samplePath("/a/{id}")).isEqualTo("/a/x");
+        assertThat(PathPatternContainment.samplePath("/")).isEqualTo("/");
+        assertThat(PathPatternContainment.firstLiteralSegment("/api/**")).hasValue("api");
+        assertThat(PathPatternContainment.firstLiteralSegment("/*/x")).isEmpty();
+    }
+}
@@ -0,0 +1,131 @@
+package io.spring.identityadmin.security.xacml.pip.access;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.spring.identityadmin.security.xacml.pip.access.IamGraph.NodeType.GROUP;
+import static io.spring.identityadmin.security.xacml.pip.access.IamGraph.NodeType.PERMISSION;
+import static io.spring.identityadmin.security.xacml.pip.access.IamGraph.NodeType.ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IamGraph 의 CSR 구성, withEdges 의 간선 변경, BFS 도달 가능성·최단 거리, pathsTo 의 최단 경로 열거와 개수 제한을 검증합니다.
+ */
+class IamGraphTest {
+
+    /*
+     * 그룹 1 → 역할 10 (ADMIN) → 역할 20 (USER) → 권한 100
+     * 그룹 1 → 역할 30 (AUDITOR)                → 권한 200
+     * 역할 10 → 권한 300, 역할 30 → 권한 300 (같은 길이의 경로 두 개)
+     * 그룹 2 → 역할 20, 역할 20 → 역할 10 (계층 순환)
+     */
+    private final IamGraph graph = IamGraph.builder("ROLE_ADMIN > ROLE_USER")
+            .node(GROUP, 1, "admins", null)
+            .node(GROUP, 2, "users", null)
+            .node(GROUP, 3, "orphans", null)
+            .node(ROLE, 10, "ROLE_ADMIN", null)
+            .node(ROLE, 20, "ROLE_USER", null)
+            .node(ROLE, 30, "ROLE_AUDITOR", null)
+            .node(PERMISSION, 100, "USER_READ", null)
+            .node(PERMISSION, 200, "AUDIT_READ", null)
+            .node(PERMISSION, 300, "REPORT_READ", null)
+            .edge(GROUP, 1, ROLE, 10)
+            .edge(GROUP, 1, ROLE, 30)
+            .edge(GROUP, 2, ROLE, 20)
+            .edge(ROLE, 10, ROLE, 20)
+            .edge(ROLE, 20, ROLE, 10)
+            .edge(ROLE, 20, PERMISSION, 100)
+            .edge(ROLE, 30, PERMISSION, 200)
+            .edge(ROLE, 10, PERMISSION, 300)
+            .edge(ROLE, 30, PERMISSION, 300)
+            .edge(ROLE, 30, PERMISSION, 300)
+            .edge(ROLE, 30, PERMISSION, 999)
+            .build();
+
+    private int index(IamGraph.NodeType type, long entityId) {
+        return graph.indexOf(type, entityId);
+    }
+
+    @Test
+    void builderDeduplicatesNodesAndEdgesAndIgnoresUnknownEndpoints() {
+        assertThat(graph.nodeCount()).isEqualTo(9);
+        assertThat(graph.edgeCount()).isEqualTo(9);
+        assertThat(graph.indexOf(PERMISSION, 999)).isEqualTo(-1);
+        assertThat(graph.indexOf(GROUP, 10)).isEqualTo(-1);
+        assertThat(graph.node(index(ROLE, 30)).name()).isEqualTo("ROLE_AUDITOR");
+        assertThat(graph.neighbors(index(GROUP, 1))).containsExactly(index(ROLE, 10), index(ROLE, 30));
+        assertThat(graph.neighbors(index(GROUP, 3))).isEmpty();
+        assertThat(graph.getRoleHierarchy()).isEqualTo("ROLE_ADMIN > ROLE_USER");
+    }
+
+    @Test
+    void withEdgesReplacesOnlyTheOwnersOutgoingEdges() {
+        IamGraph changed = graph.withEdges(ROLE, 30, PERMISSION, new long[]{100, 200, 999}, new long[]{300});
+
+        assertThat(changed.neighbors(index(ROLE, 30))).containsExactly(index(PERMISSION, 200), index(PERMISSION, 100));
+        assertThat(changed.edgeCount()).isEqualTo(9);
+        assertThat(changed.neighbors(index(GROUP, 1))).containsExactly(index(ROLE, 10), index(ROLE, 30));
+        assertThat(changed.neighbors(index(ROLE, 20))).isEqualTo(graph.neighbors(index(ROLE, 20)));
+        assertThat(changed.search(new int[]{index(GROUP, 1)}).distanceTo(index(PERMISSION, 100))).isEqualTo(2);
+        // 원래 그래프는 바뀌지 않습니다.
+        assertThat(graph.neighbors(index(ROLE, 30))).containsExactly(index(PERMISSION, 200), index(PERMISSION, 300));
+
+        IamGraph removed = changed.withEdges(GROUP, 1, ROLE, new long[0], new long[]{10, 30});
+        assertThat(removed.neighbors(index(GROUP, 1))).isEmpty();
+        assertThat(removed.edgeCount()).isEqualTo(7);
+        assertThat(removed.search(new int[]{index(GROUP, 1)}).isReachable(index(PERMISSION, 100))).isFalse();
+
+        assertThat(graph.withEdges(GROUP, 99, ROLE, new long[]{10}, new long[0])).isSameAs(graph);
+        assertThat(graph.withEdges(GROUP, 1, ROLE, new long[]{10}, new long[]{20})).isSameAs(graph);
+    }
+
+    @Test
+    void searchComputesShortestDistancesThroughHierarchyCycles() {
+        IamGraph.ShortestPaths paths = graph.search(new int[]{index(GROUP, 2)});
+        assertThat(paths.distanceTo(index(GROUP, 2))).isEqualTo(0);
+        assertThat(paths.distanceTo(index(ROLE, 20))).isEqualTo(1);
+        assertThat(paths.distanceTo(index(ROLE, 10))).isEqualTo(2);
+        assertThat(paths.distanceTo(index(PERMISSION, 300))).isEqualTo(3);
+        assertThat(paths.isReachable(index(PERMISSION, 200))).isFalse();
+        assertThat(paths.isReachable(-1)).isFalse();
+        assertThat(paths.pathsTo(index(PERMISSION, 200), 10)).isEmpty();
+    }
+
+    @Test
+    void pathsToReturnsOnlyShortestPaths() {
+        IamGraph.ShortestPaths paths = graph.search(new int[]{index(GROUP, 1)});
+        // 권한 100 까지는 그룹 1 → 역할 10 → 역할 20 → 권한 100 하나뿐
+        List<int[]> toUserRead = paths.pathsTo(index(PERMISSION, 100), 10);
+        assertThat(toUserRead).hasSize(1);
+        assertThat(toUserRead.get(0)).isEqualTo(new int[]{index(GROUP, 1), index(ROLE, 10), index(ROLE, 20), index(PERMISSION, 100)});
+        assertThat(paths.pathsTo(index(GROUP, 1), 10).get(0)).isEqualTo(new int[]{index(GROUP, 1)});
+    }
+
+    @Test
+    void pathsToEnumeratesEqualLengthPathsUpToLimit() {
+        IamGraph.ShortestPaths paths = graph.search(new int[]{index(GROUP, 1)});
+        int report = index(PERMISSION, 300);
+
+        List<int[]> all = paths.pathsTo(report, 10);
+        assertThat(all).hasSize(2);
+        for (int[] path : all) {
+            assertThat(path.length).isEqualTo(3);
+            assertThat(path[0]).isEqualTo(index(GROUP, 1));
+            assertThat(path[2]).isEqualTo(report);
+        }
+        assertThat(all.get(0)[1]).isNotEqualTo(all.get(1)[1]);
+
+        assertThat(paths.pathsTo(report, 1)).hasSize(1);
+        assertThat(paths.pathsTo(report, 0)).isEmpty();
+    }
+
+    @Test
+    void multiSourceSearchUsesNearestSourceAndSkipsMissingSources() {
+        IamGraph.ShortestPaths paths = graph.search(new int[]{index(GROUP, 1), index(GROUP, 2), -1, index(GROUP, 1)});
+        assertThat(paths.distanceTo(index(ROLE, 20))).isEqualTo(1);
+        assertThat(paths.distanceTo(index(PERMISSION, 100))).isEqualTo(2);
+        assertThat(paths.pathsTo(index(PERMISSION, 100), 10)).hasSize(1);
+        assertThat(paths.pathsTo(index(PERMISSION, 100), 10).get(0)[0]).isEqualTo(index(GROUP, 2));
+    }
+}
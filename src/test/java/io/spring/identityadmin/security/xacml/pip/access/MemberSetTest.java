@@ -0,0 +1,91 @@
+package io.spring.identityadmin.security.xacml.pip.access;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MemberSet 이 정렬 배열 표현과 비트맵 표현 모두에서, 그리고 표현이 바뀌는 경계에서도 같은 집합 연산 결과를 내는지 검증합니다.
+ */
+class MemberSetTest {
+
+    @Test
+    void addAndRemoveKeepSortedArraySemantics() {
+        MemberSet members = new MemberSet();
+        members.add(30);
+        members.add(10);
+        members.add(20);
+        members.add(10);
+        assertThat(members.size()).isEqualTo(3);
+        assertThat(members.contains(10)).isTrue();
+        assertThat(members.contains(15)).isFalse();
+
+        members.remove(10);
+        members.remove(99);
+        assertThat(members.size()).isEqualTo(2);
+        assertThat(members.contains(10)).isFalse();
+        assertThat(toBitSet(members)).isEqualTo(BitSet.valueOf(new long[]{(1L << 20) | (1L << 30)}));
+    }
+
+    @Test
+    void denseGroupSwitchesToBitmapWithoutChangingMembership() {
+        MemberSet members = new MemberSet();
+        for (int id = 1; id <= 200; id++) {
+            members.add(id);
+        }
+        assertThat(members.size()).isEqualTo(200);
+        assertThat(members.contains(0)).isFalse();
+        assertThat(members.contains(200)).isTrue();
+
+        members.add(150);
+        members.remove(150);
+        members.remove(150);
+        members.add(1_000_000);
+        assertThat(members.size()).isEqualTo(200);
+        assertThat(members.contains(150)).isFalse();
+        assertThat(members.contains(1_000_000)).isTrue();
+        assertThat(toBitSet(members).cardinality()).isEqualTo(200);
+    }
+
+    @Test
+    void ofSortedUsesGivenPrefixOnly() {
+        int[] ids = {2, 4, 8, 16, 0, 0};
+        MemberSet members = MemberSet.ofSorted(ids, 4);
+        assertThat(members.size()).isEqualTo(4);
+        assertThat(members.contains(16)).isTrue();
+        assertThat(members.contains(0)).isFalse();
+    }
+
+    @Test
+    void matchesReferenceSetUnderRandomOperations() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int bound : new int[]{100, 5_000, 1_000_000}) {
+            MemberSet members = new MemberSet();
+            TreeSet<Integer> reference = new TreeSet<>();
+            for (int i = 0; i < 3_000; i++) {
+                int id = random.nextInt(bound);
+                if (random.nextInt(4) == 0) {
+                    members.remove(id);
+                    reference.remove(id);
+                } else {
+                    members.add(id);
+                    reference.add(id);
+                }
+            }
+            assertThat(members.size()).isEqualTo(reference.size());
+            BitSet expected = new BitSet();
+            reference.forEach(expected::set);
+            assertThat(toBitSet(members)).isEqualTo(expected);
+        }
+    }
+
+    private static BitSet toBitSet(MemberSet members) {
+        BitSet bits = new BitSet();
+        members.orInto(bits);
+        return bits;
+    }
+}
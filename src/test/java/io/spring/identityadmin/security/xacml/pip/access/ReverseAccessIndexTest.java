@@ -0,0 +1,151 @@
+package io.spring.identityadmin.security.xacml.pip.access;
+
+import io.spring.identityadmin.common.event.dto.TerminologyChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipBulkChangedEvent;
+import io.spring.identityadmin.common.event.dto.UserMembershipChangedEvent;
+import io.spring.identityadmin.common.event.service.InMemoryEventBus;
+import io.spring.identityadmin.repository.GroupRepository;
+import io.spring.identityadmin.repository.IdPairConsumer;
+import io.spring.identityadmin.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReverseAccessIndex 가 그룹·역할 계층을 거쳐 권한 보유자를 찾고,
+ * 증분 갱신과 재구성 도중에 들어온 변경이 새 스냅샷에 덮어써지지 않는지 검증합니다.
+ */
+class ReverseAccessIndexTest {
+
+    private static final long ADMINS = 100L;
+    private static final long USERS = 200L;
+    private static final long EMPTY = 300L;
+
+    /** 사용자 id → 소속 그룹 id (사용자 id 순으로 읽히도록 정렬 맵 사용) */
+    private final Map<Long, long[]> memberships = new ConcurrentHashMap<>();
+    private final Map<Long, String> groupRoles = new TreeMap<>();
+    private final InMemoryEventBus eventBus = new InMemoryEventBus();
+    private Runnable duringMembershipScan = () -> {};
+    private ReverseAccessIndex index;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        doAnswer(invocation -> {
+            LongConsumer consumer = invocation.getArgument(0);
+            new TreeMap<>(memberships).keySet().forEach(consumer::accept);
+            return null;
+        }).when(userRepository).scanUserIds(any());
+        doAnswer(invocation -> {
+            IdPairConsumer consumer = invocation.getArgument(0);
+            Map<Long, long[]> snapshot = new TreeMap<>(memberships);
+            duringMembershipScan.run();
+            snapshot.forEach((userId, groupIds) -> LongStream.of(groupIds).forEach(groupId -> consumer.accept(userId, groupId)));
+            return null;
+        }).when(userRepository).scanGroupMemberships(any());
+        when(userRepository.findGroupIdsByUserId(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(memberships.get(invocation.<Long>getArgument(0))));
+
+        GroupRepository groupRepository = mock(GroupRepository.class);
+        doAnswer(invocation -> {
+            BiConsumer<Long, String> consumer = invocation.getArgument(0);
+            groupRoles.forEach(consumer);
+            return null;
+        }).when(groupRepository).scanGroupAuthorities(any());
+
+        index = new ReverseAccessIndex(userRepository, groupRepository,
+                RoleHierarchyImpl.fromHierarchy("ROLE_ADMIN > ROLE_USER"), eventBus);
+        index.subscribe();
+
+        groupRoles.put(ADMINS, "ROLE_ADMIN");
+        groupRoles.put(USERS, "ROLE_USER");
+        groupRoles.put(EMPTY, null);
+        memberships.put(1L, new long[]{ADMINS});
+        memberships.put(2L, new long[]{USERS});
+        memberships.put(3L, new long[]{});
+    }
+
+    private static BitSet users(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) bits.set(id);
+        return bits;
+    }
+
+    @Test
+    void findsHoldersThroughGroupsAndRoleHierarchy() {
+        assertThat(index.findUsersWithAnyAuthority(List.of("ROLE_ADMIN"))).isEqualTo(users(1));
+        assertThat(index.findUsersWithAnyAuthority(List.of("ROLE_USER"))).isEqualTo(users(1, 2));
+        assertThat(index.findUsersWithAnyAuthority(List.of("ROLE_UNKNOWN"))).isEqualTo(users());
+        assertThat(index.findAllUsers()).isEqualTo(users(1, 2, 3));
+        assertThat(index.findGroupIdsOfUser(3L).orElseThrow()).isEmpty();
+        assertThat(index.findGroupIdsOfUser(9L)).isEmpty();
+    }
+
+    @Test
+    void membershipChangesAreAppliedIncrementally() {
+        index.rebuild();
+
+        memberships.put(3L, new long[]{ADMINS});
+        memberships.remove(2L);
+        eventBus.publish(new UserMembershipChangedEvent(3L));
+        eventBus.publish(new UserMembershipChangedEvent(2L));
+
+        assertThat(index.findUsersWithAnyAuthority(List.of("ROLE_USER"))).isEqualTo(users(1, 3));
+        assertThat(index.findAllUsers()).isEqualTo(users(1, 3));
+    }
+
+    @Test
+    void changeDuringRebuildIsNotOverwrittenByStaleSnapshot() {
+        index.rebuild();
+
+        // 재구성이 소속을 읽은 뒤(스냅샷 확정 전)에 사용자 2 가 관리자 그룹으로 옮겨지고 이벤트가 도착
+        duringMembershipScan = () -> {
+            duringMembershipScan = () -> {};
+            memberships.put(2L, new long[]{ADMINS});
+            eventBus.publish(new UserMembershipChangedEvent(2L));
+        };
+        index.rebuild();
+
+        assertThat(index.findUsersWithAnyAuthority(List.of("ROLE_ADMIN"))).isEqualTo(users(1, 2));
+    }
+
+    @Test
+    void groupAuthorityChangesAreReloaded() {
+        index.rebuild();
+
+        groupRoles.put(EMPTY, "ROLE_ADMIN");
+        memberships.put(3L, new long[]{EMPTY});
+        eventBus.publish(new UserMembershipChangedEvent(3L));
+        eventBus.publish(new TerminologyChangedEvent(TerminologyChangedEvent.TermType.GROUP));
+
+        assertThat(index.findUsersWithAnyAuthority(List.of("ROLE_ADMIN"))).isEqualTo(users(1, 3));
+    }
+
+    @Test
+    void largeBulkChangeRebuildsWholeIndex() {
+        index.rebuild();
+
+        long[] imported = LongStream.rangeClosed(10, 10 + UserMembershipBulkChangedEvent.INCREMENTAL_REFRESH_LIMIT).toArray();
+        for (long userId : imported) memberships.put(userId, new long[]{USERS});
+        eventBus.publish(new UserMembershipBulkChangedEvent(imported));
+
+        assertThat(index.findUsersWithAnyAuthority(List.of("ROLE_USER")).cardinality()).isEqualTo(imported.length + 2);
+    }
+}